@@ -0,0 +1,118 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx.bench;
+
+/**
+ * Microbenchmark of one operation.  Subclasses prepare their data in
+ * setUp() and perform one operation in run().  measure() warms the
+ * operation up, then times it over several iterations and reports the
+ * average time per operation, in the manner of JMH's average-time mode.
+ */
+public abstract class Benchmark {
+
+    String name;
+    String[] params;     // parameter names and values, alternating
+
+    static volatile int sink;   // consumes results so they can't be optimized away
+
+    /**
+     * Make a benchmark.
+     * @param name Name, such as "HTMLParser.parse"
+     * @param params Parameter names and values, alternating, such as 
+     * {"page", "index.html"}
+     */
+    public Benchmark (String name, String[] params) {
+        this.name = name;
+        this.params = params != null ? params : new String[0];
+    }
+
+    public String getName () {
+        return name;
+    }
+
+    public String[] getParams () {
+        return params;
+    }
+
+    /**
+     * Prepare data for the benchmark.  Called once, before warmup.
+     * Default implementation does nothing.
+     */
+    public void setUp () throws Exception {
+    }
+
+    /**
+     * Perform one operation.
+     * @return any value derived from the result of the operation, to 
+     * keep the JIT from optimizing the operation away
+     */
+    public abstract int run () throws Exception;
+
+    /**
+     * Measure the benchmark.
+     * @param warmupMillis how long to run before measuring
+     * @param iterations number of measured iterations
+     * @param iterationMillis length of each measured iteration
+     * @return nanoseconds per operation in each iteration
+     */
+    public double[] measure (int warmupMillis, int iterations, 
+                             int iterationMillis) throws Exception {
+        setUp ();
+        runFor (warmupMillis);
+        double[] scores = new double[iterations];
+        for (int i=0; i<iterations; ++i)
+            scores[i] = runFor (iterationMillis);
+        return scores;
+    }
+
+    // Runs the operation for at least millis; returns nanoseconds per operation.
+    double runFor (int millis) throws Exception {
+        long start = System.nanoTime ();
+        long length = millis * 1000000L;
+        long ops = 0;
+        long now;
+        int batch = 1;
+        int result = 0;
+        do {
+            for (int i=0; i<batch; ++i)
+                result += run ();
+            ops += batch;
+            now = System.nanoTime ();
+            // check the clock about a hundred times per iteration
+            if (now - start < length / 100 && batch < (1 << 20))
+                batch *= 2;
+        } while (now - start < length);
+        sink += result;
+        return (double)(now - start) / ops;
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx.bench;
+
+import websphinx.*;
+import rcm.util.PriorityQueue;
+import rcm.util.Prioritized;
+import org.apache.regexp.RE;
+import org.apache.regexp.RECompiler;
+import org.apache.regexp.REProgram;
+import java.io.*;
+import java.net.URL;
+import java.util.Random;
+import java.util.Vector;
+
+/**
+ * Benchmark suite for the parser, regular expressions, tag patterns,
+ * priority queue, classifier, and crawler.  The benchmarks live in
+ * their own source root, bench, and aren't part of websphinx.jar; build
+ * them with <CODE>make bench-java</CODE> and run them with bench on the
+ * classpath:
+ * <PRE>
+ *   java websphinx.bench.Benchmarks [options] [HTML files or directories]
+ * </PRE>
+ * The HTML files are the corpus for the page benchmarks; if none are
+ * given, index.html and workbench.html in the current directory (if
+ * present) are used.  Synthetic pages of 1KB, 16KB, and 256KB from
+ * SyntheticWeb are always added.  The options are:
+ * <PRE>
+ *   -warmup MS       warmup time per benchmark (1000)
+ *   -iterations N    measured iterations per benchmark (5)
+ *   -time MS         time per measured iteration (1000)
+ *   -filter STRING   run only benchmarks whose names contain STRING
+ *   -out FILE        write JSON results to FILE instead of standard output
+ * </PRE>
+ * Results are written as JSON in the format used by JMH, so that runs
+ * can be compared with the usual JMH tools.  A summary is printed to
+ * standard error.
+ */
+public class Benchmarks {
+
+    static final String BASE = "http://www.example.com/bench/";
+
+    static final String[] EXTRACTION_PATTERNS = {
+        "<title>([^<]*)</title>",
+        "href=\"([^\"]*)\"",
+        "[a-zA-Z0-9._-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]+",
+        "[0-9]+(\\.[0-9]+)?",
+        "(web|crawler|spider)[a-z]*",
+    };
+
+    static final String[] TAG_PATTERNS = {
+        "<a>.*</a>",
+        "<title>.*</title>",
+        "<li><a>.*</a>",
+    };
+
+    /**
+     * Corpus page.
+     */
+    static class Sample {
+        String name;
+        String html;
+        Page page;      // parsed and classified
+
+        Sample (String name, String html) {
+            this.name = name;
+            this.html = html;
+        }
+    }
+
+    /**
+     * Make the benchmarks for a corpus.
+     * @param corpus Names and HTML of the corpus pages
+     */
+    static Vector suite (Sample[] corpus) throws Exception {
+        Vector suite = new Vector ();
+        final URL base = new URL (BASE);
+        final StandardClassifier classifier = new StandardClassifier ();
+
+        // download the corpus from memory, so the pages have origin links
+        ReplayAccess access = new ReplayAccess ();
+        for (int i=0; i<corpus.length; ++i)
+            access.addPage (new URL (base, corpus[i].name), "text/html", 
+                            corpus[i].html.getBytes ("ISO-8859-1"));
+        Access saved = Access.getAccess ();
+        Access.setAccess (access);
+        try {
+            for (int i=0; i<corpus.length; ++i) {
+                corpus[i].page = new Page (new Link (new URL (base, corpus[i].name)));
+                classifier.classify (corpus[i].page);
+            }
+        } finally {
+            Access.setAccess (saved);
+        }
+
+        for (int i=0; i<corpus.length; ++i) {
+            final Sample s = corpus[i];
+            final String[] params = { "page", s.name };
+
+            suite.addElement (new Benchmark ("HTMLParser.parse", params) {
+                HTMLParser parser = new HTMLParser ();
+                URL url;
+                public void setUp () throws Exception {
+                    url = new URL (base, s.name);
+                }
+                public int run () {
+                    return new Page (url, s.html, parser).getElements ().length;
+                }
+            });
+
+            suite.addElement (new Benchmark ("RE.match", params) {
+                RE[] res;
+                String text;
+                public void setUp () throws Exception {
+                    res = new RE[EXTRACTION_PATTERNS.length];
+                    for (int j=0; j<res.length; ++j)
+                        res[j] = new RE (EXTRACTION_PATTERNS[j]);
+                    text = s.page.getContent ();
+                }
+                public int run () {
+                    // find every match of every pattern
+                    int n = 0;
+                    for (int j=0; j<res.length; ++j)
+                        for (int k=0; k < text.length () && res[j].match (text, k); ++n)
+                            k = Math.max (k + 1, res[j].getParenEnd (0));
+                    return n;
+                }
+            });
+
+            suite.addElement (new Benchmark ("Tagexp.match", params) {
+                Tagexp[] patterns;
+                public void setUp () {
+                    patterns = new Tagexp[TAG_PATTERNS.length];
+                    for (int j=0; j<patterns.length; ++j)
+                        patterns[j] = new Tagexp (TAG_PATTERNS[j]);
+                }
+                public int run () {
+                    int n = 0;
+                    for (int j=0; j<patterns.length; ++j)
+                        n += patterns[j].allMatches (s.page).length;
+                    return n;
+                }
+            });
+
+            suite.addElement (new Benchmark ("Page.substringCanonicalTags", params) {
+                Link[] links;
+                public void setUp () {
+                    links = s.page.getLinks ();
+                }
+                public int run () {
+                    // canonicalize each link (the whole page is cached)
+                    int n = 0;
+                    for (int j=0; j<links.length; ++j)
+                        n += s.page.substringCanonicalTags (links[j].getStart (),
+                                                            links[j].getEnd ()).length ();
+                    return n;
+                }
+            });
+
+            suite.addElement (new Benchmark ("StandardClassifier.classify", params) {
+                public int run () {
+                    classifier.classify (s.page);
+                    return s.page.getLinks ().length;
+                }
+            });
+        }
+
+        suite.addElement (new Benchmark ("RECompiler.compile", null) {
+            RECompiler compiler = new RECompiler ();
+            public int run () throws Exception {
+                int n = 0;
+                for (int j=0; j<EXTRACTION_PATTERNS.length; ++j)
+                    n += compiler.compile (EXTRACTION_PATTERNS[j]).getInstructions ().length;
+                return n;
+            }
+        });
+
+        int[] sizes = { 100, 10000 };
+        for (int i=0; i<sizes.length; ++i) {
+            final int size = sizes[i];
+            final String[] params = { "size", String.valueOf (size) };
+
+            suite.addElement (new Benchmark ("PriorityQueue.putDeleteMin", params) {
+                Item[] items;
+                public void setUp () {
+                    items = Item.random (size);
+                }
+                public int run () {
+                    PriorityQueue q = new PriorityQueue ();
+                    for (int j=0; j<items.length; ++j)
+                        q.put (items[j]);
+                    int n = 0;
+                    while (!q.empty ())
+                        n += ((Item)q.deleteMin ()).id;
+                    return n;
+                }
+            });
+
+            suite.addElement (new Benchmark ("PriorityQueue.putDelete", params) {
+                Item[] items;
+                Item[] order;
+                public void setUp () {
+                    items = Item.random (size);
+                    order = Item.shuffle (items);
+                }
+                public int run () {
+                    PriorityQueue q = new PriorityQueue ();
+                    for (int j=0; j<items.length; ++j)
+                        q.put (items[j]);
+                    int n = 0;
+                    for (int j=0; j<order.length; ++j)
+                        if (q.delete (order[j]))
+                            ++n;
+                    return n;
+                }
+            });
+        }
+
+        int[] degrees = { 10, 100, 1000 };
+        for (int i=0; i<degrees.length; ++i) {
+            final int degree = degrees[i];
+            final String[] params = { "links", String.valueOf (degree) };
+
+            suite.addElement (new Benchmark ("Crawler.expand", params) {
+                Page page;
+                Crawler crawler;
+                public void setUp () throws Exception {
+                    SyntheticWeb web = new SyntheticWeb ();
+                    web.setBasePort (8000);
+                    web.setHostCount (2);
+                    web.setPageCount (100000);
+                    web.setOutDegree (degree);
+                    web.setPageSize (0);
+                    URL url = new URL (web.getURL (0));
+                    ReplayAccess access = new ReplayAccess ();
+                    access.addPage (url, "text/html", 
+                                    web.generatePage (0).getBytes ("ISO-8859-1"));
+                    Access saved = Access.getAccess ();
+                    Access.setAccess (access);
+                    try {
+                        page = new Page (new Link (url));
+                    } finally {
+                        Access.setAccess (saved);
+                    }
+                    classifier.classify (page);
+                    crawler = new ExpandCrawler ();
+                    crawler.setDomain (Crawler.SERVER);
+                }
+                public int run () {
+                    crawler.expand (page);
+                    return crawler.getLinksTested ();
+                }
+            });
+        }
+
+        return suite;
+    }
+
+    static Sample[] loadCorpus (Vector paths) throws IOException {
+        Vector samples = new Vector ();
+        if (paths.isEmpty ()) {
+            String[] defaults = { "index.html", "workbench.html" };
+            for (int i=0; i<defaults.length; ++i)
+                if (new File (defaults[i]).isFile ())
+                    paths.addElement (defaults[i]);
+        }
+        for (int i=0; i<paths.size (); ++i) {
+            File f = new File ((String)paths.elementAt (i));
+            if (f.isDirectory ()) {
+                String[] names = f.list ();
+                java.util.Arrays.sort (names);
+                for (int j=0; j<names.length; ++j)
+                    if (names[j].endsWith (".html") || names[j].endsWith (".htm"))
+                        samples.addElement (new Sample (names[j], 
+                                                        read (new File (f, names[j]))));
+            }
+            else
+                samples.addElement (new Sample (f.getName (), read (f)));
+        }
+
+        int[] sizes = { 1024, 16*1024, 256*1024 };
+        for (int i=0; i<sizes.length; ++i) {
+            SyntheticWeb web = new SyntheticWeb ();
+            web.setBasePort (8000);
+            web.setPageSize (sizes[i]);
+            samples.addElement (new Sample ("synthetic-" + sizes[i]/1024 + "k.html",
+                                            web.generatePage (0)));
+        }
+
+        Sample[] corpus = new Sample[samples.size ()];
+        samples.copyInto (corpus);
+        return corpus;
+    }
+
+    static String read (File file) throws IOException {
+        InputStream in = new BufferedInputStream (new FileInputStream (file));
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream ();
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read (buf)) != -1)
+                out.write (buf, 0, n);
+            return new String (out.toByteArray (), "ISO-8859-1");
+        } finally {
+            in.close ();
+        }
+    }
+
+    /*
+     * Results
+     *
+     */
+
+    static double mean (double[] x) {
+        double sum = 0;
+        for (int i=0; i<x.length; ++i)
+            sum += x[i];
+        return sum / x.length;
+    }
+
+    // half-width of the 99.9% confidence interval (normal approximation)
+    static double error (double[] x) {
+        if (x.length < 2)
+            return Double.NaN;
+        double m = mean (x);
+        double ss = 0;
+        for (int i=0; i<x.length; ++i)
+            ss += (x[i] - m) * (x[i] - m);
+        return 3.29 * Math.sqrt (ss / (x.length - 1)) / Math.sqrt (x.length);
+    }
+
+    static String quote (String s) {
+        StringBuffer buf = new StringBuffer ("\"");
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            if (c == '"' || c == '\\')
+                buf.append ('\\').append (c);
+            else if (c < ' ') {
+                String hex = Integer.toHexString (c);
+                buf.append ("\\u0000".substring (0, 6 - hex.length ())).append (hex);
+            }
+            else
+                buf.append (c);
+        }
+        return buf.append ('"').toString ();
+    }
+
+    static String number (double x) {
+        return Double.isNaN (x) || Double.isInfinite (x) ? "\"NaN\"" : String.valueOf (x);
+    }
+
+    static void writeResult (PrintWriter out, Benchmark b, double[] scores,
+                             int warmupMillis, int iterationMillis, boolean first) {
+        out.println (first ? "  {" : "  ,{");
+        out.println ("    \"benchmark\" : " + quote ("websphinx.bench." + b.getName ()) + ",");
+        out.println ("    \"mode\" : \"avgt\",");
+        out.println ("    \"threads\" : 1,");
+        out.println ("    \"forks\" : 0,");
+        out.println ("    \"warmupTime\" : \"" + warmupMillis + " ms\",");
+        out.println ("    \"measurementIterations\" : " + scores.length + ",");
+        out.println ("    \"measurementTime\" : \"" + iterationMillis + " ms\",");
+        String[] params = b.getParams ();
+        if (params.length > 0) {
+            out.println ("    \"params\" : {");
+            for (int i=0; i<params.length; i+=2)
+                out.println ("      " + quote (params[i]) + " : " + quote (params[i+1])
+                             + (i+2 < params.length ? "," : ""));
+            out.println ("    },");
+        }
+        out.println ("    \"primaryMetric\" : {");
+        out.println ("      \"score\" : " + number (mean (scores)) + ",");
+        out.println ("      \"scoreError\" : " + number (error (scores)) + ",");
+        out.println ("      \"scoreUnit\" : \"ns/op\",");
+        StringBuffer raw = new StringBuffer ();
+        for (int i=0; i<scores.length; ++i)
+            raw.append (i > 0 ? ", " : "").append (number (scores[i]));
+        out.println ("      \"rawData\" : [ [ " + raw + " ] ]");
+        out.println ("    }");
+        out.println ("  }");
+    }
+
+    public static void main (String[] args) throws Exception {
+        int warmupMillis = 1000;
+        int iterations = 5;
+        int iterationMillis = 1000;
+        String filter = null;
+        String outFile = null;
+        Vector paths = new Vector ();
+
+        for (int i=0; i<args.length; ++i) {
+            if (args[i].equals ("-warmup"))
+                warmupMillis = Integer.parseInt (args[++i]);
+            else if (args[i].equals ("-iterations"))
+                iterations = Integer.parseInt (args[++i]);
+            else if (args[i].equals ("-time"))
+                iterationMillis = Integer.parseInt (args[++i]);
+            else if (args[i].equals ("-filter"))
+                filter = args[++i];
+            else if (args[i].equals ("-out"))
+                outFile = args[++i];
+            else if (args[i].startsWith ("-")) {
+                System.err.println ("unknown option " + args[i]);
+                System.exit (1);
+            }
+            else
+                paths.addElement (args[i]);
+        }
+
+        Vector suite = suite (loadCorpus (paths));
+        PrintWriter out = new PrintWriter (outFile != null 
+                                           ? (Writer)new FileWriter (outFile)
+                                           : new OutputStreamWriter (System.out));
+        out.println ("[");
+        boolean first = true;
+        for (int i=0; i<suite.size (); ++i) {
+            Benchmark b = (Benchmark)suite.elementAt (i);
+            String[] params = b.getParams ();
+            String label = b.getName ();
+            for (int j=0; j<params.length; j+=2)
+                label += " " + params[j] + "=" + params[j+1];
+            if (filter != null && label.indexOf (filter) == -1)
+                continue;
+
+            double[] scores = b.measure (warmupMillis, iterations, iterationMillis);
+            writeResult (out, b, scores, warmupMillis, iterationMillis, first);
+            out.flush ();
+            first = false;
+            System.err.println (label + ": " 
+                                + Math.round (mean (scores)) + " ns/op +- " 
+                                + Math.round (error (scores)));
+        }
+        out.println ("]");
+        out.close ();
+    }
+}
+
+/**
+ * Queue item for the PriorityQueue benchmarks.
+ */
+class Item implements Prioritized {
+    int id;
+    float priority;
+
+    Item (int id, float priority) {
+        this.id = id;
+        this.priority = priority;
+    }
+
+    public float getPriority () {
+        return priority;
+    }
+
+    static Item[] random (int n) {
+        Random random = new Random (n);
+        Item[] items = new Item[n];
+        for (int i=0; i<n; ++i)
+            items[i] = new Item (i, random.nextFloat ());
+        return items;
+    }
+
+    static Item[] shuffle (Item[] items) {
+        Random random = new Random (-items.length);
+        Item[] order = (Item[])items.clone ();
+        for (int i=order.length-1; i > 0; --i) {
+            int j = random.nextInt (i + 1);
+            Item t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return order;
+    }
+}
+
+/**
+ * Crawler whose expand() can be repeated on the same page: submitted
+ * links are tested but not queued or marked visited.
+ */
+class ExpandCrawler extends Crawler {
+    public void submit (Link link) {
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx.bench;
+
+import websphinx.*;
+import java.util.Hashtable;
+
+/**
+ * Load test that crawls a SyntheticWeb and reports throughput, fetch
+ * latency percentiles, and heap usage.  Run it with
+ * <PRE>
+ *   java websphinx.bench.CrawlLoadTest [options]
+ * </PRE>
+ * where the options are those of {@link SyntheticWeb#setOption(String[], int)}
+ * plus:
+ * <PRE>
+ *   -threads N     crawler threads (4)
+ *   -robots        obey robots.txt
+ *   -timeout S     download timeout in seconds (60)
+ *   -metrics       also print CrawlMetrics (time per stage, busiest hosts)
+ *                  and the time spent in each callback
+ *   -eventlog DIR  log every event with a BinaryEventLog in DIR
+ *   -textlog FILE  log every event with an EventLog in FILE
+ * </PRE>
+ * The crawl starts at page 0 and has no depth limit, so it visits every
+ * page of the site that doesn't fail.
+ */
+public class CrawlLoadTest implements LinkListener {
+
+    Hashtable started = new Hashtable ();   // Link -> start time (Long, nanoseconds)
+    long[] latencies = new long[1024];      // nanoseconds, for each page downloaded
+    int downloaded;
+    int errors;
+    int visited;
+
+    long peakHeap;
+    boolean sampling;
+
+    CrawlMetrics metrics;   // or null if not collected
+    String eventLogDir;     // or null for no BinaryEventLog
+    String textLogFile;     // or null for no EventLog
+
+    /**
+     * Notify that an event occured on a link.
+     */
+    public void crawled (LinkEvent event) {
+        Link link = event.getLink ();
+        switch (event.getID ()) {
+            case LinkEvent.RETRIEVING:
+                started.put (link, new Long (System.nanoTime ()));
+                break;
+            case LinkEvent.DOWNLOADED: {
+                Long start = (Long)started.remove (link);
+                if (start != null)
+                    addLatency (System.nanoTime () - start.longValue ());
+                break;
+            }
+            case LinkEvent.ERROR:
+                started.remove (link);
+                synchronized (this) {
+                    ++errors;
+                }
+                break;
+            case LinkEvent.VISITED:
+                synchronized (this) {
+                    ++visited;
+                }
+                break;
+        }
+    }
+
+    synchronized void addLatency (long nanos) {
+        if (downloaded == latencies.length) {
+            long[] bigger = new long[latencies.length * 2];
+            System.arraycopy (latencies, 0, bigger, 0, downloaded);
+            latencies = bigger;
+        }
+        latencies[downloaded++] = nanos;
+    }
+
+    static long heapUsed () {
+        Runtime rt = Runtime.getRuntime ();
+        return rt.totalMemory () - rt.freeMemory ();
+    }
+
+    void startHeapSampler () {
+        sampling = true;
+        Thread sampler = new Thread ("heap sampler") {
+            public void run () {
+                while (sampling) {
+                    long used = heapUsed ();
+                    synchronized (CrawlLoadTest.this) {
+                        peakHeap = Math.max (peakHeap, used);
+                    }
+                    try {
+                        Thread.sleep (50);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        };
+        sampler.setDaemon (true);
+        sampler.start ();
+    }
+
+    // p-th percentile (0..100) of the sorted latencies, in milliseconds
+    String percentile (long[] sorted, int n, double p) {
+        if (n == 0)
+            return "-";
+        int i = (int)Math.ceil (p / 100 * n) - 1;
+        i = Math.max (0, Math.min (n - 1, i));
+        return String.valueOf (Math.round (sorted[i] / 10000.0) / 100.0);
+    }
+
+    /**
+     * Crawl a started SyntheticWeb and print a report.
+     * @param web site to crawl
+     * @param dp download parameters for the crawler
+     */
+    public void run (SyntheticWeb web, DownloadParameters dp) throws Exception {
+        Crawler crawler = new Crawler ();
+        crawler.setRoot (new Link (web.getRootURL ()));
+        crawler.setDomain (Crawler.WEB);
+        crawler.setMaxDepth (Integer.MAX_VALUE);
+        crawler.setDownloadParameters (dp);
+        crawler.addLinkListener (this);
+        crawler.setMetrics (metrics);
+        BinaryEventLog eventLog = null;
+        if (eventLogDir != null) {
+            eventLog = BinaryEventLog.monitor (crawler, eventLogDir, "crawl");
+            eventLog.setOnlyNetworkEvents (false);
+        }
+        if (textLogFile != null) {
+            EventLog textLog = new EventLog (textLogFile);
+            textLog.setOnlyNetworkEvents (false);
+            crawler.addCrawlListener (textLog);
+            crawler.addLinkListener (textLog);
+        }
+
+        System.gc ();
+        long heapBefore = heapUsed ();
+        startHeapSampler ();
+        long start = System.currentTimeMillis ();
+        crawler.run ();
+        long elapsed = Math.max (1, System.currentTimeMillis () - start);
+        sampling = false;
+        if (eventLog != null)
+            eventLog.close ();
+
+        long[] sorted;
+        int n;
+        synchronized (this) {
+            n = downloaded;
+            sorted = new long[n];
+            System.arraycopy (latencies, 0, sorted, 0, n);
+        }
+        java.util.Arrays.sort (sorted);
+        System.gc ();
+        long heapAfter = heapUsed ();
+
+        System.out.println ("pages:       " + web.getPageCount () + " generated, " 
+                            + visited + " visited, " + errors + " errors");
+        System.out.println ("requests:    " + web.getRequestCount ());
+        System.out.println ("time:        " + elapsed + " ms");
+        System.out.println ("throughput:  " 
+                            + Math.round (visited * 10000.0 / elapsed) / 10.0 
+                            + " pages/s");
+        System.out.println ("latency ms:  p50 " + percentile (sorted, n, 50)
+                            + "  p90 " + percentile (sorted, n, 90)
+                            + "  p99 " + percentile (sorted, n, 99)
+                            + "  max " + percentile (sorted, n, 100));
+        System.out.println ("heap KB:     before " + heapBefore / 1024
+                            + "  peak " + peakHeap / 1024
+                            + "  after " + heapAfter / 1024);
+        if (eventLog != null)
+            System.out.println ("event log:   " + eventLog.getFiles ().length 
+                                + " files, " + eventLog.getDropped () 
+                                + " events dropped");
+        if (metrics != null) {
+            metrics.dump (System.out);
+            CallbackProfile[] profiles = crawler.getCallbackProfiles ();
+            for (int i=0; i<profiles.length; ++i)
+                System.out.println (profiles[i]);
+        }
+    }
+
+    public static void main (String[] args) throws Exception {
+        SyntheticWeb web = new SyntheticWeb ();
+        DownloadParameters dp = DownloadParameters.DEFAULT;
+        boolean metrics = false;
+        String eventLogDir = null;
+        String textLogFile = null;
+        for (int i=0; i<args.length; ) {
+            int n = web.setOption (args, i);
+            if (n > 0) {
+                i += n;
+                continue;
+            }
+
+            String opt = args[i];
+            if (opt.equals ("-metrics")) {
+                metrics = true;
+                ++i;
+            }
+            else if (opt.equals ("-eventlog") && i+1 < args.length) {
+                eventLogDir = args[i+1];
+                i += 2;
+            }
+            else if (opt.equals ("-textlog") && i+1 < args.length) {
+                textLogFile = args[i+1];
+                i += 2;
+            }
+            else if (opt.equals ("-robots")) {
+                dp = dp.changeObeyRobotExclusion (true);
+                ++i;
+            }
+            else if (opt.equals ("-threads") && i+1 < args.length) {
+                dp = dp.changeMaxThreads (Integer.parseInt (args[i+1]));
+                i += 2;
+            }
+            else if (opt.equals ("-timeout") && i+1 < args.length) {
+                dp = dp.changeDownloadTimeout (Integer.parseInt (args[i+1]));
+                i += 2;
+            }
+            else {
+                System.err.println ("unknown option " + opt);
+                System.exit (1);
+            }
+        }
+
+        web.start ();
+        try {
+            CrawlLoadTest test = new CrawlLoadTest ();
+            if (metrics)
+                test.metrics = new CrawlMetrics ();
+            test.eventLogDir = eventLogDir;
+            test.textLogFile = textLogFile;
+            test.run (web, dp);
+        } finally {
+            web.stop ();
+        }
+    }
+}
@@ -0,0 +1,603 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx.bench;
+
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.Hashtable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server for load-testing crawlers.  It serves a
+ * procedurally generated web of pages spread over one or more hosts.
+ * Every page is generated from the random seed and its page number when
+ * it's requested, so even a very large site takes no storage, and
+ * the same seed always gives the same site.
+ * <P>
+ * Each host is a separate server on a loopback port.  Page <I>n</I> lives
+ * on host <I>n</I> mod hostCount, at
+ * <CODE>http://localhost:<I>port</I>/s<I>k</I>/p<I>n</I>.html</CODE>,
+ * where <I>k</I> = <I>n</I> mod 10, so robots.txt rules can be written
+ * against the sections <CODE>/s0/</CODE> through <CODE>/s9/</CODE>.
+ * Every page is reachable from page 0: page <I>n</I> links to pages
+ * <I>bn</I>+1 ... <I>bn</I>+<I>b</I> (with <I>b</I> = half the out-degree),
+ * and its remaining links go to random pages.
+ * <P>
+ * Configure the server with the set methods before calling start().
+ * Run it standalone with
+ * <PRE>
+ *   java websphinx.bench.SyntheticWeb [options]
+ * </PRE>
+ * where the options are described by {@link #setOption(String[], int)}.
+ */
+public class SyntheticWeb {
+
+    long seed = 0;
+    int pageCount = 1000;
+    int outDegree = 10;
+    int pageSize = 4096;
+    int hostCount = 1;
+    int basePort = 0;
+    int defaultLatency = 0;
+    Hashtable latencies = new Hashtable ();    // host number (Integer) -> millis (Integer)
+    double errorRate = 0;
+    double timeoutRate = 0;
+    int timeoutDelay = 10000;
+    double redirectRate = 0;
+    int redirectLength = 2;
+    String[] disallow = new String[0];
+
+    HttpServer[] servers;
+    ExecutorService executor;
+    int requests;
+
+    static final int SECTIONS = 10;
+
+    static {
+        // Without TCP_NODELAY, Nagle's algorithm holds back each response
+        // body until the client's delayed ACK, adding ~40 ms per page.
+        // Must be set before the first HttpServer is made.
+        if (System.getProperty ("sun.net.httpserver.nodelay") == null)
+            System.setProperty ("sun.net.httpserver.nodelay", "true");
+    }
+
+    // salts for the random streams of a page
+    static final long FATE = 1;
+    static final long LINKS = 2;
+    static final long TEXT = 3;
+
+    static final String[] WORDS = {
+        "web", "crawler", "page", "link", "spider", "robot", "index", 
+        "search", "archive", "document", "server", "client", "network",
+        "protocol", "anchor", "text", "the", "of", "and", "a", "to", "in",
+        "is", "that", "for", "with", "on", "as", "by", "from"
+    };
+
+    /**
+     * Make a SyntheticWeb with the default configuration: 1000 pages of
+     * about 4KB, each with 10 links, on one host, with no latency,
+     * errors, timeouts, redirects, or robots.txt rules.
+     */
+    public SyntheticWeb () {
+    }
+
+    /**
+     * Set the random seed from which the site is generated.
+     */
+    public void setSeed (long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed () {
+        return seed;
+    }
+
+    /**
+     * Set the number of pages in the site.
+     */
+    public void setPageCount (int pageCount) {
+        this.pageCount = pageCount;
+    }
+
+    public int getPageCount () {
+        return pageCount;
+    }
+
+    /**
+     * Set the number of links on each page.
+     */
+    public void setOutDegree (int outDegree) {
+        this.outDegree = outDegree;
+    }
+
+    public int getOutDegree () {
+        return outDegree;
+    }
+
+    /**
+     * Set the approximate size of each page, in bytes.  Pages are never
+     * smaller than their markup and links.
+     */
+    public void setPageSize (int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getPageSize () {
+        return pageSize;
+    }
+
+    /**
+     * Set the number of hosts the pages are spread over.
+     */
+    public void setHostCount (int hostCount) {
+        this.hostCount = hostCount;
+    }
+
+    public int getHostCount () {
+        return hostCount;
+    }
+
+    /**
+     * Set the port of the first host.  Host <I>h</I> listens on
+     * basePort+<I>h</I>.  The default, 0, picks free ports.
+     */
+    public void setBasePort (int basePort) {
+        this.basePort = basePort;
+    }
+
+    public int getBasePort () {
+        return basePort;
+    }
+
+    /**
+     * Set the delay before every response.
+     * @param host Host number, or -1 for the default for all other hosts
+     * @param millis delay in milliseconds
+     */
+    public synchronized void setLatency (int host, int millis) {
+        if (host < 0)
+            defaultLatency = millis;
+        else
+            latencies.put (new Integer (host), new Integer (millis));
+    }
+
+    public synchronized int getLatency (int host) {
+        Integer millis = (Integer)latencies.get (new Integer (host));
+        return millis != null ? millis.intValue () : defaultLatency;
+    }
+
+    /**
+     * Set the fraction of pages that fail with 500 Internal Server Error.
+     */
+    public void setErrorRate (double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public double getErrorRate () {
+        return errorRate;
+    }
+
+    /**
+     * Set the fraction of pages that hang, then close the connection
+     * without responding.
+     */
+    public void setTimeoutRate (double timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    public double getTimeoutRate () {
+        return timeoutRate;
+    }
+
+    /**
+     * Set how long hanging pages hang before closing the connection.
+     * @param millis delay in milliseconds
+     */
+    public void setTimeoutDelay (int millis) {
+        this.timeoutDelay = millis;
+    }
+
+    public int getTimeoutDelay () {
+        return timeoutDelay;
+    }
+
+    /**
+     * Set the fraction of links that go through a chain of redirects.
+     */
+    public void setRedirectRate (double redirectRate) {
+        this.redirectRate = redirectRate;
+    }
+
+    public double getRedirectRate () {
+        return redirectRate;
+    }
+
+    /**
+     * Set the number of redirects in each redirect chain.
+     */
+    public void setRedirectLength (int redirectLength) {
+        this.redirectLength = redirectLength;
+    }
+
+    public int getRedirectLength () {
+        return redirectLength;
+    }
+
+    /**
+     * Set the path prefixes that every host's robots.txt disallows for
+     * all user agents, such as "/s3/".
+     */
+    public void setDisallow (String[] disallow) {
+        this.disallow = disallow;
+    }
+
+    public String[] getDisallow () {
+        return disallow;
+    }
+
+    /**
+     * Start serving.
+     * @exception IOException if a port can't be opened
+     */
+    public synchronized void start () throws IOException {
+        if (servers != null)
+            return;
+        executor = Executors.newCachedThreadPool ();
+        servers = new HttpServer[hostCount];
+        try {
+            for (int h=0; h<hostCount; ++h) {
+                servers[h] = HttpServer.create (
+                    new InetSocketAddress ("localhost", 
+                                           basePort != 0 ? basePort + h : 0), 
+                    1024);
+                servers[h].createContext ("/", new SyntheticHost (this, h));
+                servers[h].setExecutor (executor);
+                servers[h].start ();
+            }
+        } catch (IOException e) {
+            stop ();
+            throw e;
+        }
+    }
+
+    /**
+     * Stop serving.
+     */
+    public synchronized void stop () {
+        if (servers == null)
+            return;
+        for (int h=0; h<servers.length; ++h)
+            if (servers[h] != null)
+                servers[h].stop (0);
+        executor.shutdownNow ();
+        servers = null;
+    }
+
+    /**
+     * Get the port a host is listening on.  Pages can be generated
+     * without starting the server if the base port is set.
+     * @param host Host number
+     */
+    public synchronized int getPort (int host) {
+        if (servers != null)
+            return servers[host].getAddress ().getPort ();
+        if (basePort == 0)
+            throw new IllegalStateException ("server not started");
+        return basePort + host;
+    }
+
+    /**
+     * Get the URL of a page.
+     * @param page Page number
+     */
+    public String getURL (int page) {
+        return "http://localhost:" + getPort (page % hostCount) 
+            + pagePath (page);
+    }
+
+    /**
+     * Get the URL of page 0, from which every page can be reached.
+     */
+    public String getRootURL () {
+        return getURL (0);
+    }
+
+    /**
+     * Get the number of requests served so far.
+     */
+    public synchronized int getRequestCount () {
+        return requests;
+    }
+
+    synchronized void countRequest () {
+        ++requests;
+    }
+
+    static String pagePath (int page) {
+        return "/s" + (page % SECTIONS) + "/p" + page + ".html";
+    }
+
+    /*
+     * Page generation
+     *
+     */
+
+    // SplitMix64: a well-mixed random number for stream number salt of a page
+    long random (int page, long salt, int i) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long)page << 24) + (salt << 20) + i + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // uniform in [0,1)
+    double uniform (int page, long salt, int i) {
+        return (random (page, salt, i) >>> 11) * (1.0 / (1L << 53));
+    }
+
+    // uniform in [0,n)
+    int choose (int page, long salt, int i, int n) {
+        return (int)((random (page, salt, i) >>> 1) % n);
+    }
+
+    /**
+     * Get the page numbers that a page links to.
+     * @param page Page number
+     */
+    public int[] getLinks (int page) {
+        int[] links = new int[outDegree];
+        int branching = Math.max (1, outDegree / 2);
+        for (int i=0; i<outDegree; ++i) {
+            long child = (long)branching * page + i + 1;
+            links[i] = (i < branching && child < pageCount)
+                ? (int)child
+                : choose (page, LINKS, i, pageCount);
+        }
+        return links;
+    }
+
+    /**
+     * Generate the HTML of a page.
+     * @param page Page number
+     */
+    public String generatePage (int page) {
+        StringBuffer buf = new StringBuffer (pageSize + 256);
+        buf.append ("<html><head><title>Page ").append (page)
+            .append ("</title></head><body>\n<h1>Page ").append (page)
+            .append ("</h1>\n<ul>\n");
+        int[] links = getLinks (page);
+        for (int i=0; i<links.length; ++i) {
+            int target = links[i];
+            String path = uniform (page, LINKS, -1 - i) < redirectRate
+                ? "/r" + redirectLength + "/p" + target + ".html"
+                : pagePath (target);
+            buf.append ("<li><a href=\"http://localhost:")
+                .append (getPort (target % hostCount)).append (path)
+                .append ("\">page ").append (target).append ("</a>\n");
+        }
+        buf.append ("</ul>\n<p>");
+        String end = "</p>\n</body></html>\n";
+        for (int i=0; buf.length () + end.length () < pageSize; ++i) {
+            buf.append (WORDS[choose (page, TEXT, i, WORDS.length)]);
+            buf.append (i % 16 == 15 ? '\n' : ' ');
+        }
+        buf.append (end);
+        return buf.toString ();
+    }
+
+    String generateRobotsTxt () {
+        StringBuffer buf = new StringBuffer ("User-agent: *\n");
+        for (int i=0; i<disallow.length; ++i)
+            buf.append ("Disallow: ").append (disallow[i]).append ('\n');
+        return buf.toString ();
+    }
+
+    /**
+     * Parse an option from the command line.  The options are:
+     * <PRE>
+     *   -seed N        random seed (0)
+     *   -pages N       number of pages (1000)
+     *   -degree N      links per page (10)
+     *   -size N        bytes per page (4096)
+     *   -hosts N       number of hosts (1)
+     *   -port N        port of the first host (any free port)
+     *   -latency MS    delay before each response (0)
+     *   -errors F      fraction of pages that fail with status 500 (0)
+     *   -timeouts F    fraction of pages that hang (0)
+     *   -hang MS       how long hanging pages hang (10000)
+     *   -redirects F   fraction of links that are redirected (0)
+     *   -chain N       redirects per redirected link (2)
+     *   -disallow P    path prefix disallowed by robots.txt (may be repeated)
+     * </PRE>
+     * @param args command line
+     * @param i index of the option in args
+     * @return number of arguments used, or 0 if args[i] isn't an option
+     * of SyntheticWeb
+     * @exception IllegalArgumentException if the option is missing its value
+     */
+    public int setOption (String[] args, int i) {
+        String opt = args[i];
+        if (!(opt.equals ("-seed") || opt.equals ("-pages") 
+              || opt.equals ("-degree") || opt.equals ("-size")
+              || opt.equals ("-hosts") || opt.equals ("-port") 
+              || opt.equals ("-latency") || opt.equals ("-errors") 
+              || opt.equals ("-timeouts") || opt.equals ("-hang")
+              || opt.equals ("-redirects") || opt.equals ("-chain")
+              || opt.equals ("-disallow")))
+            return 0;
+        if (i+1 >= args.length)
+            throw new IllegalArgumentException (opt + " needs a value");
+        String val = args[i+1];
+
+        if (opt.equals ("-seed"))
+            setSeed (Long.parseLong (val));
+        else if (opt.equals ("-pages"))
+            setPageCount (Integer.parseInt (val));
+        else if (opt.equals ("-degree"))
+            setOutDegree (Integer.parseInt (val));
+        else if (opt.equals ("-size"))
+            setPageSize (Integer.parseInt (val));
+        else if (opt.equals ("-hosts"))
+            setHostCount (Integer.parseInt (val));
+        else if (opt.equals ("-port"))
+            setBasePort (Integer.parseInt (val));
+        else if (opt.equals ("-latency"))
+            setLatency (-1, Integer.parseInt (val));
+        else if (opt.equals ("-errors"))
+            setErrorRate (Double.valueOf (val).doubleValue ());
+        else if (opt.equals ("-timeouts"))
+            setTimeoutRate (Double.valueOf (val).doubleValue ());
+        else if (opt.equals ("-hang"))
+            setTimeoutDelay (Integer.parseInt (val));
+        else if (opt.equals ("-redirects"))
+            setRedirectRate (Double.valueOf (val).doubleValue ());
+        else if (opt.equals ("-chain"))
+            setRedirectLength (Integer.parseInt (val));
+        else if (opt.equals ("-disallow")) {
+            String[] d = new String[disallow.length + 1];
+            System.arraycopy (disallow, 0, d, 0, disallow.length);
+            d[disallow.length] = val;
+            setDisallow (d);
+        }
+        return 2;
+    }
+
+    public static void main (String[] args) throws Exception {
+        SyntheticWeb web = new SyntheticWeb ();
+        for (int i=0; i<args.length; ) {
+            int n = web.setOption (args, i);
+            if (n == 0) {
+                System.err.println ("unknown option " + args[i]);
+                System.exit (1);
+            }
+            i += n;
+        }
+        web.start ();
+        System.out.println ("Serving " + web.getPageCount () + " pages at " 
+                            + web.getRootURL ());
+    }
+}
+
+/**
+ * Request handler for one host of a SyntheticWeb.
+ */
+class SyntheticHost implements HttpHandler {
+    SyntheticWeb web;
+    int host;
+
+    SyntheticHost (SyntheticWeb web, int host) {
+        this.web = web;
+        this.host = host;
+    }
+
+    public void handle (HttpExchange exchange) throws IOException {
+        web.countRequest ();
+        try {
+            int latency = web.getLatency (host);
+            if (latency > 0)
+                Thread.sleep (latency);
+
+            String path = exchange.getRequestURI ().getPath ();
+            if (path.equals ("/robots.txt")) {
+                respond (exchange, 200, "text/plain", web.generateRobotsTxt ());
+                return;
+            }
+
+            // parse /sK/pN.html or /rJ/pN.html
+            int slash = path.indexOf ("/p", 1);
+            int page = -1;
+            int hops = 0;
+            if (path.length () > 2 && slash > 1 && path.endsWith (".html")) {
+                try {
+                    page = Integer.parseInt (path.substring (slash + 2, 
+                                                             path.length () - 5));
+                    if (path.charAt (1) == 'r')
+                        hops = Integer.parseInt (path.substring (2, slash));
+                    else if (path.charAt (1) != 's' 
+                             || !path.equals (SyntheticWeb.pagePath (page)))
+                        page = -1;
+                } catch (NumberFormatException e) {
+                    page = -1;
+                }
+            }
+            if (page < 0 || page >= web.getPageCount () 
+                || page % web.getHostCount () != host || hops < 0) {
+                respond (exchange, 404, "text/html", 
+                         "<html><body>Not Found</body></html>\n");
+                return;
+            }
+
+            if (hops > 0) {
+                String next = hops > 1
+                    ? "/r" + (hops-1) + "/p" + page + ".html"
+                    : SyntheticWeb.pagePath (page);
+                exchange.getResponseHeaders ().set ("Location", 
+                    "http://localhost:" + web.getPort (host) + next);
+                respond (exchange, 302, "text/html", 
+                         "<html><body>Moved</body></html>\n");
+                return;
+            }
+
+            double fate = web.uniform (page, SyntheticWeb.FATE, 0);
+            if (fate < web.getErrorRate ()) {
+                respond (exchange, 500, "text/html", 
+                         "<html><body>Internal Server Error</body></html>\n");
+                return;
+            }
+            if (fate < web.getErrorRate () + web.getTimeoutRate ()) {
+                Thread.sleep (web.getTimeoutDelay ());
+                return;   // closed below without a response
+            }
+
+            respond (exchange, 200, "text/html", web.generatePage (page));
+        } catch (InterruptedException e) {
+            // server is stopping
+        } finally {
+            exchange.close ();
+        }
+    }
+
+    static void respond (HttpExchange exchange, int code, String type, 
+                         String body) throws IOException {
+        byte[] bytes = body.getBytes ("ISO-8859-1");
+        exchange.getResponseHeaders ().set ("Content-Type", type);
+        exchange.sendResponseHeaders (code, bytes.length);
+        OutputStream out = exchange.getResponseBody ();
+        out.write (bytes);
+        out.close ();
+    }
+}
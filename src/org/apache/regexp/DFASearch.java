@@ -0,0 +1,531 @@
+package org.apache.regexp;
+
+/*
+ * ====================================================================
+ * 
+ * The Apache Software License, Version 1.1
+ *
+ * Copyright (c) 1999 The Apache Software Foundation.  All rights 
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer. 
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * 3. The end-user documentation included with the redistribution, if
+ *    any, must include the following acknowlegement:  
+ *       "This product includes software developed by the 
+ *        Apache Software Foundation (http://www.apache.org/)."
+ *    Alternately, this acknowlegement may appear in the software itself,
+ *    if and wherever such third-party acknowlegements normally appear.
+ *
+ * 4. The names "The Jakarta Project", "Jakarta-Regexp", and "Apache Software
+ *    Foundation" must not be used to endorse or promote products derived
+ *    from this software without prior written permission. For written 
+ *    permission, please contact apache@apache.org.
+ *
+ * 5. Products derived from this software may not be called "Apache"
+ *    nor may "Apache" appear in their names without prior written
+ *    permission of the Apache Group.
+ *
+ * THIS SOFTWARE IS PROVIDED ``AS IS'' AND ANY EXPRESSED OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED.  IN NO EVENT SHALL THE APACHE SOFTWARE FOUNDATION OR
+ * ITS CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF
+ * USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * ====================================================================
+ *
+ * This software consists of voluntary contributions made by many
+ * individuals on behalf of the Apache Software Foundation.  For more
+ * information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ */ 
+
+import java.util.Hashtable;
+
+/**
+ * A DFA state cache and its search loops, used by one RE at a time (see
+ * REProgram.takeSearch()).  States are made the first time the search
+ * reaches them and kept in a table, which is thrown away whenever it
+ * grows past MAX_STATES so that a pathological pattern can't use
+ * unbounded memory.
+ * <p>
+ * The forward pass runs the program behind an unanchored search loop.
+ * The instructions of a state are kept in the order the backtracker
+ * would try them, and everything after a match is dropped, so the last
+ * matching position seen before the DFA dies is the end of the match
+ * RE.matchAt() would have found.  The reverse pass then runs the program
+ * backwards from that end to find the earliest position it can start at.
+ *
+ * @see REDFA
+ */
+final class DFASearch
+{
+    static final int MAX_STATES = 1000;         // States kept per direction before flushing
+
+    final REDFA dfa;                            // Automaton being run
+    Hashtable forward = new Hashtable();        // Forward states by key
+    Hashtable reverse = new Hashtable();        // Reverse states by key
+    DFAState start;                             // Forward start state
+    DFAState startAtBOL;                        // Forward start state at the start of input
+    DFAState rstart;                            // Reverse start state
+    DFAState rstartAtEOL;                       // Reverse start state at the end of input
+
+    // Scratch space for building states
+    int[] stack;
+    int[] mark;
+    int gen;
+    int[] list;
+    int count;
+
+    DFASearch(REDFA dfa)
+    {
+        this.dfa = dfa;
+        stack = new int[dfa.size * 2 + 2];
+        mark = new int[dfa.size];
+        list = new int[dfa.size];
+    }
+
+    /**
+     * Finds the end of the leftmost match.
+     * @param search Input to search
+     * @param i Index to start searching at
+     * @return Index just past the end of the match, or -1 if there is no match
+     */
+    int searchForward(CharacterIterator search, int i)
+    {
+        DFAState s;
+        if (i == 0)
+        {
+            if (startAtBOL == null)
+            {
+                startAtBOL = forwardStart(true);
+            }
+            s = startAtBOL;
+        }
+        else
+        {
+            if (start == null)
+            {
+                start = forwardStart(false);
+            }
+            s = start;
+        }
+
+        int last = s.accept ? i : -1;
+        int idx = i;
+        while (!search.isEnd(idx))
+        {
+            char c = search.charAt(idx++);
+            DFAState n = (c < 256) ? s.next[c] : null;
+            if (n == null)
+            {
+                n = step(s, c);
+                if (c < 256)
+                {
+                    s.next[c] = n;
+                }
+            }
+            s = n;
+            if (s.items.length == 0)
+            {
+                return last;
+            }
+            if (s.accept)
+            {
+                last = idx;
+            }
+        }
+        if (endMatches(s, idx == 0))
+        {
+            last = idx;
+        }
+        return last;
+    }
+
+    /**
+     * Finds the start of the match ending at a given index.
+     * @param search Input to search
+     * @param end Index just past the end of the match
+     * @param from Earliest index the match may start at
+     * @return Start of the match, or -1 if there is none
+     */
+    int searchReverse(CharacterIterator search, int end, int from)
+    {
+        boolean atEnd = search.isEnd(end);
+        DFAState s;
+        if (atEnd)
+        {
+            if (rstartAtEOL == null)
+            {
+                rstartAtEOL = reverseStart(true);
+            }
+            s = rstartAtEOL;
+        }
+        else
+        {
+            if (rstart == null)
+            {
+                rstart = reverseStart(false);
+            }
+            s = rstart;
+        }
+
+        int best = startMatches(s, end, atEnd) ? end : -1;
+        int idx = end;
+        while (idx > from && s.items.length != 0)
+        {
+            char c = search.charAt(--idx);
+            DFAState n = (c < 256) ? s.next[c] : null;
+            if (n == null)
+            {
+                n = reverseStep(s, c);
+                if (c < 256)
+                {
+                    s.next[c] = n;
+                }
+            }
+            s = n;
+            if (startMatches(s, idx, false))
+            {
+                best = idx;
+            }
+        }
+        return best;
+    }
+
+    private DFAState forwardStart(boolean atStart)
+    {
+        begin();
+        follow(dfa.loop, atStart, false);
+        return intern(forward, false);
+    }
+
+    /**
+     * Moves a forward state past one character.  Instructions are followed
+     * in priority order and the first one to reach a match cuts off all
+     * the rest, including the search loop.
+     */
+    private DFAState step(DFAState s, char c)
+    {
+        begin();
+        int[] items = s.items;
+        for (int k = 0; k < items.length; k++)
+        {
+            int pc = items[k];
+            if (dfa.consumes(pc, c) && follow(dfa.out[pc], false, false))
+            {
+                break;
+            }
+        }
+        return intern(forward, false);
+    }
+
+    /**
+     * Tests whether a forward state matches at the end of input, which is
+     * where waiting end-of-line assertions are finally satisfied.
+     */
+    private boolean endMatches(DFAState s, boolean atStart)
+    {
+        if (s.accept)
+        {
+            return true;
+        }
+        if (!atStart && s.atEdge != 0)
+        {
+            return s.atEdge == 1;
+        }
+        begin();
+        boolean match = false;
+        int[] items = s.items;
+        for (int k = 0; k < items.length && !match; k++)
+        {
+            int pc = items[k];
+            if (dfa.op[pc] == REDFA.I_EOL)
+            {
+                match = follow(dfa.out[pc], atStart, true);
+            }
+        }
+        if (!atStart)
+        {
+            s.atEdge = match ? 1 : 2;
+        }
+        return match;
+    }
+
+    /**
+     * Adds everything reachable from an instruction without consuming
+     * input, in the order the backtracker would try it.  Start and end of
+     * input assertions are passed only if atStart or atEnd is set; otherwise
+     * end of input assertions are kept to be tested later.
+     * @return True if a match was reached, in which case nothing more
+     * should be added
+     */
+    private boolean follow(int pc, boolean atStart, boolean atEnd)
+    {
+        int[] op = dfa.op;
+        int sp = 0;
+        stack[sp++] = pc;
+        while (sp > 0)
+        {
+            pc = stack[--sp];
+            if (mark[pc] == gen)
+            {
+                continue;
+            }
+            mark[pc] = gen;
+            switch (op[pc])
+            {
+                case REDFA.I_SPLIT:
+                    stack[sp++] = dfa.out2[pc];
+                    stack[sp++] = dfa.out[pc];
+                    break;
+
+                case REDFA.I_EMPTY:
+                    stack[sp++] = dfa.out[pc];
+                    break;
+
+                case REDFA.I_BOL:
+                    if (atStart)
+                    {
+                        stack[sp++] = dfa.out[pc];
+                    }
+                    break;
+
+                case REDFA.I_EOL:
+                    if (atEnd)
+                    {
+                        stack[sp++] = dfa.out[pc];
+                    }
+                    else
+                    {
+                        list[count++] = pc;
+                    }
+                    break;
+
+                case REDFA.I_FAIL:
+                    break;
+
+                case REDFA.I_MATCH:
+                    list[count++] = pc;
+                    return true;
+
+                default:
+                    list[count++] = pc;
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private DFAState reverseStart(boolean atEnd)
+    {
+        begin();
+        for (int k = 0; k < dfa.matches.length; k++)
+        {
+            reverseFollow(dfa.matches[k], atEnd, false);
+        }
+        return intern(reverse, true);
+    }
+
+    /**
+     * Moves a reverse state back over one character.
+     */
+    private DFAState reverseStep(DFAState s, char c)
+    {
+        begin();
+        int[] items = s.items;
+        for (int k = 0; k < items.length; k++)
+        {
+            int pc = items[k];
+            if (dfa.op[pc] == REDFA.I_BOL)
+            {
+                // Waiting for the start of input, which this isn't
+                continue;
+            }
+            int[] pred = dfa.charPred[pc];
+            for (int j = 0; j < pred.length; j++)
+            {
+                if (mark[pred[j]] != gen && dfa.consumes(pred[j], c))
+                {
+                    reverseFollow(pred[j], false, false);
+                }
+            }
+        }
+        return intern(reverse, true);
+    }
+
+    /**
+     * Tests whether the program can start at the current index of a
+     * reverse pass.
+     */
+    private boolean startMatches(DFAState s, int idx, boolean atEnd)
+    {
+        if (s.accept)
+        {
+            return true;
+        }
+        if (idx != 0)
+        {
+            return false;
+        }
+        if (!atEnd && s.atEdge != 0)
+        {
+            return s.atEdge == 1;
+        }
+
+        // Let start-of-input assertions through and look again
+        begin();
+        int[] items = s.items;
+        for (int k = 0; k < items.length; k++)
+        {
+            reverseFollow(items[k], atEnd, true);
+        }
+        boolean match = mark[dfa.start] == gen;
+        if (!atEnd)
+        {
+            s.atEdge = match ? 1 : 2;
+        }
+        return match;
+    }
+
+    /**
+     * Adds everything that reaches an instruction without consuming input.
+     * Start-of-input assertions are kept but not passed unless atStart is
+     * set; end-of-input assertions are passed only if atEnd is.
+     */
+    private void reverseFollow(int pc, boolean atEnd, boolean atStart)
+    {
+        if (mark[pc] == gen)
+        {
+            return;
+        }
+        mark[pc] = gen;
+        int sp = 0;
+        stack[sp++] = pc;
+        while (sp > 0)
+        {
+            pc = stack[--sp];
+            list[count++] = pc;
+            if (dfa.op[pc] == REDFA.I_BOL && !atStart)
+            {
+                continue;
+            }
+            int[] pred = dfa.epsilonPred[pc];
+            for (int j = 0; j < pred.length; j++)
+            {
+                int p = pred[j];
+                if (mark[p] == gen || (dfa.op[p] == REDFA.I_EOL && !atEnd))
+                {
+                    continue;
+                }
+                mark[p] = gen;
+                stack[sp++] = p;
+            }
+        }
+    }
+
+    private void begin()
+    {
+        if (++gen == 0)
+        {
+            for (int i = 0; i < mark.length; i++)
+            {
+                mark[i] = -1;
+            }
+            gen = 1;
+        }
+        count = 0;
+    }
+
+    /**
+     * Finds or makes the state holding the instructions just collected.
+     * @param states Table of states to look in
+     * @param sorted True if the order of instructions doesn't matter
+     */
+    private DFAState intern(Hashtable states, boolean sorted)
+    {
+        int[] items = new int[count];
+        if (sorted)
+        {
+            for (int pc = 0, k = 0; k < count; pc++)
+            {
+                if (mark[pc] == gen)
+                {
+                    items[k++] = pc;
+                }
+            }
+        }
+        else
+        {
+            System.arraycopy(list, 0, items, 0, count);
+        }
+
+        char[] key = new char[count];
+        boolean accept = false;
+        for (int k = 0; k < count; k++)
+        {
+            key[k] = (char)items[k];
+            if (sorted ? items[k] == dfa.start : dfa.op[items[k]] == REDFA.I_MATCH)
+            {
+                accept = true;
+            }
+        }
+        String k = new String(key);
+        DFAState s = (DFAState)states.get(k);
+        if (s == null)
+        {
+            if (states.size() >= MAX_STATES)
+            {
+                // Start over rather than grow without bound
+                states.clear();
+                if (states == forward)
+                {
+                    start = startAtBOL = null;
+                }
+                else
+                {
+                    rstart = rstartAtEOL = null;
+                }
+            }
+            s = new DFAState(items, accept);
+            states.put(k, s);
+        }
+        return s;
+    }
+}
+
+/**
+ * One state of a lazily built DFA: the set of automaton instructions
+ * alive at some point in the input, plus the transitions out of it that
+ * have been needed so far.
+ */
+final class DFAState
+{
+    final int[] items;                          // Instructions in the state
+    final boolean accept;                       // True if the state is a match
+    final DFAState[] next = new DFAState[256];  // Transitions on Latin-1 characters
+    int atEdge;                                 // Cached end/start of input test (0 = unknown, 1 = yes, 2 = no)
+
+    DFAState(int[] items, boolean accept)
+    {
+        this.items = items;
+        this.accept = accept;
+    }
+}
@@ -1488,6 +1488,22 @@ public class RE
         // Save string to search
         this.search = search;
 
+        // Run the program as a DFA if it can be translated to one
+        if (matchFlags == MATCH_NORMAL)
+        {
+            REDFA dfa = program.getDFA();
+            if (dfa != null)
+            {
+                return matchDFA(dfa, i);
+            }
+        }
+
+        // Can we skip to places where a required literal occurs?
+        if (program.anchor != null && (matchFlags & MATCH_CASEINDEPENDENT) == 0)
+        {
+            return matchSkipping(i);
+        }
+
         // Can we optimize the search by looking for a prefix string?
         if (program.prefix == null)
         {
@@ -1551,6 +1567,163 @@ public class RE
         }
     }
 
+    /**
+     * Matches the current program against the current input with the
+     * backtracker, trying only start positions from which the program's
+     * anchor literal could be reached.  When the anchor lies a bounded
+     * distance from the start of a match, the search jumps from one
+     * occurrence to the next; otherwise it stops as soon as no occurrence
+     * remains ahead.
+     * @param i Index to start searching at
+     * @return True if the input matched the expression
+     */
+    private boolean matchSkipping(int i)
+    {
+        int min = program.anchorMin;
+        int max = program.anchorMax;
+        int found = -1;
+        for ( ;! search.isEnd(i - 1); i++)
+        {
+            if (found < i + min)
+            {
+                // Find the next occurrence a match starting at i could use
+                found = findAnchor(i + min);
+                if (found == -1)
+                {
+                    return false;
+                }
+                if (max >= 0 && found - max > i)
+                {
+                    i = found - max;
+                }
+            }
+
+            // Try a match at index i
+            if (matchAt(i))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the next occurrence of the program's anchor literal.  Strings
+     * are searched with String.indexOf(); other input with a Horspool
+     * skip loop.
+     * @param from Index to start looking at
+     * @return Index of the occurrence, or -1 if there is none
+     */
+    private int findAnchor(int from)
+    {
+        String anchor = program.anchor;
+        if (search instanceof StringCharacterIterator)
+        {
+            return ((StringCharacterIterator)search).indexOf(anchor, from);
+        }
+
+        int[] skip = program.anchorSkip;
+        int last = anchor.length() - 1;
+        char lastChar = anchor.charAt(last);
+        for (int p = from; !search.isEnd(p + last); )
+        {
+            char c = search.charAt(p + last);
+            if (c == lastChar)
+            {
+                int k = last - 1;
+                while (k >= 0 && search.charAt(p + k) == anchor.charAt(k))
+                {
+                    k--;
+                }
+                if (k < 0)
+                {
+                    return p;
+                }
+            }
+            p += skip[c & 0xff];
+        }
+        return -1;
+    }
+
+    /**
+     * Matches the current program against the current input using the lazy
+     * DFA.  A forward pass finds where the leftmost match ends and a reverse
+     * pass finds where it starts, both in linear time.  Parenthesized groups
+     * are then filled in by running the backtracker once, at the known start.
+     * @param dfa The program translated for the DFA
+     * @param i Index to start searching at
+     * @return True if the input matched the expression
+     */
+    private boolean matchDFA(REDFA dfa, int i)
+    {
+        // Searching from past the end never matches, as in the loop below
+        parenCount = 0;
+        if (i > 0 && search.isEnd(i - 1))
+        {
+            return false;
+        }
+
+        // Skip to the earliest start the anchor literal allows, if any
+        if (program.anchor != null)
+        {
+            int found = findAnchor(i + program.anchorMin);
+            if (found == -1)
+            {
+                return false;
+            }
+            if (program.anchorMax >= 0 && found - program.anchorMax > i)
+            {
+                i = found - program.anchorMax;
+            }
+        }
+
+        int start, end;
+        DFASearch dfaSearch = program.takeSearch(dfa);
+        try
+        {
+            end = dfaSearch.searchForward(search, i);
+            start = (end == -1) ? -1 : dfaSearch.searchReverse(search, end, i);
+        }
+        finally
+        {
+            program.giveSearch(dfaSearch);
+        }
+        if (end == -1)
+        {
+            return false;
+        }
+        if (start != -1)
+        {
+            if (!dfa.hasGroups)
+            {
+                start0 = start;
+                end0   = end;
+                start1 = -1;
+                end1   = -1;
+                start2 = -1;
+                end2   = -1;
+                startn = null;
+                endn   = null;
+                parenCount = 1;
+                return true;
+            }
+            if (matchAt(start))
+            {
+                return true;
+            }
+        }
+
+        // The two engines disagree, which shouldn't happen; trust the backtracker
+        for ( ;! search.isEnd(i - 1); i++)
+        {
+            if (matchAt(i))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Matches the current regular expression program against a String.
      * @param search String to match against
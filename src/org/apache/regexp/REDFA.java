@@ -0,0 +1,522 @@
+package org.apache.regexp;
+
+/*
+ * ====================================================================
+ * 
+ * The Apache Software License, Version 1.1
+ *
+ * Copyright (c) 1999 The Apache Software Foundation.  All rights 
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer. 
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * 3. The end-user documentation included with the redistribution, if
+ *    any, must include the following acknowlegement:  
+ *       "This product includes software developed by the 
+ *        Apache Software Foundation (http://www.apache.org/)."
+ *    Alternately, this acknowlegement may appear in the software itself,
+ *    if and wherever such third-party acknowlegements normally appear.
+ *
+ * 4. The names "The Jakarta Project", "Jakarta-Regexp", and "Apache Software
+ *    Foundation" must not be used to endorse or promote products derived
+ *    from this software without prior written permission. For written 
+ *    permission, please contact apache@apache.org.
+ *
+ * 5. Products derived from this software may not be called "Apache"
+ *    nor may "Apache" appear in their names without prior written
+ *    permission of the Apache Group.
+ *
+ * THIS SOFTWARE IS PROVIDED ``AS IS'' AND ANY EXPRESSED OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED.  IN NO EVENT SHALL THE APACHE SOFTWARE FOUNDATION OR
+ * ITS CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF
+ * USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * ====================================================================
+ *
+ * This software consists of voluntary contributions made by many
+ * individuals on behalf of the Apache Software Foundation.  For more
+ * information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ */ 
+
+/**
+ * A second matching engine for compiled regular expressions.  RE's own
+ * matchNodes() is a backtracking interpreter, which can take time
+ * exponential in the length of the input.  REDFA translates an REProgram
+ * into an equivalent nondeterministic automaton whose alternatives are
+ * ordered the way the backtracker would try them.  DFASearch then runs
+ * that automaton as a lazily constructed DFA, so a search takes time
+ * linear in the input.  Programs which use backreferences, reluctant
+ * closures or word boundaries have no such translation; compile() returns
+ * null for them and RE falls back to the backtracker.
+ * <p>
+ * An REDFA holds only the translated program and is never changed once
+ * built, so one instance is shared by every RE running the same program.
+ * The DFA states themselves are kept in DFASearch caches, which the
+ * REProgram lends to one RE at a time.
+ *
+ * @see RE
+ * @see DFASearch
+ */
+class REDFA
+{
+    // Automaton opcodes
+    static final int I_CHAR    = 0;             // arg          match the character arg
+    static final int I_CLASS   = 1;             // node         match the character class at program node arg
+    static final int I_ANYCHAR = 2;             //              match any character at all
+    static final int I_EOL     = 3;             //              match only at the end of input
+    static final int I_MATCH   = 4;             //              the program has matched
+    static final int I_SPLIT   = 5;             //              try out, then out2
+    static final int I_EMPTY   = 6;             //              go on to out
+    static final int I_BOL     = 7;             //              match only at the start of input
+    static final int I_FAIL    = 8;             //              never matches
+
+    final REProgram program;                    // Program this automaton was made from
+    final int size;                             // Number of instructions
+    final int[] op;                             // Opcode of each instruction
+    final int[] arg;                            // Character or program node of each instruction
+    final int[] out;                            // Following instruction
+    final int[] out2;                           // Second choice of an I_SPLIT
+    int start;                                  // First instruction of the program
+    int loop;                                   // Unanchored search loop in front of start
+    int[] matches;                              // The I_MATCH instructions
+    int[][] epsilonPred;                        // Instructions that reach each one without input
+    int[][] charPred;                           // Instructions that reach each one on a character
+    boolean hasGroups;                          // True if the program has parenthesized groups
+
+    static final int[] NONE = new int[0];
+
+    private REDFA(REProgram program, int size)
+    {
+        this.program = program;
+        this.size = size;
+        op = new int[size];
+        arg = new int[size];
+        out = new int[size];
+        out2 = new int[size];
+    }
+
+    /**
+     * Translates a program into an automaton.
+     * @param program Program to translate
+     * @return The automaton, or null if the program can't be run as a DFA
+     */
+    static REDFA compile(REProgram program)
+    {
+        char[] instruction = program.instruction;
+        int len = program.lenInstruction;
+        if (instruction == null || len == 0)
+        {
+            return null;
+        }
+
+        // Number the instructions, one per node and one per atom character,
+        // and give up on anything the automaton can't express
+        int[] first = new int[len];
+        for (int i = 0; i < len; i++)
+        {
+            first[i] = -1;
+        }
+        int count = 0;
+        boolean groups = false;
+        for (int node = 0; node < len; node += RE.nodeSize)
+        {
+            if (node + RE.nodeSize > len)
+            {
+                return null;
+            }
+            first[node] = count;
+            int opdata = instruction[node + RE.offsetOpdata];
+            switch (instruction[node + RE.offsetOpcode])
+            {
+                case RE.OP_ATOM:
+                    count += Math.max(opdata, 1);
+                    node += opdata;
+                    break;
+
+                case RE.OP_ANYOF:
+                    count++;
+                    node += opdata * 2;
+                    break;
+
+                case RE.OP_ESCAPE:
+                    switch (opdata)
+                    {
+                        case RE.E_ALNUM:
+                        case RE.E_NALNUM:
+                        case RE.E_DIGIT:
+                        case RE.E_NDIGIT:
+                        case RE.E_SPACE:
+                        case RE.E_NSPACE:
+                            break;
+
+                        default:
+                            // Word boundaries look at the start of the match
+                            return null;
+                    }
+                    count++;
+                    break;
+
+                case RE.OP_POSIXCLASS:
+                    if ("wabcdglp!suxjk".indexOf(opdata) == -1)
+                    {
+                        return null;
+                    }
+                    count++;
+                    break;
+
+                case RE.OP_OPEN:
+                case RE.OP_CLOSE:
+                    if (opdata > 0)
+                    {
+                        groups = true;
+                    }
+                    count++;
+                    break;
+
+                case RE.OP_END:
+                case RE.OP_BOL:
+                case RE.OP_EOL:
+                case RE.OP_ANY:
+                case RE.OP_BRANCH:
+                case RE.OP_GOTO:
+                case RE.OP_NOTHING:
+                    count++;
+                    break;
+
+                default:
+                    // Backreferences and reluctant closures
+                    return null;
+            }
+        }
+        if (count + 3 > 0xffff)
+        {
+            return null;
+        }
+
+        // The last three instructions are a failure and the search loop
+        REDFA dfa = new REDFA(program, count + 3);
+        int fail = count;
+        dfa.set(fail, I_FAIL, 0, fail, fail);
+        dfa.loop = count + 1;
+        dfa.set(count + 1, I_SPLIT, 0, first[0], count + 2);
+        dfa.set(count + 2, I_ANYCHAR, 0, count + 1, count + 1);
+        dfa.start = first[0];
+        dfa.hasGroups = groups;
+
+        int nmatches = 0;
+        for (int node = 0; node < len; node += RE.nodeSize)
+        {
+            int pc = first[node];
+            int opcode = instruction[node + RE.offsetOpcode];
+            int opdata = instruction[node + RE.offsetOpdata];
+            int offset = (short)instruction[node + RE.offsetNext];
+            int next = node + offset;
+            int target = fail;
+            if (offset != 0)
+            {
+                if (next < 0 || next >= len || first[next] == -1)
+                {
+                    return null;
+                }
+                target = first[next];
+            }
+
+            switch (opcode)
+            {
+                case RE.OP_ATOM:
+                    if (opdata == 0)
+                    {
+                        dfa.set(pc, I_EMPTY, 0, target, target);
+                    }
+                    for (int i = 0; i < opdata; i++)
+                    {
+                        int to = (i + 1 < opdata) ? pc + i + 1 : target;
+                        dfa.set(pc + i, I_CHAR, instruction[node + RE.nodeSize + i], to, to);
+                    }
+                    node += opdata;
+                    break;
+
+                case RE.OP_ANYOF:
+                    dfa.set(pc, I_CLASS, node, target, target);
+                    node += opdata * 2;
+                    break;
+
+                case RE.OP_ANY:
+                case RE.OP_ESCAPE:
+                case RE.OP_POSIXCLASS:
+                    dfa.set(pc, I_CLASS, node, target, target);
+                    break;
+
+                case RE.OP_BOL:
+                    dfa.set(pc, I_BOL, 0, target, target);
+                    break;
+
+                case RE.OP_EOL:
+                    dfa.set(pc, I_EOL, 0, target, target);
+                    break;
+
+                case RE.OP_BRANCH:
+                    {
+                        // Same test for further choices as matchNodes() makes
+                        int operand = first[node + RE.nodeSize];
+                        if (offset != 0 && instruction[next + RE.offsetOpcode] == RE.OP_BRANCH)
+                        {
+                            dfa.set(pc, I_SPLIT, 0, operand, target);
+                        }
+                        else
+                        {
+                            dfa.set(pc, I_EMPTY, 0, operand, operand);
+                        }
+                    }
+                    break;
+
+                case RE.OP_END:
+                    dfa.set(pc, I_MATCH, 0, fail, fail);
+                    nmatches++;
+                    break;
+
+                default:
+                    // Parens, gotos and nothing move on without consuming input
+                    dfa.set(pc, I_EMPTY, 0, target, target);
+                    break;
+            }
+        }
+
+        dfa.matches = new int[nmatches];
+        for (int pc = 0, m = 0; pc < count; pc++)
+        {
+            if (dfa.op[pc] == I_MATCH)
+            {
+                dfa.matches[m++] = pc;
+            }
+        }
+        dfa.makePredecessors(count);
+        return dfa;
+    }
+
+    private void set(int pc, int opcode, int a, int o, int o2)
+    {
+        op[pc] = opcode;
+        arg[pc] = a;
+        out[pc] = o;
+        out2[pc] = o2;
+    }
+
+    /**
+     * Builds the reverse edges used to find where a match started.  The
+     * search loop is left out, since the reverse pass is anchored.
+     * @param count Number of instructions belonging to the program itself
+     */
+    private void makePredecessors(int count)
+    {
+        int[] neps = new int[size];
+        int[] nchar = new int[size];
+        for (int pass = 0; pass < 2; pass++)
+        {
+            if (pass == 1)
+            {
+                epsilonPred = new int[size][];
+                charPred = new int[size][];
+                for (int pc = 0; pc < size; pc++)
+                {
+                    epsilonPred[pc] = neps[pc] == 0 ? NONE : new int[neps[pc]];
+                    charPred[pc] = nchar[pc] == 0 ? NONE : new int[nchar[pc]];
+                    neps[pc] = nchar[pc] = 0;
+                }
+            }
+            for (int pc = 0; pc < count; pc++)
+            {
+                switch (op[pc])
+                {
+                    case I_CHAR:
+                    case I_CLASS:
+                        addEdge(pass, nchar, charPred, out[pc], pc);
+                        break;
+
+                    case I_SPLIT:
+                        addEdge(pass, neps, epsilonPred, out[pc], pc);
+                        if (out2[pc] != out[pc])
+                        {
+                            addEdge(pass, neps, epsilonPred, out2[pc], pc);
+                        }
+                        break;
+
+                    case I_EMPTY:
+                    case I_BOL:
+                    case I_EOL:
+                        addEdge(pass, neps, epsilonPred, out[pc], pc);
+                        break;
+                }
+            }
+        }
+    }
+
+    private static void addEdge(int pass, int[] n, int[][] pred, int to, int from)
+    {
+        if (pass == 1)
+        {
+            pred[to][n[to]] = from;
+        }
+        n[to]++;
+    }
+
+    /**
+     * Tests whether an instruction consumes a given character.
+     * @param pc Instruction to test
+     * @param c Input character
+     * @return True if the instruction matches c
+     */
+    final boolean consumes(int pc, char c)
+    {
+        switch (op[pc])
+        {
+            case I_CHAR:
+                return c == arg[pc];
+
+            case I_ANYCHAR:
+                return true;
+
+            case I_CLASS:
+                return inClass(arg[pc], c);
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tests a character against a character class node, the same way
+     * RE.matchNodes() does with no match flags set.
+     * @param node Program node of the class
+     * @param c Input character
+     * @return True if c is in the class
+     */
+    private boolean inClass(int node, char c)
+    {
+        char[] instruction = program.instruction;
+        int opdata = instruction[node + RE.offsetOpdata];
+        switch (instruction[node + RE.offsetOpcode])
+        {
+            case RE.OP_ANY:
+                return c != '\n';
+
+            case RE.OP_ANYOF:
+                {
+                    int idxRange = node + RE.nodeSize;
+                    int idxEnd = idxRange + (opdata * 2);
+                    for (int i = idxRange; i < idxEnd; i += 2)
+                    {
+                        if (c >= instruction[i] && c <= instruction[i + 1])
+                        {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+            case RE.OP_ESCAPE:
+                switch (opdata)
+                {
+                    case RE.E_ALNUM:
+                    case RE.E_NALNUM:
+                        return Character.isLetterOrDigit(c) == (opdata == RE.E_ALNUM);
+
+                    case RE.E_DIGIT:
+                    case RE.E_NDIGIT:
+                        return Character.isDigit(c) == (opdata == RE.E_DIGIT);
+
+                    default:
+                        return Character.isWhitespace(c) == (opdata == RE.E_SPACE);
+                }
+
+            case RE.OP_POSIXCLASS:
+                switch (opdata)
+                {
+                    case RE.POSIX_CLASS_ALNUM:
+                        return Character.isLetterOrDigit(c);
+
+                    case RE.POSIX_CLASS_ALPHA:
+                        return Character.isLetter(c);
+
+                    case RE.POSIX_CLASS_DIGIT:
+                        return Character.isDigit(c);
+
+                    case RE.POSIX_CLASS_BLANK:
+                        return Character.isSpaceChar(c);
+
+                    case RE.POSIX_CLASS_SPACE:
+                        return Character.isWhitespace(c);
+
+                    case RE.POSIX_CLASS_CNTRL:
+                        return Character.getType(c) == Character.CONTROL;
+
+                    case RE.POSIX_CLASS_GRAPH:
+                        switch (Character.getType(c))
+                        {
+                            case Character.MATH_SYMBOL:
+                            case Character.CURRENCY_SYMBOL:
+                            case Character.MODIFIER_SYMBOL:
+                            case Character.OTHER_SYMBOL:
+                                return true;
+
+                            default:
+                                return false;
+                        }
+
+                    case RE.POSIX_CLASS_LOWER:
+                        return Character.getType(c) == Character.LOWERCASE_LETTER;
+
+                    case RE.POSIX_CLASS_UPPER:
+                        return Character.getType(c) == Character.UPPERCASE_LETTER;
+
+                    case RE.POSIX_CLASS_PRINT:
+                        return Character.getType(c) != Character.CONTROL;
+
+                    case RE.POSIX_CLASS_PUNCT:
+                        switch (Character.getType(c))
+                        {
+                            case Character.DASH_PUNCTUATION:
+                            case Character.START_PUNCTUATION:
+                            case Character.END_PUNCTUATION:
+                            case Character.CONNECTOR_PUNCTUATION:
+                            case Character.OTHER_PUNCTUATION:
+                                return true;
+
+                            default:
+                                return false;
+                        }
+
+                    case RE.POSIX_CLASS_XDIGIT:
+                        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+
+                    case RE.POSIX_CLASS_JSTART:
+                        return Character.isJavaIdentifierStart(c);
+
+                    default:
+                        return Character.isJavaIdentifierPart(c);
+                }
+
+            default:
+                return false;
+        }
+    }
+}
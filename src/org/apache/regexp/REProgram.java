@@ -79,7 +79,18 @@ public class REProgram
     char[] instruction;         // The compiled regular expression 'program'
     int lenInstruction;         // The amount of the instruction buffer in use
     char[] prefix;              // Prefix string optimization
+    char[] required;            // Longest literal that every match contains
+    String anchor;              // Required literal used to skip through input
+    int anchorMin;              // Least offset of the anchor from the match start
+    int anchorMax;              // Greatest offset of the anchor, or -1 if unbounded
+    int[] anchorSkip;           // Horspool shifts for the anchor, by low byte
     int flags;                  // Optimization flags (REProgram.OPT_*)
+    private REDFA dfa;          // Lazy DFA translation of the program
+    private boolean dfaDone;    // True once translation has been tried
+    private DFASearch[] spareSearches = new DFASearch[MAX_SPARE_SEARCHES];
+    private int spareCount;     // DFA state caches not in use by any RE
+
+    static final int MAX_SPARE_SEARCHES = 8;
 
     /**
      * Constructs a program object from a character array
@@ -138,6 +149,18 @@ public class REProgram
         // Initialize other program-related variables
         flags = 0;
         prefix = null;
+        required = null;
+        anchor = null;
+        anchorSkip = null;
+        synchronized (this)
+        {
+            dfa = null;
+            dfaDone = false;
+            while (spareCount > 0)
+            {
+                spareSearches[--spareCount] = null;
+            }
+        }
 
         // Try various compile-time optimizations if there's a program
         if (instruction != null && lenInstruction != 0)
@@ -160,6 +183,9 @@ public class REProgram
                 }
             }
 
+            // Find the literals that every match must contain
+            findRequired();
+
             BackrefScanLoop:
 
             // Check for backreferences
@@ -182,4 +208,222 @@ public class REProgram
             }
         }
     }
+
+    /**
+     * Returns the program translated for the lazy DFA matcher, translating
+     * it the first time it's asked for.  The translation is shared by every
+     * RE that runs this program.
+     * @return The translated program, or null if it uses features only the
+     * backtracking matcher supports
+     */
+    synchronized REDFA getDFA()
+    {
+        if (!dfaDone)
+        {
+            dfa = REDFA.compile(this);
+            dfaDone = true;
+        }
+        return dfa;
+    }
+
+    /**
+     * Lends out a DFA state cache for the translated program.  The states
+     * a cache has built stay in it when it's given back, so REs made one
+     * after another for the same program (one per page or region, say)
+     * don't each rebuild the DFA from scratch.  A cache is only ever used
+     * by one RE at a time.
+     * @param dfa The translated program, as returned by getDFA()
+     * @return A state cache, which must be handed back with giveSearch()
+     */
+    synchronized DFASearch takeSearch(REDFA dfa)
+    {
+        if (spareCount > 0)
+        {
+            DFASearch search = spareSearches[--spareCount];
+            spareSearches[spareCount] = null;
+            if (search.dfa == dfa)
+            {
+                return search;
+            }
+        }
+        return new DFASearch(dfa);
+    }
+
+    /**
+     * Hands back a state cache lent out by takeSearch().
+     * @param search The state cache
+     */
+    synchronized void giveSearch(DFASearch search)
+    {
+        if (search.dfa == dfa && spareCount < spareSearches.length)
+        {
+            spareSearches[spareCount++] = search;
+        }
+    }
+
+    /**
+     * Returns a literal string that every match of this program contains,
+     * so that input lacking it can be rejected without running the program.
+     * Matching must be case-sensitive for the literal to apply.
+     * @return The longest required literal, or null if there isn't one
+     */
+    public String getRequiredLiteral()
+    {
+        return required == null ? null : new String(required);
+    }
+
+    /**
+     * Walks the nodes every match has to pass through, from the start of
+     * the program to its end, collecting runs of literal characters.
+     * Atoms separated only by zero-width nodes such as parens join into
+     * one run.  Alternations are stepped over to the node where they join
+     * again; optional parts of the program are never on this path.  Sets
+     * required to the longest run, and anchor to the longest run whose
+     * offset from the start of a match is bounded (or to required if no
+     * run is).
+     */
+    private void findRequired()
+    {
+        StringBuffer run = new StringBuffer();
+        int runMin = 0, runMax = 0;
+        int min = 0, max = 0;
+        String longest = null, bounded = null;
+        int boundedMin = 0, boundedMax = 0;
+
+        int node = 0;
+        for (int steps = 0; steps <= lenInstruction && node >= 0 && node + RE.nodeSize <= lenInstruction; steps++)
+        {
+            int opcode = instruction[node + RE.offsetOpcode];
+            int opdata = instruction[node + RE.offsetOpdata];
+            int offset = (short)instruction[node + RE.offsetNext];
+            int width = 0;
+            switch (opcode)
+            {
+                case RE.OP_ATOM:
+                    if (run.length() == 0)
+                    {
+                        runMin = min;
+                        runMax = max;
+                    }
+                    run.append(instruction, node + RE.nodeSize, opdata);
+                    width = opdata;
+                    break;
+
+                case RE.OP_BRANCH:
+                    if (offset == 0 || instruction[node + offset + RE.offsetOpcode] != RE.OP_BRANCH)
+                    {
+                        // A single branch must be taken
+                        node += RE.nodeSize;
+                        continue;
+                    }
+
+                    // Skip the alternatives to where the last one joins
+                    while (offset != 0 && instruction[node + offset + RE.offsetOpcode] == RE.OP_BRANCH)
+                    {
+                        node += offset;
+                        offset = (short)instruction[node + RE.offsetNext];
+                    }
+                    width = -1;
+                    break;
+
+                case RE.OP_ANY:
+                case RE.OP_ANYOF:
+                case RE.OP_POSIXCLASS:
+                    width = 1;
+                    break;
+
+                case RE.OP_ESCAPE:
+                    if (opdata != RE.E_BOUND && opdata != RE.E_NBOUND)
+                    {
+                        width = 1;
+                    }
+                    break;
+
+                case RE.OP_OPEN:
+                case RE.OP_CLOSE:
+                case RE.OP_NOTHING:
+                case RE.OP_BOL:
+                case RE.OP_EOL:
+                    // Zero-width, so the run goes on
+                    break;
+
+                case RE.OP_END:
+                    offset = 0;
+                    break;
+
+                default:
+                    // Reluctant closures and backreferences
+                    width = -1;
+                    break;
+            }
+
+            // A consuming node that isn't an atom ends the current run
+            if ((width != 0 && opcode != RE.OP_ATOM) || opcode == RE.OP_END)
+            {
+                if (run.length() > 0)
+                {
+                    String s = run.toString();
+                    if (longest == null || s.length() > longest.length())
+                    {
+                        longest = s;
+                    }
+                    if (runMax >= 0 && (bounded == null || s.length() > bounded.length()))
+                    {
+                        bounded = s;
+                        boundedMin = runMin;
+                        boundedMax = runMax;
+                    }
+                    run.setLength(0);
+                }
+            }
+            if (width > 0)
+            {
+                min += width;
+                if (max >= 0)
+                {
+                    max += width;
+                }
+            }
+            else if (width < 0)
+            {
+                max = -1;
+            }
+
+            if (offset == 0)
+            {
+                break;
+            }
+            node += offset;
+        }
+
+        if (longest == null)
+        {
+            return;
+        }
+        required = longest.toCharArray();
+        if (bounded != null)
+        {
+            anchor = bounded;
+            anchorMin = boundedMin;
+            anchorMax = boundedMax;
+        }
+        else
+        {
+            anchor = longest;
+            anchorMin = 0;
+            anchorMax = -1;
+        }
+
+        // Horspool shift table, indexed by the low byte of each character
+        int last = anchor.length() - 1;
+        anchorSkip = new int[256];
+        for (int i = 0; i < 256; i++)
+        {
+            anchorSkip[i] = anchor.length();
+        }
+        for (int i = 0; i < last; i++)
+        {
+            anchorSkip[anchor.charAt(i) & 0xff] = last - i;
+        }
+    }
 }
@@ -57,7 +57,7 @@ package org.apache.regexp;
  *
  */ 
 
-/** Encapsulates String
+/** Encapsulates String, or a window onto part of one
  *
  * @author <a href="mailto:ales.novak@netbeans.com">Ales Novak</a>
  */
@@ -65,34 +65,76 @@ public final class StringCharacterIterator implements CharacterIterator
 {
     /** encapsulated */
     private final String src;
+    /** offset of the window in the string */
+    private final int off;
+    /** length of the window */
+    private final int len;
 
     /** @param src - encapsulated String */
     public StringCharacterIterator(String src)
+    {
+        this(src, 0, src.length());
+    }
+
+    /**
+     * Iterates over part of a String without copying it.  Index 0 of the
+     * iterator is index off of the string.
+     * @param src - encapsulated String
+     * @param off - start of the window in src
+     * @param len - length of the window
+     */
+    public StringCharacterIterator(String src, int off, int len)
     {
         this.src = src;
+        this.off = off;
+        this.len = len;
     }
 
     /** @return a substring */
     public String substring(int offset, int length)
     {
-        return src.substring(offset, length);
+        return src.substring(off + offset, off + length);
     }
 
     /** @return a substring */
     public String substring(int offset)
     {
-        return src.substring(offset);
+        return src.substring(off + offset, off + len);
     }
 
     /** @return a character at the specified position. */
     public char charAt(int pos)
     {
-        return src.charAt(pos);
+        return src.charAt(off + pos);
     }
 
     /** @return <tt>true</tt> iff if the specified index is after the end of the character stream */
     public boolean isEnd(int pos)
     {
-        return (pos >= src.length());
+        return (pos >= len);
+    }
+
+    /** @return index of the first occurrence of str at or after fromIndex, or -1 */
+    int indexOf(String str, int fromIndex)
+    {
+        if (off + len == src.length())
+        {
+            // The window runs to the end of the string, so String can search it
+            int i = src.indexOf(str, off + fromIndex);
+            return (i == -1) ? -1 : i - off;
+        }
+
+        // Don't search past the end of the window
+        int n = str.length();
+        int last = off + len - n;
+        char first = str.charAt(0);
+        for (int i = off + fromIndex; i <= last; i++)
+        {
+            if (src.charAt(i) == first && src.regionMatches(i, str, 0, n))
+            {
+                return i - off;
+            }
+        }
+        return -1;
     }
 }
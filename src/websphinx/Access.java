@@ -34,6 +34,8 @@ package websphinx;
 
 import java.net.*;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Vector;
 
 public class Access {
@@ -157,6 +159,14 @@ public class Access {
         file.mkdirs ();
     }
 
+    // Replaces to atomically: afterwards to is either the old file or
+    // all of from, never missing.  (Both must be on the same file system.)
+    public void renameFile (File from, File to) throws IOException {
+        Files.move (from.toPath (), to.toPath (), 
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+    }
+
     public File getTemporaryDirectory () {
         return tempDir;
     }
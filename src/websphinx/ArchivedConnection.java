@@ -0,0 +1,233 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.util.Vector;
+
+/**
+ * Connection that replays a response saved in a WARC record instead of
+ * contacting the server, so that a Page can be made from it just as if
+ * it had been downloaded.
+ */
+class ArchivedConnection extends HttpURLConnection {
+
+    String[] keys;      // header keys (null for the status line)
+    String[] values;
+    ByteBuffer content;
+    int bandwidth;      // bytes per second, or 0 for no limit
+
+    /**
+     * Make a connection from a response or resource record.
+     * @param url URL the record was made for
+     * @param record response or resource record
+     */
+    ArchivedConnection (URL url, WarcRecord record) {
+        super (url);
+        byte[] block = record.block;
+        Vector vkeys = new Vector ();
+        Vector vvalues = new Vector ();
+
+        if (record.getType ().equals ("response")) {
+            // parse the status line and headers of the HTTP response
+            int p = 0;
+            while (p < block.length) {
+                int eol = p;
+                while (eol < block.length && block[eol] != '\n')
+                    ++eol;
+                int end = eol;
+                if (end > p && block[end-1] == '\r')
+                    --end;
+                String line = string (block, p, end);
+                p = Math.min (eol + 1, block.length);
+                if (line.length () == 0)
+                    break;
+                int colon = line.indexOf (':');
+                if (vkeys.isEmpty ()) {
+                    vkeys.addElement (null);
+                    vvalues.addElement (line);
+                }
+                else if (colon > 0) {
+                    vkeys.addElement (line.substring (0, colon).trim ());
+                    vvalues.addElement (line.substring (colon+1).trim ());
+                }
+            }
+            content = ByteBuffer.wrap (block, p, block.length - p);
+
+            String status = vvalues.isEmpty () ? "" : (String)vvalues.elementAt (0);
+            int sp = status.indexOf (' ');
+            int sp2 = sp == -1 ? -1 : status.indexOf (' ', sp+1);
+            try {
+                responseCode = Integer.parseInt (
+                    sp2 == -1 ? status.substring (sp+1) : status.substring (sp+1, sp2));
+            } catch (NumberFormatException e) {
+                responseCode = -1;
+            }
+            responseMessage = sp2 == -1 ? "" : status.substring (sp2+1);
+        }
+        else {
+            // a resource record holds just the content
+            String type = record.getHeader ("Content-Type");
+            if (type != null) {
+                vkeys.addElement ("Content-Type");
+                vvalues.addElement (type);
+            }
+            responseCode = HTTP_OK;
+            responseMessage = "OK";
+            content = ByteBuffer.wrap (block);
+        }
+
+        keys = new String[vkeys.size ()];
+        vkeys.copyInto (keys);
+        values = new String[vvalues.size ()];
+        vvalues.copyInto (values);
+    }
+
+    /**
+     * Make a connection that serves content with a successful response.
+     * @param url URL the content was saved from
+     * @param contentType MIME type of the content, or null if unknown
+     * @param content content to serve
+     */
+    ArchivedConnection (URL url, String contentType, ByteBuffer content) {
+        super (url);
+        if (contentType != null) {
+            keys = new String[] { "Content-Type", "Content-Length" };
+            values = new String[] { contentType, 
+                                    String.valueOf (content.remaining ()) };
+        }
+        else {
+            keys = new String[] { "Content-Length" };
+            values = new String[] { String.valueOf (content.remaining ()) };
+        }
+        responseCode = HTTP_OK;
+        responseMessage = "OK";
+        this.content = content;
+    }
+
+    /**
+     * Limit the rate at which the content can be read.
+     * @param bandwidth bytes per second, or 0 for no limit
+     */
+    void setBandwidth (int bandwidth) {
+        this.bandwidth = bandwidth;
+    }
+
+    private static String string (byte[] b, int start, int end) {
+        char[] c = new char[end - start];
+        for (int i=0; i<c.length; ++i)
+            c[i] = (char)(b[start+i] & 0xFF);
+        return new String (c);
+    }
+
+    public void connect () {
+        connected = true;
+    }
+
+    public void disconnect () {
+    }
+
+    public boolean usingProxy () {
+        return false;
+    }
+
+    public int getResponseCode () {
+        return responseCode;
+    }
+
+    public String getResponseMessage () {
+        return responseMessage;
+    }
+
+    public String getHeaderFieldKey (int n) {
+        return n >= 0 && n < keys.length ? keys[n] : null;
+    }
+
+    public String getHeaderField (int n) {
+        return n >= 0 && n < values.length ? values[n] : null;
+    }
+
+    public String getHeaderField (String name) {
+        for (int i=values.length-1; i >= 0; --i)
+            if (keys[i] != null && keys[i].equalsIgnoreCase (name))
+                return values[i];
+        return null;
+    }
+
+    public InputStream getInputStream () {
+        InputStream in = new BufferInputStream (content.slice ());
+        return bandwidth > 0 ? new ThrottledInputStream (in, bandwidth) : in;
+    }
+}
+
+/**
+ * Input stream that delivers bytes no faster than a given rate, to
+ * simulate a slow network.
+ */
+class ThrottledInputStream extends FilterInputStream {
+    int bandwidth;      // bytes per second
+    long start = -1;
+    long total;
+
+    ThrottledInputStream (InputStream in, int bandwidth) {
+        super (in);
+        this.bandwidth = bandwidth;
+    }
+
+    public int read () throws IOException {
+        byte[] b = new byte[1];
+        return read (b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    public int read (byte[] b, int off, int len) throws IOException {
+        if (start == -1)
+            start = System.currentTimeMillis ();
+        // hand out at most a tenth of a second's worth at a time
+        int n = super.read (b, off, Math.min (len, Math.max (1, bandwidth / 10)));
+        if (n > 0) {
+            total += n;
+            long due = start + total * 1000 / bandwidth;
+            long wait = due - System.currentTimeMillis ();
+            if (wait > 0)
+                try {
+                    Thread.sleep (wait);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException ();
+                }
+        }
+        return n;
+    }
+}
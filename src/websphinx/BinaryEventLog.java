@@ -0,0 +1,582 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Hashtable;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Crawling monitor that logs events as fixed-size binary records.
+ * Like EventLog, it acts as both a CrawlListener and a LinkListener,
+ * but it is built to keep up with a fast crawl: a worm thread only
+ * copies a few numbers into a ring buffer, and a background thread 
+ * formats the records and writes them to disk in large blocks.  If the
+ * ring buffer fills up because the disk can't keep up, events are
+ * dropped rather than slowing down the crawl (see getDropped()).
+ * <P>
+ * Log files are named
+ * <CODE><I>prefix</I>-<I>yyyyMMddHHmmss</I>-<I>nnnnn</I>.evl</CODE>
+ * (with <CODE>.gz</CODE> appended if they are compressed), and a new
+ * file is started when the current one grows past the maximum size.
+ * Each file starts with a header record and consists of 32-byte
+ * big-endian records:
+ * <PRE>
+ *   long   time       milliseconds since the epoch
+ *   int    event      LinkEvent id (0-8), or CRAWL_EVENT + CrawlEvent id
+ *   int    url        URL id, or -1 for crawl events
+ *   int    status     HTTP response code, or 0 if none
+ *   int    duration   microseconds; see below
+ *   long   bytes      page size in bytes, or 0
+ * </PRE>
+ * URLs are numbered in the order they're first logged.  The first
+ * time a file mentions a URL, it is preceded by a URL_DEFINITION record
+ * whose status field is the length of the URL in UTF-8, followed by the
+ * URL padded with zeros to a multiple of 32 bytes, so each file can be
+ * read by itself.  The duration of a DOWNLOADED or ERROR event is the
+ * time since the link's RETRIEVING event, and the duration of a VISITED
+ * event is the time since its DOWNLOADED event.
+ * <P>
+ * BinaryEventLogReader reads the files back, and converts them to text
+ * or CSV.
+ */
+public class BinaryEventLog implements CrawlListener, LinkListener {
+
+    /**
+     * Event id of the first crawl event.  A CrawlEvent with id <I>n</I>
+     * is logged as event CRAWL_EVENT+<I>n</I>.
+     */
+    public static final int CRAWL_EVENT = 16;
+
+    /**
+     * Event id of a record that defines a URL id.
+     */
+    public static final int URL_DEFINITION = -1;
+
+    /**
+     * Size of a record in bytes.
+     */
+    public static final int RECORD_SIZE = 32;
+
+    static final byte[] MAGIC = { 'W', 'S', 'P', 'H', 'X', 'E', 'V', 'L' };
+    static final int VERSION = 1;
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 100L * 1000 * 1000;
+    public static final int DEFAULT_CAPACITY = 16384;
+
+    File directory;
+    String prefix;
+    long maxFileSize;
+    boolean compress;
+    boolean onlyNetworkEvents = true;
+
+    // Ring buffer of events.  Worms claim slot number h by advancing
+    // head, fill it in, and publish it by setting published[h & mask] 
+    // to h+1.  The writer thread takes the slots in order, advancing tail.
+    int mask;
+    long[] times;       // System.nanoTime()
+    int[] events;
+    URL[] urls;
+    int[] statuses;
+    long[] sizes;
+    AtomicLongArray published;
+    AtomicLong head = new AtomicLong ();
+    volatile long tail = 0;
+    AtomicLong dropped = new AtomicLong ();
+
+    volatile boolean closing = false;
+    volatile boolean flushRequested = false;
+    long flushed = 0;
+        // events before this slot number are on disk (guarded by this)
+    IOException exception;
+        // first error from the writer thread (guarded by this)
+    Thread writer;
+
+    // System.currentTimeMillis() at System.nanoTime() == startNanos
+    long startMillis = System.currentTimeMillis ();
+    long startNanos = System.nanoTime ();
+
+    // Used only by the writer thread
+    Hashtable urlIds = new Hashtable ();   // URL string -> Integer
+    Hashtable pending = new Hashtable ();  // URL id (Integer) -> Long start time
+    BitSet defined = new BitSet ();        // URL ids defined in the current file
+    DataOutputStream out;
+    long fileSize;
+    int serial = 0;
+    Vector files = new Vector ();
+
+    /**
+     * Make a BinaryEventLog with the default limits: uncompressed files
+     * of 100MB and a buffer of 16384 events.
+     * @param directory Directory in which to create log files
+     * @param prefix Prefix of the log file names
+     */
+    public BinaryEventLog (String directory, String prefix) {
+        this (directory, prefix, DEFAULT_MAX_FILE_SIZE, false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Make a BinaryEventLog.
+     * @param directory Directory in which to create log files
+     * @param prefix Prefix of the log file names
+     * @param maxFileSize Size in bytes (before compression) after which 
+     * a new file is started
+     * @param compress true if the files should be compressed with gzip
+     * @param capacity Number of events that can wait to be written 
+     * (rounded up to a power of 2)
+     */
+    public BinaryEventLog (String directory, String prefix, 
+                           long maxFileSize, boolean compress, int capacity) {
+        this.directory = new File (directory);
+        this.prefix = prefix;
+        this.maxFileSize = maxFileSize;
+        this.compress = compress;
+
+        int n = 1;
+        while (n < capacity)
+            n <<= 1;
+        mask = n - 1;
+        times = new long[n];
+        events = new int[n];
+        urls = new URL[n];
+        statuses = new int[n];
+        sizes = new long[n];
+        published = new AtomicLongArray (n);
+
+        writer = new BinaryEventLogThread (this);
+        writer.start ();
+    }
+
+    /**
+     * Set whether only network-related LinkEvents are logged.
+     * If true, then only LinkEvents where LinkEvent.isNetworkEvent()
+     * returns true are logged.  If false, then all LinkEvents are 
+     * logged.  Default is true.
+     * @param flag true iff only network LinkEvents should be logged
+     */
+    public void setOnlyNetworkEvents (boolean flag) {
+        onlyNetworkEvents = flag;
+    }
+    /**
+     * Test whether only network-related LinkEvents are logged.
+     * @return true iff only network LinkEvents are logged
+     */
+    public boolean getOnlyNetworkEvents () {
+        return onlyNetworkEvents;
+    }
+
+    /**
+     * Get the log files written so far.
+     * @return files, in the order they were started
+     */
+    public synchronized File[] getFiles () {
+        File[] result = new File[files.size ()];
+        files.copyInto (result);
+        return result;
+    }
+
+    /**
+     * Get the number of events dropped because the buffer was full
+     * or the log was closed.
+     * @return number of events not logged
+     */
+    public long getDropped () {
+        return dropped.get ();
+    }
+
+    /**
+     * Notify that the crawler started.
+     */
+    public void started (CrawlEvent event) {
+        log (CRAWL_EVENT + event.getID (), null, 0, 0);
+    }
+
+    /**
+     * Notify that the crawler has stopped.  Waits for the events logged
+     * so far to be written.
+     */
+    public void stopped (CrawlEvent event) {
+        log (CRAWL_EVENT + event.getID (), null, 0, 0);
+        flushQuietly ();
+    }
+
+    /**
+     * Notify that the crawler's state was cleared.
+     */
+    public void cleared (CrawlEvent event) {
+        log (CRAWL_EVENT + event.getID (), null, 0, 0);
+    }
+
+    /**
+     * Notify that the crawler timed out.  Waits for the events logged
+     * so far to be written.
+     */
+    public void timedOut (CrawlEvent event) {
+        log (CRAWL_EVENT + event.getID (), null, 0, 0);
+        flushQuietly ();
+    }
+
+    /**
+     * Notify that the crawler paused.  Waits for the events logged
+     * so far to be written.
+     */
+    public void paused (CrawlEvent event) {
+        log (CRAWL_EVENT + event.getID (), null, 0, 0);
+        flushQuietly ();
+    }
+
+    /**
+     * Notify that a link event occured.
+     */
+    public void crawled (LinkEvent event) {
+        int id = event.getID ();
+        Link link = event.getLink ();
+        int status = 0;
+        long bytes = 0;
+        switch (id) {
+          case LinkEvent.DOWNLOADED:
+          case LinkEvent.VISITED: {
+            Page page = link.getPage ();
+            if (page != null) {
+                status = Math.max (page.getResponseCode (), 0);
+                byte[] content = page.getContentBytes ();
+                if (content != null)
+                    bytes = content.length;
+            }
+            break;
+          }
+          case LinkEvent.ERROR: {
+            String cause = CrawlMetrics.cause (event.getException ());
+            if (cause.startsWith ("HTTP "))
+                try {
+                    status = Integer.parseInt (cause.substring (5));
+                } catch (NumberFormatException e) {}
+            break;
+          }
+          case LinkEvent.RETRIEVING:
+            break;
+          default:
+            if (onlyNetworkEvents)
+                return;
+            break;
+        }
+        log (id, link.getURL (), status, bytes);
+    }
+
+    /**
+     * Log an event.  Never blocks; if the buffer is full, the
+     * event is dropped.
+     * @param event Event id
+     * @param url URL, or null for crawl events
+     * @param status HTTP response code, or 0
+     * @param bytes Byte count, or 0
+     */
+    void log (int event, URL url, int status, long bytes) {
+        long h;
+        do {
+            h = head.get ();
+            if (h - tail > mask || closing) {
+                dropped.incrementAndGet ();
+                return;
+            }
+        } while (!head.compareAndSet (h, h+1));
+
+        int i = (int)h & mask;
+        times[i] = System.nanoTime ();
+        events[i] = event;
+        urls[i] = url;
+        statuses[i] = status;
+        sizes[i] = bytes;
+        published.set (i, h+1);
+
+        if (h - tail == (mask >> 1))
+            // half full: wake the writer rather than wait for its next poll
+            LockSupport.unpark (writer);
+    }
+
+    /**
+     * Wait for the events logged so far to be written to the current file.
+     * @exception IOException if writing failed
+     */
+    public void flush () throws IOException {
+        long target = head.get ();
+        synchronized (this) {
+            while (flushed < target && exception == null && writer.isAlive ()) {
+                flushRequested = true;
+                LockSupport.unpark (writer);
+                try {
+                    wait (100);
+                } catch (InterruptedException e) {}
+            }
+            if (exception != null)
+                throw exception;
+        }
+    }
+
+    private void flushQuietly () {
+        try {
+            flush ();
+        } catch (IOException e) {
+            System.err.println ("websphinx: BinaryEventLog: " + e);
+        }
+    }
+
+    /**
+     * Write all waiting events and close the current file.  Events logged
+     * after close() are dropped.
+     * @exception IOException if writing failed
+     */
+    public void close () throws IOException {
+        closing = true;
+        LockSupport.unpark (writer);
+        try {
+            writer.join ();
+        } catch (InterruptedException e) {}
+        synchronized (this) {
+            if (exception != null)
+                throw exception;
+        }
+    }
+
+    //
+    // Writer thread
+    //
+
+    // Write the published events, in order.  Returns false if there
+    // were none.
+    boolean drain () throws IOException {
+        long t = tail;
+        int i = (int)t & mask;
+        if (published.get (i) != t+1)
+            return false;
+        do {
+            write (times[i], events[i], urls[i], statuses[i], sizes[i]);
+            urls[i] = null;
+            tail = ++t;
+            i = (int)t & mask;
+        } while (published.get (i) == t+1);
+        return true;
+    }
+
+    // True when every claimed slot has been written.
+    boolean isDrained () {
+        return head.get () == tail;
+    }
+
+    void flushed () throws IOException {
+        if (out != null)
+            out.flush ();
+        synchronized (this) {
+            flushed = tail;
+            notifyAll ();
+        }
+    }
+
+    synchronized void failed (IOException e) {
+        if (exception == null)
+            exception = e;
+        closing = true;
+        notifyAll ();
+    }
+
+    void write (long nanos, int event, URL url, int status, long bytes) 
+            throws IOException {
+        if (out != null && fileSize >= maxFileSize) {
+            out.close ();
+            out = null;
+        }
+        if (out == null)
+            startFile ();
+
+        int id = -1;
+        int duration = 0;
+        if (url != null) {
+            String u = url.toExternalForm ();
+            Integer key = (Integer)urlIds.get (u);
+            if (key == null) {
+                key = new Integer (urlIds.size ());
+                urlIds.put (u, key);
+            }
+            id = key.intValue ();
+            if (!defined.get (id)) {
+                defineURL (id, u);
+                defined.set (id);
+            }
+
+            Long start = null;
+            switch (event) {
+              case LinkEvent.RETRIEVING:
+                pending.put (key, new Long (nanos));
+                break;
+              case LinkEvent.DOWNLOADED:
+                start = (Long)pending.put (key, new Long (nanos));
+                break;
+              case LinkEvent.ERROR:
+              case LinkEvent.VISITED:
+                start = (Long)pending.remove (key);
+                break;
+            }
+            if (start != null)
+                duration = (int)Math.min ((nanos - start.longValue ()) / 1000, 
+                                          Integer.MAX_VALUE);
+        }
+
+        writeRecord (startMillis + (nanos - startNanos) / 1000000,
+                     event, id, status, duration, bytes);
+    }
+
+    void finish () throws IOException {
+        if (out != null) {
+            out.close ();
+            out = null;
+        }
+    }
+
+    private void defineURL (int id, String url) throws IOException {
+        byte[] b = url.getBytes ("UTF-8");
+        writeRecord (0, URL_DEFINITION, id, b.length, 0, 0);
+        out.write (b);
+        int padded = (b.length + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE;
+        for (int i=b.length; i<padded; ++i)
+            out.write (0);
+        fileSize += padded;
+    }
+
+    private void writeRecord (long time, int event, int id, int status, 
+                              int duration, long bytes) throws IOException {
+        out.writeLong (time);
+        out.writeInt (event);
+        out.writeInt (id);
+        out.writeInt (status);
+        out.writeInt (duration);
+        out.writeLong (bytes);
+        fileSize += RECORD_SIZE;
+    }
+
+    private void startFile () throws IOException {
+        Access.getAccess ().makeDir (directory);
+        String stamp = WarcWriter.formatDate (new Date ());
+        stamp = stamp.substring (0, 4) + stamp.substring (5, 7) 
+              + stamp.substring (8, 10) + stamp.substring (11, 13)
+              + stamp.substring (14, 16) + stamp.substring (17, 19);
+        String n = String.valueOf (100000 + serial++).substring (1);
+        File file = new File (directory, prefix + "-" + stamp + "-" + n 
+                              + (compress ? ".evl.gz" : ".evl"));
+        synchronized (this) {
+            files.addElement (file);
+        }
+
+        OutputStream os = Access.getAccess ().writeFile (file, false);
+        if (compress)
+            os = new GZIPOutputStream (os, 64*1024, true);
+        out = new DataOutputStream (new BufferedOutputStream (os, 64*1024));
+        fileSize = 0;
+        defined.clear ();
+
+        out.write (MAGIC);
+        out.writeInt (VERSION);
+        out.writeInt (RECORD_SIZE);
+        out.writeLong (System.currentTimeMillis ());
+        out.writeLong (0);
+        fileSize += RECORD_SIZE;
+    }
+
+    /**
+     * Create a BinaryEventLog and attach it to a crawler.
+     * This is a convenience method.
+     * @param crawler Crawler to be monitored
+     * @param directory Directory in which to create log files
+     * @param prefix Prefix of the log file names
+     */
+    public static BinaryEventLog monitor (Crawler crawler, 
+                                          String directory, String prefix) {
+        BinaryEventLog logger = new BinaryEventLog (directory, prefix);
+        crawler.addCrawlListener (logger);
+        crawler.addLinkListener (logger);
+        return logger;
+    }
+}
+
+/**
+ * Background thread that writes a BinaryEventLog's events to disk.
+ */
+class BinaryEventLogThread extends Thread {
+    BinaryEventLog log;
+
+    static final long POLL = 10 * 1000000L;             // nanoseconds
+    static final long FLUSH_INTERVAL = 1000 * 1000000L;  // nanoseconds
+
+    BinaryEventLogThread (BinaryEventLog log) {
+        super ("Event log writer");
+        this.log = log;
+        setDaemon (true);
+    }
+
+    public void run () {
+        long lastFlush = System.nanoTime ();
+        boolean dirty = false;
+        try {
+            while (true) {
+                if (log.drain ()) {
+                    dirty = true;
+                    continue;
+                }
+
+                // nothing to write; flush if asked to, or once in a while
+                long now = System.nanoTime ();
+                if (log.flushRequested 
+                    || (dirty && now - lastFlush >= FLUSH_INTERVAL)) {
+                    log.flushRequested = false;
+                    log.flushed ();
+                    lastFlush = now;
+                    dirty = false;
+                }
+
+                if (log.closing && log.isDrained ())
+                    break;
+                LockSupport.parkNanos (POLL);
+            }
+            log.finish ();
+            log.flushed ();
+        } catch (IOException e) {
+            log.failed (e);
+        }
+    }
+}
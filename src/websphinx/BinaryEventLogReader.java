@@ -0,0 +1,332 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.util.Date;
+import java.util.Hashtable;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reader for the log files written by BinaryEventLog.  Both compressed
+ * and uncompressed files can be read.  Call next() to advance to each
+ * event in turn, then the get methods to examine it.
+ * <P>
+ * The reader can also be run as a program that converts log files to 
+ * text or CSV on standard output:
+ * <PRE>
+ *   java websphinx.BinaryEventLogReader [-csv] <I>file</I>...
+ * </PRE>
+ * The CSV columns are time (milliseconds since the epoch), event,
+ * url, status, bytes, and duration (microseconds).
+ */
+public class BinaryEventLogReader {
+
+    /**
+     * Names of crawl events, indexed by CrawlEvent id.
+     */
+    public static final String[] crawlEventName = {
+        "started",
+        "stopped",
+        "cleared",
+        "timed out",
+        "paused"
+    };
+
+    DataInputStream in;
+    long created;
+    Hashtable urls = new Hashtable ();  // URL id (Integer) -> String
+
+    // current event
+    long time;
+    int event;
+    int urlId;
+    int status;
+    int duration;
+    long bytes;
+
+    /**
+     * Make a BinaryEventLogReader for a file.
+     * @param file Log file
+     */
+    public BinaryEventLogReader (File file) throws IOException {
+        this (Access.getAccess ().readFile (file));
+    }
+
+    /**
+     * Make a BinaryEventLogReader for a stream.  The stream may be
+     * compressed with gzip.
+     * @param in stream to read
+     * @exception IOException if the stream isn't a BinaryEventLog file
+     */
+    public BinaryEventLogReader (InputStream in) throws IOException {
+        in = new BufferedInputStream (in, 64*1024);
+        in.mark (2);
+        int b1 = in.read ();
+        int b2 = in.read ();
+        in.reset ();
+        if (b1 == 0x1f && b2 == 0x8b)
+            in = new BufferedInputStream (new GZIPInputStream (in, 64*1024), 64*1024);
+        this.in = new DataInputStream (in);
+
+        byte[] magic = new byte[BinaryEventLog.MAGIC.length];
+        try {
+            this.in.readFully (magic);
+        } catch (EOFException e) {
+            throw new IOException ("not an event log: too short");
+        }
+        for (int i=0; i<magic.length; ++i)
+            if (magic[i] != BinaryEventLog.MAGIC[i])
+                throw new IOException ("not an event log");
+        int version = this.in.readInt ();
+        int recordSize = this.in.readInt ();
+        if (version != BinaryEventLog.VERSION 
+            || recordSize != BinaryEventLog.RECORD_SIZE)
+            throw new IOException ("unsupported event log version " + version);
+        created = this.in.readLong ();
+        this.in.readLong ();
+    }
+
+    /**
+     * Get the time the file was started.
+     * @return milliseconds since the epoch
+     */
+    public long getCreated () {
+        return created;
+    }
+
+    /**
+     * Advance to the next event.
+     * @return true if there is another event, false at the end of the file
+     */
+    public boolean next () throws IOException {
+        while (true) {
+            try {
+                time = in.readLong ();
+            } catch (EOFException e) {
+                return false;
+            }
+            event = in.readInt ();
+            urlId = in.readInt ();
+            status = in.readInt ();
+            duration = in.readInt ();
+            bytes = in.readLong ();
+
+            if (event != BinaryEventLog.URL_DEFINITION)
+                return true;
+
+            int size = BinaryEventLog.RECORD_SIZE;
+            byte[] b = new byte[(status + size - 1) / size * size];
+            in.readFully (b);
+            urls.put (new Integer (urlId), new String (b, 0, status, "UTF-8"));
+        }
+    }
+
+    /**
+     * Get the time of the current event.
+     * @return milliseconds since the epoch
+     */
+    public long getTime () {
+        return time;
+    }
+
+    /**
+     * Get the id of the current event.
+     * @return a LinkEvent id, or BinaryEventLog.CRAWL_EVENT plus a
+     * CrawlEvent id
+     */
+    public int getEvent () {
+        return event;
+    }
+
+    /**
+     * Test whether the current event is a CrawlEvent.
+     * @return true if the event is a CrawlEvent, false if it's a LinkEvent
+     */
+    public boolean isCrawlEvent () {
+        return event >= BinaryEventLog.CRAWL_EVENT;
+    }
+
+    /**
+     * Get the name of the current event, such as "downloaded".
+     * @return event name
+     */
+    public String getEventName () {
+        int id = event;
+        if (id >= BinaryEventLog.CRAWL_EVENT) {
+            id -= BinaryEventLog.CRAWL_EVENT;
+            if (id < crawlEventName.length)
+                return crawlEventName[id];
+        }
+        else if (id >= 0 && id < LinkEvent.eventName.length)
+            return LinkEvent.eventName[id];
+        return "event " + event;
+    }
+
+    /**
+     * Get the id of the current event's URL.  Ids are assigned by
+     * the BinaryEventLog, and are the same in every file of a log.
+     * @return URL id, or -1 for a crawl event
+     */
+    public int getURLId () {
+        return urlId;
+    }
+
+    /**
+     * Get the current event's URL.
+     * @return URL, or null for a crawl event
+     */
+    public String getURL () {
+        return urlId < 0 ? null : (String)urls.get (new Integer (urlId));
+    }
+
+    /**
+     * Get the HTTP response code of the current event.
+     * @return response code, or 0 if none
+     */
+    public int getStatus () {
+        return status;
+    }
+
+    /**
+     * Get the size of the current event's page.
+     * @return size in bytes, or 0 if none
+     */
+    public long getByteCount () {
+        return bytes;
+    }
+
+    /**
+     * Get the duration of the current event: for DOWNLOADED and ERROR
+     * events, the time since the link was retrieved, and for VISITED 
+     * events, the time since it was downloaded.
+     * @return microseconds, or 0 if none
+     */
+    public int getDuration () {
+        return duration;
+    }
+
+    /**
+     * Close the reader.
+     */
+    public void close () throws IOException {
+        in.close ();
+    }
+
+    /**
+     * Format the current event as text, in the style of EventLog.
+     * @return one-line description of the event
+     */
+    public String toString () {
+        StringBuffer buf = new StringBuffer ();
+        buf.append (new Date (time)).append (": ");
+        if (isCrawlEvent ())
+            buf.append ("*** ");
+        buf.append (getEventName ());
+        if (urlId >= 0)
+            buf.append (' ').append (getURL ());
+        if (status != 0)
+            buf.append (" status=").append (status);
+        if (bytes != 0)
+            buf.append (" bytes=").append (bytes);
+        if (duration != 0)
+            buf.append (" ms=").append (Math.round (duration / 100.0) / 10.0);
+        return buf.toString ();
+    }
+
+    /**
+     * Format the current event as a line of CSV, with the columns
+     * time, event, url, status, bytes, and duration.
+     * @return CSV line
+     */
+    public String toCSV () {
+        StringBuffer buf = new StringBuffer ();
+        buf.append (time).append (',');
+        buf.append (getEventName ()).append (',');
+        if (urlId >= 0)
+            quote (buf, getURL ());
+        buf.append (',').append (status);
+        buf.append (',').append (bytes);
+        buf.append (',').append (duration);
+        return buf.toString ();
+    }
+
+    private static void quote (StringBuffer buf, String s) {
+        if (s == null)
+            return;
+        if (s.indexOf (',') == -1 && s.indexOf ('"') == -1) {
+            buf.append (s);
+            return;
+        }
+        buf.append ('"');
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            if (c == '"')
+                buf.append ('"');
+            buf.append (c);
+        }
+        buf.append ('"');
+    }
+
+    /**
+     * Convert log files to text or CSV on standard output.
+     * Usage: java websphinx.BinaryEventLogReader [-csv] file...
+     */
+    public static void main (String[] args) throws Exception {
+        boolean csv = false;
+        int i = 0;
+        if (i < args.length && args[i].equals ("-csv")) {
+            csv = true;
+            ++i;
+        }
+        if (i == args.length) {
+            System.err.println ("usage: BinaryEventLogReader [-csv] file...");
+            System.exit (1);
+        }
+
+        PrintWriter out = new PrintWriter (new BufferedWriter (
+                              new OutputStreamWriter (System.out), 64*1024));
+        if (csv)
+            out.println ("time,event,url,status,bytes,duration");
+        for (; i<args.length; ++i) {
+            BinaryEventLogReader reader = new BinaryEventLogReader (new File (args[i]));
+            try {
+                while (reader.next ())
+                    out.println (csv ? reader.toCSV () : reader.toString ());
+            } finally {
+                reader.close ();
+            }
+        }
+        out.flush ();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing of one user callback in a crawl, such as a classifier, an 
+ * action, or a link predicate.  The crawler keeps a profile for every
+ * callback it calls, counting the calls and timing them: every call for
+ * callbacks made once per page, and every 8th call for callbacks made
+ * once per link, whose total time is estimated from the sample.
+ * <P>
+ * If the crawler has a callback budget (see Crawler.setCallbackBudget()),
+ * a callback whose mean time per call exceeds the budget is reported
+ * once on System.err, and can be disabled.
+ */
+public class CallbackProfile {
+
+    /**
+     * Kinds of callback.
+     */
+    public static final String CLASSIFIER = "Classifier.classify";
+    public static final String PAGE_PREDICATE = "PagePredicate.shouldActOn";
+    public static final String ACTION = "Action.visit";
+    public static final String VISIT = "Crawler.visit";
+    public static final String LINK_PREDICATE = "LinkPredicate.shouldVisit";
+    public static final String SHOULD_VISIT = "Crawler.shouldVisit";
+
+    static final int PER_PAGE = 0;      // sample masks: time every call
+    static final int PER_LINK = 7;      //   time every 8th call
+
+    static final int MIN_TIMED_CALLS = 10;  // before checking the budget
+
+    Object callback;
+    String kind;
+    int sampleMask;
+
+    AtomicLong calls = new AtomicLong ();
+    AtomicLong timed = new AtomicLong ();
+    AtomicLong total = new AtomicLong ();
+    AtomicLong max = new AtomicLong ();
+
+    volatile long budget;       // nanoseconds per call, or 0 for none
+    volatile boolean disableOverBudget;
+    volatile boolean overBudget;
+    volatile boolean disabled;
+
+    CallbackProfile (Object callback, String kind, int sampleMask) {
+        this.callback = callback;
+        this.kind = kind;
+        this.sampleMask = sampleMask;
+    }
+
+    // Start a call.  Returns the start time if this call is to be timed,
+    // otherwise 0.
+    long start () {
+        return (calls.incrementAndGet () & sampleMask) == 0 ? System.nanoTime () : 0;
+    }
+
+    // Finish a call started at start().
+    void end (long start) {
+        if (start == 0)
+            return;
+        long nanos = System.nanoTime () - start;
+        long n = timed.incrementAndGet ();
+        long t = total.addAndGet (nanos);
+        long m;
+        while (nanos > (m = max.get ()) && !max.compareAndSet (m, nanos))
+            ;
+
+        long b = budget;
+        if (b > 0 && !overBudget && n >= MIN_TIMED_CALLS && t > b * n)
+            exceeded (t / n, b);
+    }
+
+    synchronized void exceeded (long mean, long budget) {
+        if (overBudget)
+            return;
+        overBudget = true;
+        boolean disable = disableOverBudget && canDisable ();
+        if (disable)
+            disabled = true;
+        System.err.println ("websphinx: " + getName () + " takes " 
+                            + millis (mean) + " ms per call, over the budget of "
+                            + millis (budget) + " ms"
+                            + (disable ? "; disabled" : ""));
+    }
+
+    static String millis (long nanos) {
+        return String.valueOf (Math.round (nanos / 1000.0) / 1000.0);
+    }
+
+    void setBudget (long nanos, boolean disable) {
+        budget = nanos;
+        disableOverBudget = disable;
+    }
+
+    /**
+     * Get the callback object.
+     */
+    public Object getCallback () {
+        return callback;
+    }
+
+    /**
+     * Get the kind of callback, such as CLASSIFIER.
+     */
+    public String getKind () {
+        return kind;
+    }
+
+    /**
+     * Get a name for the callback: its kind and class.
+     */
+    public String getName () {
+        String cls = callback.getClass ().getName ();
+        return kind + " " + cls.substring (cls.lastIndexOf ('.') + 1);
+    }
+
+    /**
+     * Get the number of calls.
+     */
+    public long getCalls () {
+        return calls.get ();
+    }
+
+    /**
+     * Get the total time spent in the callback, estimated from the timed
+     * calls if only some are timed.
+     * @return time in nanoseconds
+     */
+    public long getTotalTime () {
+        long n = timed.get ();
+        long t = total.get ();
+        if (n == 0)
+            return 0;
+        long c = calls.get ();
+        return c > n ? (long)((double)t * c / n) : t;
+    }
+
+    /**
+     * Get the mean time per call.
+     * @return time in nanoseconds
+     */
+    public long getMeanTime () {
+        long n = timed.get ();
+        return n > 0 ? total.get () / n : 0;
+    }
+
+    /**
+     * Get the longest call timed.
+     * @return time in nanoseconds
+     */
+    public long getMaxTime () {
+        return max.get ();
+    }
+
+    /**
+     * Test whether the callback exceeded the crawler's budget.
+     */
+    public boolean isOverBudget () {
+        return overBudget;
+    }
+
+    /**
+     * Test whether the crawler has stopped calling the callback.
+     */
+    public boolean isDisabled () {
+        return disabled;
+    }
+
+    /**
+     * Test whether the callback can be disabled.  Only actions and
+     * Crawler.visit() can be.  Predicates can't, since skipping them
+     * would change which pages are crawled, and neither can classifiers,
+     * since expand() depends on the labels they set (such as
+     * StandardClassifier's hyperlink and local labels).
+     */
+    public boolean canDisable () {
+        return kind == ACTION || kind == VISIT;
+    }
+
+    /**
+     * Disable or re-enable the callback.  Re-enabling it also clears its
+     * over-budget flag.
+     * @param f true to stop calling the callback, false to call it again
+     * @exception IllegalArgumentException if f is true and the callback 
+     * can't be disabled
+     */
+    public synchronized void setDisabled (boolean f) {
+        if (f && !canDisable ())
+            throw new IllegalArgumentException (getName () + " can't be disabled");
+        disabled = f;
+        if (!f)
+            overBudget = false;
+    }
+
+    /**
+     * Forget all calls, and call the callback again if it was disabled.
+     */
+    public synchronized void reset () {
+        calls.set (0);
+        timed.set (0);
+        total.set (0);
+        max.set (0);
+        overBudget = false;
+        disabled = false;
+    }
+
+    public String toString () {
+        return getName () + " calls=" + getCalls () 
+            + " ms=" + millis (getTotalTime ())
+            + " mean=" + millis (getMeanTime ()) 
+            + " max=" + millis (getMaxTime ())
+            + (disabled ? " (disabled)" : overBudget ? " (over budget)" : "");
+    }
+}
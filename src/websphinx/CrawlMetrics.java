@@ -0,0 +1,732 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
+import java.lang.management.ManagementFactory;
+import javax.management.*;
+
+/**
+ * Metrics about a crawl.  These include how long each stage of a page's
+ * life took, how many bytes went in and out, errors by cause, and
+ * the busiest web sites.  To collect metrics for a crawler, call
+ * <PRE>
+ *   CrawlMetrics metrics = CrawlMetrics.monitor (crawler);
+ * </PRE>
+ * The metrics can then be read with the get methods, printed with
+ * dump() or startDump(), or published as a JMX MBean with register().
+ * <P>
+ * The stages of a page's life, each with its own LatencyHistogram, are:
+ * <DL>
+ * <DT>QUEUE_WAIT<DD>from being submitted until a thread starts fetching it
+ * <DT>DNS<DD>looking up its host (for http and https)
+ * <DT>CONNECT<DD>opening the connection
+ * <DT>FIRST_BYTE<DD>from connecting until the response headers arrive
+ * <DT>DOWNLOAD<DD>reading the content
+ * <DT>PARSE<DD>parsing the content
+ * <DT>CLASSIFY<DD>running the crawler's classifiers
+ * <DT>VISIT<DD>the page predicate, the crawler's action, and visit()
+ * <DT>EXPAND<DD>testing and submitting its links
+ * </DL>
+ * Host lookups are timed by resolving the host just before downloading,
+ * since URLConnection does the lookup out of sight; with a proxy, this
+ * measures the local lookup, which the proxy would have done.
+ * <P>
+ * Bytes out are estimated from the request, since URLConnection 
+ * doesn't report what it sends.  Bytes in are the content and the
+ * response headers.
+ */
+public class CrawlMetrics {
+
+    public static final int QUEUE_WAIT = 0;
+    public static final int DNS = 1;
+    public static final int CONNECT = 2;
+    public static final int FIRST_BYTE = 3;
+    public static final int DOWNLOAD = 4;
+    public static final int PARSE = 5;
+    public static final int CLASSIFY = 6;
+    public static final int VISIT = 7;
+    public static final int EXPAND = 8;
+
+    /**
+     * Names of the stages, indexed by stage.
+     */
+    public static final String[] STAGE_NAMES = {
+        "queue-wait", "dns", "connect", "first-byte", "download", 
+        "parse", "classify", "visit", "expand"
+    };
+
+    /**
+     * Default number of web sites tracked.
+     */
+    public static final int DEFAULT_MAX_HOSTS = 1000;
+
+    LatencyHistogram[] stages = new LatencyHistogram[STAGE_NAMES.length];
+    AtomicLong pages = new AtomicLong ();
+    AtomicLong errors = new AtomicLong ();
+    AtomicLong bytesIn = new AtomicLong ();
+    AtomicLong bytesOut = new AtomicLong ();
+    Hashtable errorCounts = new Hashtable ();   // cause -> AtomicLong
+    HostTable hosts;
+
+    MetricsDumper dumper;
+    ObjectName objectName;
+
+    /**
+     * Make an empty CrawlMetrics that tracks up to DEFAULT_MAX_HOSTS web
+     * sites.
+     */
+    public CrawlMetrics () {
+        this (DEFAULT_MAX_HOSTS);
+    }
+
+    /**
+     * Make an empty CrawlMetrics.
+     * @param maxHosts Maximum number of web sites to track.  When a new 
+     * site is seen and the table is full, the site with the fewest pages
+     * is dropped.  This keeps the busiest sites with high probability.
+     */
+    public CrawlMetrics (int maxHosts) {
+        for (int i=0; i<stages.length; ++i)
+            stages[i] = new LatencyHistogram ();
+        hosts = new HostTable (maxHosts);
+    }
+
+    /**
+     * Collect metrics for a crawler.
+     * @param crawler Crawler to monitor
+     * @return the CrawlMetrics installed in the crawler
+     */
+    public static CrawlMetrics monitor (Crawler crawler) {
+        CrawlMetrics metrics = new CrawlMetrics ();
+        crawler.setMetrics (metrics);
+        return metrics;
+    }
+
+    /*
+     * Pull API
+     *
+     */
+
+    /**
+     * Get the durations of a stage.
+     * @param stage Stage, such as DOWNLOAD
+     */
+    public LatencyHistogram getHistogram (int stage) {
+        return stages[stage];
+    }
+
+    /**
+     * Get the number of pages downloaded successfully.
+     */
+    public long getPages () {
+        return pages.get ();
+    }
+
+    /**
+     * Get the number of pages that failed.
+     */
+    public long getErrors () {
+        return errors.get ();
+    }
+
+    /**
+     * Get the number of bytes received.
+     */
+    public long getBytesIn () {
+        return bytesIn.get ();
+    }
+
+    /**
+     * Get the (estimated) number of bytes sent.
+     */
+    public long getBytesOut () {
+        return bytesOut.get ();
+    }
+
+    /**
+     * Get the number of errors with each cause.  Causes are "HTTP <I>code</I>",
+     * "timeout", "robots", or the name of the exception class.
+     * @return table mapping cause (String) to count (Long)
+     */
+    public Hashtable getErrorCounts () {
+        Hashtable result = new Hashtable ();
+        synchronized (errorCounts) {
+            for (Enumeration e = errorCounts.keys (); e.hasMoreElements (); ) {
+                Object cause = e.nextElement ();
+                result.put (cause, new Long (((AtomicLong)errorCounts.get (cause)).get ()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the web sites with the most pages.
+     * @param k Maximum number of sites to return
+     * @return statistics of up to k sites, with the most pages first
+     */
+    public HostStats[] getTopHosts (int k) {
+        return hosts.top (k, HostTable.PAGES);
+    }
+
+    /**
+     * Get the tracked web sites that took the most time.
+     * @param k Maximum number of sites to return
+     * @return statistics of up to k sites, slowest first
+     */
+    public HostStats[] getSlowestHosts (int k) {
+        return hosts.top (k, HostTable.TIME);
+    }
+
+    /**
+     * Get the tracked web sites with the most errors.
+     * @param k Maximum number of sites to return
+     * @return statistics of up to k sites, with the most errors first
+     */
+    public HostStats[] getFailingHosts (int k) {
+        return hosts.top (k, HostTable.ERRORS);
+    }
+
+    /**
+     * Forget all metrics collected so far.
+     */
+    public void reset () {
+        for (int i=0; i<stages.length; ++i)
+            stages[i].reset ();
+        pages.set (0);
+        errors.set (0);
+        bytesIn.set (0);
+        bytesOut.set (0);
+        synchronized (errorCounts) {
+            errorCounts.clear ();
+        }
+        hosts.clear ();
+    }
+
+    /*
+     * Recording (called by Crawler)
+     *
+     */
+
+    /**
+     * Record the duration of a stage.
+     * @param stage Stage, such as PARSE
+     * @param start When the stage started, from System.nanoTime()
+     * @return the current time, from System.nanoTime(), for timing the
+     * next stage
+     */
+    public long record (int stage, long start) {
+        long now = System.nanoTime ();
+        stages[stage].record (now - start);
+        return now;
+    }
+
+    // Time the host lookup for a URL.  (The result is cached by
+    // InetAddress, so the connection doesn't look it up again.)
+    void resolve (URL url) {
+        String protocol = url.getProtocol ();
+        if (!protocol.equals ("http") && !protocol.equals ("https"))
+            return;
+        long start = System.nanoTime ();
+        try {
+            InetAddress.getByName (url.getHost ());
+        } catch (UnknownHostException e) {
+            // the download will report it
+        }
+        record (DNS, start);
+    }
+
+    // Record a successful download.
+    void downloaded (Link link, Page page, long start) {
+        long elapsed = System.nanoTime () - start;
+        stages[CONNECT].record (page.connectTime);
+        stages[FIRST_BYTE].record (page.firstByteTime);
+        stages[DOWNLOAD].record (page.downloadTime);
+        if (page.parseTime > 0)
+            stages[PARSE].record (page.parseTime);
+
+        long in = 0;
+        for (int i=0; ; ++i) {
+            String value = page.getHeaderField (i);
+            if (value == null)
+                break;
+            String key = page.getHeaderFieldKey (i);
+            in += (key != null ? key.length () + 2 : 0) + value.length () + 2;
+        }
+        byte[] content = page.getContentBytes ();
+        if (content != null)
+            in += content.length;
+        pages.incrementAndGet ();
+        bytesIn.addAndGet (in);
+        bytesOut.addAndGet (requestSize (link));
+        hosts.record (site (link.getURL ()), in, elapsed, false);
+    }
+
+    // Record a failed download.
+    void failed (Link link, Throwable exception, long start) {
+        long elapsed = start != 0 ? System.nanoTime () - start : 0;
+        errors.incrementAndGet ();
+        bytesOut.addAndGet (requestSize (link));
+        String cause = cause (exception);
+        AtomicLong n;
+        synchronized (errorCounts) {
+            n = (AtomicLong)errorCounts.get (cause);
+            if (n == null)
+                errorCounts.put (cause, n = new AtomicLong ());
+        }
+        n.incrementAndGet ();
+        hosts.record (site (link.getURL ()), 0, elapsed, true);
+    }
+
+    static String cause (Throwable e) {
+        String msg = e.getMessage ();
+        if (msg != null) {
+            if (msg.length () >= 4 && msg.charAt (3) == ' ' 
+                && Character.isDigit (msg.charAt (0))
+                && Character.isDigit (msg.charAt (1))
+                && Character.isDigit (msg.charAt (2)))
+                return "HTTP " + msg.substring (0, 3);  // from Page.download
+            int code = msg.indexOf ("HTTP response code: ");
+            if (code != -1 && msg.length () >= code + 23)
+                return "HTTP " + msg.substring (code + 20, code + 23);  // from HttpURLConnection
+            if (msg.startsWith ("Timeout after"))
+                return "timeout";
+            if (msg.startsWith ("disallowed by Robot Exclusion"))
+                return "robots";
+        }
+        String name = e.getClass ().getName ();
+        return name.substring (name.lastIndexOf ('.') + 1);
+    }
+
+    static String site (URL url) {
+        int port = url.getPort ();
+        return port != -1 ? url.getHost () + ":" + port : url.getHost ();
+    }
+
+    // Length of the request line, headers, and body that URLConnection sends
+    // (approximately: it adds a few headers of its own).
+    static long requestSize (Link link) {
+        boolean post = link.getMethod () == Link.POST;
+        URL url = post ? link.getServiceURL () : link.getPageURL ();
+        String query = post ? link.getQuery () : "";
+        long n = (post ? 5 : 4) + Math.max (1, url.getFile ().length ()) + 11  // "GET /x HTTP/1.1\r\n"
+            + 8 + url.getHost ().length ();                                    // "Host: x\r\n"
+        DownloadParameters dp = link.getDownloadParameters ();
+        if (dp != null) {
+            if (dp.getUserAgent () != null)
+                n += 14 + dp.getUserAgent ().length ();
+            if (dp.getAcceptedMIMETypes () != null)
+                n += 10 + dp.getAcceptedMIMETypes ().length ();
+        }
+        if (post) {
+            // Content-type and Content-length headers, and the query as the body
+            int length = query.startsWith ("?") ? query.length () - 1 : query.length ();
+            n += 49 + 18 + String.valueOf (length).length () + length;
+        }
+        return n + 2;
+    }
+
+    /*
+     * Text report
+     *
+     */
+
+    /**
+     * Print a report of the metrics.
+     * @param out Stream to print on
+     */
+    public void dump (PrintStream out) {
+        out.print (toString ());
+        out.flush ();
+    }
+
+    /**
+     * Get a report of the metrics.
+     */
+    public String toString () {
+        StringBuffer buf = new StringBuffer ();
+        buf.append ("pages ").append (getPages ())
+            .append ("  errors ").append (getErrors ())
+            .append ("  bytes in ").append (getBytesIn ())
+            .append ("  bytes out ").append (getBytesOut ()).append ('\n');
+        buf.append (pad ("stage (ms)", 12)).append (pad ("count", 10))
+            .append (pad ("mean", 10)).append (pad ("p50", 10))
+            .append (pad ("p90", 10)).append (pad ("p99", 10))
+            .append (pad ("max", 10)).append ('\n');
+        for (int i=0; i<stages.length; ++i) {
+            LatencyHistogram h = stages[i];
+            buf.append (pad (STAGE_NAMES[i], 12))
+                .append (pad (String.valueOf (h.getCount ()), 10))
+                .append (pad (millis (h.getMean ()), 10))
+                .append (pad (millis (h.getPercentile (50)), 10))
+                .append (pad (millis (h.getPercentile (90)), 10))
+                .append (pad (millis (h.getPercentile (99)), 10))
+                .append (pad (millis (h.getMax ()), 10)).append ('\n');
+        }
+
+        Hashtable causes = getErrorCounts ();
+        if (!causes.isEmpty ()) {
+            buf.append ("errors:");
+            for (Enumeration e = causes.keys (); e.hasMoreElements (); ) {
+                Object cause = e.nextElement ();
+                buf.append (' ').append (cause).append ('=').append (causes.get (cause));
+            }
+            buf.append ('\n');
+        }
+
+        HostStats[] top = getTopHosts (10);
+        if (top.length > 0) {
+            buf.append ("top hosts:\n");
+            for (int i=0; i<top.length; ++i)
+                buf.append ("  ").append (top[i]).append ('\n');
+        }
+        return buf.toString ();
+    }
+
+    static String millis (double nanos) {
+        return String.valueOf (Math.round (nanos / 1000.0) / 1000.0);
+    }
+
+    static String pad (String s, int width) {
+        StringBuffer buf = new StringBuffer (s);
+        while (buf.length () < width - 1)
+            buf.append (' ');
+        return buf.append (' ').toString ();
+    }
+
+    /**
+     * Print a report periodically, on a background thread.  Replaces any
+     * earlier periodic report.
+     * @param out Stream to print on
+     * @param seconds Interval between reports
+     */
+    public synchronized void startDump (PrintStream out, int seconds) {
+        stopDump ();
+        dumper = new MetricsDumper (this, out, seconds * 1000L);
+        dumper.start ();
+    }
+
+    /**
+     * Stop printing periodic reports.
+     */
+    public synchronized void stopDump () {
+        if (dumper != null) {
+            dumper.halt ();
+            dumper = null;
+        }
+    }
+
+    /*
+     * JMX
+     *
+     */
+
+    /**
+     * Publish the metrics as an MBean in the platform MBean server.
+     * Its attributes are Pages, Errors, BytesIn, BytesOut, and for each
+     * stage, <I>Stage</I>Count, <I>Stage</I>MeanMillis, 
+     * <I>Stage</I>P50Millis, <I>Stage</I>P90Millis, <I>Stage</I>P99Millis,
+     * and <I>Stage</I>MaxMillis, where <I>Stage</I> is a stage name like 
+     * "FirstByte".  Its operations are reset() and dump(), which returns 
+     * the text report.
+     * @param name Name of the crawl, used in the object name
+     * "websphinx:type=CrawlMetrics,name=<I>name</I>"
+     * @return the MBean's object name
+     * @exception JMException if the MBean can't be registered
+     */
+    public synchronized ObjectName register (String name) throws JMException {
+        unregister ();
+        ObjectName on = new ObjectName ("websphinx:type=CrawlMetrics,name=" 
+                                        + ObjectName.quote (name));
+        ManagementFactory.getPlatformMBeanServer ().registerMBean (new MetricsBean (this), on);
+        objectName = on;
+        return on;
+    }
+
+    /**
+     * Remove the MBean published by register(), if any.
+     * @exception JMException if the MBean can't be unregistered
+     */
+    public synchronized void unregister () throws JMException {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer ().unregisterMBean (objectName);
+            objectName = null;
+        }
+    }
+}
+
+/**
+ * Bounded table of web site statistics.  When it's full, a new site
+ * replaces the site with the fewest pages and inherits its count (the
+ * Space-Saving algorithm), so the busiest sites stay in the table.
+ */
+class HostTable {
+    static final int PAGES = 0;
+    static final int TIME = 1;
+    static final int ERRORS = 2;
+
+    int capacity;
+    Hashtable table = new Hashtable ();   // host -> HostStats
+
+    HostTable (int capacity) {
+        this.capacity = Math.max (1, capacity);
+    }
+
+    synchronized void record (String host, long bytes, long nanos, boolean error) {
+        HostStats s = (HostStats)table.get (host);
+        if (s == null) {
+            s = new HostStats (host);
+            if (table.size () >= capacity) {
+                HostStats least = null;
+                for (Enumeration e = table.elements (); e.hasMoreElements (); ) {
+                    HostStats t = (HostStats)e.nextElement ();
+                    if (least == null || t.pages < least.pages)
+                        least = t;
+                }
+                table.remove (least.host);
+                s.pages = s.overcount = least.pages;
+            }
+            table.put (host, s);
+        }
+        ++s.pages;
+        s.bytes += bytes;
+        s.time += nanos;
+        if (error)
+            ++s.errors;
+    }
+
+    synchronized HostStats[] top (int k, int by) {
+        Vector all = new Vector (table.size ());
+        for (Enumeration e = table.elements (); e.hasMoreElements (); )
+            all.addElement (new HostStats ((HostStats)e.nextElement ()));
+        HostStats[] stats = new HostStats[all.size ()];
+        all.copyInto (stats);
+
+        // partial selection sort: only the first k places matter
+        int n = Math.min (k, stats.length);
+        for (int i=0; i<n; ++i) {
+            int best = i;
+            for (int j=i+1; j<stats.length; ++j)
+                if (key (stats[j], by) > key (stats[best], by))
+                    best = j;
+            HostStats t = stats[i];
+            stats[i] = stats[best];
+            stats[best] = t;
+        }
+        HostStats[] result = new HostStats[n];
+        System.arraycopy (stats, 0, result, 0, n);
+        return result;
+    }
+
+    static long key (HostStats s, int by) {
+        switch (by) {
+            case TIME:
+                return s.time;
+            case ERRORS:
+                return s.errors;
+            default:
+                return s.pages;
+        }
+    }
+
+    synchronized void clear () {
+        table.clear ();
+    }
+}
+
+/**
+ * Thread that prints a CrawlMetrics report periodically.
+ */
+class MetricsDumper extends Thread {
+    CrawlMetrics metrics;
+    PrintStream out;
+    long interval;
+    boolean halted;
+
+    MetricsDumper (CrawlMetrics metrics, PrintStream out, long interval) {
+        super ("crawl metrics dump");
+        setDaemon (true);
+        this.metrics = metrics;
+        this.out = out;
+        this.interval = interval;
+    }
+
+    synchronized void halt () {
+        halted = true;
+        notify ();
+    }
+
+    public void run () {
+        while (true) {
+            synchronized (this) {
+                try {
+                    wait (interval);
+                } catch (InterruptedException e) {}
+                if (halted)
+                    return;
+            }
+            metrics.dump (out);
+        }
+    }
+}
+
+/**
+ * JMX view of a CrawlMetrics.
+ */
+class MetricsBean implements DynamicMBean {
+    CrawlMetrics metrics;
+    MBeanInfo info;
+
+    static final String[] STATS = { "Count", "MeanMillis", "P50Millis", 
+                                    "P90Millis", "P99Millis", "MaxMillis" };
+
+    MetricsBean (CrawlMetrics metrics) {
+        this.metrics = metrics;
+
+        Vector attrs = new Vector ();
+        String[] counters = { "Pages", "Errors", "BytesIn", "BytesOut" };
+        for (int i=0; i<counters.length; ++i)
+            attrs.addElement (new MBeanAttributeInfo (counters[i], "long", 
+                                                      counters[i], true, false, false));
+        for (int i=0; i<CrawlMetrics.STAGE_NAMES.length; ++i)
+            for (int j=0; j<STATS.length; ++j) {
+                String name = stageName (i) + STATS[j];
+                attrs.addElement (new MBeanAttributeInfo (name, 
+                                      j == 0 ? "long" : "double",
+                                      CrawlMetrics.STAGE_NAMES[i] + " " + STATS[j],
+                                      true, false, false));
+            }
+        MBeanAttributeInfo[] attrInfo = new MBeanAttributeInfo[attrs.size ()];
+        attrs.copyInto (attrInfo);
+
+        MBeanOperationInfo[] opInfo = {
+            new MBeanOperationInfo ("reset", "Forget all metrics", 
+                                    new MBeanParameterInfo[0], "void", 
+                                    MBeanOperationInfo.ACTION),
+            new MBeanOperationInfo ("dump", "Text report", 
+                                    new MBeanParameterInfo[0], "java.lang.String", 
+                                    MBeanOperationInfo.INFO)
+        };
+        info = new MBeanInfo (CrawlMetrics.class.getName (), "Crawl metrics",
+                              attrInfo, null, opInfo, null);
+    }
+
+    // "first-byte" -> "FirstByte"
+    static String stageName (int stage) {
+        String s = CrawlMetrics.STAGE_NAMES[stage];
+        StringBuffer buf = new StringBuffer ();
+        boolean upper = true;
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            if (c == '-')
+                upper = true;
+            else {
+                buf.append (upper ? Character.toUpperCase (c) : c);
+                upper = false;
+            }
+        }
+        return buf.toString ();
+    }
+
+    public Object getAttribute (String name) throws AttributeNotFoundException {
+        if (name.equals ("Pages"))
+            return new Long (metrics.getPages ());
+        if (name.equals ("Errors"))
+            return new Long (metrics.getErrors ());
+        if (name.equals ("BytesIn"))
+            return new Long (metrics.getBytesIn ());
+        if (name.equals ("BytesOut"))
+            return new Long (metrics.getBytesOut ());
+        for (int i=0; i<CrawlMetrics.STAGE_NAMES.length; ++i) {
+            String stage = stageName (i);
+            if (!name.startsWith (stage))
+                continue;
+            String stat = name.substring (stage.length ());
+            LatencyHistogram h = metrics.getHistogram (i);
+            if (stat.equals ("Count"))
+                return new Long (h.getCount ());
+            if (stat.equals ("MeanMillis"))
+                return new Double (h.getMean () / 1e6);
+            if (stat.equals ("P50Millis"))
+                return new Double (h.getPercentile (50) / 1e6);
+            if (stat.equals ("P90Millis"))
+                return new Double (h.getPercentile (90) / 1e6);
+            if (stat.equals ("P99Millis"))
+                return new Double (h.getPercentile (99) / 1e6);
+            if (stat.equals ("MaxMillis"))
+                return new Double (h.getMax () / 1e6);
+        }
+        throw new AttributeNotFoundException (name);
+    }
+
+    public AttributeList getAttributes (String[] names) {
+        AttributeList list = new AttributeList ();
+        for (int i=0; i<names.length; ++i)
+            try {
+                list.add (new Attribute (names[i], getAttribute (names[i])));
+            } catch (AttributeNotFoundException e) {
+                // omitted, as the interface requires
+            }
+        return list;
+    }
+
+    public void setAttribute (Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException (attribute.getName () + " is read-only");
+    }
+
+    public AttributeList setAttributes (AttributeList attributes) {
+        return new AttributeList ();
+    }
+
+    public Object invoke (String action, Object[] params, String[] signature) 
+            throws ReflectionException {
+        if (action.equals ("reset")) {
+            metrics.reset ();
+            return null;
+        }
+        if (action.equals ("dump"))
+            return metrics.toString ();
+        throw new ReflectionException (new NoSuchMethodException (action));
+    }
+
+    public MBeanInfo getMBeanInfo () {
+        return info;
+    }
+}
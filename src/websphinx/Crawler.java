@@ -156,6 +156,8 @@ public class Crawler implements Runnable
     private LinkPredicate linkPredicate;
     private PagePredicate pagePredicate;
     private Action action;
+    private double callbackBudget = 0;
+    private boolean disableSlowCallbacks = false;
     
     // Transient state
 
@@ -192,6 +194,15 @@ public class Crawler implements Runnable
     private transient RobotExclusion robotExclusion;
         // robot exclusion cache
 
+    private transient CrawlMetrics metrics;
+        // timing and traffic metrics, or null if not collected
+
+    private transient Vector profiles;
+        // CallbackProfiles of the callbacks called so far
+    private transient volatile CallbackProfile[] profileArray;
+        // copy of profiles, replaced (under the profiles lock) when a
+        // profile is added, so that worms can find profiles without locking
+
     /**
      * Make a new Crawler.
      */
@@ -219,6 +230,8 @@ public class Crawler implements Runnable
 
         visitedPages = new Hashtable ();
         robotExclusion = new RobotExclusion (getName ());
+        profiles = new Vector ();
+        profileArray = new CallbackProfile[0];
     }
 
     /*
@@ -377,6 +390,10 @@ public class Crawler implements Runnable
         numPagesVisited = 0;
         numLinksTested = 0;
         clearVisited ();
+        synchronized (profiles) {
+            for (int i=0; i<profiles.size (); ++i)
+                ((CallbackProfile)profiles.elementAt (i)).reset ();
+        }
         if (crawledRoots != null)
             for (int i=0; i < crawledRoots.length; ++i)
                 crawledRoots[i].disconnect ();
@@ -482,6 +499,11 @@ public class Crawler implements Runnable
         Link[] links = page.getLinks();
 
         if (links != null && links.length > 0) {
+            LinkPredicate lp = linkPredicate;
+            CallbackProfile lpProfile = 
+                (lp != null) ? getProfile (lp, CallbackProfile.LINK_PREDICATE) : null;
+            CallbackProfile svProfile = getProfile (this, CallbackProfile.SHOULD_VISIT);
+
             // give each link a default priority based on its page
             // and position on page
             float priority = (depthFirst ? -numPagesVisited : numPagesVisited);
@@ -502,8 +524,8 @@ public class Crawler implements Runnable
                     sendLinkEvent (l, LinkEvent.ALREADY_VISITED);
                 else if (!((type == null || l.hasAnyLabels (type))
                            && (domain == null || l.hasAnyLabels (domain))
-                           && (linkPredicate == null || linkPredicate.shouldVisit (l))
-                           && shouldVisit (l)))
+                           && (lp == null || profiledShouldVisit (lp, lpProfile, l))
+                           && profiledShouldVisit (svProfile, l)))
                     sendLinkEvent (l, LinkEvent.SKIPPED);
                 else if (page.getDepth() >= maxDepth)
                     sendLinkEvent (l, LinkEvent.TOO_DEEP);
@@ -513,6 +535,24 @@ public class Crawler implements Runnable
         }
     }
 
+    private static boolean profiledShouldVisit (LinkPredicate lp, CallbackProfile p, Link l) {
+        long t = p.start ();
+        try {
+            return lp.shouldVisit (l);
+        } finally {
+            p.end (t);
+        }
+    }
+
+    private boolean profiledShouldVisit (CallbackProfile p, Link l) {
+        long t = p.start ();
+        try {
+            return shouldVisit (l);
+        } finally {
+            p.end (t);
+        }
+    }
+
     /*
      * Crawl statistics
      */
@@ -781,6 +821,129 @@ public class Crawler implements Runnable
         this.dp = dp;
     }
 
+    /**
+     * Get the metrics being collected about the crawl.
+     * @return metrics, or null if none are collected (the default)
+     */
+    public CrawlMetrics getMetrics() {
+        return metrics;
+    }
+    /**
+     * Set the metrics to collect the crawl's timings and traffic into.
+     * @param metrics Metrics, or null to stop collecting them
+     */
+    public void setMetrics(CrawlMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get callback budget.  Default value is 0 (no budget).
+     * @return mean time per call, in milliseconds, that a callback
+     * may take before it's reported as over budget
+     */
+    public double getCallbackBudget() {
+        return callbackBudget;
+    }
+    /**
+     * Set callback budget.  A classifier, predicate, action, visit(), or
+     * shouldVisit() whose mean time per call exceeds the budget is 
+     * reported once on System.err and flagged in its CallbackProfile.
+     * @param millis mean time per call, in milliseconds, or 0 for no budget
+     */
+    public void setCallbackBudget(double millis) {
+        callbackBudget = millis;
+        updateProfileBudgets ();
+    }
+    /**
+     * Get disable-slow-callbacks flag.  Default value is false.
+     * @return true if callbacks over budget are disabled
+     */
+    public boolean getDisableSlowCallbacks() {
+        return disableSlowCallbacks;
+    }
+    /**
+     * Set disable-slow-callbacks flag.  If true, actions and visit() 
+     * are no longer called once they exceed the callback budget.  
+     * (Classifiers and predicates are never disabled.)
+     * @param f true if callbacks over budget should be disabled
+     */
+    public void setDisableSlowCallbacks(boolean f) {
+        disableSlowCallbacks = f;
+        updateProfileBudgets ();
+    }
+
+    /**
+     * Get the profiles of the callbacks called so far in this crawl,
+     * which time each classifier, predicate, and action.
+     * @return profiles, slowest (by total time) first
+     */
+    public CallbackProfile[] getCallbackProfiles() {
+        CallbackProfile[] result;
+        synchronized (profiles) {
+            result = new CallbackProfile[profiles.size ()];
+            profiles.copyInto (result);
+        }
+        // insertion sort by total time; there are only a handful
+        long[] times = new long[result.length];
+        for (int i=0; i<result.length; ++i) {
+            CallbackProfile p = result[i];
+            long t = p.getTotalTime ();
+            int j = i;
+            for (; j > 0 && times[j-1] < t; --j) {
+                result[j] = result[j-1];
+                times[j] = times[j-1];
+            }
+            result[j] = p;
+            times[j] = t;
+        }
+        return result;
+    }
+
+    /**
+     * Get the profile of a callback, making it if necessary.
+     * @param callback Callback object
+     * @param kind Kind of callback, such as CallbackProfile.ACTION
+     */
+    CallbackProfile getProfile (Object callback, String kind) {
+        CallbackProfile p = findProfile (profileArray, callback, kind);
+        if (p != null)
+            return p;
+
+        synchronized (profiles) {
+            CallbackProfile[] ps = profileArray;
+            p = findProfile (ps, callback, kind);
+            if (p != null)
+                return p;
+            p = new CallbackProfile (callback, kind,
+                (kind == CallbackProfile.LINK_PREDICATE 
+                 || kind == CallbackProfile.SHOULD_VISIT)
+                ? CallbackProfile.PER_LINK : CallbackProfile.PER_PAGE);
+            p.setBudget ((long)(callbackBudget * 1000000), disableSlowCallbacks);
+            profiles.addElement (p);
+            CallbackProfile[] copy = new CallbackProfile[ps.length + 1];
+            System.arraycopy (ps, 0, copy, 0, ps.length);
+            copy[ps.length] = p;
+            profileArray = copy;
+            return p;
+        }
+    }
+
+    private static CallbackProfile findProfile (CallbackProfile[] ps, 
+                                                Object callback, String kind) {
+        for (int i=0; i<ps.length; ++i)
+            if (ps[i].callback == callback && ps[i].kind == kind)
+                return ps[i];
+        return null;
+    }
+
+    private void updateProfileBudgets () {
+        synchronized (profiles) {
+            for (int i=0; i<profiles.size (); ++i)
+                ((CallbackProfile)profiles.elementAt (i)).setBudget (
+                    (long)(callbackBudget * 1000000), disableSlowCallbacks);
+        }
+    }
+
     /**
      * Set link predicate.  This is an alternative way to
      * specify the links to walk.  If the link predicate is
@@ -870,6 +1033,8 @@ public class Crawler implements Runnable
      * @param link Link to put in queue
      */
     public void submit (Link link) {
+        if (metrics != null)
+            link.queuedTime = System.nanoTime ();
         markVisited (link); // FIX: need atomic test-and-set of visited flag
         sendLinkEvent (link, LinkEvent.QUEUED);
         synchronized (crawlQueue) {
@@ -1122,6 +1287,11 @@ public class Crawler implements Runnable
                 return;
                 
             //System.err.println (w + ": processing " + w.link.toDescription());
+
+            CrawlMetrics m = metrics;
+            w.fetchStart = System.nanoTime ();
+            if (m != null && w.link.queuedTime != 0)
+                m.record (CrawlMetrics.QUEUE_WAIT, w.link.queuedTime);
             
             try {
                 // download the link to get a page
@@ -1143,7 +1313,9 @@ public class Crawler implements Runnable
                         && robotExclusion.disallowed (w.link.getURL()))
                         throw new IOException ("disallowed by Robot Exclusion Standard (robots.txt)");
 
-                    page = new Page (w.link, dp);
+                    if (m != null)
+                        m.resolve (w.link.getURL ());
+                    page = new Page (w.link, dp, new HTMLParser (), w.decoder);
                     
                 } finally {
                     timer.cancel ();
@@ -1151,7 +1323,9 @@ public class Crawler implements Runnable
                     
                 if (w.dead)
                     return;
-                    
+
+                if (m != null)
+                    m.downloaded (w.link, page, w.fetchStart);
                 sendLinkEvent (w.link, LinkEvent.DOWNLOADED);
 
                 if (synchronous) {
@@ -1180,7 +1354,9 @@ public class Crawler implements Runnable
                 // or in some user code.  Mark up the link with the error.
                 if (w.dead)
                     return;
-                    
+
+                if (m != null)
+                    m.failed (w.link, e, w.fetchStart);
                 sendLinkEvent (w.link, LinkEvent.ERROR, e);
                 synchronized (crawlQueue) {
                     crawlQueue.delete (w.link);
@@ -1194,21 +1370,52 @@ public class Crawler implements Runnable
 
     void process (Link link) {
         Page page = link.getPage ();
+        CrawlMetrics m = metrics;
+        long t = (m != null) ? System.nanoTime () : 0;
 
         // classify the page
         for (int j=0, len=classifiers.size(); j<len; ++j) {
             Classifier cl = (Classifier)classifiers.elementAt(j);
-            cl.classify (page);
+            CallbackProfile p = getProfile (cl, CallbackProfile.CLASSIFIER);
+            long s = p.start ();
+            try {
+                cl.classify (page);
+            } finally {
+                p.end (s);
+            }
         }
+        if (m != null)
+            t = m.record (CrawlMetrics.CLASSIFY, t);
 
         // invoke callbacks on the page
         ++numPagesVisited;
-        if (pagePredicate == null || pagePredicate.shouldActOn (page)) {
-            if (action != null)
-                action.visit (page);
-            visit (page);
+        if (pagePredicate == null || profiledShouldActOn (pagePredicate, page)) {
+            if (action != null) {
+                CallbackProfile p = getProfile (action, CallbackProfile.ACTION);
+                if (!p.disabled) {
+                    long s = p.start ();
+                    try {
+                        action.visit (page);
+                    } finally {
+                        p.end (s);
+                    }
+                }
+            }
+            CallbackProfile p = getProfile (this, CallbackProfile.VISIT);
+            if (!p.disabled) {
+                long s = p.start ();
+                try {
+                    visit (page);
+                } finally {
+                    p.end (s);
+                }
+            }
         }
+        if (m != null)
+            t = m.record (CrawlMetrics.VISIT, t);
         expand (page);
+        if (m != null)
+            m.record (CrawlMetrics.EXPAND, t);
         
         // send out the event
         sendLinkEvent (link, LinkEvent.VISITED);
@@ -1221,13 +1428,25 @@ public class Crawler implements Runnable
         }
     }
 
+    private boolean profiledShouldActOn (PagePredicate pp, Page page) {
+        CallbackProfile p = getProfile (pp, CallbackProfile.PAGE_PREDICATE);
+        long s = p.start ();
+        try {
+            return pp.shouldActOn (page);
+        } finally {
+            p.end (s);
+        }
+    }
+
     void fetchTimedOut (Worm w, int interval) {
         if (w.dead)
             return;
 
         w.die ();
-        sendLinkEvent (w.link, LinkEvent.ERROR, 
-                       new IOException ("Timeout after " + interval + " seconds"));
+        IOException e = new IOException ("Timeout after " + interval + " seconds");
+        if (metrics != null)
+            metrics.failed (w.link, e, w.fetchStart);
+        sendLinkEvent (w.link, LinkEvent.ERROR, e);
 
         synchronized (crawlQueue) {
             crawlQueue.delete (w.link);
@@ -1261,6 +1480,8 @@ class Worm extends Thread {
     int i;           // index of this worm in crawler.worms[]
     Link link;       // link this worm is currently working on
     boolean dead = false; // true if this worm has been killed
+    PageDecoder decoder = new PageDecoder (); // decodes pages this worm downloads
+    long fetchStart;     // when this worm started fetching its link (System.nanoTime)
 
     public Worm (Crawler crawler, int i) {
         super (crawler.getName() + " worm " + i);
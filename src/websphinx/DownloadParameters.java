@@ -48,6 +48,10 @@ public class DownloadParameters implements Cloneable
 , java.io.Serializable 
 //#endif JDK1.1
 {
+    //#ifdef JDK1.1 
+    private static final long serialVersionUID = 2818851654638674470L;
+    //#endif JDK1.1
+
     private int maxThreads = 4;
         // number of background threads used by the crawler
     private int maxPageSize = 100;
@@ -73,6 +77,9 @@ public class DownloadParameters implements Cloneable
         // accept header for HTTP request, or null to use default
     private String userAgent = null;
         // User-Agent header for HTTP request, or null to use default
+    private boolean parseLinksOnly = false;
+        // parse pages only for links and title, building the element
+        // tree only when it's asked for
 
 
     public static final DownloadParameters DEFAULT = new DownloadParameters ();
@@ -280,4 +287,26 @@ public class DownloadParameters implements Cloneable
         dp.userAgent = userAgent;
         return dp;
     }
+    /**
+     * Get parse-links-only flag.
+     * @return true if downloaded pages are parsed only far enough
+     * to find their links and title.  The HTML element tree of such
+     * a page is built later, if getElements() or getRootElement() is
+     * called on it.  Default is false.
+     */
+    public boolean getParseLinksOnly() {
+        return parseLinksOnly;
+    }
+    /**
+     * Change parse-links-only flag.  Crawlers that only look at
+     * a page's links, title, and labels can set this flag to skip
+     * building the element tree of every page they download.
+     * @param f true if pages should be parsed only for links and title
+     * @return new DownloadParameters object with the specified parameter changed.
+     */
+    public DownloadParameters changeParseLinksOnly(boolean f) {
+        DownloadParameters dp = (DownloadParameters)clone();
+        dp.parseLinksOnly = f;
+        return dp;
+    }
 }
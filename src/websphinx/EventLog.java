@@ -47,6 +47,8 @@ import java.io.PrintStream;
  * Crawling monitor that writes messages to standard output or a file.
  * Acts as both a CrawlListener (monitoring start and end of the crawl)
  * and as a LinkListener (monitoring page retrieval).
+ * Messages are written by the crawler's threads as the events happen;
+ * to log a fast crawl without slowing it down, use BinaryEventLog.
  */
 public class EventLog implements CrawlListener, LinkListener {
 
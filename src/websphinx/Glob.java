@@ -0,0 +1,453 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Vector;
+
+/**
+ * Compiled form of a simple Wildcard.  Wildcards made only of
+ * literal characters, ?, *, character sets, and {...} alternatives
+ * are matched here without the regular expression engine: the
+ * alternatives are expanded, and each one is tested with a fast path
+ * for its shape (a literal, or a literal with * on either side or
+ * both) or by a two-pointer scan that backs up to the last *.
+ * Character sets are 256-bit masks.  Globs are never modified once
+ * compiled, so any number of threads can use one at the same time.
+ *
+ * <P>A glob matches exactly the strings its wildcard's regular
+ * expression matches: ? and * never match a newline.
+ */
+final class Glob {
+
+    // Elements of an alternative.  Values >= 0 are literal characters,
+    // and values <= FIRST_SET are character sets (sets[FIRST_SET - e]).
+    static final int ANY = -1;
+    static final int STAR = -2;
+    static final int FIRST_SET = -3;
+
+    // shapes of an alternative
+    static final int LITERAL = 0;   // lit
+    static final int PREFIX = 1;    // lit*
+    static final int SUFFIX = 2;    // *lit
+    static final int INFIX = 3;     // *lit*
+    static final int GENERAL = 4;
+
+    static final int MAX_ALTERNATIVES = 256;
+
+    int[][] alternatives;
+    int[] shapes;
+    String[] literals;
+        // the literal of each alternative that isn't GENERAL
+    long[][] sets;
+    boolean[] negated;
+    boolean newlines;
+        // true if some literal or set can match a newline, in which
+        // case the fast paths don't apply to strings that contain one
+
+    /**
+     * Compile a wildcard.
+     * @param wildcard wildcard pattern
+     * @return compiled glob, or null if the wildcard uses something
+     * that only the regular expression engine handles (groups, Perl
+     * escapes like \w, or unusual character sets)
+     */
+    static Glob compile (String wildcard) {
+        Glob glob = new Glob ();
+        glob.source = wildcard;
+        Vector alts = glob.parseSequence ();
+        if (alts == null || glob.pos < wildcard.length ())
+            return null;
+        glob.finish (alts);
+        return glob;
+    }
+
+    /*
+     * Parsing
+     */
+
+    private String source;
+    private int pos;
+    private int depth;
+    private Vector vsets = new Vector ();
+
+    // Parses up to the end of the wildcard, or in braces, up to the
+    // next , or }.  Returns the expansions of the sequence, as int[]s,
+    // or null if the glob can't handle it.
+    private Vector parseSequence () {
+        Vector alts = new Vector ();
+        alts.addElement (new int[0]);
+
+        int len = source.length ();
+        while (pos < len) {
+            char c = source.charAt (pos);
+            int element;
+            switch (c) {
+              case ',':
+              case '}':
+                if (depth > 0)
+                    return alts;
+                if (c == '}')
+                    return null;
+                element = c;
+                ++pos;
+                break;
+
+              case '{': {
+                  ++pos;
+                  ++depth;
+                  Vector options = new Vector ();
+                  for (;;) {
+                      Vector option = parseSequence ();
+                      if (option == null)
+                          return null;
+                      for (int i=0; i<option.size (); ++i)
+                          options.addElement (option.elementAt (i));
+                      if (pos == len)
+                          return null;  // unterminated
+                      if (source.charAt (pos++) == '}')
+                          break;
+                  }
+                  --depth;
+
+                  if (alts.size () * options.size () > MAX_ALTERNATIVES)
+                      return null;
+                  Vector product = new Vector ();
+                  for (int i=0; i<alts.size (); ++i)
+                      for (int j=0; j<options.size (); ++j)
+                          product.addElement (concat ((int[])alts.elementAt (i), 
+                                                      (int[])options.elementAt (j)));
+                  alts = product;
+                  continue;
+              }
+
+              case '?':
+                element = ANY;
+                ++pos;
+                break;
+
+              case '*':
+                element = STAR;
+                ++pos;
+                break;
+
+              case '[':
+                element = parseSet ();
+                if (element == 0)
+                    return null;
+                break;
+
+              case '\\':
+                if (pos + 1 == len) {
+                    // a trailing backslash stands for itself
+                    element = c;
+                    ++pos;
+                    break;
+                }
+                c = source.charAt (pos + 1);
+                if (Character.isLetterOrDigit (c))
+                    return null;  // \w, \d, \n, back references, ...
+                element = c;
+                pos += 2;
+                break;
+
+              case '(':
+              case ')':
+              case ']':
+                return null;
+
+              default:
+                element = c;
+                ++pos;
+                break;
+            }
+
+            for (int i=0; i<alts.size (); ++i) {
+                int[] alt = (int[])alts.elementAt (i);
+                if (element == STAR && alt.length > 0 && alt[alt.length-1] == STAR)
+                    continue;   // ** is the same as *
+                alts.setElementAt (concat (alt, new int[] { element }), i);
+            }
+        }
+        return alts;
+    }
+
+    // Parses a character set like [a-z_] or [^/].  Returns its
+    // element, or 0 if the glob can't handle it.
+    private int parseSet () {
+        int len = source.length ();
+        int i = pos + 1;
+        boolean negate = false;
+        if (i < len && source.charAt (i) == '^') {
+            negate = true;
+            ++i;
+        }
+        if (i == len || source.charAt (i) == ']' || source.charAt (i) == ':')
+            return 0;
+
+        long[] bits = new long[4];
+        while (i < len && source.charAt (i) != ']') {
+            char lo = source.charAt (i);
+            char hi = lo;
+            if (!isSetChar (lo))
+                return 0;
+            if (i+1 < len && source.charAt (i+1) == '-') {
+                if (i+2 >= len || !isSetChar (source.charAt (i+2)))
+                    return 0;
+                hi = source.charAt (i+2);
+                if (lo >= hi)
+                    return 0;
+                i += 3;
+            }
+            else
+                ++i;
+            if (hi > 255)
+                return 0;
+            for (int c=lo; c<=hi; ++c)
+                bits[c >> 6] |= 1L << (c & 63);
+        }
+        if (i == len)
+            return 0;  // unterminated
+        pos = i + 1;
+
+        vsets.addElement (bits);
+        vsets.addElement (negate ? Boolean.TRUE : Boolean.FALSE);
+        return FIRST_SET - (vsets.size ()/2 - 1);
+    }
+
+    // Characters that mean the same thing in a set to the glob and to
+    // the regular expression Wildcard.toRegexp() makes.
+    private static boolean isSetChar (char c) {
+        switch (c) {
+          case '\\': case '[': case ']': case '^': case '-':
+          case '*': case '?': case '{': case '}': case ',':
+            return false;
+          default:
+            return true;
+        }
+    }
+
+    private static int[] concat (int[] a, int[] b) {
+        int[] c = new int[a.length + b.length];
+        System.arraycopy (a, 0, c, 0, a.length);
+        System.arraycopy (b, 0, c, a.length, b.length);
+        return c;
+    }
+
+    private void finish (Vector alts) {
+        int n = vsets.size () / 2;
+        sets = new long[n][];
+        negated = new boolean[n];
+        for (int i=0; i<n; ++i) {
+            sets[i] = (long[])vsets.elementAt (2*i);
+            negated[i] = vsets.elementAt (2*i+1) == Boolean.TRUE;
+        }
+        vsets = null;
+        source = null;
+
+        alternatives = new int[alts.size ()][];
+        alts.copyInto (alternatives);
+        shapes = new int[alternatives.length];
+        literals = new String[alternatives.length];
+        for (int i=0; i<alternatives.length; ++i) {
+            int[] alt = alternatives[i];
+            int first = 0;
+            int last = alt.length;
+            boolean starFirst = last > 0 && alt[0] == STAR;
+            if (starFirst)
+                ++first;
+            boolean starLast = last > first && alt[last-1] == STAR;
+            if (starLast)
+                --last;
+
+            StringBuffer lit = new StringBuffer ();
+            for (int j=first; j<last && alt[j] >= 0; ++j)
+                lit.append ((char)alt[j]);
+            if (first + lit.length () == last) {
+                literals[i] = lit.toString ();
+                shapes[i] = starFirst 
+                    ? (starLast ? INFIX : SUFFIX) 
+                    : (starLast ? PREFIX : LITERAL);
+            }
+            else
+                shapes[i] = GENERAL;
+
+            for (int j=0; j<alt.length; ++j)
+                if (alt[j] != ANY && alt[j] != STAR && test (alt[j], '\n'))
+                    newlines = true;
+        }
+    }
+
+    /*
+     * Matching
+     */
+
+    /**
+     * Test whether the glob matches a string.
+     * @param s string
+     * @param start offset of the first character to match
+     * @param end offset just past the last character to match
+     * @return true if the glob matches all of s[start..end)
+     */
+    boolean matches (String s, int start, int end) {
+        boolean slow = newlines && indexOfNewline (s, start, end) != -1;
+        for (int i=0; i<alternatives.length; ++i)
+            if (slow 
+                ? matchSlow (alternatives[i], 0, s, start, end)
+                : matchFast (i, s, start, end))
+                return true;
+        return false;
+    }
+
+    private boolean matchFast (int i, String s, int start, int end) {
+        String lit = literals[i];
+        int n = (lit != null) ? lit.length () : 0;
+        switch (shapes[i]) {
+          case LITERAL:
+            return end - start == n && s.regionMatches (start, lit, 0, n);
+
+          case PREFIX:
+            return end - start >= n && s.regionMatches (start, lit, 0, n)
+                && indexOfNewline (s, start + n, end) == -1;
+
+          case SUFFIX:
+            return end - start >= n && s.regionMatches (end - n, lit, 0, n)
+                && indexOfNewline (s, start, end - n) == -1;
+
+          case INFIX: {
+              // the first occurrence is the one to use: * can't cross
+              // a newline, and lit has none
+              int k = s.indexOf (lit, start);
+              return k != -1 && k + n <= end
+                  && indexOfNewline (s, start, k) == -1
+                  && indexOfNewline (s, k + n, end) == -1;
+          }
+
+          default:
+            return matchGeneral (alternatives[i], s, start, end);
+        }
+    }
+
+    // Two-pointer matching.  On a mismatch, the last * takes one more
+    // character and matching resumes after it.  Since no element but *
+    // can match a newline here, a * that would have to take one fails
+    // the whole match.
+    private boolean matchGeneral (int[] alt, String s, int start, int end) {
+        int n = alt.length;
+        int p = 0;
+        int i = start;
+        int starP = -1;
+        int starI = -1;
+        while (i < end) {
+            if (p < n && alt[p] == STAR) {
+                starP = p++;
+                starI = i;
+            }
+            else if (p < n && test (alt[p], s.charAt (i))) {
+                ++p;
+                ++i;
+            }
+            else if (starP != -1 && s.charAt (starI) != '\n') {
+                p = starP + 1;
+                i = ++starI;
+            }
+            else
+                return false;
+        }
+        while (p < n && alt[p] == STAR)
+            ++p;
+        return p == n;
+    }
+
+    // Backtracking matching, for strings with newlines when the glob
+    // has literals or sets that can match them.
+    private boolean matchSlow (int[] alt, int p, String s, int i, int end) {
+        for (; p < alt.length; ++p) {
+            if (alt[p] == STAR) {
+                for (int k=i; ; ++k) {
+                    if (matchSlow (alt, p+1, s, k, end))
+                        return true;
+                    if (k == end || s.charAt (k) == '\n')
+                        return false;
+                }
+            }
+            if (i == end || !test (alt[p], s.charAt (i)))
+                return false;
+            ++i;
+        }
+        return i == end;
+    }
+
+    private boolean test (int element, char c) {
+        if (element >= 0)
+            return c == element;
+        else if (element == ANY)
+            return c != '\n';
+        else {
+            int k = FIRST_SET - element;
+            boolean in = c < 256 && (sets[k][c >> 6] & (1L << (c & 63))) != 0;
+            return in != negated[k];
+        }
+    }
+
+    private static int indexOfNewline (String s, int start, int end) {
+        for (int i=start; i<end; ++i)
+            if (s.charAt (i) == '\n')
+                return i;
+        return -1;
+    }
+
+    /**
+     * Get a string that every match of the glob contains.
+     * @return the longest literal run of the glob's only alternative,
+     * or null if it has several alternatives or no literal characters
+     */
+    String getRequiredLiteral () {
+        if (alternatives.length != 1)
+            return null;
+        int[] alt = alternatives[0];
+        String best = null;
+        for (int i=0; i<alt.length; ) {
+            int j = i;
+            while (j < alt.length && alt[j] >= 0)
+                ++j;
+            if (j > i && (best == null || j - i > best.length ())) {
+                StringBuffer buf = new StringBuffer ();
+                for (int k=i; k<j; ++k)
+                    buf.append ((char)alt[k]);
+                best = buf.toString ();
+            }
+            i = Math.max (j, i+1);
+        }
+        return best;
+    }
+}
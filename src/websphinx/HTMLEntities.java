@@ -0,0 +1,3152 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+/**
+ * Decoder for HTML character references.  Named references are
+ * recognized by walking a trie of the HTML5 named character references
+ * one character at a time, so the parser can decode them directly from
+ * the page content, without collecting the name first and without
+ * allocating anything.
+ *
+ * <P>The trie below is generated from the WHATWG named character
+ * reference table (entities.json) and should not be edited by hand.
+ * Nodes are numbered breadth-first, so the edges leaving node n are
+ * edgeChar/edgeTarget[firstEdge[n] .. firstEdge[n+1]-1], sorted by
+ * character.  nodeValue[n] is 0 if the path to n doesn't spell a
+ * reference name; otherwise it's (offset &lt;&lt; 2 | length) of the
+ * reference's replacement text in values[].  Names that may be written
+ * without a trailing semicolon (like "amp") appear both with and
+ * without one.
+ */
+final class HTMLEntities {
+
+    /**
+     * Root of the trie (the empty name).
+     */
+    static final int ROOT = 0;
+
+    /**
+     * Follow an edge of the trie.
+     * @param node current node
+     * @param c next character of the name
+     * @return node reached, or -1 if no reference name continues
+     * with c
+     */
+    static int step (int node, char c) {
+        int lo = firstEdge[node];
+        int hi = firstEdge[node+1];
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChar[mid];
+            if (m < c)
+                lo = mid+1;
+            else if (m > c)
+                hi = mid;
+            else
+                return edgeTarget[mid];
+        }
+        return -1;
+    }
+
+    /**
+     * Test if a node ends a reference name.
+     * @param node trie node
+     * @return true if the path to node spells a complete name
+     */
+    static boolean isEntity (int node) {
+        return nodeValue[node] != 0;
+    }
+
+    /**
+     * Append the replacement text of a named reference.  The text
+     * may be two chars long (a surrogate pair, or a character plus a
+     * combining mark).
+     * @param buf buffer to append to
+     * @param node trie node for which isEntity() is true
+     */
+    static void appendValue (StringBuffer buf, int node) {
+        int v = nodeValue[node];
+        buf.append (values, v >> 2, v & 3);
+    }
+
+    /**
+     * Look up a reference name.
+     * @param name reference name, like "amp;" or "amp"
+     * @return replacement text, or null if name isn't a reference name
+     */
+    static String lookup (String name) {
+        int node = ROOT;
+        for (int i=0; i<name.length () && node != -1; ++i)
+            node = step (node, name.charAt (i));
+        if (node == -1 || !isEntity (node))
+            return null;
+        int v = nodeValue[node];
+        return new String (values, v >> 2, v & 3);
+    }
+
+    // replacements for numeric references to C1 control characters,
+    // which pages almost always mean as windows-1252 characters
+    private static final char[] windows1252 = {
+        '\u20AC', '\u0081', '\u201A', '\u0192', '\u201E', '\u2026', '\u2020', '\u2021',
+        '\u02C6', '\u2030', '\u0160', '\u2039', '\u0152', '\u008D', '\u017D', '\u008F',
+        '\u0090', '\u2018', '\u2019', '\u201C', '\u201D', '\u2022', '\u2013', '\u2014',
+        '\u02DC', '\u2122', '\u0161', '\u203A', '\u0153', '\u009D', '\u017E', '\u0178'
+    };
+
+    /**
+     * Largest Unicode code point.
+     */
+    static final int MAX_CODE_POINT = 0x10FFFF;
+
+    /**
+     * Append the character named by a numeric reference (like &amp;#233;
+     * or &amp;#xE9;), following the HTML5 rules: characters outside the
+     * BMP are appended as surrogate pairs, C1 controls are mapped to
+     * windows-1252, and 0, surrogates, and values above MAX_CODE_POINT
+     * become U+FFFD.
+     * @param buf buffer to append to
+     * @param code value of the reference
+     */
+    static void appendCharRef (StringBuffer buf, int code) {
+        if (code == 0 || code > MAX_CODE_POINT
+            || (code >= 0xD800 && code <= 0xDFFF))
+            buf.append ('\uFFFD');
+        else if (code >= 0x80 && code <= 0x9F)
+            buf.append (windows1252[code - 0x80]);
+        else if (code > 0xFFFF) {
+            code -= 0x10000;
+            buf.append ((char)(0xD800 + (code >> 10)));
+            buf.append ((char)(0xDC00 + (code & 0x3FF)));
+        }
+        else
+            buf.append ((char)code);
+    }
+
+    /*
+     * Generated tables
+     */
+
+    private static final char[] edgeChar = (
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzEMabcfglmnop" +
+        "rstuaceforsuHOacdefhilorsuDJSZacefiosNTacdfglmopqstuxcfiosJTabcd" +
+        "fgorstAacfiosuEJOacdfgmnostucfosuHJacfosJTaceflmostacefiosuJacef" +
+        "ostuEacdfgmoprstuvacfhilorsUfosBEacefhiorsuHOacfhimoqstuHRSacfhi" +
+        "orsabcdfgmnoprstuDbcdefosvcefosfiosAIUacfosuHacdefosabcefglmnopr" +
+        "stuwNabcdefiklnoprsuacdefhilorstuwyAHabcdefhijlorstuwzDacdefglmn" +
+        "opqrstuxacefijlnoprsEabcdefgijlnorstvAabcefkosyacefgijmnopqstucf" +
+        "mosuacfghjosABEHabcdefghjlmnoprstuvDacdefhilnopsuGLRVabcdefghijl" +
+        "moprstuvwSacdefghilmoprstuvacefhilmorsufiopsuABHabcdefhilmnoprst" +
+        "uxabcdefhilmopqrstuwzabcdefhioprswAHabcdfghlmoprstuwABDacdeflnop" +
+        "rszcefoprscdfhilmnorsuvwacefiosuacdefhioswlPcriyrrpadgppicsimcry" +
+        "crtrpecmcPcpyaeioodnrirolnpuocp;occcgrsaylrafptuwctGHcaiyorreapg" +
+        "psuciamipyrlprucc;mreiyor;pec;Rctirlprctmclcciyorr;aptvgptcikmiy" +
+        "rpcekccpeyrpcc;cmnpraeyfsr;einpwcht;pydlrnpc;ccaeygswrBnptci;lci" +
+        "ybrraeipe;climeryri;uip;eiociOrpcaGcnraey;vrogpuichlCcFc;aeiyrog" +
+        "aprucabcmpOAHcbuaeyreilpictcrriybrradigpADETadpsicimaayaerrpcdid" +
+        "rpcr;pccccciyrpcmccayortrpccr;Ediuyl;rrepapdggp;Eaeiopictyimcioc" +
+        "rroyqcmprtrgaakoeoptwxrevceiolmcpraeiuodmnrceirulmnpaocuddelprvw" +
+        "cilraglrsklay;aoglmiraaegsvcclptuwbccotdrahaciDocsaioyo;Dr;rs;il" +
+        "sapsgsgpalscsuvDacdiahmrciplymilrllaltopraaoc;lcmpriyo;lqsr;gmc;" +
+        "EajEaespaci;cdlqrenrilmraialrrsamoprcltbpc;iycxfrr;inolaop;cfotc" +
+        "gptruci;ikmiyrapcekpeyrrccpcarta;gacegmnpqrtabraeuycqrs;fgqsilr;" +
+        "Eabc;achtioEaesabnoptwzaachmtachiqt;cdhilqrrenDclproyaarocdncdpd" +
+        "p;ct;lmgteltiDdbcnptsuaeouya;AadqsxrEestAap;svcAEadestiptaorAait" +
+        "chimpqugilr;mDHadgilrsAan;csiyabioslcrortbmnacitaeipael;adiosvcl" +
+        "oimbryrrimo;tvau;ipu;Eaceinosucinrnprcaeoartaacdenqrtabraeuyclqs" +
+        "acgilraognsahmomabptapaachqhirl;cq;EaceinpsyoAacmstxracoygmaaeit" +
+        "flpacsuacemtarbcmnpAanlruraeyolreikolmnepsraipchtioracrriyabhirr" +
+        "abctalgpadhlsucitcdiramaraanryaelrrtsprtcuiidirp;;ecaiutrAa;Aaai" +
+        "dptAacqpteeciynrcpccmcayoetrcgpcjni;uer;;ahc;oflnrillkvw;ana;fvr" +
+        "pyYu;ilrdrntit;;ccsogitfrnsr;Ctyyygrhr;;t;cmff;DEbnrr;;urr;t;amc" +
+        "tofiairm;lso;;lfArrymedr;t;farDe;r;bfirrpyiyur;t;acgl;eiofarlclr" +
+        ";;frrcyypd;;fryubglrrd;ts;fdgfer;r;;il;ufryurd;atL;rBf;CDEGHLNPR" +
+        "STVrliur;l;acgcfnralmlrt;;;snfcmdpr;T;frr;ugrrd;e;;hfngr;eHyTurd" +
+        "r;;rmlftarr;sch;;esRDcy;;rd;;rtcndfprrurcer;l;aceoofroqeroeinrll" +
+        "sr;s;bty;frarg;fr;fryyyur;;frlyur;toa;frue;;rt;i;afphcl;;adsv;el" +
+        "mrszof;c;dsrnr;mllontkvwkn;uapsnahw;costuvwrcn13c;qtf;ttDHUVbdhm" +
+        "ptuvivbrmmllpu;abcdseoprdrptipt;yc;;Ecefmsbompgifryrsrbpoapsa;bc" +
+        "dosalrveeoncrrgerhaar;grt;tps;rm;ai;ioyorlf;empsbnkorrylroiranyg" +
+        "otutrrl;to;a;dn;;dctp;pofruiioilaeiporrom;;lolseol;alil;iitinffa" +
+        "krcswr;um;er;t;;qs;cdl;;ey;;;;p;qifvrmcioPuadelsrErrfidrrrrlc;ew" +
+        "rtkfbraruhur;yc;;ainfticgtfeaid;celpyofaoernlclr;;tfrrcpd;;eyyfr" +
+        "rrar;rumrbg;ur;aerrakrdib;auduht;;qs;cdgsso;;rlyroardu;p;qinrrgp" +
+        "afliab;efrroa;rqr;mburciormauPidurEoret;skm;ss;;r;acduprlefrpta;" +
+        ";vf;;vgaalug;Eiopupmprdnp;srroueii;;;qsi;rrra;d;yr;rr;fqsi;rdf;i" +
+        "nrl;cerrgr;ceromiasbcpllgi;esaapaetnAetAtirreutr;slvtoii;na;a;tr" +
+        "irn;cgcdnfrrur;efmgrl;rallmla;ast;cimpt;;vmnc;nsnfn;pu;cmEasdfpi" +
+        "rr;c;tfirtstrrarreuimgurairrakrdib;aduhlt;so;r;vhgira;uinrraflir" +
+        "orqr;burmiuuu;pru;drEasoi;trrtiwmt;orhyr;m;deglnprrlspdl;et;bfdr" +
+        "auu;afrrtiaran;Edemnprsc;g123;Edehlmnpsrrwig;krd;tr;rtcnasrdeta;" +
+        "bcfaidadempsterycrxhrrurcer;rlas;arlorrc;ofroauipornrrolirlnrrsg" +
+        "eknprst;s;belbt;ruforrbpgrbge;farprpr;rrrrpsoflirrrclreduyr;;;yf" +
+        "rylur;tta;yrfr;jgtvcvarn;yg;gd;s;euo;;e;e;;tteoici;lelkenrno;ots" +
+        ";ar;;;e;voaroe;oqlABLRTa;otoc;veryn;lll;;;tne;li;;avic;;t;ckce;z" +
+        ";oDE;g;tc;vriigrsn;;;dy;c;;cy;;ai;;;td;a;oiACDFRTUVarEFGLSTtoLRl" +
+        "r;r;ouis;;;toiteier;ouolqxrueereiquie;dgtcavrar;C;sde;BPiMc;eeuo" +
+        ";;;;rt;;toirt;dh;Dc;ctoictal;;r;;eeTreNEy;oieakSe;l;ot;oyvcavrrn" +
+        "n;rwuerwr;lg;d;h;ha;iT;;sce;;;;;;;tc;;;;to;W;;;tvcegvshargn;l;;e" +
+        "stptan;i;;og;pd;nt;cepsee;tgoutio;;eaiudptqtrpeeokk244ku;;oiLRlr" +
+        ";DUduLRlr;HLRhlroLRlr;DUduiliLRlr;HLRhlrmea;i;e;bh;e;Eetnrauo;tn" +
+        "soics;lt;e;k;;el;nicsna;fl;dn;o;srs;;e;etrrcrrauor;ryeeedntt;;et" +
+        ";;vrcogrsathlr;osmndn;roa;qilqladharo;;;ot;frrg;rt;teo;co;tvotor" +
+        "y1;;n;;ss;lvrlmalsvatr;t;;;;tcniligigg;gs;;l;vt123457ln;tavc;;lc" +
+        "o;el;;p;qm;e;;el;rtaeproqeit;;s;lc;cw;ctioaarhlr;a;soletc;lvntia" +
+        "grelph;drnoagrar;n;;ds;;Edsvdy;ch;;cyaie;;;;r;ir;tpad;dlo;bfhlps" +
+        "ti;srkcesoil;;ohs;ahlrt;lco;eadegshoduk;rrrios;p;qmgrklmrar;umsa" +
+        "n;;lrrriu;;eg;oo;rteerea;efsht;t;;;etemhuosios;;ul;;oip;t;hssat;" +
+        ";dsrr;p;oig;hrhrtiams;qs;m;rrr;;rr;t;qs;smi;;ni;astiu;crrhiu;;r;" +
+        "edru;Eesc;Ees;d;arpsr;s;;fr;;rrrmrhrat;;cha;;lgr;vr;rroerar;u;;p" +
+        "srr;;o;o;s;de;r;lil;noi;e;aehck;abcdemstt;d;e;acense;pi;als;tme;" +
+        "s;;m;eit;r;ir;;tcp;delo;abcfhlpstwiorkcesoil;;ho;;ips;hodu;t;nrr" +
+        "sdgrkr;um;glru;;oee;eflhto;oeic;pilm;berhr;;ain;wpc;tao;q;E;Eela" +
+        "rlha;e;sc;a;e;ppbpr;r;mlr;fis;o;duEelaeiu;acens;;;;;os;dsauEelei" +
+        "urhrage;oi;eeakspines;;oi;o;meno;ilbiz;;yote;;t;yvcrarhvlrkroirn" +
+        ";rwrs;hlarogi;td;fr;g;;vhrpaohir;hiuhrhaqia;ibp;pi;nnzcaer;t;;c;" +
+        "irrrr;;t;umrr;uui;gt;c;;;;;to;r;;a;;;;ee;e;;;F;neldsu;qeaynl;nlr" +
+        "ewC;eutude;par;n;inrtuerreierken;en;SV;o;Tisedle;del;ey;;rokoq;e" +
+        ";e;nersi;e;;y;;leacnlnreolierperiqureliateieiLRkmnPenlidnaenpueu" +
+        "iemfssevgubcplre;e;ce;;ouhesaraaiad;cr;elnlsACDFTUVaIteyyenl;DLR" +
+        "U;Cetehst;;;nlf;Sp;EFTekec;e;ce;BP;P;oni;AonLRo;e;;lrchh;;e;enie" +
+        "e;;;ey;;;;do;d;vh;r;rx;;eei;opriedb;;sy;ueprpolicailedwlst;;;;;i" +
+        "me;;;;;;;;;;;;;;;;;;x;;;;;;;;num;;;;;;;;;;e;r;;;st;;qedcppt;;;nl" +
+        ";;s;yr;mqeidi;u;e;tneotdr;;;;;r;;rcppt;revwna;;i;yrh;o;ne;e;yt;;" +
+        "n;m;exnpr;dnuueroarnpk;;;;la;ern;n;etet;;sv34;l;o;co;nst;Dr;;;;t" +
+        "eneg;g;;;;l;i234568354585688;;e;de;a;ts;r;;;;;;;rsprtlqsmnptyi;;" +
+        "spnrr;teirhklne;;et;n;;;;ia;;e;ttlecro;;t;o;v;e;;;y;;vln;l;etna;" +
+        "e;;fskplill;;;ek;lnl;;rahraeiha;tspoqtitr;;l;;nd;ttr;;;;;eair;se" +
+        "trgt;n;d;o;;;rk;;esrsr;;han;sora;r;trt;bdsssm;arthh;e;;o;a;enl;d" +
+        ";;k;o;vr;t;l;;;;;;ar;l;;;e;Edv;vll;ne;e;;cwt;eet;q;;bp;;e;e;;een" +
+        "o;hrhiriri;;k;ore;;cd;;e;;;s;;;os;;;;ofphes;lm;tdlnt;fkvc;iou;ni" +
+        "wi;;puqaesi;s;mliuo;lpern;e;l;e;t;;e;p;f;skplil;l;n;;ek;lnl;a;rn" +
+        "a;tr;;lahlrstg;;t;;;;;seti;o;res;;tae;n;l;;mi;;;;k;orn;n;ymp;fvt" +
+        ";;;;ur;spr;;yrs;s;s;es;esef;nef;g;tol;;urtmbppuqaesituoourl;;utm" +
+        "bp;k;or;tnlc4f;svasp;m;;;bdtrre;gtnu;mi;k;ae;e;;c;te;;;np;;;onp;" +
+        ";ornp;;;e;;l;;tspti;oogbpei;r;pr;;;;;EeEea;r;qph;;;;;;;se;;ps;ee" +
+        ";enfr;;;u;;a;el;;ls;;taDDMPTiu;e;rur;h;;tde;aCDLRUVrefger;;;;tme" +
+        "nib;nSV;r;;;r;tn;wu;;asaeb;;;;;e;;griuwogeiDTVcrgulesalr;fgfgei;" +
+        "Stl;;;vGLekagCbmasaptstcehascedt;;;;nr;;;rarlnrett;;;;enreolerpe" +
+        "rmal;;;;;oeipi;ISU;Edae;;;opaquiD;;i;;;aralwAlrwaein;;;ai;;;;d;;" +
+        ";m;p;ab;r;;eq;nnsim;;gr;ev;n;c;tumurau;g;oqrv;;;use;;u;;;;u;;;;;" +
+        "mvda;adn;ri;q;;mxt;;;lr;pa;;;;mqee;rn;;;w;rqv;da;o;;;;ousabrwro;" +
+        ";;er;;;;;;r;e;;;;n;nt;;Dsang;;;;n;;;;;;;;;;;;;;;;;;n;o;o;tr;;els" +
+        ";e;;;r;u;;oo;fg;;;;;;;;;nr;i;;rahd;t;;;;;;;;y;;;s;;;;m;;;;du;;;r" +
+        "arrfgrn;o;ptgqrm;;;e;;;aofpgr;s;;e;e;;;;;;;t;aree;dlu;;e;;;;;u;;" +
+        ";aria;;;xl;;;o;w;;;saria;;oabcabcl;t;q;;a;;mp;eetqt;g;;;;n;e;e;w" +
+        ";;;;;sn;f;e;;;ae;;;;k;o;h;ir;;;monpr;pqim;;anr;;;;ntq;;y;;s;;;;m" +
+        ";;a;;du;;r;er;;;raeiqhd;a;s;n;;;;rr;;;;n;w;u;;ia;;;sre;s;;;u;;;e" +
+        ";e;;;;;h;ttsr;en;;;pr;pqim;btlbrts;en;;;;w;;;;;;oy;pi;;;a;;;k;l;" +
+        "useu;d;;;;;;e;waonr;e;;e;iph;p;mssta;;;;;;;g;;;;;;;;;;;;;rns;lD;" +
+        ";;ooilisrnIcCdi;nlooeoipeovth;Ao;ar;lrtmetEFGLSTStnar;lcltlolbno" +
+        "h;AVaoeetohalasndrththfgpruere;;kralelttDET;EGLSTeertreerei;l;ce" +
+        "Dues;iEUgriuwoeiDTVcrprawfgArnunqsttracullorraru;BDrir;rfg;lnt;e" +
+        "abcdefgh;d;q;tgim;eek;;;;;sep;nsezui;s;sbp;;orrRSacdt;t;ee;;;;p;" +
+        "psedrt;;;;;s;nts;raonpw;rst;;gl;lttdtt;lx;ose;q;iwwtheteslk;;v;;" +
+        ";;;ropthet;rr;tg;;rcxtsho;;r;r;q;oepd;prgr;;st;;nrgnt;;;;;;e;;ri" +
+        "a;;;e;;el;;;;;;;;sl;r;r;;;trlpqm;refi;;v;;l;;;;trrfguroc;ti;t;sd" +
+        "r;;tlittt;;;;qerlpqm;;;;;;;;qe;rmpmr;es;;mlrr;ro;or;laitaeean;;c" +
+        "hiittnumeltntl;ct;ntwfngADrweRTVtrwlydiiarrqurelipaHly;terewilTV" +
+        "rtrenwecowtlEt;teoARtartthafsMTVesiupen;TseoqrqreliddsTetes;EFTc" +
+        "yekn;sp;ESTolqplolbno;AVaoeetolrynthrctbpiu;EST;;Eecealdt;;cesao" +
+        "rborthBLSTSh;;;;;;;;;;;;;leq;;;s;g;;eaa;;;;tkr;;sia;;ns;ru;go;ut" +
+        ";;erwao;;;;te;iio;;;;xssqt;;at;;;;;;;;woate;;ort;h;arttw;;qwf;a;" +
+        "ohr;;toht;lrdrqqe;;k;;oyr;;;;;o;s;opthieth;;;;;am;t;e;eep;qqoyr;" +
+        ";;qqe;r;;;dlqr;;ei;rnw;o;no;tt;gt;sf;;useCy;t;oait;ntghrot;BU;ie" +
+        "eTVr;lSeualyfulesalalu;IiCTfB;BRneee;AVrcgnVtr;aGqeE;wriAriaAtc;" +
+        ";eheasne;Vti;rwuiuesalGLeerS;EdequiaDQ;et;lqlineuEewilTVrrenweco" +
+        "wioeAAtrleseoaqliq;e;lEe;ekn;rworwoAtaieipSo;;;lnrn;;otrst;ecewi" +
+        "i;w;rorsoat;;s;;ra;torahstx;rerioalr;ntnwto;wt;;o;a;q;qlr;xeon;w" +
+        "oahtgeseli;qqph;;qxeo;;q;ooe;ifgolrsng;nnli;fs;soDQeclaoAARTLRtr" +
+        "wiapgeceeoSm;mllS;alasndcLm;ooi;raigBecreotlVeo;Brrurq;rgrrgrrAe" +
+        "dirtLgne;l;EFGLSTnaaaasndresEiuqstulllouthaual;amiqB;BLneee;rcgn" +
+        "Vtr;ewdrrAoerernlualu;;q;;et;nwi;wrArnplapnegegw;ch;cc;lrtmern;s" +
+        "nls;rranrraqi;;;rg;rei;;g;aw;awl;;ei;qxs;toraaate;ln;;si;;qx;xwf" +
+        "gthwei;;;eeeoe;;nougkADGTlurrieeiAToncrAhVtecwqa;ESmlEt;teeipnmm" +
+        "arg;rVtrcwoeecrarea;uohrohrrr;icnyeeStrdqureliHlnlt;tees;ESlabpu" +
+        ";EST;EaldBuo;enandleluraegBecotlVeo;Bs;;rrrw;sts;;andauthA;u;rr;" +
+        "eadca;due;llr;;;;ei;edolr;;eeoriduorrumohrfglr;r;lfg;;;anrrrriqe" +
+        "ui;;;;nthat;fgqqlrnrtuorwcoriDrrrgefgrewAa;rteoVt;ul;qa;LqeE;;n;" +
+        ";mec;haeoot;r;BEct;BroalawtowtoorukSTrsp;teulesalu;g;eE;asqlense" +
+        "aqliqlEeabtselte;niiarf;rVtwoeecra;oor;e;Eeltela;ermor;reecop;ee" +
+        "ifgsgwei;qwolopwopiewtotherrethiduoprrm;lsl;;etrath;q;qei;eobtai" +
+        "utual;Iooh;thre;rlrVcreoaluleurqeasktccrwo;aqtoa;wt;l;Aw;awwomSp" +
+        "hGsai;alasndmlrqtLuamgerlualu;q;rlei;;E;tblc;taeo;r;BEct;Brwwocq" +
+        "t;E;;lsr;woa;;ew;;dlrfgth;esfg;;w;w;swogs;aw;t;ool;etlopwoooe;;o" +
+        "q;err;t;;fgnulelst;bvdnwwtARto;rBoet;BcrrSalsa;u;;;eAkt;B;rruorr" +
+        ";e;r;r;;wSpair;cclEt;tepe;ueeanelts;andau;e;sq;rikAccr;aqtoa;;;w" +
+        "tu;Eq;io;wt;noeith;t;;th;n;;soa;r;;ww;q;e;w;sowwsn;qor;thtre;;ee" +
+        "leet;;AriAwoawcoat;BeqrSslatreoa;;ar;;rrr;pacneea;qeE;;;BEarsltn" +
+        "e;EeltelaQ;uiberkt;Bruorr;iaqusw;o;wfg;t;;t;;nrr;;;qn;ns;;;;wo;t" +
+        "iIQC;e;;errgr;wr;trroa;ueq;;l;rtrrl;;ooaceSa;lurqaqlGs;Et;BEqt;E" +
+        ";;luaurtreoa;ar;;olua;;rnth;;sro;;s;;w;anuoAgrohr;;o;;rra;u;o;;;" +
+        ";wwce;ptBa;uru;r;q;aqu;Eq;olmi;otrrl;n;al;;;t;ow;;ltoncrowtor;;r" +
+        "aw;;e;aeala;aeuruaqut;;uw;;;;;l;;w;Dettuaw;Aw;er;;crr;llaa;aluae" +
+        "m;;;;geotl;r;;ee;;;;tll;al;;r;ue;r;;e;;l;ar;or;lIw;;n;tegral;").toCharArray ();
+
+    private static final char[] edgeTarget = (
+        "\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\n\u000b\u000c" +
+        "\r\u000e\u000f\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017\u0018" +
+        "\u0019\u001a\u001b\u001c\u001d\u001e\u001f !\"#$%&'()*+,-./01234" +
+        "56789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrs" +
+        "tuvwxyz{|}~\u007f\u0080\u0081\u0082\u0083\u0084\u0085\u0086\u0087" +
+        "\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f\u0090\u0091\u0092" +
+        "\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009b\u009c\u009d" +
+        "\u009e\u009f\u00a0\u00a1\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8" +
+        "\u00a9\u00aa\u00ab\u00ac\u00ad\u00ae\u00af\u00b0\u00b1\u00b2\u00b3" +
+        "\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bb\u00bc\u00bd\u00be" +
+        "\u00bf\u00c0\u00c1\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9" +
+        "\u00ca\u00cb\u00cc\u00cd\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4" +
+        "\u00d5\u00d6\u00d7\u00d8\u00d9\u00da\u00db\u00dc\u00dd\u00de\u00df" +
+        "\u00e0\u00e1\u00e2\u00e3\u00e4\u00e5\u00e6\u00e7\u00e8\u00e9\u00ea" +
+        "\u00eb\u00ec\u00ed\u00ee\u00ef\u00f0\u00f1\u00f2\u00f3\u00f4\u00f5" +
+        "\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb\u00fc\u00fd\u00fe\u00ff\u0100" +
+        "\u0101\u0102\u0103\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b" +
+        "\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113\u0114\u0115\u0116" +
+        "\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121" +
+        "\u0122\u0123\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c" +
+        "\u012d\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137" +
+        "\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142" +
+        "\u0143\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d" +
+        "\u014e\u014f\u0150\u0151\u0152\u0153\u0154\u0155\u0156\u0157\u0158" +
+        "\u0159\u015a\u015b\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163" +
+        "\u0164\u0165\u0166\u0167\u0168\u0169\u016a\u016b\u016c\u016d\u016e" +
+        "\u016f\u0170\u0171\u0172\u0173\u0174\u0175\u0176\u0177\u0178\u0179" +
+        "\u017a\u017b\u017c\u017d\u017e\u017f\u0180\u0181\u0182\u0183\u0184" +
+        "\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f" +
+        "\u0190\u0191\u0192\u0193\u0194\u0195\u0196\u0197\u0198\u0199\u019a" +
+        "\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3\u01a4\u01a5" +
+        "\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af\u01b0" +
+        "\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb" +
+        "\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3\u01c4\u01c5\u01c6" +
+        "\u01c7\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1" +
+        "\u01d2\u01d3\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc" +
+        "\u01dd\u01de\u01df\u01e0\u01e1\u01e2\u01e3\u01e4\u01e5\u01e6\u01e7" +
+        "\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2" +
+        "\u01f3\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd" +
+        "\u01fe\u01ff\u0200\u0201\u0202\u0203\u0204\u0205\u0206\u0207\u0208" +
+        "\u0209\u020a\u020b\u020c\u020d\u020e\u020f\u0210\u0211\u0212\u0213" +
+        "\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b\u021c\u021d\u021e" +
+        "\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226\u0227\u0228\u0229" +
+        "\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233\u0234" +
+        "\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f" +
+        "\u0240\u0241\u0242\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a" +
+        "\u024b\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253\u0254\u0255" +
+        "\u0256\u0257\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260" +
+        "\u0261\u0262\u0263\u0264\u0265\u0266\u0267\u0268\u0269\u026a\u026b" +
+        "\u026c\u026d\u026e\u026f\u0270\u0271\u0272\u0273\u0274\u0275\u0276" +
+        "\u0277\u0278\u0279\u027a\u027b\u027c\u027d\u027e\u027f\u0280\u0281" +
+        "\u0282\u0283\u0284\u0285\u0286\u0287\u0288\u0289\u028a\u028b\u028c" +
+        "\u028d\u028e\u028f\u0290\u0291\u0292\u0293\u0294\u0295\u0296\u0297" +
+        "\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1\u02a2" +
+        "\u02a3\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u02ad" +
+        "\u02ae\u02af\u02b0\u02b1\u02b2\u02b3\u02b4\u02b5\u02b6\u02b7\u02b8" +
+        "\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3" +
+        "\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce" +
+        "\u02cf\u02d0\u02d1\u02d2\u02d3\u02d4\u02d5\u02d6\u02d7\u02d8\u02d9" +
+        "\u02da\u02db\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4" +
+        "\u02e5\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef" +
+        "\u02f0\u02f1\u02f2\u02f3\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa" +
+        "\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\u0301\u0302\u0303\u0304\u0305" +
+        "\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310" +
+        "\u0311\u0312\u0313\u0314\u0315\u0316\u0317\u0318\u0319\u031a\u031b" +
+        "\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323\u0324\u0325\u0326" +
+        "\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331" +
+        "\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\u033b\u033c" +
+        "\u033d\u033e\u033f\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347" +
+        "\u0348\u0349\u034a\u034b\u034c\u034d\u034e\u034f\u0350\u0351\u0352" +
+        "\u0353\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d" +
+        "\u035e\u035f\u0360\u0361\u0362\u0363\u0364\u0365\u0366\u0367\u0368" +
+        "\u0369\u036a\u036b\u036c\u036d\u036e\u036f\u0370\u0371\u0372\u0373" +
+        "\u0374\u0375\u0376\u0377\u0378\u0379\u037a\u037b\u037c\u037d\u037e" +
+        "\u037f\u0380\u0381\u0382\u0383\u0384\u0385\u0386\u0387\u0388\u0389" +
+        "\u038a\u038b\u038c\u038d\u038e\u038f\u0390\u0391\u0392\u0393\u0394" +
+        "\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f" +
+        "\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u03aa" +
+        "\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2\u03b3\u03b4\u03b5" +
+        "\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0" +
+        "\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb" +
+        "\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3\u03d4\u03d5\u03d6" +
+        "\u03d7\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1" +
+        "\u03e2\u03e3\u03e4\u03e5\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec" +
+        "\u03ed\u03ee\u03ef\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7" +
+        "\u03f8\u03f9\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402" +
+        "\u0403\u0404\u0405\u0406\u0407\u0408\u0409\u040a\u040b\u040c\u040d" +
+        "\u040e\u040f\u0410\u0411\u0412\u0413\u0414\u0415\u0416\u0417\u0418" +
+        "\u0419\u041a\u041b\u041c\u041d\u041e\u041f\u0420\u0421\u0422\u0423" +
+        "\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e" +
+        "\u042f\u0430\u0431\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439" +
+        "\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441\u0442\u0443\u0444" +
+        "\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f" +
+        "\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a" +
+        "\u045b\u045c\u045d\u045e\u045f\u0460\u0461\u0462\u0463\u0464\u0465" +
+        "\u0466\u0467\u0468\u0469\u046a\u046b\u046c\u046d\u046e\u046f\u0470" +
+        "\u0471\u0472\u0473\u0474\u0475\u0476\u0477\u0478\u0479\u047a\u047b" +
+        "\u047c\u047d\u047e\u047f\u0480\u0481\u0482\u0483\u0484\u0485\u0486" +
+        "\u0487\u0488\u0489\u048a\u048b\u048c\u048d\u048e\u048f\u0490\u0491" +
+        "\u0492\u0493\u0494\u0495\u0496\u0497\u0498\u0499\u049a\u049b\u049c" +
+        "\u049d\u049e\u049f\u04a0\u04a1\u04a2\u04a3\u04a4\u04a5\u04a6\u04a7" +
+        "\u04a8\u04a9\u04aa\u04ab\u04ac\u04ad\u04ae\u04af\u04b0\u04b1\u04b2" +
+        "\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8\u04b9\u04ba\u04bb\u04bc\u04bd" +
+        "\u04be\u04bf\u04c0\u04c1\u04c2\u04c3\u04c4\u04c5\u04c6\u04c7\u04c8" +
+        "\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1\u04d2\u04d3" +
+        "\u04d4\u04d5\u04d6\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de" +
+        "\u04df\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5\u04e6\u04e7\u04e8\u04e9" +
+        "\u04ea\u04eb\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1\u04f2\u04f3\u04f4" +
+        "\u04f5\u04f6\u04f7\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff" +
+        "\u0500\u0501\u0502\u0503\u0504\u0505\u0506\u0507\u0508\u0509\u050a" +
+        "\u050b\u050c\u050d\u050e\u050f\u0510\u0511\u0512\u0513\u0514\u0515" +
+        "\u0516\u0517\u0518\u0519\u051a\u051b\u051c\u051d\u051e\u051f\u0520" +
+        "\u0521\u0522\u0523\u0524\u0525\u0526\u0527\u0528\u0529\u052a\u052b" +
+        "\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0533\u0534\u0535\u0536" +
+        "\u0537\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f\u0540\u0541" +
+        "\u0542\u0543\u0544\u0545\u0546\u0547\u0548\u0549\u054a\u054b\u054c" +
+        "\u054d\u054e\u054f\u0550\u0551\u0552\u0553\u0554\u0555\u0556\u0557" +
+        "\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561\u0562" +
+        "\u0563\u0564\u0565\u0566\u0567\u0568\u0569\u056a\u056b\u056c\u056d" +
+        "\u056e\u056f\u0570\u0571\u0572\u0573\u0574\u0575\u0576\u0577\u0578" +
+        "\u0579\u057a\u057b\u057c\u057d\u057e\u057f\u0580\u0581\u0582\u0583" +
+        "\u0584\u0585\u0586\u0587\u0588\u0589\u058a\u058b\u058c\u058d\u058e" +
+        "\u058f\u0590\u0591\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599" +
+        "\u059a\u059b\u059c\u059d\u059e\u059f\u05a0\u05a1\u05a2\u05a3\u05a4" +
+        "\u05a5\u05a6\u05a7\u05a8\u05a9\u05aa\u05ab\u05ac\u05ad\u05ae\u05af" +
+        "\u05b0\u05b1\u05b2\u05b3\u05b4\u05b5\u05b6\u05b7\u05b8\u05b9\u05ba" +
+        "\u05bb\u05bc\u05bd\u05be\u05bf\u05c0\u05c1\u05c2\u05c3\u05c4\u05c5" +
+        "\u05c6\u05c7\u05c8\u05c9\u05ca\u05cb\u05cc\u05cd\u05ce\u05cf\u05d0" +
+        "\u05d1\u05d2\u05d3\u05d4\u05d5\u05d6\u05d7\u05d8\u05d9\u05da\u05db" +
+        "\u05dc\u05dd\u05de\u05df\u05e0\u05e1\u05e2\u05e3\u05e4\u05e5\u05e6" +
+        "\u05e7\u05e8\u05e9\u05ea\u05eb\u05ec\u05ed\u05ee\u05ef\u05f0\u05f1" +
+        "\u05f2\u05f3\u05f4\u05f5\u05f6\u05f7\u05f8\u05f9\u05fa\u05fb\u05fc" +
+        "\u05fd\u05fe\u05ff\u0600\u0601\u0602\u0603\u0604\u0605\u0606\u0607" +
+        "\u0608\u0609\u060a\u060b\u060c\u060d\u060e\u060f\u0610\u0611\u0612" +
+        "\u0613\u0614\u0615\u0616\u0617\u0618\u0619\u061a\u061b\u061c\u061d" +
+        "\u061e\u061f\u0620\u0621\u0622\u0623\u0624\u0625\u0626\u0627\u0628" +
+        "\u0629\u062a\u062b\u062c\u062d\u062e\u062f\u0630\u0631\u0632\u0633" +
+        "\u0634\u0635\u0636\u0637\u0638\u0639\u063a\u063b\u063c\u063d\u063e" +
+        "\u063f\u0640\u0641\u0642\u0643\u0644\u0645\u0646\u0647\u0648\u0649" +
+        "\u064a\u064b\u064c\u064d\u064e\u064f\u0650\u0651\u0652\u0653\u0654" +
+        "\u0655\u0656\u0657\u0658\u0659\u065a\u065b\u065c\u065d\u065e\u065f" +
+        "\u0660\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u066a" +
+        "\u066b\u066c\u066d\u066e\u066f\u0670\u0671\u0672\u0673\u0674\u0675" +
+        "\u0676\u0677\u0678\u0679\u067a\u067b\u067c\u067d\u067e\u067f\u0680" +
+        "\u0681\u0682\u0683\u0684\u0685\u0686\u0687\u0688\u0689\u068a\u068b" +
+        "\u068c\u068d\u068e\u068f\u0690\u0691\u0692\u0693\u0694\u0695\u0696" +
+        "\u0697\u0698\u0699\u069a\u069b\u069c\u069d\u069e\u069f\u06a0\u06a1" +
+        "\u06a2\u06a3\u06a4\u06a5\u06a6\u06a7\u06a8\u06a9\u06aa\u06ab\u06ac" +
+        "\u06ad\u06ae\u06af\u06b0\u06b1\u06b2\u06b3\u06b4\u06b5\u06b6\u06b7" +
+        "\u06b8\u06b9\u06ba\u06bb\u06bc\u06bd\u06be\u06bf\u06c0\u06c1\u06c2" +
+        "\u06c3\u06c4\u06c5\u06c6\u06c7\u06c8\u06c9\u06ca\u06cb\u06cc\u06cd" +
+        "\u06ce\u06cf\u06d0\u06d1\u06d2\u06d3\u06d4\u06d5\u06d6\u06d7\u06d8" +
+        "\u06d9\u06da\u06db\u06dc\u06dd\u06de\u06df\u06e0\u06e1\u06e2\u06e3" +
+        "\u06e4\u06e5\u06e6\u06e7\u06e8\u06e9\u06ea\u06eb\u06ec\u06ed\u06ee" +
+        "\u06ef\u06f0\u06f1\u06f2\u06f3\u06f4\u06f5\u06f6\u06f7\u06f8\u06f9" +
+        "\u06fa\u06fb\u06fc\u06fd\u06fe\u06ff\u0700\u0701\u0702\u0703\u0704" +
+        "\u0705\u0706\u0707\u0708\u0709\u070a\u070b\u070c\u070d\u070e\u070f" +
+        "\u0710\u0711\u0712\u0713\u0714\u0715\u0716\u0717\u0718\u0719\u071a" +
+        "\u071b\u071c\u071d\u071e\u071f\u0720\u0721\u0722\u0723\u0724\u0725" +
+        "\u0726\u0727\u0728\u0729\u072a\u072b\u072c\u072d\u072e\u072f\u0730" +
+        "\u0731\u0732\u0733\u0734\u0735\u0736\u0737\u0738\u0739\u073a\u073b" +
+        "\u073c\u073d\u073e\u073f\u0740\u0741\u0742\u0743\u0744\u0745\u0746" +
+        "\u0747\u0748\u0749\u074a\u074b\u074c\u074d\u074e\u074f\u0750\u0751" +
+        "\u0752\u0753\u0754\u0755\u0756\u0757\u0758\u0759\u075a\u075b\u075c" +
+        "\u075d\u075e\u075f\u0760\u0761\u0762\u0763\u0764\u0765\u0766\u0767" +
+        "\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771\u0772" +
+        "\u0773\u0774\u0775\u0776\u0777\u0778\u0779\u077a\u077b\u077c\u077d" +
+        "\u077e\u077f\u0780\u0781\u0782\u0783\u0784\u0785\u0786\u0787\u0788" +
+        "\u0789\u078a\u078b\u078c\u078d\u078e\u078f\u0790\u0791\u0792\u0793" +
+        "\u0794\u0795\u0796\u0797\u0798\u0799\u079a\u079b\u079c\u079d\u079e" +
+        "\u079f\u07a0\u07a1\u07a2\u07a3\u07a4\u07a5\u07a6\u07a7\u07a8\u07a9" +
+        "\u07aa\u07ab\u07ac\u07ad\u07ae\u07af\u07b0\u07b1\u07b2\u07b3\u07b4" +
+        "\u07b5\u07b6\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc\u07bd\u07be\u07bf" +
+        "\u07c0\u07c1\u07c2\u07c3\u07c4\u07c5\u07c6\u07c7\u07c8\u07c9\u07ca" +
+        "\u07cb\u07cc\u07cd\u07ce\u07cf\u07d0\u07d1\u07d2\u07d3\u07d4\u07d5" +
+        "\u07d6\u07d7\u07d8\u07d9\u07da\u07db\u07dc\u07dd\u07de\u07df\u07e0" +
+        "\u07e1\u07e2\u07e3\u07e4\u07e5\u07e6\u07e7\u07e8\u07e9\u07ea\u07eb" +
+        "\u07ec\u07ed\u07ee\u07ef\u07f0\u07f1\u07f2\u07f3\u07f4\u07f5\u07f6" +
+        "\u07f7\u07f8\u07f9\u07fa\u07fb\u07fc\u07fd\u07fe\u07ff\u0800\u0801" +
+        "\u0802\u0803\u0804\u0805\u0806\u0807\u0808\u0809\u080a\u080b\u080c" +
+        "\u080d\u080e\u080f\u0810\u0811\u0812\u0813\u0814\u0815\u0816\u0817" +
+        "\u0818\u0819\u081a\u081b\u081c\u081d\u081e\u081f\u0820\u0821\u0822" +
+        "\u0823\u0824\u0825\u0826\u0827\u0828\u0829\u082a\u082b\u082c\u082d" +
+        "\u082e\u082f\u0830\u0831\u0832\u0833\u0834\u0835\u0836\u0837\u0838" +
+        "\u0839\u083a\u083b\u083c\u083d\u083e\u083f\u0840\u0841\u0842\u0843" +
+        "\u0844\u0845\u0846\u0847\u0848\u0849\u084a\u084b\u084c\u084d\u084e" +
+        "\u084f\u0850\u0851\u0852\u0853\u0854\u0855\u0856\u0857\u0858\u0859" +
+        "\u085a\u085b\u085c\u085d\u085e\u085f\u0860\u0861\u0862\u0863\u0864" +
+        "\u0865\u0866\u0867\u0868\u0869\u086a\u086b\u086c\u086d\u086e\u086f" +
+        "\u0870\u0871\u0872\u0873\u0874\u0875\u0876\u0877\u0878\u0879\u087a" +
+        "\u087b\u087c\u087d\u087e\u087f\u0880\u0881\u0882\u0883\u0884\u0885" +
+        "\u0886\u0887\u0888\u0889\u088a\u088b\u088c\u088d\u088e\u088f\u0890" +
+        "\u0891\u0892\u0893\u0894\u0895\u0896\u0897\u0898\u0899\u089a\u089b" +
+        "\u089c\u089d\u089e\u089f\u08a0\u08a1\u08a2\u08a3\u08a4\u08a5\u08a6" +
+        "\u08a7\u08a8\u08a9\u08aa\u08ab\u08ac\u08ad\u08ae\u08af\u08b0\u08b1" +
+        "\u08b2\u08b3\u08b4\u08b5\u08b6\u08b7\u08b8\u08b9\u08ba\u08bb\u08bc" +
+        "\u08bd\u08be\u08bf\u08c0\u08c1\u08c2\u08c3\u08c4\u08c5\u08c6\u08c7" +
+        "\u08c8\u08c9\u08ca\u08cb\u08cc\u08cd\u08ce\u08cf\u08d0\u08d1\u08d2" +
+        "\u08d3\u08d4\u08d5\u08d6\u08d7\u08d8\u08d9\u08da\u08db\u08dc\u08dd" +
+        "\u08de\u08df\u08e0\u08e1\u08e2\u08e3\u08e4\u08e5\u08e6\u08e7\u08e8" +
+        "\u08e9\u08ea\u08eb\u08ec\u08ed\u08ee\u08ef\u08f0\u08f1\u08f2\u08f3" +
+        "\u08f4\u08f5\u08f6\u08f7\u08f8\u08f9\u08fa\u08fb\u08fc\u08fd\u08fe" +
+        "\u08ff\u0900\u0901\u0902\u0903\u0904\u0905\u0906\u0907\u0908\u0909" +
+        "\u090a\u090b\u090c\u090d\u090e\u090f\u0910\u0911\u0912\u0913\u0914" +
+        "\u0915\u0916\u0917\u0918\u0919\u091a\u091b\u091c\u091d\u091e\u091f" +
+        "\u0920\u0921\u0922\u0923\u0924\u0925\u0926\u0927\u0928\u0929\u092a" +
+        "\u092b\u092c\u092d\u092e\u092f\u0930\u0931\u0932\u0933\u0934\u0935" +
+        "\u0936\u0937\u0938\u0939\u093a\u093b\u093c\u093d\u093e\u093f\u0940" +
+        "\u0941\u0942\u0943\u0944\u0945\u0946\u0947\u0948\u0949\u094a\u094b" +
+        "\u094c\u094d\u094e\u094f\u0950\u0951\u0952\u0953\u0954\u0955\u0956" +
+        "\u0957\u0958\u0959\u095a\u095b\u095c\u095d\u095e\u095f\u0960\u0961" +
+        "\u0962\u0963\u0964\u0965\u0966\u0967\u0968\u0969\u096a\u096b\u096c" +
+        "\u096d\u096e\u096f\u0970\u0971\u0972\u0973\u0974\u0975\u0976\u0977" +
+        "\u0978\u0979\u097a\u097b\u097c\u097d\u097e\u097f\u0980\u0981\u0982" +
+        "\u0983\u0984\u0985\u0986\u0987\u0988\u0989\u098a\u098b\u098c\u098d" +
+        "\u098e\u098f\u0990\u0991\u0992\u0993\u0994\u0995\u0996\u0997\u0998" +
+        "\u0999\u099a\u099b\u099c\u099d\u099e\u099f\u09a0\u09a1\u09a2\u09a3" +
+        "\u09a4\u09a5\u09a6\u09a7\u09a8\u09a9\u09aa\u09ab\u09ac\u09ad\u09ae" +
+        "\u09af\u09b0\u09b1\u09b2\u09b3\u09b4\u09b5\u09b6\u09b7\u09b8\u09b9" +
+        "\u09ba\u09bb\u09bc\u09bd\u09be\u09bf\u09c0\u09c1\u09c2\u09c3\u09c4" +
+        "\u09c5\u09c6\u09c7\u09c8\u09c9\u09ca\u09cb\u09cc\u09cd\u09ce\u09cf" +
+        "\u09d0\u09d1\u09d2\u09d3\u09d4\u09d5\u09d6\u09d7\u09d8\u09d9\u09da" +
+        "\u09db\u09dc\u09dd\u09de\u09df\u09e0\u09e1\u09e2\u09e3\u09e4\u09e5" +
+        "\u09e6\u09e7\u09e8\u09e9\u09ea\u09eb\u09ec\u09ed\u09ee\u09ef\u09f0" +
+        "\u09f1\u09f2\u09f3\u09f4\u09f5\u09f6\u09f7\u09f8\u09f9\u09fa\u09fb" +
+        "\u09fc\u09fd\u09fe\u09ff\u0a00\u0a01\u0a02\u0a03\u0a04\u0a05\u0a06" +
+        "\u0a07\u0a08\u0a09\u0a0a\u0a0b\u0a0c\u0a0d\u0a0e\u0a0f\u0a10\u0a11" +
+        "\u0a12\u0a13\u0a14\u0a15\u0a16\u0a17\u0a18\u0a19\u0a1a\u0a1b\u0a1c" +
+        "\u0a1d\u0a1e\u0a1f\u0a20\u0a21\u0a22\u0a23\u0a24\u0a25\u0a26\u0a27" +
+        "\u0a28\u0a29\u0a2a\u0a2b\u0a2c\u0a2d\u0a2e\u0a2f\u0a30\u0a31\u0a32" +
+        "\u0a33\u0a34\u0a35\u0a36\u0a37\u0a38\u0a39\u0a3a\u0a3b\u0a3c\u0a3d" +
+        "\u0a3e\u0a3f\u0a40\u0a41\u0a42\u0a43\u0a44\u0a45\u0a46\u0a47\u0a48" +
+        "\u0a49\u0a4a\u0a4b\u0a4c\u0a4d\u0a4e\u0a4f\u0a50\u0a51\u0a52\u0a53" +
+        "\u0a54\u0a55\u0a56\u0a57\u0a58\u0a59\u0a5a\u0a5b\u0a5c\u0a5d\u0a5e" +
+        "\u0a5f\u0a60\u0a61\u0a62\u0a63\u0a64\u0a65\u0a66\u0a67\u0a68\u0a69" +
+        "\u0a6a\u0a6b\u0a6c\u0a6d\u0a6e\u0a6f\u0a70\u0a71\u0a72\u0a73\u0a74" +
+        "\u0a75\u0a76\u0a77\u0a78\u0a79\u0a7a\u0a7b\u0a7c\u0a7d\u0a7e\u0a7f" +
+        "\u0a80\u0a81\u0a82\u0a83\u0a84\u0a85\u0a86\u0a87\u0a88\u0a89\u0a8a" +
+        "\u0a8b\u0a8c\u0a8d\u0a8e\u0a8f\u0a90\u0a91\u0a92\u0a93\u0a94\u0a95" +
+        "\u0a96\u0a97\u0a98\u0a99\u0a9a\u0a9b\u0a9c\u0a9d\u0a9e\u0a9f\u0aa0" +
+        "\u0aa1\u0aa2\u0aa3\u0aa4\u0aa5\u0aa6\u0aa7\u0aa8\u0aa9\u0aaa\u0aab" +
+        "\u0aac\u0aad\u0aae\u0aaf\u0ab0\u0ab1\u0ab2\u0ab3\u0ab4\u0ab5\u0ab6" +
+        "\u0ab7\u0ab8\u0ab9\u0aba\u0abb\u0abc\u0abd\u0abe\u0abf\u0ac0\u0ac1" +
+        "\u0ac2\u0ac3\u0ac4\u0ac5\u0ac6\u0ac7\u0ac8\u0ac9\u0aca\u0acb\u0acc" +
+        "\u0acd\u0ace\u0acf\u0ad0\u0ad1\u0ad2\u0ad3\u0ad4\u0ad5\u0ad6\u0ad7" +
+        "\u0ad8\u0ad9\u0ada\u0adb\u0adc\u0add\u0ade\u0adf\u0ae0\u0ae1\u0ae2" +
+        "\u0ae3\u0ae4\u0ae5\u0ae6\u0ae7\u0ae8\u0ae9\u0aea\u0aeb\u0aec\u0aed" +
+        "\u0aee\u0aef\u0af0\u0af1\u0af2\u0af3\u0af4\u0af5\u0af6\u0af7\u0af8" +
+        "\u0af9\u0afa\u0afb\u0afc\u0afd\u0afe\u0aff\u0b00\u0b01\u0b02\u0b03" +
+        "\u0b04\u0b05\u0b06\u0b07\u0b08\u0b09\u0b0a\u0b0b\u0b0c\u0b0d\u0b0e" +
+        "\u0b0f\u0b10\u0b11\u0b12\u0b13\u0b14\u0b15\u0b16\u0b17\u0b18\u0b19" +
+        "\u0b1a\u0b1b\u0b1c\u0b1d\u0b1e\u0b1f\u0b20\u0b21\u0b22\u0b23\u0b24" +
+        "\u0b25\u0b26\u0b27\u0b28\u0b29\u0b2a\u0b2b\u0b2c\u0b2d\u0b2e\u0b2f" +
+        "\u0b30\u0b31\u0b32\u0b33\u0b34\u0b35\u0b36\u0b37\u0b38\u0b39\u0b3a" +
+        "\u0b3b\u0b3c\u0b3d\u0b3e\u0b3f\u0b40\u0b41\u0b42\u0b43\u0b44\u0b45" +
+        "\u0b46\u0b47\u0b48\u0b49\u0b4a\u0b4b\u0b4c\u0b4d\u0b4e\u0b4f\u0b50" +
+        "\u0b51\u0b52\u0b53\u0b54\u0b55\u0b56\u0b57\u0b58\u0b59\u0b5a\u0b5b" +
+        "\u0b5c\u0b5d\u0b5e\u0b5f\u0b60\u0b61\u0b62\u0b63\u0b64\u0b65\u0b66" +
+        "\u0b67\u0b68\u0b69\u0b6a\u0b6b\u0b6c\u0b6d\u0b6e\u0b6f\u0b70\u0b71" +
+        "\u0b72\u0b73\u0b74\u0b75\u0b76\u0b77\u0b78\u0b79\u0b7a\u0b7b\u0b7c" +
+        "\u0b7d\u0b7e\u0b7f\u0b80\u0b81\u0b82\u0b83\u0b84\u0b85\u0b86\u0b87" +
+        "\u0b88\u0b89\u0b8a\u0b8b\u0b8c\u0b8d\u0b8e\u0b8f\u0b90\u0b91\u0b92" +
+        "\u0b93\u0b94\u0b95\u0b96\u0b97\u0b98\u0b99\u0b9a\u0b9b\u0b9c\u0b9d" +
+        "\u0b9e\u0b9f\u0ba0\u0ba1\u0ba2\u0ba3\u0ba4\u0ba5\u0ba6\u0ba7\u0ba8" +
+        "\u0ba9\u0baa\u0bab\u0bac\u0bad\u0bae\u0baf\u0bb0\u0bb1\u0bb2\u0bb3" +
+        "\u0bb4\u0bb5\u0bb6\u0bb7\u0bb8\u0bb9\u0bba\u0bbb\u0bbc\u0bbd\u0bbe" +
+        "\u0bbf\u0bc0\u0bc1\u0bc2\u0bc3\u0bc4\u0bc5\u0bc6\u0bc7\u0bc8\u0bc9" +
+        "\u0bca\u0bcb\u0bcc\u0bcd\u0bce\u0bcf\u0bd0\u0bd1\u0bd2\u0bd3\u0bd4" +
+        "\u0bd5\u0bd6\u0bd7\u0bd8\u0bd9\u0bda\u0bdb\u0bdc\u0bdd\u0bde\u0bdf" +
+        "\u0be0\u0be1\u0be2\u0be3\u0be4\u0be5\u0be6\u0be7\u0be8\u0be9\u0bea" +
+        "\u0beb\u0bec\u0bed\u0bee\u0bef\u0bf0\u0bf1\u0bf2\u0bf3\u0bf4\u0bf5" +
+        "\u0bf6\u0bf7\u0bf8\u0bf9\u0bfa\u0bfb\u0bfc\u0bfd\u0bfe\u0bff\u0c00" +
+        "\u0c01\u0c02\u0c03\u0c04\u0c05\u0c06\u0c07\u0c08\u0c09\u0c0a\u0c0b" +
+        "\u0c0c\u0c0d\u0c0e\u0c0f\u0c10\u0c11\u0c12\u0c13\u0c14\u0c15\u0c16" +
+        "\u0c17\u0c18\u0c19\u0c1a\u0c1b\u0c1c\u0c1d\u0c1e\u0c1f\u0c20\u0c21" +
+        "\u0c22\u0c23\u0c24\u0c25\u0c26\u0c27\u0c28\u0c29\u0c2a\u0c2b\u0c2c" +
+        "\u0c2d\u0c2e\u0c2f\u0c30\u0c31\u0c32\u0c33\u0c34\u0c35\u0c36\u0c37" +
+        "\u0c38\u0c39\u0c3a\u0c3b\u0c3c\u0c3d\u0c3e\u0c3f\u0c40\u0c41\u0c42" +
+        "\u0c43\u0c44\u0c45\u0c46\u0c47\u0c48\u0c49\u0c4a\u0c4b\u0c4c\u0c4d" +
+        "\u0c4e\u0c4f\u0c50\u0c51\u0c52\u0c53\u0c54\u0c55\u0c56\u0c57\u0c58" +
+        "\u0c59\u0c5a\u0c5b\u0c5c\u0c5d\u0c5e\u0c5f\u0c60\u0c61\u0c62\u0c63" +
+        "\u0c64\u0c65\u0c66\u0c67\u0c68\u0c69\u0c6a\u0c6b\u0c6c\u0c6d\u0c6e" +
+        "\u0c6f\u0c70\u0c71\u0c72\u0c73\u0c74\u0c75\u0c76\u0c77\u0c78\u0c79" +
+        "\u0c7a\u0c7b\u0c7c\u0c7d\u0c7e\u0c7f\u0c80\u0c81\u0c82\u0c83\u0c84" +
+        "\u0c85\u0c86\u0c87\u0c88\u0c89\u0c8a\u0c8b\u0c8c\u0c8d\u0c8e\u0c8f" +
+        "\u0c90\u0c91\u0c92\u0c93\u0c94\u0c95\u0c96\u0c97\u0c98\u0c99\u0c9a" +
+        "\u0c9b\u0c9c\u0c9d\u0c9e\u0c9f\u0ca0\u0ca1\u0ca2\u0ca3\u0ca4\u0ca5" +
+        "\u0ca6\u0ca7\u0ca8\u0ca9\u0caa\u0cab\u0cac\u0cad\u0cae\u0caf\u0cb0" +
+        "\u0cb1\u0cb2\u0cb3\u0cb4\u0cb5\u0cb6\u0cb7\u0cb8\u0cb9\u0cba\u0cbb" +
+        "\u0cbc\u0cbd\u0cbe\u0cbf\u0cc0\u0cc1\u0cc2\u0cc3\u0cc4\u0cc5\u0cc6" +
+        "\u0cc7\u0cc8\u0cc9\u0cca\u0ccb\u0ccc\u0ccd\u0cce\u0ccf\u0cd0\u0cd1" +
+        "\u0cd2\u0cd3\u0cd4\u0cd5\u0cd6\u0cd7\u0cd8\u0cd9\u0cda\u0cdb\u0cdc" +
+        "\u0cdd\u0cde\u0cdf\u0ce0\u0ce1\u0ce2\u0ce3\u0ce4\u0ce5\u0ce6\u0ce7" +
+        "\u0ce8\u0ce9\u0cea\u0ceb\u0cec\u0ced\u0cee\u0cef\u0cf0\u0cf1\u0cf2" +
+        "\u0cf3\u0cf4\u0cf5\u0cf6\u0cf7\u0cf8\u0cf9\u0cfa\u0cfb\u0cfc\u0cfd" +
+        "\u0cfe\u0cff\u0d00\u0d01\u0d02\u0d03\u0d04\u0d05\u0d06\u0d07\u0d08" +
+        "\u0d09\u0d0a\u0d0b\u0d0c\u0d0d\u0d0e\u0d0f\u0d10\u0d11\u0d12\u0d13" +
+        "\u0d14\u0d15\u0d16\u0d17\u0d18\u0d19\u0d1a\u0d1b\u0d1c\u0d1d\u0d1e" +
+        "\u0d1f\u0d20\u0d21\u0d22\u0d23\u0d24\u0d25\u0d26\u0d27\u0d28\u0d29" +
+        "\u0d2a\u0d2b\u0d2c\u0d2d\u0d2e\u0d2f\u0d30\u0d31\u0d32\u0d33\u0d34" +
+        "\u0d35\u0d36\u0d37\u0d38\u0d39\u0d3a\u0d3b\u0d3c\u0d3d\u0d3e\u0d3f" +
+        "\u0d40\u0d41\u0d42\u0d43\u0d44\u0d45\u0d46\u0d47\u0d48\u0d49\u0d4a" +
+        "\u0d4b\u0d4c\u0d4d\u0d4e\u0d4f\u0d50\u0d51\u0d52\u0d53\u0d54\u0d55" +
+        "\u0d56\u0d57\u0d58\u0d59\u0d5a\u0d5b\u0d5c\u0d5d\u0d5e\u0d5f\u0d60" +
+        "\u0d61\u0d62\u0d63\u0d64\u0d65\u0d66\u0d67\u0d68\u0d69\u0d6a\u0d6b" +
+        "\u0d6c\u0d6d\u0d6e\u0d6f\u0d70\u0d71\u0d72\u0d73\u0d74\u0d75\u0d76" +
+        "\u0d77\u0d78\u0d79\u0d7a\u0d7b\u0d7c\u0d7d\u0d7e\u0d7f\u0d80\u0d81" +
+        "\u0d82\u0d83\u0d84\u0d85\u0d86\u0d87\u0d88\u0d89\u0d8a\u0d8b\u0d8c" +
+        "\u0d8d\u0d8e\u0d8f\u0d90\u0d91\u0d92\u0d93\u0d94\u0d95\u0d96\u0d97" +
+        "\u0d98\u0d99\u0d9a\u0d9b\u0d9c\u0d9d\u0d9e\u0d9f\u0da0\u0da1\u0da2" +
+        "\u0da3\u0da4\u0da5\u0da6\u0da7\u0da8\u0da9\u0daa\u0dab\u0dac\u0dad" +
+        "\u0dae\u0daf\u0db0\u0db1\u0db2\u0db3\u0db4\u0db5\u0db6\u0db7\u0db8" +
+        "\u0db9\u0dba\u0dbb\u0dbc\u0dbd\u0dbe\u0dbf\u0dc0\u0dc1\u0dc2\u0dc3" +
+        "\u0dc4\u0dc5\u0dc6\u0dc7\u0dc8\u0dc9\u0dca\u0dcb\u0dcc\u0dcd\u0dce" +
+        "\u0dcf\u0dd0\u0dd1\u0dd2\u0dd3\u0dd4\u0dd5\u0dd6\u0dd7\u0dd8\u0dd9" +
+        "\u0dda\u0ddb\u0ddc\u0ddd\u0dde\u0ddf\u0de0\u0de1\u0de2\u0de3\u0de4" +
+        "\u0de5\u0de6\u0de7\u0de8\u0de9\u0dea\u0deb\u0dec\u0ded\u0dee\u0def" +
+        "\u0df0\u0df1\u0df2\u0df3\u0df4\u0df5\u0df6\u0df7\u0df8\u0df9\u0dfa" +
+        "\u0dfb\u0dfc\u0dfd\u0dfe\u0dff\u0e00\u0e01\u0e02\u0e03\u0e04\u0e05" +
+        "\u0e06\u0e07\u0e08\u0e09\u0e0a\u0e0b\u0e0c\u0e0d\u0e0e\u0e0f\u0e10" +
+        "\u0e11\u0e12\u0e13\u0e14\u0e15\u0e16\u0e17\u0e18\u0e19\u0e1a\u0e1b" +
+        "\u0e1c\u0e1d\u0e1e\u0e1f\u0e20\u0e21\u0e22\u0e23\u0e24\u0e25\u0e26" +
+        "\u0e27\u0e28\u0e29\u0e2a\u0e2b\u0e2c\u0e2d\u0e2e\u0e2f\u0e30\u0e31" +
+        "\u0e32\u0e33\u0e34\u0e35\u0e36\u0e37\u0e38\u0e39\u0e3a\u0e3b\u0e3c" +
+        "\u0e3d\u0e3e\u0e3f\u0e40\u0e41\u0e42\u0e43\u0e44\u0e45\u0e46\u0e47" +
+        "\u0e48\u0e49\u0e4a\u0e4b\u0e4c\u0e4d\u0e4e\u0e4f\u0e50\u0e51\u0e52" +
+        "\u0e53\u0e54\u0e55\u0e56\u0e57\u0e58\u0e59\u0e5a\u0e5b\u0e5c\u0e5d" +
+        "\u0e5e\u0e5f\u0e60\u0e61\u0e62\u0e63\u0e64\u0e65\u0e66\u0e67\u0e68" +
+        "\u0e69\u0e6a\u0e6b\u0e6c\u0e6d\u0e6e\u0e6f\u0e70\u0e71\u0e72\u0e73" +
+        "\u0e74\u0e75\u0e76\u0e77\u0e78\u0e79\u0e7a\u0e7b\u0e7c\u0e7d\u0e7e" +
+        "\u0e7f\u0e80\u0e81\u0e82\u0e83\u0e84\u0e85\u0e86\u0e87\u0e88\u0e89" +
+        "\u0e8a\u0e8b\u0e8c\u0e8d\u0e8e\u0e8f\u0e90\u0e91\u0e92\u0e93\u0e94" +
+        "\u0e95\u0e96\u0e97\u0e98\u0e99\u0e9a\u0e9b\u0e9c\u0e9d\u0e9e\u0e9f" +
+        "\u0ea0\u0ea1\u0ea2\u0ea3\u0ea4\u0ea5\u0ea6\u0ea7\u0ea8\u0ea9\u0eaa" +
+        "\u0eab\u0eac\u0ead\u0eae\u0eaf\u0eb0\u0eb1\u0eb2\u0eb3\u0eb4\u0eb5" +
+        "\u0eb6\u0eb7\u0eb8\u0eb9\u0eba\u0ebb\u0ebc\u0ebd\u0ebe\u0ebf\u0ec0" +
+        "\u0ec1\u0ec2\u0ec3\u0ec4\u0ec5\u0ec6\u0ec7\u0ec8\u0ec9\u0eca\u0ecb" +
+        "\u0ecc\u0ecd\u0ece\u0ecf\u0ed0\u0ed1\u0ed2\u0ed3\u0ed4\u0ed5\u0ed6" +
+        "\u0ed7\u0ed8\u0ed9\u0eda\u0edb\u0edc\u0edd\u0ede\u0edf\u0ee0\u0ee1" +
+        "\u0ee2\u0ee3\u0ee4\u0ee5\u0ee6\u0ee7\u0ee8\u0ee9\u0eea\u0eeb\u0eec" +
+        "\u0eed\u0eee\u0eef\u0ef0\u0ef1\u0ef2\u0ef3\u0ef4\u0ef5\u0ef6\u0ef7" +
+        "\u0ef8\u0ef9\u0efa\u0efb\u0efc\u0efd\u0efe\u0eff\u0f00\u0f01\u0f02" +
+        "\u0f03\u0f04\u0f05\u0f06\u0f07\u0f08\u0f09\u0f0a\u0f0b\u0f0c\u0f0d" +
+        "\u0f0e\u0f0f\u0f10\u0f11\u0f12\u0f13\u0f14\u0f15\u0f16\u0f17\u0f18" +
+        "\u0f19\u0f1a\u0f1b\u0f1c\u0f1d\u0f1e\u0f1f\u0f20\u0f21\u0f22\u0f23" +
+        "\u0f24\u0f25\u0f26\u0f27\u0f28\u0f29\u0f2a\u0f2b\u0f2c\u0f2d\u0f2e" +
+        "\u0f2f\u0f30\u0f31\u0f32\u0f33\u0f34\u0f35\u0f36\u0f37\u0f38\u0f39" +
+        "\u0f3a\u0f3b\u0f3c\u0f3d\u0f3e\u0f3f\u0f40\u0f41\u0f42\u0f43\u0f44" +
+        "\u0f45\u0f46\u0f47\u0f48\u0f49\u0f4a\u0f4b\u0f4c\u0f4d\u0f4e\u0f4f" +
+        "\u0f50\u0f51\u0f52\u0f53\u0f54\u0f55\u0f56\u0f57\u0f58\u0f59\u0f5a" +
+        "\u0f5b\u0f5c\u0f5d\u0f5e\u0f5f\u0f60\u0f61\u0f62\u0f63\u0f64\u0f65" +
+        "\u0f66\u0f67\u0f68\u0f69\u0f6a\u0f6b\u0f6c\u0f6d\u0f6e\u0f6f\u0f70" +
+        "\u0f71\u0f72\u0f73\u0f74\u0f75\u0f76\u0f77\u0f78\u0f79\u0f7a\u0f7b" +
+        "\u0f7c\u0f7d\u0f7e\u0f7f\u0f80\u0f81\u0f82\u0f83\u0f84\u0f85\u0f86" +
+        "\u0f87\u0f88\u0f89\u0f8a\u0f8b\u0f8c\u0f8d\u0f8e\u0f8f\u0f90\u0f91" +
+        "\u0f92\u0f93\u0f94\u0f95\u0f96\u0f97\u0f98\u0f99\u0f9a\u0f9b\u0f9c" +
+        "\u0f9d\u0f9e\u0f9f\u0fa0\u0fa1\u0fa2\u0fa3\u0fa4\u0fa5\u0fa6\u0fa7" +
+        "\u0fa8\u0fa9\u0faa\u0fab\u0fac\u0fad\u0fae\u0faf\u0fb0\u0fb1\u0fb2" +
+        "\u0fb3\u0fb4\u0fb5\u0fb6\u0fb7\u0fb8\u0fb9\u0fba\u0fbb\u0fbc\u0fbd" +
+        "\u0fbe\u0fbf\u0fc0\u0fc1\u0fc2\u0fc3\u0fc4\u0fc5\u0fc6\u0fc7\u0fc8" +
+        "\u0fc9\u0fca\u0fcb\u0fcc\u0fcd\u0fce\u0fcf\u0fd0\u0fd1\u0fd2\u0fd3" +
+        "\u0fd4\u0fd5\u0fd6\u0fd7\u0fd8\u0fd9\u0fda\u0fdb\u0fdc\u0fdd\u0fde" +
+        "\u0fdf\u0fe0\u0fe1\u0fe2\u0fe3\u0fe4\u0fe5\u0fe6\u0fe7\u0fe8\u0fe9" +
+        "\u0fea\u0feb\u0fec\u0fed\u0fee\u0fef\u0ff0\u0ff1\u0ff2\u0ff3\u0ff4" +
+        "\u0ff5\u0ff6\u0ff7\u0ff8\u0ff9\u0ffa\u0ffb\u0ffc\u0ffd\u0ffe\u0fff" +
+        "\u1000\u1001\u1002\u1003\u1004\u1005\u1006\u1007\u1008\u1009\u100a" +
+        "\u100b\u100c\u100d\u100e\u100f\u1010\u1011\u1012\u1013\u1014\u1015" +
+        "\u1016\u1017\u1018\u1019\u101a\u101b\u101c\u101d\u101e\u101f\u1020" +
+        "\u1021\u1022\u1023\u1024\u1025\u1026\u1027\u1028\u1029\u102a\u102b" +
+        "\u102c\u102d\u102e\u102f\u1030\u1031\u1032\u1033\u1034\u1035\u1036" +
+        "\u1037\u1038\u1039\u103a\u103b\u103c\u103d\u103e\u103f\u1040\u1041" +
+        "\u1042\u1043\u1044\u1045\u1046\u1047\u1048\u1049\u104a\u104b\u104c" +
+        "\u104d\u104e\u104f\u1050\u1051\u1052\u1053\u1054\u1055\u1056\u1057" +
+        "\u1058\u1059\u105a\u105b\u105c\u105d\u105e\u105f\u1060\u1061\u1062" +
+        "\u1063\u1064\u1065\u1066\u1067\u1068\u1069\u106a\u106b\u106c\u106d" +
+        "\u106e\u106f\u1070\u1071\u1072\u1073\u1074\u1075\u1076\u1077\u1078" +
+        "\u1079\u107a\u107b\u107c\u107d\u107e\u107f\u1080\u1081\u1082\u1083" +
+        "\u1084\u1085\u1086\u1087\u1088\u1089\u108a\u108b\u108c\u108d\u108e" +
+        "\u108f\u1090\u1091\u1092\u1093\u1094\u1095\u1096\u1097\u1098\u1099" +
+        "\u109a\u109b\u109c\u109d\u109e\u109f\u10a0\u10a1\u10a2\u10a3\u10a4" +
+        "\u10a5\u10a6\u10a7\u10a8\u10a9\u10aa\u10ab\u10ac\u10ad\u10ae\u10af" +
+        "\u10b0\u10b1\u10b2\u10b3\u10b4\u10b5\u10b6\u10b7\u10b8\u10b9\u10ba" +
+        "\u10bb\u10bc\u10bd\u10be\u10bf\u10c0\u10c1\u10c2\u10c3\u10c4\u10c5" +
+        "\u10c6\u10c7\u10c8\u10c9\u10ca\u10cb\u10cc\u10cd\u10ce\u10cf\u10d0" +
+        "\u10d1\u10d2\u10d3\u10d4\u10d5\u10d6\u10d7\u10d8\u10d9\u10da\u10db" +
+        "\u10dc\u10dd\u10de\u10df\u10e0\u10e1\u10e2\u10e3\u10e4\u10e5\u10e6" +
+        "\u10e7\u10e8\u10e9\u10ea\u10eb\u10ec\u10ed\u10ee\u10ef\u10f0\u10f1" +
+        "\u10f2\u10f3\u10f4\u10f5\u10f6\u10f7\u10f8\u10f9\u10fa\u10fb\u10fc" +
+        "\u10fd\u10fe\u10ff\u1100\u1101\u1102\u1103\u1104\u1105\u1106\u1107" +
+        "\u1108\u1109\u110a\u110b\u110c\u110d\u110e\u110f\u1110\u1111\u1112" +
+        "\u1113\u1114\u1115\u1116\u1117\u1118\u1119\u111a\u111b\u111c\u111d" +
+        "\u111e\u111f\u1120\u1121\u1122\u1123\u1124\u1125\u1126\u1127\u1128" +
+        "\u1129\u112a\u112b\u112c\u112d\u112e\u112f\u1130\u1131\u1132\u1133" +
+        "\u1134\u1135\u1136\u1137\u1138\u1139\u113a\u113b\u113c\u113d\u113e" +
+        "\u113f\u1140\u1141\u1142\u1143\u1144\u1145\u1146\u1147\u1148\u1149" +
+        "\u114a\u114b\u114c\u114d\u114e\u114f\u1150\u1151\u1152\u1153\u1154" +
+        "\u1155\u1156\u1157\u1158\u1159\u115a\u115b\u115c\u115d\u115e\u115f" +
+        "\u1160\u1161\u1162\u1163\u1164\u1165\u1166\u1167\u1168\u1169\u116a" +
+        "\u116b\u116c\u116d\u116e\u116f\u1170\u1171\u1172\u1173\u1174\u1175" +
+        "\u1176\u1177\u1178\u1179\u117a\u117b\u117c\u117d\u117e\u117f\u1180" +
+        "\u1181\u1182\u1183\u1184\u1185\u1186\u1187\u1188\u1189\u118a\u118b" +
+        "\u118c\u118d\u118e\u118f\u1190\u1191\u1192\u1193\u1194\u1195\u1196" +
+        "\u1197\u1198\u1199\u119a\u119b\u119c\u119d\u119e\u119f\u11a0\u11a1" +
+        "\u11a2\u11a3\u11a4\u11a5\u11a6\u11a7\u11a8\u11a9\u11aa\u11ab\u11ac" +
+        "\u11ad\u11ae\u11af\u11b0\u11b1\u11b2\u11b3\u11b4\u11b5\u11b6\u11b7" +
+        "\u11b8\u11b9\u11ba\u11bb\u11bc\u11bd\u11be\u11bf\u11c0\u11c1\u11c2" +
+        "\u11c3\u11c4\u11c5\u11c6\u11c7\u11c8\u11c9\u11ca\u11cb\u11cc\u11cd" +
+        "\u11ce\u11cf\u11d0\u11d1\u11d2\u11d3\u11d4\u11d5\u11d6\u11d7\u11d8" +
+        "\u11d9\u11da\u11db\u11dc\u11dd\u11de\u11df\u11e0\u11e1\u11e2\u11e3" +
+        "\u11e4\u11e5\u11e6\u11e7\u11e8\u11e9\u11ea\u11eb\u11ec\u11ed\u11ee" +
+        "\u11ef\u11f0\u11f1\u11f2\u11f3\u11f4\u11f5\u11f6\u11f7\u11f8\u11f9" +
+        "\u11fa\u11fb\u11fc\u11fd\u11fe\u11ff\u1200\u1201\u1202\u1203\u1204" +
+        "\u1205\u1206\u1207\u1208\u1209\u120a\u120b\u120c\u120d\u120e\u120f" +
+        "\u1210\u1211\u1212\u1213\u1214\u1215\u1216\u1217\u1218\u1219\u121a" +
+        "\u121b\u121c\u121d\u121e\u121f\u1220\u1221\u1222\u1223\u1224\u1225" +
+        "\u1226\u1227\u1228\u1229\u122a\u122b\u122c\u122d\u122e\u122f\u1230" +
+        "\u1231\u1232\u1233\u1234\u1235\u1236\u1237\u1238\u1239\u123a\u123b" +
+        "\u123c\u123d\u123e\u123f\u1240\u1241\u1242\u1243\u1244\u1245\u1246" +
+        "\u1247\u1248\u1249\u124a\u124b\u124c\u124d\u124e\u124f\u1250\u1251" +
+        "\u1252\u1253\u1254\u1255\u1256\u1257\u1258\u1259\u125a\u125b\u125c" +
+        "\u125d\u125e\u125f\u1260\u1261\u1262\u1263\u1264\u1265\u1266\u1267" +
+        "\u1268\u1269\u126a\u126b\u126c\u126d\u126e\u126f\u1270\u1271\u1272" +
+        "\u1273\u1274\u1275\u1276\u1277\u1278\u1279\u127a\u127b\u127c\u127d" +
+        "\u127e\u127f\u1280\u1281\u1282\u1283\u1284\u1285\u1286\u1287\u1288" +
+        "\u1289\u128a\u128b\u128c\u128d\u128e\u128f\u1290\u1291\u1292\u1293" +
+        "\u1294\u1295\u1296\u1297\u1298\u1299\u129a\u129b\u129c\u129d\u129e" +
+        "\u129f\u12a0\u12a1\u12a2\u12a3\u12a4\u12a5\u12a6\u12a7\u12a8\u12a9" +
+        "\u12aa\u12ab\u12ac\u12ad\u12ae\u12af\u12b0\u12b1\u12b2\u12b3\u12b4" +
+        "\u12b5\u12b6\u12b7\u12b8\u12b9\u12ba\u12bb\u12bc\u12bd\u12be\u12bf" +
+        "\u12c0\u12c1\u12c2\u12c3\u12c4\u12c5\u12c6\u12c7\u12c8\u12c9\u12ca" +
+        "\u12cb\u12cc\u12cd\u12ce\u12cf\u12d0\u12d1\u12d2\u12d3\u12d4\u12d5" +
+        "\u12d6\u12d7\u12d8\u12d9\u12da\u12db\u12dc\u12dd\u12de\u12df\u12e0" +
+        "\u12e1\u12e2\u12e3\u12e4\u12e5\u12e6\u12e7\u12e8\u12e9\u12ea\u12eb" +
+        "\u12ec\u12ed\u12ee\u12ef\u12f0\u12f1\u12f2\u12f3\u12f4\u12f5\u12f6" +
+        "\u12f7\u12f8\u12f9\u12fa\u12fb\u12fc\u12fd\u12fe\u12ff\u1300\u1301" +
+        "\u1302\u1303\u1304\u1305\u1306\u1307\u1308\u1309\u130a\u130b\u130c" +
+        "\u130d\u130e\u130f\u1310\u1311\u1312\u1313\u1314\u1315\u1316\u1317" +
+        "\u1318\u1319\u131a\u131b\u131c\u131d\u131e\u131f\u1320\u1321\u1322" +
+        "\u1323\u1324\u1325\u1326\u1327\u1328\u1329\u132a\u132b\u132c\u132d" +
+        "\u132e\u132f\u1330\u1331\u1332\u1333\u1334\u1335\u1336\u1337\u1338" +
+        "\u1339\u133a\u133b\u133c\u133d\u133e\u133f\u1340\u1341\u1342\u1343" +
+        "\u1344\u1345\u1346\u1347\u1348\u1349\u134a\u134b\u134c\u134d\u134e" +
+        "\u134f\u1350\u1351\u1352\u1353\u1354\u1355\u1356\u1357\u1358\u1359" +
+        "\u135a\u135b\u135c\u135d\u135e\u135f\u1360\u1361\u1362\u1363\u1364" +
+        "\u1365\u1366\u1367\u1368\u1369\u136a\u136b\u136c\u136d\u136e\u136f" +
+        "\u1370\u1371\u1372\u1373\u1374\u1375\u1376\u1377\u1378\u1379\u137a" +
+        "\u137b\u137c\u137d\u137e\u137f\u1380\u1381\u1382\u1383\u1384\u1385" +
+        "\u1386\u1387\u1388\u1389\u138a\u138b\u138c\u138d\u138e\u138f\u1390" +
+        "\u1391\u1392\u1393\u1394\u1395\u1396\u1397\u1398\u1399\u139a\u139b" +
+        "\u139c\u139d\u139e\u139f\u13a0\u13a1\u13a2\u13a3\u13a4\u13a5\u13a6" +
+        "\u13a7\u13a8\u13a9\u13aa\u13ab\u13ac\u13ad\u13ae\u13af\u13b0\u13b1" +
+        "\u13b2\u13b3\u13b4\u13b5\u13b6\u13b7\u13b8\u13b9\u13ba\u13bb\u13bc" +
+        "\u13bd\u13be\u13bf\u13c0\u13c1\u13c2\u13c3\u13c4\u13c5\u13c6\u13c7" +
+        "\u13c8\u13c9\u13ca\u13cb\u13cc\u13cd\u13ce\u13cf\u13d0\u13d1\u13d2" +
+        "\u13d3\u13d4\u13d5\u13d6\u13d7\u13d8\u13d9\u13da\u13db\u13dc\u13dd" +
+        "\u13de\u13df\u13e0\u13e1\u13e2\u13e3\u13e4\u13e5\u13e6\u13e7\u13e8" +
+        "\u13e9\u13ea\u13eb\u13ec\u13ed\u13ee\u13ef\u13f0\u13f1\u13f2\u13f3" +
+        "\u13f4\u13f5\u13f6\u13f7\u13f8\u13f9\u13fa\u13fb\u13fc\u13fd\u13fe" +
+        "\u13ff\u1400\u1401\u1402\u1403\u1404\u1405\u1406\u1407\u1408\u1409" +
+        "\u140a\u140b\u140c\u140d\u140e\u140f\u1410\u1411\u1412\u1413\u1414" +
+        "\u1415\u1416\u1417\u1418\u1419\u141a\u141b\u141c\u141d\u141e\u141f" +
+        "\u1420\u1421\u1422\u1423\u1424\u1425\u1426\u1427\u1428\u1429\u142a" +
+        "\u142b\u142c\u142d\u142e\u142f\u1430\u1431\u1432\u1433\u1434\u1435" +
+        "\u1436\u1437\u1438\u1439\u143a\u143b\u143c\u143d\u143e\u143f\u1440" +
+        "\u1441\u1442\u1443\u1444\u1445\u1446\u1447\u1448\u1449\u144a\u144b" +
+        "\u144c\u144d\u144e\u144f\u1450\u1451\u1452\u1453\u1454\u1455\u1456" +
+        "\u1457\u1458\u1459\u145a\u145b\u145c\u145d\u145e\u145f\u1460\u1461" +
+        "\u1462\u1463\u1464\u1465\u1466\u1467\u1468\u1469\u146a\u146b\u146c" +
+        "\u146d\u146e\u146f\u1470\u1471\u1472\u1473\u1474\u1475\u1476\u1477" +
+        "\u1478\u1479\u147a\u147b\u147c\u147d\u147e\u147f\u1480\u1481\u1482" +
+        "\u1483\u1484\u1485\u1486\u1487\u1488\u1489\u148a\u148b\u148c\u148d" +
+        "\u148e\u148f\u1490\u1491\u1492\u1493\u1494\u1495\u1496\u1497\u1498" +
+        "\u1499\u149a\u149b\u149c\u149d\u149e\u149f\u14a0\u14a1\u14a2\u14a3" +
+        "\u14a4\u14a5\u14a6\u14a7\u14a8\u14a9\u14aa\u14ab\u14ac\u14ad\u14ae" +
+        "\u14af\u14b0\u14b1\u14b2\u14b3\u14b4\u14b5\u14b6\u14b7\u14b8\u14b9" +
+        "\u14ba\u14bb\u14bc\u14bd\u14be\u14bf\u14c0\u14c1\u14c2\u14c3\u14c4" +
+        "\u14c5\u14c6\u14c7\u14c8\u14c9\u14ca\u14cb\u14cc\u14cd\u14ce\u14cf" +
+        "\u14d0\u14d1\u14d2\u14d3\u14d4\u14d5\u14d6\u14d7\u14d8\u14d9\u14da" +
+        "\u14db\u14dc\u14dd\u14de\u14df\u14e0\u14e1\u14e2\u14e3\u14e4\u14e5" +
+        "\u14e6\u14e7\u14e8\u14e9\u14ea\u14eb\u14ec\u14ed\u14ee\u14ef\u14f0" +
+        "\u14f1\u14f2\u14f3\u14f4\u14f5\u14f6\u14f7\u14f8\u14f9\u14fa\u14fb" +
+        "\u14fc\u14fd\u14fe\u14ff\u1500\u1501\u1502\u1503\u1504\u1505\u1506" +
+        "\u1507\u1508\u1509\u150a\u150b\u150c\u150d\u150e\u150f\u1510\u1511" +
+        "\u1512\u1513\u1514\u1515\u1516\u1517\u1518\u1519\u151a\u151b\u151c" +
+        "\u151d\u151e\u151f\u1520\u1521\u1522\u1523\u1524\u1525\u1526\u1527" +
+        "\u1528\u1529\u152a\u152b\u152c\u152d\u152e\u152f\u1530\u1531\u1532" +
+        "\u1533\u1534\u1535\u1536\u1537\u1538\u1539\u153a\u153b\u153c\u153d" +
+        "\u153e\u153f\u1540\u1541\u1542\u1543\u1544\u1545\u1546\u1547\u1548" +
+        "\u1549\u154a\u154b\u154c\u154d\u154e\u154f\u1550\u1551\u1552\u1553" +
+        "\u1554\u1555\u1556\u1557\u1558\u1559\u155a\u155b\u155c\u155d\u155e" +
+        "\u155f\u1560\u1561\u1562\u1563\u1564\u1565\u1566\u1567\u1568\u1569" +
+        "\u156a\u156b\u156c\u156d\u156e\u156f\u1570\u1571\u1572\u1573\u1574" +
+        "\u1575\u1576\u1577\u1578\u1579\u157a\u157b\u157c\u157d\u157e\u157f" +
+        "\u1580\u1581\u1582\u1583\u1584\u1585\u1586\u1587\u1588\u1589\u158a" +
+        "\u158b\u158c\u158d\u158e\u158f\u1590\u1591\u1592\u1593\u1594\u1595" +
+        "\u1596\u1597\u1598\u1599\u159a\u159b\u159c\u159d\u159e\u159f\u15a0" +
+        "\u15a1\u15a2\u15a3\u15a4\u15a5\u15a6\u15a7\u15a8\u15a9\u15aa\u15ab" +
+        "\u15ac\u15ad\u15ae\u15af\u15b0\u15b1\u15b2\u15b3\u15b4\u15b5\u15b6" +
+        "\u15b7\u15b8\u15b9\u15ba\u15bb\u15bc\u15bd\u15be\u15bf\u15c0\u15c1" +
+        "\u15c2\u15c3\u15c4\u15c5\u15c6\u15c7\u15c8\u15c9\u15ca\u15cb\u15cc" +
+        "\u15cd\u15ce\u15cf\u15d0\u15d1\u15d2\u15d3\u15d4\u15d5\u15d6\u15d7" +
+        "\u15d8\u15d9\u15da\u15db\u15dc\u15dd\u15de\u15df\u15e0\u15e1\u15e2" +
+        "\u15e3\u15e4\u15e5\u15e6\u15e7\u15e8\u15e9\u15ea\u15eb\u15ec\u15ed" +
+        "\u15ee\u15ef\u15f0\u15f1\u15f2\u15f3\u15f4\u15f5\u15f6\u15f7\u15f8" +
+        "\u15f9\u15fa\u15fb\u15fc\u15fd\u15fe\u15ff\u1600\u1601\u1602\u1603" +
+        "\u1604\u1605\u1606\u1607\u1608\u1609\u160a\u160b\u160c\u160d\u160e" +
+        "\u160f\u1610\u1611\u1612\u1613\u1614\u1615\u1616\u1617\u1618\u1619" +
+        "\u161a\u161b\u161c\u161d\u161e\u161f\u1620\u1621\u1622\u1623\u1624" +
+        "\u1625\u1626\u1627\u1628\u1629\u162a\u162b\u162c\u162d\u162e\u162f" +
+        "\u1630\u1631\u1632\u1633\u1634\u1635\u1636\u1637\u1638\u1639\u163a" +
+        "\u163b\u163c\u163d\u163e\u163f\u1640\u1641\u1642\u1643\u1644\u1645" +
+        "\u1646\u1647\u1648\u1649\u164a\u164b\u164c\u164d\u164e\u164f\u1650" +
+        "\u1651\u1652\u1653\u1654\u1655\u1656\u1657\u1658\u1659\u165a\u165b" +
+        "\u165c\u165d\u165e\u165f\u1660\u1661\u1662\u1663\u1664\u1665\u1666" +
+        "\u1667\u1668\u1669\u166a\u166b\u166c\u166d\u166e\u166f\u1670\u1671" +
+        "\u1672\u1673\u1674\u1675\u1676\u1677\u1678\u1679\u167a\u167b\u167c" +
+        "\u167d\u167e\u167f\u1680\u1681\u1682\u1683\u1684\u1685\u1686\u1687" +
+        "\u1688\u1689\u168a\u168b\u168c\u168d\u168e\u168f\u1690\u1691\u1692" +
+        "\u1693\u1694\u1695\u1696\u1697\u1698\u1699\u169a\u169b\u169c\u169d" +
+        "\u169e\u169f\u16a0\u16a1\u16a2\u16a3\u16a4\u16a5\u16a6\u16a7\u16a8" +
+        "\u16a9\u16aa\u16ab\u16ac\u16ad\u16ae\u16af\u16b0\u16b1\u16b2\u16b3" +
+        "\u16b4\u16b5\u16b6\u16b7\u16b8\u16b9\u16ba\u16bb\u16bc\u16bd\u16be" +
+        "\u16bf\u16c0\u16c1\u16c2\u16c3\u16c4\u16c5\u16c6\u16c7\u16c8\u16c9" +
+        "\u16ca\u16cb\u16cc\u16cd\u16ce\u16cf\u16d0\u16d1\u16d2\u16d3\u16d4" +
+        "\u16d5\u16d6\u16d7\u16d8\u16d9\u16da\u16db\u16dc\u16dd\u16de\u16df" +
+        "\u16e0\u16e1\u16e2\u16e3\u16e4\u16e5\u16e6\u16e7\u16e8\u16e9\u16ea" +
+        "\u16eb\u16ec\u16ed\u16ee\u16ef\u16f0\u16f1\u16f2\u16f3\u16f4\u16f5" +
+        "\u16f6\u16f7\u16f8\u16f9\u16fa\u16fb\u16fc\u16fd\u16fe\u16ff\u1700" +
+        "\u1701\u1702\u1703\u1704\u1705\u1706\u1707\u1708\u1709\u170a\u170b" +
+        "\u170c\u170d\u170e\u170f\u1710\u1711\u1712\u1713\u1714\u1715\u1716" +
+        "\u1717\u1718\u1719\u171a\u171b\u171c\u171d\u171e\u171f\u1720\u1721" +
+        "\u1722\u1723\u1724\u1725\u1726\u1727\u1728\u1729\u172a\u172b\u172c" +
+        "\u172d\u172e\u172f\u1730\u1731\u1732\u1733\u1734\u1735\u1736\u1737" +
+        "\u1738\u1739\u173a\u173b\u173c\u173d\u173e\u173f\u1740\u1741\u1742" +
+        "\u1743\u1744\u1745\u1746\u1747\u1748\u1749\u174a\u174b\u174c\u174d" +
+        "\u174e\u174f\u1750\u1751\u1752\u1753\u1754\u1755\u1756\u1757\u1758" +
+        "\u1759\u175a\u175b\u175c\u175d\u175e\u175f\u1760\u1761\u1762\u1763" +
+        "\u1764\u1765\u1766\u1767\u1768\u1769\u176a\u176b\u176c\u176d\u176e" +
+        "\u176f\u1770\u1771\u1772\u1773\u1774\u1775\u1776\u1777\u1778\u1779" +
+        "\u177a\u177b\u177c\u177d\u177e\u177f\u1780\u1781\u1782\u1783\u1784" +
+        "\u1785\u1786\u1787\u1788\u1789\u178a\u178b\u178c\u178d\u178e\u178f" +
+        "\u1790\u1791\u1792\u1793\u1794\u1795\u1796\u1797\u1798\u1799\u179a" +
+        "\u179b\u179c\u179d\u179e\u179f\u17a0\u17a1\u17a2\u17a3\u17a4\u17a5" +
+        "\u17a6\u17a7\u17a8\u17a9\u17aa\u17ab\u17ac\u17ad\u17ae\u17af\u17b0" +
+        "\u17b1\u17b2\u17b3\u17b4\u17b5\u17b6\u17b7\u17b8\u17b9\u17ba\u17bb" +
+        "\u17bc\u17bd\u17be\u17bf\u17c0\u17c1\u17c2\u17c3\u17c4\u17c5\u17c6" +
+        "\u17c7\u17c8\u17c9\u17ca\u17cb\u17cc\u17cd\u17ce\u17cf\u17d0\u17d1" +
+        "\u17d2\u17d3\u17d4\u17d5\u17d6\u17d7\u17d8\u17d9\u17da\u17db\u17dc" +
+        "\u17dd\u17de\u17df\u17e0\u17e1\u17e2\u17e3\u17e4\u17e5\u17e6\u17e7" +
+        "\u17e8\u17e9\u17ea\u17eb\u17ec\u17ed\u17ee\u17ef\u17f0\u17f1\u17f2" +
+        "\u17f3\u17f4\u17f5\u17f6\u17f7\u17f8\u17f9\u17fa\u17fb\u17fc\u17fd" +
+        "\u17fe\u17ff\u1800\u1801\u1802\u1803\u1804\u1805\u1806\u1807\u1808" +
+        "\u1809\u180a\u180b\u180c\u180d\u180e\u180f\u1810\u1811\u1812\u1813" +
+        "\u1814\u1815\u1816\u1817\u1818\u1819\u181a\u181b\u181c\u181d\u181e" +
+        "\u181f\u1820\u1821\u1822\u1823\u1824\u1825\u1826\u1827\u1828\u1829" +
+        "\u182a\u182b\u182c\u182d\u182e\u182f\u1830\u1831\u1832\u1833\u1834" +
+        "\u1835\u1836\u1837\u1838\u1839\u183a\u183b\u183c\u183d\u183e\u183f" +
+        "\u1840\u1841\u1842\u1843\u1844\u1845\u1846\u1847\u1848\u1849\u184a" +
+        "\u184b\u184c\u184d\u184e\u184f\u1850\u1851\u1852\u1853\u1854\u1855" +
+        "\u1856\u1857\u1858\u1859\u185a\u185b\u185c\u185d\u185e\u185f\u1860" +
+        "\u1861\u1862\u1863\u1864\u1865\u1866\u1867\u1868\u1869\u186a\u186b" +
+        "\u186c\u186d\u186e\u186f\u1870\u1871\u1872\u1873\u1874\u1875\u1876" +
+        "\u1877\u1878\u1879\u187a\u187b\u187c\u187d\u187e\u187f\u1880\u1881" +
+        "\u1882\u1883\u1884\u1885\u1886\u1887\u1888\u1889\u188a\u188b\u188c" +
+        "\u188d\u188e\u188f\u1890\u1891\u1892\u1893\u1894\u1895\u1896\u1897" +
+        "\u1898\u1899\u189a\u189b\u189c\u189d\u189e\u189f\u18a0\u18a1\u18a2" +
+        "\u18a3\u18a4\u18a5\u18a6\u18a7\u18a8\u18a9\u18aa\u18ab\u18ac\u18ad" +
+        "\u18ae\u18af\u18b0\u18b1\u18b2\u18b3\u18b4\u18b5\u18b6\u18b7\u18b8" +
+        "\u18b9\u18ba\u18bb\u18bc\u18bd\u18be\u18bf\u18c0\u18c1\u18c2\u18c3" +
+        "\u18c4\u18c5\u18c6\u18c7\u18c8\u18c9\u18ca\u18cb\u18cc\u18cd\u18ce" +
+        "\u18cf\u18d0\u18d1\u18d2\u18d3\u18d4\u18d5\u18d6\u18d7\u18d8\u18d9" +
+        "\u18da\u18db\u18dc\u18dd\u18de\u18df\u18e0\u18e1\u18e2\u18e3\u18e4" +
+        "\u18e5\u18e6\u18e7\u18e8\u18e9\u18ea\u18eb\u18ec\u18ed\u18ee\u18ef" +
+        "\u18f0\u18f1\u18f2\u18f3\u18f4\u18f5\u18f6\u18f7\u18f8\u18f9\u18fa" +
+        "\u18fb\u18fc\u18fd\u18fe\u18ff\u1900\u1901\u1902\u1903\u1904\u1905" +
+        "\u1906\u1907\u1908\u1909\u190a\u190b\u190c\u190d\u190e\u190f\u1910" +
+        "\u1911\u1912\u1913\u1914\u1915\u1916\u1917\u1918\u1919\u191a\u191b" +
+        "\u191c\u191d\u191e\u191f\u1920\u1921\u1922\u1923\u1924\u1925\u1926" +
+        "\u1927\u1928\u1929\u192a\u192b\u192c\u192d\u192e\u192f\u1930\u1931" +
+        "\u1932\u1933\u1934\u1935\u1936\u1937\u1938\u1939\u193a\u193b\u193c" +
+        "\u193d\u193e\u193f\u1940\u1941\u1942\u1943\u1944\u1945\u1946\u1947" +
+        "\u1948\u1949\u194a\u194b\u194c\u194d\u194e\u194f\u1950\u1951\u1952" +
+        "\u1953\u1954\u1955\u1956\u1957\u1958\u1959\u195a\u195b\u195c\u195d" +
+        "\u195e\u195f\u1960\u1961\u1962\u1963\u1964\u1965\u1966\u1967\u1968" +
+        "\u1969\u196a\u196b\u196c\u196d\u196e\u196f\u1970\u1971\u1972\u1973" +
+        "\u1974\u1975\u1976\u1977\u1978\u1979\u197a\u197b\u197c\u197d\u197e" +
+        "\u197f\u1980\u1981\u1982\u1983\u1984\u1985\u1986\u1987\u1988\u1989" +
+        "\u198a\u198b\u198c\u198d\u198e\u198f\u1990\u1991\u1992\u1993\u1994" +
+        "\u1995\u1996\u1997\u1998\u1999\u199a\u199b\u199c\u199d\u199e\u199f" +
+        "\u19a0\u19a1\u19a2\u19a3\u19a4\u19a5\u19a6\u19a7\u19a8\u19a9\u19aa" +
+        "\u19ab\u19ac\u19ad\u19ae\u19af\u19b0\u19b1\u19b2\u19b3\u19b4\u19b5" +
+        "\u19b6\u19b7\u19b8\u19b9\u19ba\u19bb\u19bc\u19bd\u19be\u19bf\u19c0" +
+        "\u19c1\u19c2\u19c3\u19c4\u19c5\u19c6\u19c7\u19c8\u19c9\u19ca\u19cb" +
+        "\u19cc\u19cd\u19ce\u19cf\u19d0\u19d1\u19d2\u19d3\u19d4\u19d5\u19d6" +
+        "\u19d7\u19d8\u19d9\u19da\u19db\u19dc\u19dd\u19de\u19df\u19e0\u19e1" +
+        "\u19e2\u19e3\u19e4\u19e5\u19e6\u19e7\u19e8\u19e9\u19ea\u19eb\u19ec" +
+        "\u19ed\u19ee\u19ef\u19f0\u19f1\u19f2\u19f3\u19f4\u19f5\u19f6\u19f7" +
+        "\u19f8\u19f9\u19fa\u19fb\u19fc\u19fd\u19fe\u19ff\u1a00\u1a01\u1a02" +
+        "\u1a03\u1a04\u1a05\u1a06\u1a07\u1a08\u1a09\u1a0a\u1a0b\u1a0c\u1a0d" +
+        "\u1a0e\u1a0f\u1a10\u1a11\u1a12\u1a13\u1a14\u1a15\u1a16\u1a17\u1a18" +
+        "\u1a19\u1a1a\u1a1b\u1a1c\u1a1d\u1a1e\u1a1f\u1a20\u1a21\u1a22\u1a23" +
+        "\u1a24\u1a25\u1a26\u1a27\u1a28\u1a29\u1a2a\u1a2b\u1a2c\u1a2d\u1a2e" +
+        "\u1a2f\u1a30\u1a31\u1a32\u1a33\u1a34\u1a35\u1a36\u1a37\u1a38\u1a39" +
+        "\u1a3a\u1a3b\u1a3c\u1a3d\u1a3e\u1a3f\u1a40\u1a41\u1a42\u1a43\u1a44" +
+        "\u1a45\u1a46\u1a47\u1a48\u1a49\u1a4a\u1a4b\u1a4c\u1a4d\u1a4e\u1a4f" +
+        "\u1a50\u1a51\u1a52\u1a53\u1a54\u1a55\u1a56\u1a57\u1a58\u1a59\u1a5a" +
+        "\u1a5b\u1a5c\u1a5d\u1a5e\u1a5f\u1a60\u1a61\u1a62\u1a63\u1a64\u1a65" +
+        "\u1a66\u1a67\u1a68\u1a69\u1a6a\u1a6b\u1a6c\u1a6d\u1a6e\u1a6f\u1a70" +
+        "\u1a71\u1a72\u1a73\u1a74\u1a75\u1a76\u1a77\u1a78\u1a79\u1a7a\u1a7b" +
+        "\u1a7c\u1a7d\u1a7e\u1a7f\u1a80\u1a81\u1a82\u1a83\u1a84\u1a85\u1a86" +
+        "\u1a87\u1a88\u1a89\u1a8a\u1a8b\u1a8c\u1a8d\u1a8e\u1a8f\u1a90\u1a91" +
+        "\u1a92\u1a93\u1a94\u1a95\u1a96\u1a97\u1a98\u1a99\u1a9a\u1a9b\u1a9c" +
+        "\u1a9d\u1a9e\u1a9f\u1aa0\u1aa1\u1aa2\u1aa3\u1aa4\u1aa5\u1aa6\u1aa7" +
+        "\u1aa8\u1aa9\u1aaa\u1aab\u1aac\u1aad\u1aae\u1aaf\u1ab0\u1ab1\u1ab2" +
+        "\u1ab3\u1ab4\u1ab5\u1ab6\u1ab7\u1ab8\u1ab9\u1aba\u1abb\u1abc\u1abd" +
+        "\u1abe\u1abf\u1ac0\u1ac1\u1ac2\u1ac3\u1ac4\u1ac5\u1ac6\u1ac7\u1ac8" +
+        "\u1ac9\u1aca\u1acb\u1acc\u1acd\u1ace\u1acf\u1ad0\u1ad1\u1ad2\u1ad3" +
+        "\u1ad4\u1ad5\u1ad6\u1ad7\u1ad8\u1ad9\u1ada\u1adb\u1adc\u1add\u1ade" +
+        "\u1adf\u1ae0\u1ae1\u1ae2\u1ae3\u1ae4\u1ae5\u1ae6\u1ae7\u1ae8\u1ae9" +
+        "\u1aea\u1aeb\u1aec\u1aed\u1aee\u1aef\u1af0\u1af1\u1af2\u1af3\u1af4" +
+        "\u1af5\u1af6\u1af7\u1af8\u1af9\u1afa\u1afb\u1afc\u1afd\u1afe\u1aff" +
+        "\u1b00\u1b01\u1b02\u1b03\u1b04\u1b05\u1b06\u1b07\u1b08\u1b09\u1b0a" +
+        "\u1b0b\u1b0c\u1b0d\u1b0e\u1b0f\u1b10\u1b11\u1b12\u1b13\u1b14\u1b15" +
+        "\u1b16\u1b17\u1b18\u1b19\u1b1a\u1b1b\u1b1c\u1b1d\u1b1e\u1b1f\u1b20" +
+        "\u1b21\u1b22\u1b23\u1b24\u1b25\u1b26\u1b27\u1b28\u1b29\u1b2a\u1b2b" +
+        "\u1b2c\u1b2d\u1b2e\u1b2f\u1b30\u1b31\u1b32\u1b33\u1b34\u1b35\u1b36" +
+        "\u1b37\u1b38\u1b39\u1b3a\u1b3b\u1b3c\u1b3d\u1b3e\u1b3f\u1b40\u1b41" +
+        "\u1b42\u1b43\u1b44\u1b45\u1b46\u1b47\u1b48\u1b49\u1b4a\u1b4b\u1b4c" +
+        "\u1b4d\u1b4e\u1b4f\u1b50\u1b51\u1b52\u1b53\u1b54\u1b55\u1b56\u1b57" +
+        "\u1b58\u1b59\u1b5a\u1b5b\u1b5c\u1b5d\u1b5e\u1b5f\u1b60\u1b61\u1b62" +
+        "\u1b63\u1b64\u1b65\u1b66\u1b67\u1b68\u1b69\u1b6a\u1b6b\u1b6c\u1b6d" +
+        "\u1b6e\u1b6f\u1b70\u1b71\u1b72\u1b73\u1b74\u1b75\u1b76\u1b77\u1b78" +
+        "\u1b79\u1b7a\u1b7b\u1b7c\u1b7d\u1b7e\u1b7f\u1b80\u1b81\u1b82\u1b83" +
+        "\u1b84\u1b85\u1b86\u1b87\u1b88\u1b89\u1b8a\u1b8b\u1b8c\u1b8d\u1b8e" +
+        "\u1b8f\u1b90\u1b91\u1b92\u1b93\u1b94\u1b95\u1b96\u1b97\u1b98\u1b99" +
+        "\u1b9a\u1b9b\u1b9c\u1b9d\u1b9e\u1b9f\u1ba0\u1ba1\u1ba2\u1ba3\u1ba4" +
+        "\u1ba5\u1ba6\u1ba7\u1ba8\u1ba9\u1baa\u1bab\u1bac\u1bad\u1bae\u1baf" +
+        "\u1bb0\u1bb1\u1bb2\u1bb3\u1bb4\u1bb5\u1bb6\u1bb7\u1bb8\u1bb9\u1bba" +
+        "\u1bbb\u1bbc\u1bbd\u1bbe\u1bbf\u1bc0\u1bc1\u1bc2\u1bc3\u1bc4\u1bc5" +
+        "\u1bc6\u1bc7\u1bc8\u1bc9\u1bca\u1bcb\u1bcc\u1bcd\u1bce\u1bcf\u1bd0" +
+        "\u1bd1\u1bd2\u1bd3\u1bd4\u1bd5\u1bd6\u1bd7\u1bd8\u1bd9\u1bda\u1bdb" +
+        "\u1bdc\u1bdd\u1bde\u1bdf\u1be0\u1be1\u1be2\u1be3\u1be4\u1be5\u1be6" +
+        "\u1be7\u1be8\u1be9\u1bea\u1beb\u1bec\u1bed\u1bee\u1bef\u1bf0\u1bf1" +
+        "\u1bf2\u1bf3\u1bf4\u1bf5\u1bf6\u1bf7\u1bf8\u1bf9\u1bfa\u1bfb\u1bfc" +
+        "\u1bfd\u1bfe\u1bff\u1c00\u1c01\u1c02\u1c03\u1c04\u1c05\u1c06\u1c07" +
+        "\u1c08\u1c09\u1c0a\u1c0b\u1c0c\u1c0d\u1c0e\u1c0f\u1c10\u1c11\u1c12" +
+        "\u1c13\u1c14\u1c15\u1c16\u1c17\u1c18\u1c19\u1c1a\u1c1b\u1c1c\u1c1d" +
+        "\u1c1e\u1c1f\u1c20\u1c21\u1c22\u1c23\u1c24\u1c25\u1c26\u1c27\u1c28" +
+        "\u1c29\u1c2a\u1c2b\u1c2c\u1c2d\u1c2e\u1c2f\u1c30\u1c31\u1c32\u1c33" +
+        "\u1c34\u1c35\u1c36\u1c37\u1c38\u1c39\u1c3a\u1c3b\u1c3c\u1c3d\u1c3e" +
+        "\u1c3f\u1c40\u1c41\u1c42\u1c43\u1c44\u1c45\u1c46\u1c47\u1c48\u1c49" +
+        "\u1c4a\u1c4b\u1c4c\u1c4d\u1c4e\u1c4f\u1c50\u1c51\u1c52\u1c53\u1c54" +
+        "\u1c55\u1c56\u1c57\u1c58\u1c59\u1c5a\u1c5b\u1c5c\u1c5d\u1c5e\u1c5f" +
+        "\u1c60\u1c61\u1c62\u1c63\u1c64\u1c65\u1c66\u1c67\u1c68\u1c69\u1c6a" +
+        "\u1c6b\u1c6c\u1c6d\u1c6e\u1c6f\u1c70\u1c71\u1c72\u1c73\u1c74\u1c75" +
+        "\u1c76\u1c77\u1c78\u1c79\u1c7a\u1c7b\u1c7c\u1c7d\u1c7e\u1c7f\u1c80" +
+        "\u1c81\u1c82\u1c83\u1c84\u1c85\u1c86\u1c87\u1c88\u1c89\u1c8a\u1c8b" +
+        "\u1c8c\u1c8d\u1c8e\u1c8f\u1c90\u1c91\u1c92\u1c93\u1c94\u1c95\u1c96" +
+        "\u1c97\u1c98\u1c99\u1c9a\u1c9b\u1c9c\u1c9d\u1c9e\u1c9f\u1ca0\u1ca1" +
+        "\u1ca2\u1ca3\u1ca4\u1ca5\u1ca6\u1ca7\u1ca8\u1ca9\u1caa\u1cab\u1cac" +
+        "\u1cad\u1cae\u1caf\u1cb0\u1cb1\u1cb2\u1cb3\u1cb4\u1cb5\u1cb6\u1cb7" +
+        "\u1cb8\u1cb9\u1cba\u1cbb\u1cbc\u1cbd\u1cbe\u1cbf\u1cc0\u1cc1\u1cc2" +
+        "\u1cc3\u1cc4\u1cc5\u1cc6\u1cc7\u1cc8\u1cc9\u1cca\u1ccb\u1ccc\u1ccd" +
+        "\u1cce\u1ccf\u1cd0\u1cd1\u1cd2\u1cd3\u1cd4\u1cd5\u1cd6\u1cd7\u1cd8" +
+        "\u1cd9\u1cda\u1cdb\u1cdc\u1cdd\u1cde\u1cdf\u1ce0\u1ce1\u1ce2\u1ce3" +
+        "\u1ce4\u1ce5\u1ce6\u1ce7\u1ce8\u1ce9\u1cea\u1ceb\u1cec\u1ced\u1cee" +
+        "\u1cef\u1cf0\u1cf1\u1cf2\u1cf3\u1cf4\u1cf5\u1cf6\u1cf7\u1cf8\u1cf9" +
+        "\u1cfa\u1cfb\u1cfc\u1cfd\u1cfe\u1cff\u1d00\u1d01\u1d02\u1d03\u1d04" +
+        "\u1d05\u1d06\u1d07\u1d08\u1d09\u1d0a\u1d0b\u1d0c\u1d0d\u1d0e\u1d0f" +
+        "\u1d10\u1d11\u1d12\u1d13\u1d14\u1d15\u1d16\u1d17\u1d18\u1d19\u1d1a" +
+        "\u1d1b\u1d1c\u1d1d\u1d1e\u1d1f\u1d20\u1d21\u1d22\u1d23\u1d24\u1d25" +
+        "\u1d26\u1d27\u1d28\u1d29\u1d2a\u1d2b\u1d2c\u1d2d\u1d2e\u1d2f\u1d30" +
+        "\u1d31\u1d32\u1d33\u1d34\u1d35\u1d36\u1d37\u1d38\u1d39\u1d3a\u1d3b" +
+        "\u1d3c\u1d3d\u1d3e\u1d3f\u1d40\u1d41\u1d42\u1d43\u1d44\u1d45\u1d46" +
+        "\u1d47\u1d48\u1d49\u1d4a\u1d4b\u1d4c\u1d4d\u1d4e\u1d4f\u1d50\u1d51" +
+        "\u1d52\u1d53\u1d54\u1d55\u1d56\u1d57\u1d58\u1d59\u1d5a\u1d5b\u1d5c" +
+        "\u1d5d\u1d5e\u1d5f\u1d60\u1d61\u1d62\u1d63\u1d64\u1d65\u1d66\u1d67" +
+        "\u1d68\u1d69\u1d6a\u1d6b\u1d6c\u1d6d\u1d6e\u1d6f\u1d70\u1d71\u1d72" +
+        "\u1d73\u1d74\u1d75\u1d76\u1d77\u1d78\u1d79\u1d7a\u1d7b\u1d7c\u1d7d" +
+        "\u1d7e\u1d7f\u1d80\u1d81\u1d82\u1d83\u1d84\u1d85\u1d86\u1d87\u1d88" +
+        "\u1d89\u1d8a\u1d8b\u1d8c\u1d8d\u1d8e\u1d8f\u1d90\u1d91\u1d92\u1d93" +
+        "\u1d94\u1d95\u1d96\u1d97\u1d98\u1d99\u1d9a\u1d9b\u1d9c\u1d9d\u1d9e" +
+        "\u1d9f\u1da0\u1da1\u1da2\u1da3\u1da4\u1da5\u1da6\u1da7\u1da8\u1da9" +
+        "\u1daa\u1dab\u1dac\u1dad\u1dae\u1daf\u1db0\u1db1\u1db2\u1db3\u1db4" +
+        "\u1db5\u1db6\u1db7\u1db8\u1db9\u1dba\u1dbb\u1dbc\u1dbd\u1dbe\u1dbf" +
+        "\u1dc0\u1dc1\u1dc2\u1dc3\u1dc4\u1dc5\u1dc6\u1dc7\u1dc8\u1dc9\u1dca" +
+        "\u1dcb\u1dcc\u1dcd\u1dce\u1dcf\u1dd0\u1dd1\u1dd2\u1dd3\u1dd4\u1dd5" +
+        "\u1dd6\u1dd7\u1dd8\u1dd9\u1dda\u1ddb\u1ddc\u1ddd\u1dde\u1ddf\u1de0" +
+        "\u1de1\u1de2\u1de3\u1de4\u1de5\u1de6\u1de7\u1de8\u1de9\u1dea\u1deb" +
+        "\u1dec\u1ded\u1dee\u1def\u1df0\u1df1\u1df2\u1df3\u1df4\u1df5\u1df6" +
+        "\u1df7\u1df8\u1df9\u1dfa\u1dfb\u1dfc\u1dfd\u1dfe\u1dff\u1e00\u1e01" +
+        "\u1e02\u1e03\u1e04\u1e05\u1e06\u1e07\u1e08\u1e09\u1e0a\u1e0b\u1e0c" +
+        "\u1e0d\u1e0e\u1e0f\u1e10\u1e11\u1e12\u1e13\u1e14\u1e15\u1e16\u1e17" +
+        "\u1e18\u1e19\u1e1a\u1e1b\u1e1c\u1e1d\u1e1e\u1e1f\u1e20\u1e21\u1e22" +
+        "\u1e23\u1e24\u1e25\u1e26\u1e27\u1e28\u1e29\u1e2a\u1e2b\u1e2c\u1e2d" +
+        "\u1e2e\u1e2f\u1e30\u1e31\u1e32\u1e33\u1e34\u1e35\u1e36\u1e37\u1e38" +
+        "\u1e39\u1e3a\u1e3b\u1e3c\u1e3d\u1e3e\u1e3f\u1e40\u1e41\u1e42\u1e43" +
+        "\u1e44\u1e45\u1e46\u1e47\u1e48\u1e49\u1e4a\u1e4b\u1e4c\u1e4d\u1e4e" +
+        "\u1e4f\u1e50\u1e51\u1e52\u1e53\u1e54\u1e55\u1e56\u1e57\u1e58\u1e59" +
+        "\u1e5a\u1e5b\u1e5c\u1e5d\u1e5e\u1e5f\u1e60\u1e61\u1e62\u1e63\u1e64" +
+        "\u1e65\u1e66\u1e67\u1e68\u1e69\u1e6a\u1e6b\u1e6c\u1e6d\u1e6e\u1e6f" +
+        "\u1e70\u1e71\u1e72\u1e73\u1e74\u1e75\u1e76\u1e77\u1e78\u1e79\u1e7a" +
+        "\u1e7b\u1e7c\u1e7d\u1e7e\u1e7f\u1e80\u1e81\u1e82\u1e83\u1e84\u1e85" +
+        "\u1e86\u1e87\u1e88\u1e89\u1e8a\u1e8b\u1e8c\u1e8d\u1e8e\u1e8f\u1e90" +
+        "\u1e91\u1e92\u1e93\u1e94\u1e95\u1e96\u1e97\u1e98\u1e99\u1e9a\u1e9b" +
+        "\u1e9c\u1e9d\u1e9e\u1e9f\u1ea0\u1ea1\u1ea2\u1ea3\u1ea4\u1ea5\u1ea6" +
+        "\u1ea7\u1ea8\u1ea9\u1eaa\u1eab\u1eac\u1ead\u1eae\u1eaf\u1eb0\u1eb1" +
+        "\u1eb2\u1eb3\u1eb4\u1eb5\u1eb6\u1eb7\u1eb8\u1eb9\u1eba\u1ebb\u1ebc" +
+        "\u1ebd\u1ebe\u1ebf\u1ec0\u1ec1\u1ec2\u1ec3\u1ec4\u1ec5\u1ec6\u1ec7" +
+        "\u1ec8\u1ec9\u1eca\u1ecb\u1ecc\u1ecd\u1ece\u1ecf\u1ed0\u1ed1\u1ed2" +
+        "\u1ed3\u1ed4\u1ed5\u1ed6\u1ed7\u1ed8\u1ed9\u1eda\u1edb\u1edc\u1edd" +
+        "\u1ede\u1edf\u1ee0\u1ee1\u1ee2\u1ee3\u1ee4\u1ee5\u1ee6\u1ee7\u1ee8" +
+        "\u1ee9\u1eea\u1eeb\u1eec\u1eed\u1eee\u1eef\u1ef0\u1ef1\u1ef2\u1ef3" +
+        "\u1ef4\u1ef5\u1ef6\u1ef7\u1ef8\u1ef9\u1efa\u1efb\u1efc\u1efd\u1efe" +
+        "\u1eff\u1f00\u1f01\u1f02\u1f03\u1f04\u1f05\u1f06\u1f07\u1f08\u1f09" +
+        "\u1f0a\u1f0b\u1f0c\u1f0d\u1f0e\u1f0f\u1f10\u1f11\u1f12\u1f13\u1f14" +
+        "\u1f15\u1f16\u1f17\u1f18\u1f19\u1f1a\u1f1b\u1f1c\u1f1d\u1f1e\u1f1f" +
+        "\u1f20\u1f21\u1f22\u1f23\u1f24\u1f25\u1f26\u1f27\u1f28\u1f29\u1f2a" +
+        "\u1f2b\u1f2c\u1f2d\u1f2e\u1f2f\u1f30\u1f31\u1f32\u1f33\u1f34\u1f35" +
+        "\u1f36\u1f37\u1f38\u1f39\u1f3a\u1f3b\u1f3c\u1f3d\u1f3e\u1f3f\u1f40" +
+        "\u1f41\u1f42\u1f43\u1f44\u1f45\u1f46\u1f47\u1f48\u1f49\u1f4a\u1f4b" +
+        "\u1f4c\u1f4d\u1f4e\u1f4f\u1f50\u1f51\u1f52\u1f53\u1f54\u1f55\u1f56" +
+        "\u1f57\u1f58\u1f59\u1f5a\u1f5b\u1f5c\u1f5d\u1f5e\u1f5f\u1f60\u1f61" +
+        "\u1f62\u1f63\u1f64\u1f65\u1f66\u1f67\u1f68\u1f69\u1f6a\u1f6b\u1f6c" +
+        "\u1f6d\u1f6e\u1f6f\u1f70\u1f71\u1f72\u1f73\u1f74\u1f75\u1f76\u1f77" +
+        "\u1f78\u1f79\u1f7a\u1f7b\u1f7c\u1f7d\u1f7e\u1f7f\u1f80\u1f81\u1f82" +
+        "\u1f83\u1f84\u1f85\u1f86\u1f87\u1f88\u1f89\u1f8a\u1f8b\u1f8c\u1f8d" +
+        "\u1f8e\u1f8f\u1f90\u1f91\u1f92\u1f93\u1f94\u1f95\u1f96\u1f97\u1f98" +
+        "\u1f99\u1f9a\u1f9b\u1f9c\u1f9d\u1f9e\u1f9f\u1fa0\u1fa1\u1fa2\u1fa3" +
+        "\u1fa4\u1fa5\u1fa6\u1fa7\u1fa8\u1fa9\u1faa\u1fab\u1fac\u1fad\u1fae" +
+        "\u1faf\u1fb0\u1fb1\u1fb2\u1fb3\u1fb4\u1fb5\u1fb6\u1fb7\u1fb8\u1fb9" +
+        "\u1fba\u1fbb\u1fbc\u1fbd\u1fbe\u1fbf\u1fc0\u1fc1\u1fc2\u1fc3\u1fc4" +
+        "\u1fc5\u1fc6\u1fc7\u1fc8\u1fc9\u1fca\u1fcb\u1fcc\u1fcd\u1fce\u1fcf" +
+        "\u1fd0\u1fd1\u1fd2\u1fd3\u1fd4\u1fd5\u1fd6\u1fd7\u1fd8\u1fd9\u1fda" +
+        "\u1fdb\u1fdc\u1fdd\u1fde\u1fdf\u1fe0\u1fe1\u1fe2\u1fe3\u1fe4\u1fe5" +
+        "\u1fe6\u1fe7\u1fe8\u1fe9\u1fea\u1feb\u1fec\u1fed\u1fee\u1fef\u1ff0" +
+        "\u1ff1\u1ff2\u1ff3\u1ff4\u1ff5\u1ff6\u1ff7\u1ff8\u1ff9\u1ffa\u1ffb" +
+        "\u1ffc\u1ffd\u1ffe\u1fff\u2000\u2001\u2002\u2003\u2004\u2005\u2006" +
+        "\u2007\u2008\u2009\u200a\u200b\u200c\u200d\u200e\u200f\u2010\u2011" +
+        "\u2012\u2013\u2014\u2015\u2016\u2017\u2018\u2019\u201a\u201b\u201c" +
+        "\u201d\u201e\u201f\u2020\u2021\u2022\u2023\u2024\u2025\u2026\u2027" +
+        "\u2028\u2029\u202a\u202b\u202c\u202d\u202e\u202f\u2030\u2031\u2032" +
+        "\u2033\u2034\u2035\u2036\u2037\u2038\u2039\u203a\u203b\u203c\u203d" +
+        "\u203e\u203f\u2040\u2041\u2042\u2043\u2044\u2045\u2046\u2047\u2048" +
+        "\u2049\u204a\u204b\u204c\u204d\u204e\u204f\u2050\u2051\u2052\u2053" +
+        "\u2054\u2055\u2056\u2057\u2058\u2059\u205a\u205b\u205c\u205d\u205e" +
+        "\u205f\u2060\u2061\u2062\u2063\u2064\u2065\u2066\u2067\u2068\u2069" +
+        "\u206a\u206b\u206c\u206d\u206e\u206f\u2070\u2071\u2072\u2073\u2074" +
+        "\u2075\u2076\u2077\u2078\u2079\u207a\u207b\u207c\u207d\u207e\u207f" +
+        "\u2080\u2081\u2082\u2083\u2084\u2085\u2086\u2087\u2088\u2089\u208a" +
+        "\u208b\u208c\u208d\u208e\u208f\u2090\u2091\u2092\u2093\u2094\u2095" +
+        "\u2096\u2097\u2098\u2099\u209a\u209b\u209c\u209d\u209e\u209f\u20a0" +
+        "\u20a1\u20a2\u20a3\u20a4\u20a5\u20a6\u20a7\u20a8\u20a9\u20aa\u20ab" +
+        "\u20ac\u20ad\u20ae\u20af\u20b0\u20b1\u20b2\u20b3\u20b4\u20b5\u20b6" +
+        "\u20b7\u20b8\u20b9\u20ba\u20bb\u20bc\u20bd\u20be\u20bf\u20c0\u20c1" +
+        "\u20c2\u20c3\u20c4\u20c5\u20c6\u20c7\u20c8\u20c9\u20ca\u20cb\u20cc" +
+        "\u20cd\u20ce\u20cf\u20d0\u20d1\u20d2\u20d3\u20d4\u20d5\u20d6\u20d7" +
+        "\u20d8\u20d9\u20da\u20db\u20dc\u20dd\u20de\u20df\u20e0\u20e1\u20e2" +
+        "\u20e3\u20e4\u20e5\u20e6\u20e7\u20e8\u20e9\u20ea\u20eb\u20ec\u20ed" +
+        "\u20ee\u20ef\u20f0\u20f1\u20f2\u20f3\u20f4\u20f5\u20f6\u20f7\u20f8" +
+        "\u20f9\u20fa\u20fb\u20fc\u20fd\u20fe\u20ff\u2100\u2101\u2102\u2103" +
+        "\u2104\u2105\u2106\u2107\u2108\u2109\u210a\u210b\u210c\u210d\u210e" +
+        "\u210f\u2110\u2111\u2112\u2113\u2114\u2115\u2116\u2117\u2118\u2119" +
+        "\u211a\u211b\u211c\u211d\u211e\u211f\u2120\u2121\u2122\u2123\u2124" +
+        "\u2125\u2126\u2127\u2128\u2129\u212a\u212b\u212c\u212d\u212e\u212f" +
+        "\u2130\u2131\u2132\u2133\u2134\u2135\u2136\u2137\u2138\u2139\u213a" +
+        "\u213b\u213c\u213d\u213e\u213f\u2140\u2141\u2142\u2143\u2144\u2145" +
+        "\u2146\u2147\u2148\u2149\u214a\u214b\u214c\u214d\u214e\u214f\u2150" +
+        "\u2151\u2152\u2153\u2154\u2155\u2156\u2157\u2158\u2159\u215a\u215b" +
+        "\u215c\u215d\u215e\u215f\u2160\u2161\u2162\u2163\u2164\u2165\u2166" +
+        "\u2167\u2168\u2169\u216a\u216b\u216c\u216d\u216e\u216f\u2170\u2171" +
+        "\u2172\u2173\u2174\u2175\u2176\u2177\u2178\u2179\u217a\u217b\u217c" +
+        "\u217d\u217e\u217f\u2180\u2181\u2182\u2183\u2184\u2185\u2186\u2187" +
+        "\u2188\u2189\u218a\u218b\u218c\u218d\u218e\u218f\u2190\u2191\u2192" +
+        "\u2193\u2194\u2195\u2196\u2197\u2198\u2199\u219a\u219b\u219c\u219d" +
+        "\u219e\u219f\u21a0\u21a1\u21a2\u21a3\u21a4\u21a5\u21a6\u21a7\u21a8" +
+        "\u21a9\u21aa\u21ab\u21ac\u21ad\u21ae\u21af\u21b0\u21b1\u21b2\u21b3" +
+        "\u21b4\u21b5\u21b6\u21b7\u21b8\u21b9\u21ba\u21bb\u21bc\u21bd\u21be" +
+        "\u21bf\u21c0\u21c1\u21c2\u21c3\u21c4\u21c5\u21c6\u21c7\u21c8\u21c9" +
+        "\u21ca\u21cb\u21cc\u21cd\u21ce\u21cf\u21d0\u21d1\u21d2\u21d3\u21d4" +
+        "\u21d5\u21d6\u21d7\u21d8\u21d9\u21da\u21db\u21dc\u21dd\u21de\u21df" +
+        "\u21e0\u21e1\u21e2\u21e3\u21e4\u21e5\u21e6\u21e7\u21e8\u21e9\u21ea" +
+        "\u21eb\u21ec\u21ed\u21ee\u21ef\u21f0\u21f1\u21f2\u21f3\u21f4\u21f5" +
+        "\u21f6\u21f7\u21f8\u21f9\u21fa\u21fb\u21fc\u21fd\u21fe\u21ff\u2200" +
+        "\u2201\u2202\u2203\u2204\u2205\u2206\u2207\u2208\u2209\u220a\u220b" +
+        "\u220c\u220d\u220e\u220f\u2210\u2211\u2212\u2213\u2214\u2215\u2216" +
+        "\u2217\u2218\u2219\u221a\u221b\u221c\u221d\u221e\u221f\u2220\u2221" +
+        "\u2222\u2223\u2224\u2225\u2226\u2227\u2228\u2229\u222a\u222b\u222c" +
+        "\u222d\u222e\u222f\u2230\u2231\u2232\u2233\u2234\u2235\u2236\u2237" +
+        "\u2238\u2239\u223a\u223b\u223c\u223d\u223e\u223f\u2240\u2241\u2242" +
+        "\u2243\u2244\u2245\u2246\u2247\u2248\u2249\u224a\u224b\u224c\u224d" +
+        "\u224e\u224f\u2250\u2251\u2252\u2253\u2254\u2255\u2256\u2257\u2258" +
+        "\u2259\u225a\u225b\u225c\u225d\u225e\u225f\u2260\u2261\u2262\u2263" +
+        "\u2264\u2265\u2266\u2267\u2268\u2269\u226a\u226b\u226c\u226d\u226e" +
+        "\u226f\u2270\u2271\u2272\u2273\u2274\u2275\u2276\u2277\u2278\u2279" +
+        "\u227a\u227b\u227c\u227d\u227e\u227f\u2280\u2281\u2282\u2283\u2284" +
+        "\u2285\u2286\u2287\u2288\u2289\u228a\u228b\u228c\u228d\u228e\u228f" +
+        "\u2290\u2291\u2292\u2293\u2294\u2295\u2296\u2297\u2298\u2299\u229a" +
+        "\u229b\u229c\u229d\u229e\u229f\u22a0\u22a1\u22a2\u22a3\u22a4\u22a5" +
+        "\u22a6\u22a7\u22a8\u22a9\u22aa\u22ab\u22ac\u22ad\u22ae\u22af\u22b0" +
+        "\u22b1\u22b2\u22b3\u22b4\u22b5\u22b6\u22b7\u22b8\u22b9\u22ba\u22bb" +
+        "\u22bc\u22bd\u22be\u22bf\u22c0\u22c1\u22c2\u22c3\u22c4\u22c5\u22c6" +
+        "\u22c7\u22c8\u22c9\u22ca\u22cb\u22cc\u22cd\u22ce\u22cf\u22d0\u22d1" +
+        "\u22d2\u22d3\u22d4\u22d5\u22d6\u22d7\u22d8\u22d9\u22da\u22db\u22dc" +
+        "\u22dd\u22de\u22df\u22e0\u22e1\u22e2\u22e3\u22e4\u22e5\u22e6\u22e7" +
+        "\u22e8\u22e9\u22ea\u22eb\u22ec\u22ed\u22ee\u22ef\u22f0\u22f1\u22f2" +
+        "\u22f3\u22f4\u22f5\u22f6\u22f7\u22f8\u22f9\u22fa\u22fb\u22fc\u22fd" +
+        "\u22fe\u22ff\u2300\u2301\u2302\u2303\u2304\u2305\u2306\u2307\u2308" +
+        "\u2309\u230a\u230b\u230c\u230d\u230e\u230f\u2310\u2311\u2312\u2313" +
+        "\u2314\u2315\u2316\u2317\u2318\u2319\u231a\u231b\u231c\u231d\u231e" +
+        "\u231f\u2320\u2321\u2322\u2323\u2324\u2325\u2326\u2327\u2328\u2329" +
+        "\u232a\u232b\u232c\u232d\u232e\u232f\u2330\u2331\u2332\u2333\u2334" +
+        "\u2335\u2336\u2337\u2338\u2339\u233a\u233b\u233c\u233d\u233e\u233f" +
+        "\u2340\u2341\u2342\u2343\u2344\u2345\u2346\u2347\u2348\u2349\u234a" +
+        "\u234b\u234c\u234d\u234e\u234f\u2350\u2351\u2352\u2353\u2354\u2355" +
+        "\u2356\u2357\u2358\u2359\u235a\u235b\u235c\u235d\u235e\u235f\u2360" +
+        "\u2361\u2362\u2363\u2364\u2365\u2366\u2367\u2368\u2369\u236a\u236b" +
+        "\u236c\u236d\u236e\u236f\u2370\u2371\u2372\u2373\u2374\u2375\u2376" +
+        "\u2377\u2378\u2379\u237a\u237b\u237c\u237d\u237e\u237f\u2380\u2381" +
+        "\u2382\u2383\u2384\u2385\u2386\u2387\u2388\u2389\u238a\u238b\u238c" +
+        "\u238d\u238e\u238f\u2390\u2391\u2392\u2393\u2394\u2395\u2396\u2397" +
+        "\u2398\u2399\u239a\u239b\u239c\u239d\u239e\u239f\u23a0\u23a1\u23a2" +
+        "\u23a3\u23a4\u23a5\u23a6\u23a7\u23a8\u23a9\u23aa\u23ab\u23ac\u23ad" +
+        "\u23ae\u23af\u23b0\u23b1\u23b2\u23b3\u23b4\u23b5\u23b6\u23b7\u23b8" +
+        "\u23b9\u23ba\u23bb\u23bc\u23bd\u23be\u23bf\u23c0\u23c1\u23c2\u23c3" +
+        "\u23c4\u23c5\u23c6\u23c7\u23c8\u23c9\u23ca\u23cb\u23cc\u23cd\u23ce" +
+        "\u23cf\u23d0\u23d1\u23d2\u23d3\u23d4\u23d5\u23d6\u23d7\u23d8\u23d9" +
+        "\u23da\u23db\u23dc\u23dd\u23de\u23df\u23e0\u23e1\u23e2\u23e3\u23e4" +
+        "\u23e5\u23e6\u23e7\u23e8\u23e9\u23ea\u23eb\u23ec\u23ed\u23ee\u23ef" +
+        "\u23f0\u23f1\u23f2\u23f3\u23f4\u23f5\u23f6\u23f7\u23f8\u23f9\u23fa" +
+        "\u23fb\u23fc\u23fd\u23fe\u23ff\u2400\u2401\u2402\u2403\u2404\u2405" +
+        "\u2406\u2407\u2408\u2409\u240a\u240b\u240c\u240d\u240e\u240f\u2410" +
+        "\u2411\u2412\u2413\u2414\u2415\u2416\u2417\u2418\u2419\u241a\u241b" +
+        "\u241c\u241d\u241e\u241f\u2420\u2421\u2422\u2423\u2424\u2425\u2426" +
+        "\u2427\u2428\u2429\u242a\u242b\u242c\u242d\u242e\u242f\u2430\u2431" +
+        "\u2432\u2433\u2434\u2435\u2436\u2437\u2438\u2439\u243a\u243b\u243c" +
+        "\u243d\u243e\u243f\u2440\u2441\u2442\u2443\u2444\u2445\u2446\u2447" +
+        "\u2448\u2449\u244a\u244b\u244c\u244d\u244e\u244f\u2450\u2451\u2452" +
+        "\u2453\u2454\u2455\u2456\u2457\u2458\u2459\u245a\u245b\u245c\u245d" +
+        "\u245e\u245f\u2460\u2461\u2462\u2463\u2464\u2465\u2466\u2467\u2468" +
+        "\u2469\u246a\u246b\u246c\u246d\u246e\u246f\u2470\u2471\u2472\u2473" +
+        "\u2474\u2475\u2476\u2477\u2478\u2479\u247a\u247b\u247c\u247d\u247e" +
+        "\u247f\u2480\u2481\u2482\u2483\u2484\u2485\u2486\u2487\u2488\u2489" +
+        "\u248a\u248b\u248c\u248d\u248e\u248f\u2490\u2491\u2492\u2493\u2494" +
+        "\u2495\u2496\u2497\u2498\u2499\u249a\u249b\u249c\u249d\u249e\u249f" +
+        "\u24a0\u24a1\u24a2\u24a3\u24a4\u24a5\u24a6\u24a7\u24a8\u24a9\u24aa" +
+        "\u24ab\u24ac\u24ad\u24ae\u24af\u24b0\u24b1\u24b2\u24b3\u24b4\u24b5" +
+        "\u24b6\u24b7\u24b8\u24b9\u24ba\u24bb\u24bc\u24bd\u24be\u24bf\u24c0" +
+        "\u24c1\u24c2\u24c3\u24c4\u24c5\u24c6\u24c7\u24c8\u24c9\u24ca\u24cb" +
+        "\u24cc\u24cd\u24ce\u24cf\u24d0\u24d1\u24d2\u24d3\u24d4\u24d5\u24d6" +
+        "\u24d7\u24d8\u24d9\u24da\u24db\u24dc\u24dd\u24de\u24df\u24e0\u24e1" +
+        "\u24e2\u24e3\u24e4\u24e5\u24e6\u24e7\u24e8\u24e9\u24ea\u24eb\u24ec" +
+        "\u24ed\u24ee\u24ef\u24f0\u24f1\u24f2\u24f3\u24f4\u24f5\u24f6\u24f7" +
+        "\u24f8\u24f9\u24fa\u24fb\u24fc\u24fd\u24fe\u24ff\u2500\u2501\u2502" +
+        "\u2503\u2504\u2505\u2506\u2507\u2508\u2509\u250a\u250b\u250c\u250d" +
+        "\u250e\u250f\u2510\u2511\u2512\u2513\u2514\u2515\u2516\u2517\u2518" +
+        "\u2519\u251a\u251b\u251c\u251d\u251e\u251f\u2520\u2521\u2522\u2523" +
+        "\u2524\u2525\u2526\u2527\u2528\u2529\u252a\u252b\u252c\u252d\u252e" +
+        "\u252f\u2530\u2531\u2532\u2533\u2534\u2535\u2536\u2537\u2538\u2539" +
+        "\u253a\u253b\u253c\u253d\u253e\u253f\u2540\u2541\u2542\u2543\u2544" +
+        "\u2545\u2546\u2547\u2548\u2549\u254a\u254b\u254c\u254d\u254e\u254f" +
+        "\u2550\u2551\u2552\u2553\u2554\u2555\u2556\u2557\u2558\u2559\u255a" +
+        "\u255b\u255c\u255d\u255e\u255f\u2560\u2561\u2562\u2563\u2564\u2565" +
+        "\u2566\u2567\u2568\u2569\u256a\u256b\u256c\u256d\u256e\u256f\u2570" +
+        "\u2571\u2572\u2573\u2574\u2575\u2576\u2577\u2578\u2579\u257a\u257b" +
+        "\u257c\u257d\u257e\u257f\u2580\u2581\u2582\u2583\u2584\u2585\u2586" +
+        "\u2587\u2588\u2589\u258a\u258b\u258c\u258d\u258e\u258f\u2590\u2591" +
+        "\u2592\u2593\u2594\u2595\u2596\u2597\u2598\u2599\u259a\u259b\u259c" +
+        "\u259d\u259e\u259f\u25a0\u25a1\u25a2\u25a3\u25a4\u25a5\u25a6\u25a7" +
+        "\u25a8\u25a9\u25aa\u25ab\u25ac\u25ad\u25ae\u25af\u25b0\u25b1\u25b2" +
+        "\u25b3\u25b4\u25b5\u25b6\u25b7\u25b8\u25b9\u25ba\u25bb\u25bc\u25bd" +
+        "\u25be\u25bf\u25c0\u25c1\u25c2\u25c3\u25c4\u25c5\u25c6\u25c7\u25c8" +
+        "\u25c9\u25ca\u25cb\u25cc\u25cd\u25ce\u25cf\u25d0\u25d1\u25d2\u25d3" +
+        "\u25d4\u25d5\u25d6\u25d7\u25d8\u25d9\u25da\u25db\u25dc\u25dd\u25de" +
+        "\u25df\u25e0\u25e1\u25e2\u25e3\u25e4\u25e5\u25e6\u25e7\u25e8\u25e9" +
+        "\u25ea\u25eb\u25ec\u25ed\u25ee\u25ef\u25f0\u25f1\u25f2\u25f3\u25f4" +
+        "\u25f5\u25f6\u25f7\u25f8\u25f9\u25fa\u25fb\u25fc\u25fd\u25fe\u25ff" +
+        "\u2600\u2601\u2602\u2603\u2604\u2605\u2606\u2607\u2608\u2609\u260a" +
+        "\u260b\u260c\u260d\u260e\u260f\u2610\u2611\u2612\u2613\u2614\u2615" +
+        "\u2616\u2617\u2618\u2619\u261a\u261b\u261c\u261d\u261e\u261f\u2620" +
+        "\u2621\u2622\u2623\u2624\u2625\u2626\u2627\u2628\u2629\u262a\u262b" +
+        "\u262c\u262d\u262e\u262f\u2630\u2631\u2632\u2633\u2634\u2635\u2636" +
+        "\u2637\u2638\u2639\u263a\u263b\u263c\u263d\u263e\u263f\u2640\u2641" +
+        "\u2642\u2643\u2644\u2645\u2646\u2647\u2648\u2649\u264a\u264b\u264c" +
+        "\u264d\u264e\u264f\u2650\u2651\u2652\u2653\u2654\u2655\u2656\u2657" +
+        "\u2658\u2659\u265a\u265b\u265c\u265d\u265e\u265f\u2660\u2661\u2662" +
+        "\u2663\u2664\u2665\u2666\u2667\u2668\u2669\u266a\u266b\u266c\u266d" +
+        "\u266e\u266f\u2670\u2671\u2672\u2673\u2674\u2675\u2676\u2677\u2678" +
+        "\u2679\u267a\u267b\u267c\u267d").toCharArray ();
+
+    private static final char[] firstEdge = (
+        "\u00004DLZeuz\u0086\u008e\u009c\u00a1\u00a8\u00b3\u00bb\u00c4\u00d2" +
+        "\u00db\u00df\u00eb\u00f8\u0103\u0111\u011a\u011f\u0123\u012c\u0134" +
+        "\u0144\u0154\u0163\u0176\u0188\u0194\u01a5\u01af\u01be\u01c4\u01cc" +
+        "\u01e3\u01f1\u0209\u021b\u0227\u022d\u0242\u0255\u0262\u0274\u0283" +
+        "\u028a\u0298\u02a0\u02aa\u02ab\u02ac\u02ad\u02ae\u02b0\u02b1\u02b2" +
+        "\u02b3\u02b4\u02b5\u02b7\u02b8\u02b9\u02bb\u02bc\u02bd\u02bf\u02c0" +
+        "\u02c3\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cd\u02d1\u02d2" +
+        "\u02d4\u02d5\u02d6\u02d7\u02d8\u02dc\u02dd\u02de\u02df\u02e1\u02e2" +
+        "\u02e3\u02e4\u02e7\u02e9\u02ea\u02eb\u02ed\u02f1\u02f3\u02f4\u02f5" +
+        "\u02f6\u02f9\u02fa\u02fb\u02fc\u02fd\u02ff\u0301\u0302\u0303\u0305" +
+        "\u0306\u0307\u0309\u030a\u030b\u030c\u030f\u0310\u0311\u0312\u0313" +
+        "\u0314\u0317\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0321" +
+        "\u0322\u0323\u0324\u0326\u0328\u0329\u032a\u032b\u032c\u032d\u032f" +
+        "\u0330\u0331\u0332\u0335\u0337\u033a\u033b\u033c\u033e\u0340\u0341" +
+        "\u0342\u0344\u0345\u0346\u0347\u0348\u034a\u034b\u034c\u034d\u034e" +
+        "\u034f\u0354\u0357\u0359\u035a\u035c\u035d\u0360\u0363\u0364\u0365" +
+        "\u0366\u0368\u0369\u036a\u036b\u036c\u036d\u036e\u036f\u0372\u0375" +
+        "\u0376\u037a\u037b\u037c\u037d\u037e\u037f\u0381\u0382\u0383\u0384" +
+        "\u0387\u0388\u0389\u038a\u038c\u038d\u038e\u038f\u0390\u0391\u0392" +
+        "\u0393\u0394\u0395\u0397\u039b\u039d\u039e\u039f\u03a0\u03a1\u03a2" +
+        "\u03a3\u03a6\u03a9\u03ab\u03ac\u03ad\u03ae\u03b0\u03b1\u03b3\u03b4" +
+        "\u03b6\u03b7\u03b8\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c4\u03c5" +
+        "\u03c6\u03ca\u03cb\u03cc\u03ce\u03d0\u03d3\u03d4\u03d6\u03d7\u03d8" +
+        "\u03d9\u03db\u03dd\u03de\u03e0\u03e1\u03e2\u03e3\u03e4\u03e6\u03e8" +
+        "\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7\u03f8\u03fa\u03fb" +
+        "\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404\u0405\u0406" +
+        "\u0407\u0408\u0409\u040a\u040b\u040d\u040e\u040f\u0410\u0411\u0412" +
+        "\u0413\u0415\u0416\u0418\u0419\u041a\u041b\u041c\u041d\u0423\u0424" +
+        "\u0426\u0427\u0429\u042b\u042d\u042f\u0436\u0437\u043a\u043b\u043c" +
+        "\u043e\u043f\u0441\u0442\u0444\u0445\u044a\u044b\u044c\u044d\u0450" +
+        "\u0452\u0456\u0457\u0459\u045d\u045f\u0462\u0466\u0467\u046a\u046b" +
+        "\u046e\u046f\u0470\u0474\u0476\u0478\u0479\u0480\u0482\u0483\u0484" +
+        "\u0485\u0489\u048b\u048d\u0490\u0493\u0495\u0496\u049b\u049c\u049d" +
+        "\u04a2\u04a4\u04a7\u04a9\u04ab\u04ac\u04ae\u04b0\u04b2\u04b6\u04b7" +
+        "\u04b8\u04ba\u04bd\u04c1\u04c4\u04c6\u04c8\u04cb\u04cf\u04d1\u04d4" +
+        "\u04d6\u04d8\u04db\u04dc\u04dd\u04de\u04e1\u04e2\u04e3\u04e6\u04e7" +
+        "\u04e9\u04ea\u04ec\u04ed\u04ef\u04f2\u04f3\u04f5\u04f6\u04fa\u04fb" +
+        "\u04fd\u04fe\u04ff\u0503\u0507\u0508\u0509\u050b\u0511\u0513\u0514" +
+        "\u0518\u0519\u051a\u051d\u051e\u051f\u0524\u0527\u0529\u052a\u052d" +
+        "\u052f\u0531\u0532\u0536\u0537\u053a\u053f\u0543\u0544\u0545\u0547" +
+        "\u0549\u054b\u054d\u054e\u054f\u0550\u0552\u0553\u0554\u0556\u0557" +
+        "\u0558\u0559\u055a\u055b\u055c\u055f\u0560\u0562\u0563\u056c\u056f" +
+        "\u0573\u0577\u057c\u057f\u0581\u0583\u0584\u0589\u058b\u058f\u0597" +
+        "\u0598\u059d\u05a3\u05ab\u05ac\u05ae\u05af\u05b3\u05b5\u05b6\u05b7" +
+        "\u05b8\u05b9\u05bc\u05be\u05bf\u05c1\u05c2\u05c4\u05c7\u05c9\u05cc" +
+        "\u05cd\u05cf\u05d4\u05d6\u05db\u05dc\u05e3\u05e4\u05e8\u05eb\u05ee" +
+        "\u05ef\u05f6\u05f7\u05f9\u05fc\u0600\u0607\u060b\u060d\u0616\u0619" +
+        "\u061a\u061c\u061e\u0623\u0624\u0626\u0629\u062b\u062c\u0630\u0633" +
+        "\u0634\u0637\u063e\u0641\u0642\u0643\u0644\u0645\u0646\u0647\u0648" +
+        "\u064b\u064e\u0650\u0651\u0654\u065e\u0660\u0661\u0662\u0663\u0664" +
+        "\u0665\u0666\u0669\u066c\u066d\u066e\u0675\u0678\u067c\u0680\u0683" +
+        "\u0686\u0688\u068b\u068e\u068f\u0690\u0694\u0696\u0697\u069b\u069e" +
+        "\u069f\u06a0\u06a1\u06a2\u06ac\u06ad\u06b4\u06b5\u06b9\u06bb\u06bc" +
+        "\u06c0\u06c3\u06c4\u06c7\u06c8\u06cc\u06ce\u06d3\u06d6\u06d7\u06d9" +
+        "\u06da\u06dd\u06de\u06df\u06e0\u06e4\u06e7\u06ea\u06eb\u06ee\u06f1" +
+        "\u06f3\u06f4\u06f5\u06f7\u06f8\u06fa\u06fd\u06ff\u0700\u0702\u0704" +
+        "\u0706\u0708\u070e\u0711\u0712\u0715\u0717\u0718\u0719\u071a\u071b" +
+        "\u071d\u071e\u071f\u0722\u0723\u0724\u0725\u0726\u0727\u0728\u072a" +
+        "\u072b\u072c\u072e\u072f\u0730\u0731\u0733\u0734\u0737\u0738\u0739" +
+        "\u073b\u073c\u073e\u073f\u0740\u0743\u0745\u0747\u0749\u074a\u074b" +
+        "\u074c\u074e\u074f\u0750\u0751\u0752\u0753\u0755\u0756\u0758\u0759" +
+        "\u075b\u075c\u075d\u075e\u075f\u0760\u0762\u0763\u0764\u0765\u0766" +
+        "\u0767\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771" +
+        "\u0772\u0773\u0774\u0775\u0776\u0778\u0779\u077a\u077b\u077c\u077d" +
+        "\u077e\u077f\u0780\u0781\u0782\u0783\u0784\u0786\u0787\u0788\u0789" +
+        "\u078a\u078b\u078c\u078d\u078e\u078f\u0790\u0791\u0793\u0794\u0797" +
+        "\u0799\u079a\u079b\u079c\u079e\u079e\u079f\u07a0\u07a1\u07a2\u07a3" +
+        "\u07a4\u07a5\u07a6\u07a7\u07a9\u07aa\u07ac\u07ad\u07ae\u07b1\u07b2" +
+        "\u07b3\u07b4\u07b5\u07b6\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc\u07bd" +
+        "\u07be\u07bf\u07c0\u07c1\u07c2\u07c3\u07c4\u07c6\u07c7\u07c8\u07c9" +
+        "\u07ca\u07cb\u07cc\u07cd\u07ce\u07cf\u07d0\u07d1\u07d2\u07d3\u07d4" +
+        "\u07d4\u07d5\u07d6\u07d7\u07d8\u07d9\u07da\u07db\u07db\u07dc\u07dd" +
+        "\u07de\u07de\u07df\u07e0\u07e1\u07e2\u07e3\u07e4\u07e5\u07e6\u07e7" +
+        "\u07e8\u07e9\u07ea\u07eb\u07ec\u07ed\u07ee\u07ef\u07f0\u07f1\u07f2" +
+        "\u07f2\u07f4\u07f5\u07f7\u07f8\u07f9\u07fa\u07fb\u07fc\u07fd\u07fe" +
+        "\u07ff\u0800\u0801\u0802\u0803\u0804\u0805\u0806\u0807\u0808\u0809" +
+        "\u080a\u080b\u080c\u080d\u080e\u080f\u080f\u0810\u0811\u0812\u0813" +
+        "\u0814\u0815\u0816\u0817\u0818\u0819\u081a\u081a\u081b\u081c\u081d" +
+        "\u081e\u081f\u0820\u0821\u0822\u0822\u0823\u0824\u0825\u0826\u0827" +
+        "\u0828\u0829\u082a\u082a\u082b\u082c\u082d\u082e\u082f\u0830\u0831" +
+        "\u0832\u0833\u0834\u0835\u0836\u0843\u0844\u0845\u0845\u0846\u0847" +
+        "\u0848\u0849\u084a\u084b\u084c\u084d\u084e\u084f\u0850\u0851\u0851" +
+        "\u0852\u0853\u0855\u0856\u0857\u0858\u0859\u085a\u085b\u085b\u085c" +
+        "\u085d\u085e\u085e\u085f\u0860\u0862\u0863\u0864\u0865\u0866\u0867" +
+        "\u0868\u0869\u086a\u086b\u086c\u086d\u086e\u086f\u0870\u0870\u0871" +
+        "\u0872\u0873\u0874\u0875\u0876\u0877\u0878\u0879\u087a\u087b\u087c" +
+        "\u087d\u087e\u087e\u087f\u0880\u0881\u0882\u0883\u0884\u0885\u0886" +
+        "\u0887\u0888\u0889\u088a\u088b\u088d\u088f\u0890\u0893\u0894\u0895" +
+        "\u0896\u0897\u0898\u0899\u089a\u089b\u089c\u089d\u089f\u08a1\u08a2" +
+        "\u08a3\u08a4\u08a5\u08a6\u08a7\u08a8\u08aa\u08ab\u08ac\u08ad\u08ae" +
+        "\u08af\u08b0\u08b1\u08b2\u08b3\u08b4\u08b5\u08b6\u08b7\u08b8\u08b9" +
+        "\u08ba\u08bb\u08bc\u08bd\u08be\u08bf\u08c0\u08c1\u08c2\u08c3\u08c4" +
+        "\u08c5\u08c8\u08c9\u08ca\u08cb\u08cc\u08cd\u08ce\u08cf\u08d0\u08d1" +
+        "\u08d2\u08d2\u08d3\u08d4\u08d5\u08d6\u08d7\u08d8\u08d9\u08da\u08db" +
+        "\u08dc\u08dd\u08de\u08df\u08e0\u08e1\u08e2\u08e3\u08e4\u08e5\u08e6" +
+        "\u08e7\u08e8\u08e9\u08ea\u08ea\u08eb\u08ec\u08ed\u08ee\u08ef\u08f0" +
+        "\u08f0\u08f1\u08f2\u08f4\u08f5\u08f7\u08f8\u08fd\u0904\u0905\u0906" +
+        "\u0906\u0907\u0908\u0909\u090a\u090b\u090c\u090d\u090e\u090f\u0910" +
+        "\u0911\u0912\u0913\u0914\u0915\u0916\u0918\u0919\u091a\u091b\u091c" +
+        "\u091d\u091e\u091f\u0920\u0923\u0924\u092b\u092c\u092e\u0930\u0931" +
+        "\u0933\u0934\u0935\u0937\u0938\u0944\u0945\u0946\u0947\u0948\u0949" +
+        "\u094a\u094b\u094c\u094d\u094e\u0954\u0956\u0958\u0959\u095a\u095b" +
+        "\u095c\u095d\u095e\u095f\u0960\u0961\u0962\u0963\u096a\u096b\u096c" +
+        "\u096e\u0970\u0973\u0974\u0975\u0976\u0978\u0979\u097a\u097c\u097d" +
+        "\u0983\u0987\u0988\u0989\u098a\u098b\u098c\u098d\u098e\u098f\u0990" +
+        "\u0991\u0992\u0993\u0994\u0995\u0996\u0996\u0998\u0999\u099a\u099b" +
+        "\u099c\u099d\u099e\u099f\u09a0\u09a1\u09a2\u09a3\u09a6\u09a7\u09a9" +
+        "\u09aa\u09ab\u09b0\u09b1\u09b2\u09b3\u09b5\u09b7\u09b8\u09b9\u09ba" +
+        "\u09bb\u09bc\u09bd\u09be\u09bf\u09c0\u09c1\u09c2\u09c3\u09c4\u09c5" +
+        "\u09c6\u09c7\u09c8\u09c9\u09c9\u09ca\u09cb\u09cb\u09cc\u09ce\u09ce" +
+        "\u09cf\u09d0\u09d2\u09d3\u09d4\u09d5\u09d6\u09d7\u09d8\u09d9\u09da" +
+        "\u09db\u09dc\u09de\u09e0\u09e3\u09e4\u09e5\u09e6\u09e7\u09e8\u09e9" +
+        "\u09ea\u09eb\u09ec\u09ed\u09ee\u09ef\u09f1\u09f2\u09f3\u09f4\u09f5" +
+        "\u09f7\u09f8\u09f9\u09fa\u09fb\u09fc\u09fd\u09fe\u09ff\u0a01\u0a02" +
+        "\u0a04\u0a05\u0a06\u0a06\u0a07\u0a08\u0a09\u0a0a\u0a0b\u0a0c\u0a0d" +
+        "\u0a0e\u0a0e\u0a0f\u0a12\u0a16\u0a17\u0a17\u0a18\u0a19\u0a1a\u0a1a" +
+        "\u0a1b\u0a1c\u0a1d\u0a1e\u0a1f\u0a21\u0a22\u0a23\u0a24\u0a25\u0a26" +
+        "\u0a26\u0a28\u0a29\u0a2a\u0a2b\u0a30\u0a31\u0a32\u0a33\u0a34\u0a35" +
+        "\u0a36\u0a38\u0a39\u0a3a\u0a3b\u0a3c\u0a3d\u0a3e\u0a40\u0a41\u0a42" +
+        "\u0a43\u0a44\u0a45\u0a46\u0a47\u0a48\u0a49\u0a4a\u0a4b\u0a4b\u0a4c" +
+        "\u0a4d\u0a4e\u0a4f\u0a50\u0a51\u0a52\u0a52\u0a54\u0a55\u0a56\u0a57" +
+        "\u0a5a\u0a5b\u0a5c\u0a5c\u0a5d\u0a5e\u0a5f\u0a64\u0a65\u0a66\u0a67" +
+        "\u0a68\u0a69\u0a6a\u0a6b\u0a6c\u0a6c\u0a6d\u0a6e\u0a6f\u0a70\u0a71" +
+        "\u0a72\u0a73\u0a74\u0a75\u0a76\u0a77\u0a78\u0a79\u0a7a\u0a7b\u0a7c" +
+        "\u0a7d\u0a7e\u0a7f\u0a80\u0a81\u0a82\u0a83\u0a84\u0a84\u0a85\u0a86" +
+        "\u0a87\u0a88\u0a89\u0a8a\u0a8b\u0a8c\u0a8d\u0a8e\u0a91\u0a92\u0a93" +
+        "\u0a95\u0a96\u0a98\u0a99\u0a9a\u0a9b\u0a9c\u0a9e\u0a9f\u0a9f\u0aa0" +
+        "\u0aa1\u0aa4\u0aa9\u0aaa\u0aab\u0aac\u0aac\u0aad\u0aae\u0aaf\u0ab0" +
+        "\u0ab0\u0ab1\u0ab2\u0ab3\u0ab4\u0ab5\u0ab6\u0ab7\u0ab8\u0aba\u0abb" +
+        "\u0abd\u0abe\u0abf\u0ac0\u0ac3\u0ac4\u0ac6\u0ac9\u0aca\u0acb\u0acc" +
+        "\u0acd\u0ace\u0acf\u0ad0\u0ad1\u0ad2\u0ad3\u0ad5\u0ad6\u0ad6\u0ad8" +
+        "\u0ad9\u0ada\u0adb\u0adc\u0add\u0adf\u0ae1\u0ae2\u0ae3\u0ae4\u0ae5" +
+        "\u0ae7\u0ae9\u0aea\u0aeb\u0aec\u0aed\u0aee\u0aef\u0af0\u0af1\u0af5" +
+        "\u0af6\u0af7\u0af8\u0af9\u0afa\u0afb\u0afb\u0afc\u0afd\u0afd\u0afe" +
+        "\u0aff\u0b00\u0b02\u0b03\u0b04\u0b06\u0b07\u0b08\u0b09\u0b0a\u0b0b" +
+        "\u0b0c\u0b11\u0b12\u0b13\u0b14\u0b16\u0b17\u0b18\u0b19\u0b1a\u0b1b" +
+        "\u0b1b\u0b1c\u0b1d\u0b1e\u0b1f\u0b21\u0b22\u0b23\u0b24\u0b27\u0b28" +
+        "\u0b2a\u0b2b\u0b2c\u0b2d\u0b2d\u0b2f\u0b30\u0b31\u0b32\u0b33\u0b34" +
+        "\u0b35\u0b39\u0b3a\u0b3c\u0b3d\u0b3e\u0b41\u0b42\u0b43\u0b46\u0b47" +
+        "\u0b48\u0b49\u0b4a\u0b4e\u0b4f\u0b50\u0b51\u0b52\u0b53\u0b56\u0b57" +
+        "\u0b58\u0b59\u0b5a\u0b5a\u0b5d\u0b5e\u0b5f\u0b60\u0b61\u0b63\u0b64" +
+        "\u0b67\u0b69\u0b6a\u0b6b\u0b6c\u0b6d\u0b6d\u0b6e\u0b6f\u0b70\u0b71" +
+        "\u0b72\u0b73\u0b74\u0b75\u0b76\u0b77\u0b78\u0b79\u0b7a\u0b7b\u0b7c" +
+        "\u0b7d\u0b7e\u0b7f\u0b80\u0b82\u0b83\u0b84\u0b85\u0b86\u0b89\u0b8a" +
+        "\u0b8b\u0b8c\u0b8d\u0b8d\u0b8e\u0b92\u0b93\u0b94\u0b95\u0b96\u0b97" +
+        "\u0b98\u0b99\u0b9b\u0b9c\u0b9d\u0ba1\u0ba2\u0ba7\u0ba8\u0baa\u0bab" +
+        "\u0bac\u0bac\u0bad\u0bae\u0baf\u0bb0\u0bb0\u0bb1\u0bb2\u0bb3\u0bb3" +
+        "\u0bb4\u0bb5\u0bb6\u0bb8\u0bb9\u0bbc\u0bbf\u0bc0\u0bc1\u0bc2\u0bc3" +
+        "\u0bc4\u0bc5\u0bc6\u0bc7\u0bc8\u0bc9\u0bca\u0bcb\u0bcc\u0bcd\u0bce" +
+        "\u0bcf\u0bd0\u0bd1\u0bd3\u0bd4\u0bd5\u0bd6\u0bd7\u0bd8\u0bda\u0bdb" +
+        "\u0bdc\u0bde\u0bdf\u0be1\u0be2\u0be3\u0be4\u0be5\u0be6\u0be7\u0be8" +
+        "\u0be9\u0bea\u0beb\u0bec\u0bed\u0bee\u0bf0\u0bf1\u0bf2\u0bf3\u0bf4" +
+        "\u0bf5\u0bf6\u0bf7\u0bf8\u0bfa\u0bfb\u0bfe\u0bff\u0c00\u0c01\u0c02" +
+        "\u0c03\u0c04\u0c05\u0c07\u0c08\u0c09\u0c0a\u0c0b\u0c0b\u0c0c\u0c0d" +
+        "\u0c0d\u0c0e\u0c10\u0c11\u0c13\u0c14\u0c17\u0c18\u0c19\u0c1a\u0c1b" +
+        "\u0c1c\u0c1d\u0c1e\u0c1f\u0c20\u0c21\u0c22\u0c24\u0c25\u0c27\u0c28" +
+        "\u0c29\u0c2a\u0c32\u0c33\u0c35\u0c36\u0c38\u0c3a\u0c3b\u0c3d\u0c3e" +
+        "\u0c40\u0c42\u0c43\u0c46\u0c47\u0c48\u0c49\u0c4a\u0c4b\u0c4c\u0c4e" +
+        "\u0c57\u0c58\u0c59\u0c5a\u0c67\u0c68\u0c69\u0c6a\u0c6b\u0c6c\u0c6d" +
+        "\u0c6e\u0c6f\u0c70\u0c71\u0c72\u0c73\u0c74\u0c76\u0c78\u0c7a\u0c7b" +
+        "\u0c7c\u0c7d\u0c7e\u0c7f\u0c83\u0c84\u0c85\u0c86\u0c8d\u0c8e\u0c90" +
+        "\u0c91\u0c92\u0c93\u0c94\u0c95\u0c96\u0c97\u0c98\u0c9a\u0c9b\u0c9c" +
+        "\u0c9d\u0c9e\u0c9f\u0ca0\u0ca1\u0ca2\u0ca3\u0ca4\u0ca6\u0ca7\u0ca8" +
+        "\u0ca9\u0caa\u0cab\u0cac\u0cad\u0cae\u0caf\u0cb0\u0cb1\u0cb3\u0cb4" +
+        "\u0cb5\u0cb6\u0cb7\u0cb8\u0cb9\u0cba\u0cbb\u0cbc\u0cbd\u0cbe\u0cbf" +
+        "\u0cc0\u0cc7\u0cc8\u0cc9\u0ccc\u0ccd\u0ccf\u0cd0\u0cd1\u0cd2\u0cd3" +
+        "\u0cd4\u0cd5\u0cd6\u0cd8\u0cd9\u0cda\u0cdc\u0cdd\u0cde\u0cdf\u0cdf" +
+        "\u0cdf\u0ce0\u0ce1\u0ce2\u0ce3\u0ce4\u0ce5\u0ce6\u0ce7\u0ce8\u0ce8" +
+        "\u0ce9\u0cea\u0ceb\u0cec\u0ced\u0cef\u0cf0\u0cf1\u0cf2\u0cf3\u0cf4" +
+        "\u0cf5\u0cf6\u0cf7\u0cf8\u0cfa\u0cfb\u0cfc\u0cfd\u0cfe\u0cff\u0d00" +
+        "\u0d01\u0d02\u0d03\u0d04\u0d05\u0d06\u0d07\u0d08\u0d09\u0d0a\u0d0b" +
+        "\u0d0c\u0d0d\u0d0e\u0d0f\u0d10\u0d11\u0d11\u0d12\u0d13\u0d14\u0d14" +
+        "\u0d14\u0d15\u0d16\u0d17\u0d17\u0d18\u0d19\u0d1a\u0d1b\u0d1c\u0d1d" +
+        "\u0d1e\u0d1f\u0d20\u0d21\u0d22\u0d22\u0d23\u0d24\u0d25\u0d25\u0d26" +
+        "\u0d27\u0d28\u0d29\u0d2a\u0d2b\u0d2c\u0d2c\u0d2d\u0d2e\u0d2f\u0d30" +
+        "\u0d31\u0d32\u0d33\u0d34\u0d35\u0d35\u0d35\u0d36\u0d37\u0d38\u0d39" +
+        "\u0d3a\u0d3b\u0d3c\u0d3d\u0d3e\u0d3f\u0d40\u0d41\u0d41\u0d42\u0d43" +
+        "\u0d44\u0d45\u0d46\u0d47\u0d48\u0d49\u0d4a\u0d4a\u0d4a\u0d4b\u0d4b" +
+        "\u0d4c\u0d4d\u0d4e\u0d4f\u0d4f\u0d50\u0d51\u0d52\u0d58\u0d59\u0d5a" +
+        "\u0d5a\u0d5a\u0d5b\u0d5c\u0d5d\u0d5d\u0d5e\u0d5e\u0d5f\u0d60\u0d61" +
+        "\u0d62\u0d63\u0d64\u0d65\u0d66\u0d67\u0d68\u0d69\u0d69\u0d6a\u0d6b" +
+        "\u0d6c\u0d6c\u0d6c\u0d6d\u0d6e\u0d6f\u0d70\u0d71\u0d72\u0d73\u0d74" +
+        "\u0d75\u0d76\u0d76\u0d77\u0d77\u0d78\u0d79\u0d7a\u0d7b\u0d7c\u0d7c" +
+        "\u0d7d\u0d7d\u0d7e\u0d7f\u0d80\u0d81\u0d82\u0d84\u0d85\u0d86\u0d87" +
+        "\u0d88\u0d89\u0d89\u0d8a\u0d8a\u0d8b\u0d8c\u0d8d\u0d8e\u0d8e\u0d90" +
+        "\u0d91\u0d92\u0d93\u0d94\u0d95\u0d96\u0d97\u0d98\u0d99\u0d99\u0d99" +
+        "\u0d9a\u0d9b\u0d9c\u0d9d\u0d9e\u0d9f\u0da0\u0da1\u0da1\u0da1\u0da2" +
+        "\u0da3\u0da4\u0da5\u0da6\u0da7\u0da8\u0da9\u0daa\u0dab\u0dab\u0db5" +
+        "\u0dbb\u0dbb\u0dbc\u0dbd\u0dc1\u0dc2\u0dc3\u0dc4\u0dc4\u0dc5\u0dc5" +
+        "\u0dc5\u0dc6\u0dc7\u0dc7\u0dc8\u0dc9\u0dca\u0dcb\u0dcc\u0dcd\u0dce" +
+        "\u0dce\u0dcf\u0dd0\u0dd1\u0dd1\u0dd2\u0dd3\u0dd4\u0dd4\u0dd6\u0dd7" +
+        "\u0dda\u0ddb\u0ddc\u0ddd\u0dde\u0ddf\u0de1\u0de3\u0de4\u0de5\u0de6" +
+        "\u0de7\u0de8\u0de9\u0dea\u0dea\u0deb\u0deb\u0dec\u0ded\u0dee\u0def" +
+        "\u0df0\u0df1\u0df2\u0df3\u0df4\u0df5\u0df6\u0df8\u0df9\u0df9\u0df9" +
+        "\u0df9\u0dfa\u0dfb\u0dfc\u0dfd\u0dfe\u0dff\u0e00\u0e01\u0e01\u0e02" +
+        "\u0e02\u0e03\u0e04\u0e05\u0e05\u0e06\u0e07\u0e09\u0e0a\u0e0b\u0e0b" +
+        "\u0e0c\u0e0c\u0e0c\u0e0d\u0e0e\u0e0f\u0e10\u0e11\u0e11\u0e12\u0e13" +
+        "\u0e14\u0e15\u0e16\u0e17\u0e18\u0e19\u0e19\u0e19\u0e1a\u0e1b\u0e1c" +
+        "\u0e1d\u0e1e\u0e1f\u0e20\u0e21\u0e21\u0e22\u0e23\u0e24\u0e24\u0e24" +
+        "\u0e25\u0e26\u0e27\u0e28\u0e29\u0e2a\u0e2a\u0e2a\u0e2b\u0e2c\u0e2c" +
+        "\u0e2c\u0e2d\u0e2e\u0e2f\u0e30\u0e31\u0e32\u0e33\u0e34\u0e35\u0e36" +
+        "\u0e38\u0e39\u0e3a\u0e3b\u0e3b\u0e3c\u0e3c\u0e3d\u0e3e\u0e3f\u0e40" +
+        "\u0e41\u0e42\u0e43\u0e44\u0e45\u0e46\u0e47\u0e48\u0e49\u0e4b\u0e4c" +
+        "\u0e4d\u0e4e\u0e4f\u0e50\u0e51\u0e51\u0e52\u0e52\u0e53\u0e55\u0e56" +
+        "\u0e56\u0e57\u0e58\u0e59\u0e5a\u0e5b\u0e5b\u0e5c\u0e5d\u0e5d\u0e5e" +
+        "\u0e5f\u0e60\u0e61\u0e62\u0e63\u0e64\u0e64\u0e64\u0e65\u0e66\u0e67" +
+        "\u0e68\u0e69\u0e6a\u0e6a\u0e6b\u0e6c\u0e6d\u0e6d\u0e6e\u0e6f\u0e70" +
+        "\u0e71\u0e71\u0e71\u0e72\u0e73\u0e73\u0e74\u0e74\u0e75\u0e76\u0e77" +
+        "\u0e78\u0e79\u0e7a\u0e7a\u0e7a\u0e7b\u0e7c\u0e7d\u0e7e\u0e7e\u0e7f" +
+        "\u0e80\u0e81\u0e82\u0e84\u0e85\u0e86\u0e87\u0e87\u0e88\u0e88\u0e89" +
+        "\u0e8a\u0e8b\u0e8c\u0e8d\u0e8d\u0e8e\u0e8f\u0e90\u0e91\u0e92\u0e93" +
+        "\u0e97\u0e98\u0e99\u0e9b\u0e9c\u0e9c\u0e9d\u0e9e\u0e9f\u0ea0\u0ea1" +
+        "\u0ea2\u0ea3\u0ea4\u0ea4\u0ea7\u0eaa\u0eac\u0ead\u0eae\u0eaf\u0eb0" +
+        "\u0eb1\u0eb2\u0eb3\u0eb5\u0eb6\u0eb7\u0eb7\u0eb8\u0eb9\u0eba\u0eba" +
+        "\u0ebb\u0ebc\u0ec0\u0ec5\u0ec9\u0ed0\u0ed1\u0ed5\u0eda\u0edb\u0edc" +
+        "\u0edd\u0ee1\u0ee8\u0ee9\u0eea\u0eeb\u0eec\u0eed\u0eef\u0ef2\u0ef4" +
+        "\u0ef7\u0ef8\u0ef8\u0ef9\u0efa\u0efc\u0efd\u0efe\u0eff\u0f00\u0f01" +
+        "\u0f02\u0f03\u0f04\u0f05\u0f06\u0f07\u0f08\u0f0a\u0f0a\u0f0b\u0f0c" +
+        "\u0f0c\u0f0c\u0f0d\u0f10\u0f11\u0f12\u0f13\u0f14\u0f15\u0f16\u0f17" +
+        "\u0f1a\u0f1c\u0f1d\u0f1e\u0f1f\u0f21\u0f22\u0f23\u0f24\u0f26\u0f28" +
+        "\u0f29\u0f2a\u0f2b\u0f2c\u0f2d\u0f2d\u0f2e\u0f30\u0f31\u0f32\u0f33" +
+        "\u0f34\u0f35\u0f36\u0f37\u0f38\u0f39\u0f3a\u0f3b\u0f3c\u0f3d\u0f3e" +
+        "\u0f3f\u0f40\u0f41\u0f43\u0f44\u0f45\u0f46\u0f46\u0f47\u0f48\u0f49" +
+        "\u0f49\u0f4a\u0f4b\u0f4c\u0f4c\u0f4e\u0f51\u0f51\u0f52\u0f53\u0f53" +
+        "\u0f54\u0f55\u0f56\u0f57\u0f58\u0f59\u0f5a\u0f5a\u0f5b\u0f5c\u0f5d" +
+        "\u0f5e\u0f5f\u0f62\u0f63\u0f64\u0f65\u0f66\u0f67\u0f68\u0f69\u0f6a" +
+        "\u0f6c\u0f6d\u0f6e\u0f6f\u0f70\u0f71\u0f72\u0f73\u0f74\u0f75\u0f76" +
+        "\u0f78\u0f79\u0f79\u0f7a\u0f7b\u0f7b\u0f7c\u0f7c\u0f7d\u0f7e\u0f7e" +
+        "\u0f7e\u0f7f\u0f80\u0f81\u0f83\u0f83\u0f84\u0f85\u0f86\u0f88\u0f89" +
+        "\u0f8c\u0f8d\u0f8e\u0f8f\u0f90\u0f91\u0f92\u0f93\u0f94\u0f95\u0f96" +
+        "\u0f97\u0f98\u0f99\u0f99\u0f99\u0f9a\u0f9b\u0f9c\u0f9d\u0f9e\u0f9f" +
+        "\u0fa0\u0fa0\u0fa1\u0fa2\u0fa3\u0fa4\u0fa4\u0fa5\u0fa6\u0fa7\u0fa8" +
+        "\u0fa9\u0faa\u0fab\u0fac\u0fae\u0faf\u0fb5\u0fb6\u0fb7\u0fb8\u0fb8" +
+        "\u0fb9\u0fba\u0fba\u0fbb\u0fbc\u0fbc\u0fbd\u0fbd\u0fbd\u0fbe\u0fbf" +
+        "\u0fbf\u0fc0\u0fc1\u0fc3\u0fc3\u0fc3\u0fc4\u0fc5\u0fc5\u0fc5\u0fc5" +
+        "\u0fc5\u0fc7\u0fc7\u0fc9\u0fca\u0fcb\u0fcc\u0fcd\u0fd0\u0fd1\u0fd2" +
+        "\u0fd3\u0fd4\u0fd5\u0fd7\u0fd8\u0fd9\u0fda\u0fdb\u0fdc\u0fdd\u0fde" +
+        "\u0fdf\u0fe0\u0fe1\u0fe2\u0fe5\u0fe6\u0fe7\u0fe8\u0fe9\u0fea\u0fea" +
+        "\u0feb\u0fec\u0fed\u0fee\u0ff0\u0ff1\u0ff2\u0ff3\u0ff4\u0ff5\u0ff6" +
+        "\u0ff7\u0ff8\u0ff9\u0ff9\u0ffa\u0ffb\u0ffb\u0ffb\u0ffc\u0ffd\u0ffe" +
+        "\u0fff\u1000\u1001\u1002\u1005\u1006\u1007\u1008\u1009\u100a\u100b" +
+        "\u100b\u100c\u100e\u100f\u1010\u1011\u1012\u1013\u1014\u1015\u1016" +
+        "\u1017\u101c\u101d\u101e\u101f\u1020\u1020\u1020\u1021\u1022\u1023" +
+        "\u1024\u1025\u1026\u1027\u1027\u1027\u1028\u1029\u102a\u102b\u102c" +
+        "\u102d\u102e\u102f\u1030\u1030\u1031\u1032\u1033\u1034\u1035\u1038" +
+        "\u1038\u1039\u1041\u1041\u1042\u1044\u1045\u1046\u1047\u1049\u104a" +
+        "\u104b\u104c\u104d\u104d\u104e\u104f\u1050\u1051\u1052\u1057\u1057" +
+        "\u1057\u1058\u1059\u1059\u105a\u105b\u105d\u1062\u1063\u1064\u1064" +
+        "\u1064\u1066\u1067\u1068\u1069\u106a\u106b\u106c\u106d\u106e\u106e" +
+        "\u1070\u1070\u1072\u1073\u1074\u1075\u1076\u1079\u107a\u107b\u107c" +
+        "\u107d\u107e\u107f\u1080\u1080\u1081\u1082\u1084\u1085\u1086\u1087" +
+        "\u1087\u1088\u1089\u108a\u108a\u108d\u108e\u108f\u1090\u1091\u1092" +
+        "\u1093\u1094\u1095\u1096\u1097\u1098\u109b\u109c\u109d\u109e\u109f" +
+        "\u10a0\u10a1\u10a2\u10a4\u10a4\u10a5\u10a6\u10a7\u10a7\u10a8\u10a9" +
+        "\u10a9\u10a9\u10aa\u10aa\u10ab\u10ac\u10ad\u10ae\u10af\u10b0\u10b1" +
+        "\u10b2\u10b3\u10b4\u10b5\u10b6\u10b7\u10b7\u10b7\u10b8\u10b9\u10b9" +
+        "\u10b9\u10ba\u10bb\u10bc\u10bd\u10be\u10bf\u10c0\u10c0\u10c1\u10c2" +
+        "\u10c3\u10c4\u10c5\u10c6\u10c7\u10c8\u10c9\u10ca\u10cb\u10cc\u10cc" +
+        "\u10cd\u10ce\u10d0\u10d1\u10d2\u10d3\u10d4\u10d5\u10d5\u10d5\u10d5" +
+        "\u10d8\u10d9\u10da\u10da\u10db\u10dc\u10dd\u10de\u10de\u10df\u10df" +
+        "\u10e0\u10e1\u10e1\u10e2\u10e3\u10e3\u10e4\u10e7\u10e9\u10ea\u10ea" +
+        "\u10eb\u10ec\u10ed\u10ed\u10ee\u10ef\u10f3\u10f4\u10f4\u10f5\u10f7" +
+        "\u10f8\u10f9\u10fa\u10fb\u10fb\u10fc\u10fd\u10fe\u10ff\u1101\u1102" +
+        "\u1103\u1104\u1108\u1109\u110d\u110e\u110f\u1110\u1111\u1111\u1112" +
+        "\u1113\u1114\u1115\u1116\u1117\u1118\u1119\u111a\u111b\u111c\u111e" +
+        "\u111f\u1120\u1121\u1122\u1124\u1125\u1126\u1127\u1129\u1129\u112a" +
+        "\u112b\u112c\u112d\u112e\u112f\u1130\u1130\u1131\u1132\u1132\u1133" +
+        "\u1133\u1134\u1135\u1136\u1137\u1138\u1138\u1139\u113a\u113b\u113c" +
+        "\u113d\u113e\u113f\u1140\u1141\u1142\u1142\u1143\u1144\u1145\u1146" +
+        "\u1147\u1148\u1148\u1149\u114a\u114b\u114c\u114d\u114e\u114f\u114f" +
+        "\u1151\u1153\u1154\u1154\u1155\u1156\u1157\u1158\u1159\u1159\u1159" +
+        "\u115a\u115b\u115c\u115d\u115d\u115f\u1168\u1169\u116a\u116b\u116b" +
+        "\u116c\u116d\u116d\u1173\u1174\u1175\u1176\u1177\u1178\u117b\u117d" +
+        "\u117e\u117f\u1180\u1180\u1181\u1181\u1182\u1183\u1184\u1185\u1187" +
+        "\u1188\u1189\u118a\u118b\u118c\u118d\u118e\u118f\u1190\u1191\u1192" +
+        "\u1196\u1197\u11a2\u11a3\u11a4\u11a5\u11a6\u11a7\u11a9\u11aa\u11ab" +
+        "\u11ac\u11ad\u11ad\u11ae\u11af\u11b0\u11b1\u11b5\u11b6\u11b6\u11b7" +
+        "\u11b8\u11b8\u11ba\u11ba\u11bb\u11bc\u11bd\u11be\u11bf\u11c0\u11c0" +
+        "\u11c1\u11c2\u11c3\u11c4\u11c5\u11c6\u11c7\u11c8\u11c9\u11cb\u11cc" +
+        "\u11cd\u11ce\u11cf\u11cf\u11d0\u11d1\u11d2\u11d3\u11d7\u11d8\u11d9" +
+        "\u11da\u11da\u11db\u11dc\u11dd\u11dd\u11de\u11df\u11e0\u11e1\u11e2" +
+        "\u11e3\u11e4\u11e4\u11e7\u11e8\u11ea\u11eb\u11ec\u11ed\u11ef\u11f0" +
+        "\u11f0\u11f1\u11f2\u11f3\u11f4\u11f5\u11f5\u11f6\u11f6\u11f7\u11f9" +
+        "\u11fb\u11fd\u11fe\u11ff\u1200\u1201\u1202\u1203\u1204\u1205\u1206" +
+        "\u1206\u1208\u1209\u1209\u120b\u120c\u120d\u120e\u120f\u1210\u1212" +
+        "\u1212\u1213\u1214\u1215\u1216\u1217\u1218\u1219\u121b\u121c\u121d" +
+        "\u121d\u121e\u121f\u1221\u1222\u1224\u1225\u1226\u1229\u122f\u122f" +
+        "\u1230\u1231\u1232\u1233\u1233\u1234\u1236\u1238\u1239\u123a\u123b" +
+        "\u123d\u123e\u1241\u1242\u1244\u1245\u1246\u1247\u1247\u1248\u1249" +
+        "\u124a\u124a\u124b\u124c\u124c\u124d\u124e\u124f\u1250\u1251\u1252" +
+        "\u1253\u1254\u1255\u1256\u1257\u1257\u1258\u1259\u125b\u125c\u125d" +
+        "\u125e\u125f\u1260\u1261\u1262\u1263\u1264\u1265\u1266\u1267\u1268" +
+        "\u1269\u126a\u126b\u126c\u126d\u126e\u126f\u1270\u1271\u1272\u1273" +
+        "\u1273\u1274\u1275\u1276\u1277\u1277\u1278\u127a\u127b\u127c\u127d" +
+        "\u127e\u127f\u127f\u1280\u1281\u1282\u1283\u1284\u1285\u1288\u1289" +
+        "\u128a\u128b\u128c\u128d\u128e\u128f\u1290\u1292\u1293\u1294\u1295" +
+        "\u1296\u1298\u1299\u129a\u129b\u129c\u129d\u12a0\u12a2\u12a4\u12a6" +
+        "\u12a6\u12a7\u12a7\u12a8\u12a9\u12aa\u12ab\u12ac\u12ac\u12ad\u12af" +
+        "\u12b0\u12b1\u12b2\u12b3\u12b4\u12b5\u12b6\u12b7\u12b8\u12b9\u12ba" +
+        "\u12ba\u12bb\u12bc\u12bd\u12be\u12bf\u12c0\u12c1\u12c1\u12c2\u12c3" +
+        "\u12c4\u12c5\u12c6\u12c7\u12c8\u12c9\u12ca\u12cb\u12cc\u12cd\u12ce" +
+        "\u12cf\u12d0\u12d1\u12d2\u12d3\u12d4\u12d5\u12d6\u12d6\u12d6\u12d6" +
+        "\u12d7\u12d8\u12d9\u12da\u12db\u12dc\u12dd\u12dd\u12de\u12df\u12e0" +
+        "\u12e0\u12e1\u12e2\u12e3\u12e4\u12e4\u12e5\u12e6\u12e7\u12e8\u12e9" +
+        "\u12ea\u12eb\u12ec\u12ed\u12ed\u12ee\u12ef\u12ef\u12f0\u12f1\u12f1" +
+        "\u12f2\u12f2\u12f3\u12f4\u12f5\u12f5\u12f5\u12f6\u12f6\u12f7\u12f7" +
+        "\u12f7\u12f8\u12f9\u12fa\u12fb\u12fc\u12fd\u12fe\u12fe\u12ff\u1300" +
+        "\u1301\u1302\u1303\u1305\u1306\u1307\u1308\u1308\u1309\u130a\u130b" +
+        "\u130b\u130c\u130d\u130d\u130d\u130d\u130e\u130e\u130f\u1310\u1311" +
+        "\u1312\u1313\u1314\u1314\u1315\u1316\u1317\u1318\u1319\u131a\u131b" +
+        "\u131c\u131d\u131d\u131e\u131f\u1320\u1321\u1321\u1322\u1323\u1324" +
+        "\u1326\u1327\u1327\u1328\u132a\u132b\u132b\u132b\u132b\u132c\u132d" +
+        "\u132e\u132e\u132f\u1330\u1330\u1330\u1332\u1333\u1334\u1335\u1335" +
+        "\u1335\u1336\u1336\u1337\u1338\u1339\u133a\u133a\u133b\u133b\u133c" +
+        "\u133d\u133e\u133e\u133f\u133f\u1340\u1341\u1341\u1342\u1343\u1344" +
+        "\u1345\u1346\u1347\u1348\u1349\u1349\u1349\u1349\u134a\u134b\u134b" +
+        "\u134c\u134c\u134c\u134d\u134e\u134e\u134e\u134f\u1350\u1350\u1350" +
+        "\u1350\u1351\u1352\u1352\u1353\u1353\u1354\u1355\u1357\u1358\u1359" +
+        "\u135a\u135b\u135d\u135e\u135f\u1360\u1361\u1362\u1363\u1364\u1365" +
+        "\u1366\u1367\u1368\u1369\u136a\u136b\u136c\u136d\u136d\u136f\u136f" +
+        "\u1370\u1371\u1372\u1373\u1373\u1373\u1373\u1374\u1375\u1376\u1377" +
+        "\u1378\u1379\u137a\u137b\u137b\u137c\u137d\u137e\u137f\u1380\u1381" +
+        "\u1382\u1383\u1385\u1386\u1387\u1388\u1389\u138a\u138d\u138e\u138f" +
+        "\u138f\u1390\u1391\u1392\u1393\u1394\u1395\u1396\u1397\u1398\u1398" +
+        "\u1399\u1399\u139a\u139b\u139c\u139c\u139e\u139f\u13a0\u13a1\u13a2" +
+        "\u13a2\u13a3\u13a4\u13a5\u13a6\u13a6\u13a6\u13a6\u13a6\u13a7\u13a8" +
+        "\u13a8\u13a8\u13a9\u13aa\u13ab\u13ac\u13b4\u13b4\u13b5\u13b6\u13b6" +
+        "\u13b7\u13b8\u13b8\u13b9\u13ba\u13bb\u13bc\u13bd\u13c1\u13c2\u13c3" +
+        "\u13c3\u13c3\u13c4\u13c4\u13c4\u13c5\u13c6\u13c7\u13c8\u13c9\u13ca" +
+        "\u13cb\u13cc\u13cc\u13cd\u13ce\u13cf\u13d0\u13d1\u13d2\u13d6\u13d6" +
+        "\u13d7\u13d7\u13d8\u13d9\u13d9\u13da\u13db\u13dc\u13dd\u13de\u13df" +
+        "\u13e0\u13e2\u13e4\u13e5\u13e5\u13e6\u13e7\u13e8\u13ea\u13eb\u13ec" +
+        "\u13ee\u13ee\u13ef\u13f0\u13f0\u13f1\u13f1\u13f2\u13f2\u13f4\u13f5" +
+        "\u13f5\u13f6\u13f7\u13f7\u13f7\u13f8\u13f9\u13fa\u13fa\u13fa\u13fa" +
+        "\u13fa\u13fa\u13fa\u13fa\u13fb\u13fc\u13fc\u13fc\u13fc\u13fc\u13fd" +
+        "\u13fe\u13fe\u13ff\u13ff\u13ff\u13ff\u1400\u1401\u1402\u1403\u1404" +
+        "\u1405\u1406\u1407\u1408\u1409\u140a\u140b\u140b\u140c\u140c\u140c" +
+        "\u140d\u140e\u1410\u1411\u1412\u1413\u1414\u1414\u1415\u1415\u1415" +
+        "\u1416\u1417\u1417\u1419\u141a\u141a\u141b\u141c\u141c\u141d\u141e" +
+        "\u141f\u1420\u1421\u1422\u1422\u1423\u1424\u1425\u1426\u1427\u1428" +
+        "\u1429\u1429\u1429\u142a\u142b\u142c\u142d\u142e\u142f\u1430\u1431" +
+        "\u1432\u1433\u1434\u1435\u1436\u1437\u143a\u143b\u143c\u143d\u143e" +
+        "\u143f\u1440\u1440\u1440\u1441\u1442\u1443\u1444\u1445\u1446\u1446" +
+        "\u1447\u1448\u1449\u144a\u144b\u144c\u144d\u144e\u144e\u144f\u1450" +
+        "\u1451\u1452\u1453\u1454\u1455\u1456\u1457\u1458\u1459\u1459\u145a" +
+        "\u145b\u145c\u145d\u145e\u145f\u1460\u1461\u1462\u1463\u1464\u1464" +
+        "\u1465\u1466\u1467\u1468\u1469\u146a\u146b\u146c\u146d\u146d\u146e" +
+        "\u146e\u146f\u146f\u1470\u1471\u1471\u1472\u1472\u1473\u1475\u1476" +
+        "\u1477\u1478\u1479\u147a\u147b\u147b\u147c\u147d\u147e\u147f\u1480" +
+        "\u1481\u1483\u1483\u1484\u1485\u1485\u1486\u1486\u1488\u1488\u1488" +
+        "\u1489\u148a\u148a\u148b\u148c\u148d\u148f\u1491\u1493\u1493\u1494" +
+        "\u1495\u1495\u1496\u1497\u1497\u1498\u1498\u1499\u149a\u149b\u149b" +
+        "\u149b\u149c\u149c\u149d\u149e\u149f\u14a0\u14a1\u14a2\u14a3\u14a4" +
+        "\u14a5\u14a6\u14a7\u14a7\u14a8\u14ab\u14ac\u14ad\u14ae\u14af\u14b0" +
+        "\u14b1\u14b2\u14b2\u14b2\u14b3\u14b4\u14b4\u14b4\u14b5\u14b6\u14b7" +
+        "\u14b8\u14b9\u14ba\u14bb\u14bc\u14bd\u14be\u14bf\u14c0\u14c0\u14c1" +
+        "\u14c2\u14c3\u14c4\u14c5\u14c6\u14c6\u14c7\u14c8\u14c9\u14c9\u14cb" +
+        "\u14cc\u14cd\u14ce\u14cf\u14d0\u14d1\u14d2\u14d3\u14d4\u14d5\u14d5" +
+        "\u14d5\u14d5\u14d6\u14d7\u14d7\u14d8\u14d9\u14da\u14db\u14db\u14dc" +
+        "\u14dd\u14dd\u14de\u14df\u14e0\u14e0\u14e1\u14e2\u14e2\u14e3\u14e4" +
+        "\u14e5\u14e6\u14e7\u14e8\u14eb\u14ed\u14ed\u14ed\u14ee\u14ee\u14ee" +
+        "\u14ef\u14f0\u14f0\u14f1\u14f2\u14f3\u14f4\u14f5\u14f6\u14f7\u14f8" +
+        "\u14fa\u14fb\u14fc\u14fd\u14fd\u14fe\u14fe\u14fe\u14fe\u14fe\u14ff" +
+        "\u1500\u1501\u1502\u1503\u1504\u1505\u1506\u1507\u1508\u1508\u1509" +
+        "\u150a\u150a\u150a\u150b\u150b\u150c\u150d\u1513\u1515\u1518\u1519" +
+        "\u151b\u151c\u151d\u151e\u151e\u151f\u1521\u1522\u1523\u1523\u1523" +
+        "\u1524\u1525\u1526\u1526\u1527\u1528\u1528\u1528\u1529\u1529\u152a" +
+        "\u152b\u152b\u152c\u152c\u152c\u152d\u152e\u152e\u152f\u1530\u1531" +
+        "\u1532\u1533\u1534\u1535\u1537\u1538\u1539\u153a\u153a\u153a\u153b" +
+        "\u153b\u153c\u153d\u153d\u153e\u153f\u153f\u1540\u1541\u1542\u1543" +
+        "\u1544\u1545\u1546\u1547\u1548\u1549\u1549\u154a\u154a\u154b\u154c" +
+        "\u154d\u154e\u154f\u1550\u1550\u1551\u1552\u1553\u1554\u1555\u1556" +
+        "\u1557\u1558\u1559\u155a\u155b\u155c\u155c\u155d\u155e\u1560\u1561" +
+        "\u1562\u1563\u1564\u1565\u1566\u1566\u1567\u1567\u1567\u1568\u1569" +
+        "\u1569\u1569\u156a\u156b\u156d\u156e\u156f\u1570\u1570\u1571\u1572" +
+        "\u1572\u1572\u1573\u1574\u1576\u1577\u1578\u1578\u1578\u1578\u1578" +
+        "\u1579\u1579\u157a\u157b\u157b\u157c\u157d\u157e\u157f\u157f\u1580" +
+        "\u1581\u1582\u1582\u1584\u1585\u1586\u1587\u1588\u1589\u158a\u158b" +
+        "\u158b\u158c\u158d\u158e\u1590\u1591\u1592\u1593\u1594\u1595\u1595" +
+        "\u1595\u1597\u1598\u1599\u1599\u159a\u159b\u159c\u159d\u159e\u159e" +
+        "\u159f\u15a0\u15a1\u15a1\u15a2\u15a3\u15a4\u15a5\u15a6\u15a7\u15a8" +
+        "\u15a9\u15aa\u15ac\u15ad\u15ad\u15ae\u15af\u15b0\u15b1\u15b2\u15b3" +
+        "\u15b3\u15b4\u15b4\u15b5\u15b6\u15b7\u15b8\u15b9\u15ba\u15bb\u15bc" +
+        "\u15bd\u15be\u15be\u15bf\u15c0\u15c1\u15c2\u15c3\u15c3\u15c3\u15c4" +
+        "\u15c5\u15c6\u15c8\u15c9\u15ca\u15ca\u15ca\u15cb\u15cc\u15cc\u15ce" +
+        "\u15cf\u15cf\u15d0\u15d1\u15d2\u15d3\u15d4\u15d5\u15d6\u15d6\u15d7" +
+        "\u15d8\u15d9\u15da\u15db\u15db\u15dc\u15dc\u15dc\u15dc\u15dd\u15de" +
+        "\u15df\u15e0\u15e1\u15e2\u15e3\u15e4\u15e5\u15e6\u15e9\u15e9\u15e9" +
+        "\u15ea\u15eb\u15eb\u15eb\u15ec\u15ed\u15ee\u15ee\u15f0\u15f0\u15f1" +
+        "\u15f2\u15f3\u15f4\u15f5\u15f5\u15f5\u15f6\u15f7\u15f8\u15fa\u15fa" +
+        "\u15fc\u15fc\u15fd\u15fe\u1600\u1600\u1601\u1602\u1603\u1605\u1606" +
+        "\u1607\u1608\u1609\u160a\u160a\u160b\u160c\u160c\u160d\u160d\u160e" +
+        "\u160f\u1610\u1610\u1610\u1611\u1612\u1612\u1614\u1614\u1615\u1616" +
+        "\u1616\u1617\u1618\u161a\u161a\u161a\u161e\u1620\u1620\u1621\u1622" +
+        "\u1623\u1624\u1625\u1625\u1627\u1628\u162b\u162c\u162e\u162f\u162f" +
+        "\u162f\u1630\u1630\u1632\u1633\u1634\u1636\u1636\u1637\u1638\u1639" +
+        "\u163b\u163b\u163c\u163d\u163e\u163e\u163f\u163f\u1640\u1641\u1642" +
+        "\u1643\u1644\u1644\u1645\u1645\u1645\u1646\u1647\u1647\u1647\u1648" +
+        "\u1649\u164a\u164b\u164c\u164d\u164f\u1650\u1651\u1651\u1651\u1652" +
+        "\u1653\u1654\u1654\u1654\u1655\u1656\u1657\u1657\u1658\u1659\u1659" +
+        "\u165a\u165b\u165c\u165d\u165e\u165f\u1660\u1660\u1661\u1661\u1661" +
+        "\u1662\u1663\u1664\u1666\u1666\u1666\u1667\u1667\u1668\u1668\u1669" +
+        "\u1669\u166a\u166b\u166b\u166c\u166c\u166d\u166e\u166f\u166f\u1670" +
+        "\u1671\u1672\u1672\u1673\u1673\u1674\u1675\u1676\u1677\u1678\u1678" +
+        "\u1679\u167a\u167b\u167d\u167e\u167f\u1680\u1681\u1682\u1682\u1683" +
+        "\u1683\u1684\u1684\u1685\u1686\u1687\u168a\u168b\u168d\u168d\u168e" +
+        "\u168f\u168f\u1690\u1691\u1692\u1692\u1693\u1694\u1695\u1695\u1696" +
+        "\u1696\u1696\u1697\u1697\u1698\u1699\u169b\u169b\u169c\u169c\u169d" +
+        "\u169e\u169e\u169e\u169f\u16a0\u16a1\u16a1\u16a2\u16a3\u16a4\u16a5" +
+        "\u16a5\u16a6\u16a8\u16a9\u16aa\u16ab\u16ac\u16ad\u16ae\u16af\u16b0" +
+        "\u16b1\u16b3\u16b4\u16b5\u16b7\u16b8\u16b9\u16ba\u16bb\u16bc\u16bc" +
+        "\u16bc\u16bd\u16bf\u16bf\u16bf\u16c0\u16c1\u16c2\u16c2\u16c3\u16c4" +
+        "\u16c5\u16c7\u16c7\u16cd\u16cd\u16ce\u16cf\u16d0\u16d1\u16d2\u16d3" +
+        "\u16d4\u16d5\u16d6\u16d6\u16d7\u16d8\u16d8\u16d9\u16da\u16db\u16dc" +
+        "\u16dc\u16dc\u16de\u16df\u16e0\u16e0\u16e1\u16e2\u16e3\u16e4\u16e5" +
+        "\u16e6\u16e6\u16e7\u16e8\u16e9\u16ea\u16ea\u16eb\u16ec\u16ed\u16ee" +
+        "\u16ee\u16ef\u16f0\u16f1\u16f2\u16f4\u16f4\u16f4\u16f5\u16f6\u16f7" +
+        "\u16f7\u16f8\u16f9\u16fa\u16fa\u16fc\u16ff\u1700\u1700\u1701\u1701" +
+        "\u1702\u1702\u1703\u1704\u1705\u1706\u1707\u1708\u1709\u170a\u170a" +
+        "\u170b\u170b\u170c\u170d\u170d\u170e\u170e\u170f\u170f\u1711\u1713" +
+        "\u1716\u1719\u171b\u171b\u171c\u171c\u171d\u171e\u171f\u171f\u1720" +
+        "\u1721\u1722\u1722\u1723\u1723\u1724\u1725\u1726\u1727\u1728\u1729" +
+        "\u172a\u172b\u172d\u172d\u172e\u172f\u1730\u1733\u1734\u1734\u1734" +
+        "\u1734\u1734\u1734\u1735\u1736\u1736\u1737\u1739\u173a\u173b\u173c" +
+        "\u173d\u173e\u173f\u1740\u1742\u1743\u1744\u1746\u1747\u1748\u1749" +
+        "\u1749\u174a\u174b\u174b\u174c\u174e\u1751\u1753\u1754\u1755\u1756" +
+        "\u1757\u1758\u175b\u175b\u175b\u175c\u175d\u175d\u175e\u175e\u175f" +
+        "\u1760\u1761\u1762\u1762\u1763\u1764\u1765\u1766\u1767\u1767\u1767" +
+        "\u1768\u1769\u176a\u176b\u176b\u176b\u176c\u176c\u176d\u176e\u176f" +
+        "\u1770\u1771\u1772\u1773\u1774\u1775\u1776\u1777\u1778\u1779\u177a" +
+        "\u177b\u177c\u177c\u177d\u177e\u177f\u1780\u1780\u1781\u1782\u1783" +
+        "\u1784\u1785\u1786\u1787\u1787\u1788\u1789\u1789\u178a\u178b\u178b" +
+        "\u178c\u178c\u178c\u178d\u178e\u178f\u1790\u1791\u1792\u1793\u1794" +
+        "\u1795\u1795\u1796\u1797\u1799\u179a\u179b\u179c\u179d\u179e\u179f" +
+        "\u17a0\u17a0\u17a1\u17a2\u17a3\u17a3\u17a4\u17a5\u17a5\u17a7\u17a9" +
+        "\u17aa\u17ab\u17ac\u17ae\u17af\u17af\u17b0\u17b0\u17b0\u17b1\u17b1" +
+        "\u17b2\u17b3\u17b4\u17b5\u17b6\u17b6\u17b6\u17b7\u17b7\u17b8\u17b9" +
+        "\u17ba\u17bb\u17bb\u17bc\u17bd\u17be\u17be\u17bf\u17c0\u17c0\u17c1" +
+        "\u17c1\u17c1\u17c1\u17c1\u17c1\u17c2\u17c3\u17c3\u17c4\u17c4\u17c4" +
+        "\u17c5\u17c5\u17c5\u17c5\u17c5\u17c6\u17c7\u17c7\u17c8\u17c8\u17c8" +
+        "\u17c8\u17c9\u17c9\u17ca\u17cb\u17cc\u17cd\u17ce\u17cf\u17cf\u17d0" +
+        "\u17d1\u17d2\u17d3\u17d4\u17d5\u17d5\u17d6\u17d7\u17d8\u17dc\u17dd" +
+        "\u17de\u17de\u17df\u17e0\u17e1\u17e2\u17e3\u17e4\u17e4\u17e5\u17e6" +
+        "\u17e7\u17e7\u17e8\u17e8\u17e9\u17ea\u17eb\u17ec\u17ed\u17f3\u17f4" +
+        "\u17f5\u17f6\u17f7\u17f8\u17f9\u17fa\u17fb\u17fc\u17fc\u17fd\u17fe" +
+        "\u17fe\u17ff\u1800\u1800\u1801\u1801\u1802\u1803\u1804\u1805\u1807" +
+        "\u1808\u1809\u1809\u180a\u180b\u180c\u180c\u180d\u180e\u180e\u180e" +
+        "\u180f\u1810\u1811\u1812\u1813\u1813\u1814\u1814\u1815\u1815\u1816" +
+        "\u1817\u1818\u1819\u181a\u181a\u181b\u181b\u181b\u181c\u181c\u181c" +
+        "\u181d\u181e\u181f\u1820\u1821\u1822\u1823\u1824\u1825\u1827\u1828" +
+        "\u1829\u182a\u182b\u182e\u182f\u1830\u1831\u1832\u1833\u1834\u1835" +
+        "\u1836\u1837\u1838\u1839\u183a\u183b\u183c\u183d\u183e\u183f\u1840" +
+        "\u1841\u1842\u1843\u1844\u1845\u1846\u1847\u1849\u184a\u184b\u184c" +
+        "\u184d\u184e\u184f\u1850\u1851\u1852\u1853\u1854\u1855\u1856\u1857" +
+        "\u1858\u1859\u185a\u185b\u185c\u185d\u185e\u185f\u1860\u1861\u1861" +
+        "\u1862\u1862\u1863\u1864\u1864\u1864\u1865\u1866\u1867\u1868\u1869" +
+        "\u186a\u186b\u186c\u186d\u186e\u186f\u1870\u1870\u1871\u1872\u1872" +
+        "\u1873\u1874\u1875\u1876\u1877\u1879\u187a\u187b\u187c\u187e\u187f" +
+        "\u1880\u1881\u1882\u1883\u1884\u1885\u1886\u1887\u1888\u1889\u1889" +
+        "\u188a\u188b\u188c\u188d\u188d\u188e\u1892\u1894\u1895\u1896\u1897" +
+        "\u1898\u1898\u1898\u1898\u1899\u189a\u189b\u189b\u189c\u189d\u189d" +
+        "\u189e\u189f\u18a0\u18a1\u18a2\u18a3\u18a4\u18a4\u18a5\u18a5\u18a6" +
+        "\u18a7\u18a7\u18a9\u18aa\u18aa\u18ab\u18ab\u18ac\u18ad\u18ae\u18ae" +
+        "\u18af\u18b0\u18b1\u18b2\u18b3\u18b4\u18b4\u18b5\u18b5\u18b5\u18b6" +
+        "\u18b7\u18b8\u18b9\u18ba\u18ba\u18ba\u18bb\u18bb\u18bc\u18bd\u18be" +
+        "\u18bf\u18c0\u18c0\u18c0\u18c0\u18c1\u18c2\u18c2\u18c2\u18c2\u18c2" +
+        "\u18c3\u18c4\u18c4\u18c6\u18c6\u18c7\u18c8\u18c8\u18c9\u18c9\u18ca" +
+        "\u18cc\u18cc\u18cc\u18cd\u18ce\u18cf\u18cf\u18d0\u18d1\u18d2\u18d3" +
+        "\u18d4\u18d6\u18d7\u18d7\u18d7\u18d9\u18da\u18da\u18db\u18dc\u18dd" +
+        "\u18de\u18df\u18e0\u18e1\u18e2\u18e3\u18e4\u18e5\u18e6\u18e7\u18e8" +
+        "\u18e9\u18ea\u18eb\u18ec\u18ec\u18ec\u18ec\u18ec\u18ec\u18ed\u18ee" +
+        "\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef" +
+        "\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18ef\u18f0\u18f0\u18f0" +
+        "\u18f0\u18f0\u18f0\u18f0\u18f0\u18f0\u18f1\u18f2\u18f3\u18f3\u18f3" +
+        "\u18f3\u18f3\u18f3\u18f3\u18f3\u18f3\u18f3\u18f3\u18f4\u18f4\u18f5" +
+        "\u18f5\u18f5\u18f5\u18f6\u18f7\u18f7\u18f7\u18f8\u18f9\u18fa\u18fb" +
+        "\u18fc\u18fd\u18fe\u18fe\u18fe\u18fe\u18ff\u1900\u1900\u1900\u1901" +
+        "\u1901\u1902\u1903\u1903\u1904\u1905\u1907\u1908\u1909\u190a\u190a" +
+        "\u190b\u190b\u190d\u190d\u190e\u190f\u1911\u1912\u1913\u1914\u1915" +
+        "\u1915\u1915\u1915\u1915\u1915\u1917\u1917\u1917\u1919\u191a\u191b" +
+        "\u191c\u191d\u191d\u191f\u1920\u1921\u1922\u1923\u1924\u1924\u1924" +
+        "\u1925\u1925\u1926\u1927\u1928\u1928\u1929\u1929\u192a\u192b\u192b" +
+        "\u192c\u192c\u192d\u192e\u192e\u192e\u192f\u192f\u1930\u1930\u1932" +
+        "\u1933\u1934\u1935\u1936\u1936\u1937\u1938\u1939\u193a\u193b\u193c" +
+        "\u193d\u193e\u193f\u1940\u1941\u1942\u1942\u1942\u1942\u1942\u1943" +
+        "\u1944\u1944\u1945\u1946\u1947\u1947\u1948\u1948\u1949\u194a\u194b" +
+        "\u194c\u194c\u194c\u194d\u194e\u194f\u1950\u1950\u1951\u1951\u1952" +
+        "\u1952\u1953\u1954\u1954\u1955\u1956\u1957\u1957\u1958\u1959\u1959" +
+        "\u1959\u1959\u1959\u195a\u195b\u195c\u195d\u195e\u195e\u195f\u195f" +
+        "\u195f\u195f\u195f\u1960\u1960\u1961\u1962\u1963\u1964\u1965\u1966" +
+        "\u1967\u1968\u1969\u196a\u196b\u196c\u196d\u196e\u196f\u1970\u1970" +
+        "\u1970\u1971\u1971\u1972\u1973\u1973\u1974\u1974\u1976\u1977\u1977" +
+        "\u1978\u1978\u1978\u1978\u1978\u1978\u1978\u1978\u1979\u197a\u197b" +
+        "\u197c\u197d\u197e\u197f\u1980\u1981\u1982\u1983\u1984\u1985\u1986" +
+        "\u1986\u1986\u1988\u1989\u198a\u198b\u198c\u198c\u198d\u198e\u198f" +
+        "\u1990\u1991\u1992\u1993\u1994\u1995\u1995\u1995\u1996\u1997\u1997" +
+        "\u1998\u1998\u1998\u1998\u1998\u1999\u199a\u199a\u199a\u199b\u199b" +
+        "\u199c\u199d\u199e\u199f\u19a0\u19a1\u19a2\u19a2\u19a2\u19a3\u19a3" +
+        "\u19a4\u19a4\u19a5\u19a5\u19a6\u19a6\u19a6\u19a6\u19a7\u19a7\u19a7" +
+        "\u19a8\u19a9\u19aa\u19aa\u19ab\u19ab\u19ac\u19ad\u19ae\u19af\u19af" +
+        "\u19b0\u19b0\u19b0\u19b1\u19b2\u19b3\u19b4\u19b5\u19b6\u19b7\u19b8" +
+        "\u19b8\u19b8\u19b8\u19b9\u19ba\u19ba\u19bc\u19bd\u19be\u19be\u19be" +
+        "\u19bf\u19c0\u19c1\u19c2\u19c3\u19c4\u19c5\u19c6\u19c7\u19c7\u19c9" +
+        "\u19ca\u19cb\u19cc\u19ce\u19cf\u19d0\u19d1\u19d2\u19d2\u19d2\u19d3" +
+        "\u19d3\u19d3\u19d4\u19d5\u19d5\u19d6\u19d8\u19d9\u19d9\u19d9\u19d9" +
+        "\u19d9\u19d9\u19da\u19db\u19dc\u19dd\u19dd\u19de\u19df\u19e0\u19e1" +
+        "\u19e2\u19e3\u19e3\u19e4\u19e4\u19e5\u19e5\u19e6\u19e6\u19e6\u19e6" +
+        "\u19e7\u19e8\u19e8\u19e8\u19e9\u19ea\u19eb\u19ec\u19ed\u19ed\u19ed" +
+        "\u19ee\u19ef\u19f0\u19f0\u19f1\u19f5\u19f6\u19f7\u19f7\u19f8\u19f8" +
+        "\u19f9\u19fa\u19fb\u19fb\u19fc\u19fe\u19ff\u1a00\u1a01\u1a02\u1a02" +
+        "\u1a03\u1a04\u1a05\u1a06\u1a07\u1a07\u1a08\u1a08\u1a08\u1a09\u1a09" +
+        "\u1a0a\u1a0a\u1a0b\u1a0c\u1a0d\u1a0d\u1a0e\u1a0e\u1a0e\u1a0f\u1a0f" +
+        "\u1a10\u1a10\u1a11\u1a12\u1a12\u1a14\u1a14\u1a15\u1a15\u1a15\u1a15" +
+        "\u1a15\u1a15\u1a15\u1a16\u1a17\u1a17\u1a18\u1a18\u1a18\u1a18\u1a19" +
+        "\u1a19\u1a1a\u1a1b\u1a1e\u1a1e\u1a21\u1a22\u1a23\u1a23\u1a24\u1a25" +
+        "\u1a25\u1a26\u1a26\u1a26\u1a27\u1a28\u1a29\u1a29\u1a2a\u1a2b\u1a2d" +
+        "\u1a2d\u1a2e\u1a2e\u1a2e\u1a2f\u1a30\u1a30\u1a30\u1a31\u1a31\u1a32" +
+        "\u1a32\u1a32\u1a33\u1a34\u1a35\u1a36\u1a36\u1a37\u1a38\u1a39\u1a3a" +
+        "\u1a3b\u1a3c\u1a3d\u1a3e\u1a3e\u1a3e\u1a3f\u1a3f\u1a40\u1a41\u1a42" +
+        "\u1a42\u1a42\u1a43\u1a44\u1a44\u1a44\u1a45\u1a45\u1a45\u1a45\u1a46" +
+        "\u1a46\u1a46\u1a46\u1a47\u1a48\u1a48\u1a48\u1a48\u1a48\u1a49\u1a4a" +
+        "\u1a4b\u1a4c\u1a4d\u1a4f\u1a4f\u1a50\u1a51\u1a51\u1a52\u1a53\u1a54" +
+        "\u1a55\u1a56\u1a56\u1a57\u1a59\u1a5a\u1a5b\u1a5b\u1a5c\u1a5d\u1a5e" +
+        "\u1a5e\u1a5f\u1a60\u1a61\u1a62\u1a62\u1a62\u1a63\u1a64\u1a65\u1a66" +
+        "\u1a67\u1a68\u1a69\u1a69\u1a6a\u1a6a\u1a6b\u1a6c\u1a6d\u1a6e\u1a6f" +
+        "\u1a6f\u1a70\u1a71\u1a72\u1a73\u1a74\u1a74\u1a75\u1a75\u1a76\u1a76" +
+        "\u1a77\u1a77\u1a78\u1a78\u1a78\u1a79\u1a79\u1a7a\u1a7a\u1a7b\u1a7b" +
+        "\u1a7c\u1a7d\u1a7e\u1a7f\u1a80\u1a81\u1a81\u1a82\u1a82\u1a83\u1a83" +
+        "\u1a83\u1a84\u1a85\u1a85\u1a87\u1a88\u1a89\u1a89\u1a8a\u1a8a\u1a8b" +
+        "\u1a8c\u1a8d\u1a8d\u1a8e\u1a8f\u1a8f\u1a8f\u1a90\u1a91\u1a92\u1a93" +
+        "\u1a94\u1a95\u1a96\u1a97\u1a97\u1a97\u1a99\u1a99\u1a99\u1a99\u1a99" +
+        "\u1a99\u1a9a\u1a9b\u1a9c\u1a9d\u1a9d\u1a9e\u1a9e\u1a9f\u1aa0\u1aa1" +
+        "\u1aa1\u1aa1\u1aa2\u1aa3\u1aa4\u1aa4\u1aa5\u1aa5\u1aa6\u1aa6\u1aa6" +
+        "\u1aa7\u1aa8\u1aa8\u1aa8\u1aa8\u1aa8\u1aa9\u1aa9\u1aaa\u1aab\u1aac" +
+        "\u1aac\u1aad\u1aad\u1aae\u1aaf\u1ab0\u1ab0\u1ab1\u1ab2\u1ab3\u1ab3" +
+        "\u1ab3\u1ab3\u1ab3\u1ab4\u1ab5\u1ab5\u1ab6\u1ab7\u1ab8\u1ab8\u1ab8" +
+        "\u1ab9\u1aba\u1abc\u1abc\u1abd\u1abd\u1abe\u1abe\u1abf\u1ac0\u1ac0" +
+        "\u1ac1\u1ac2\u1ac3\u1ac4\u1ac4\u1ac5\u1ac6\u1ac7\u1ac7\u1ac8\u1ac8" +
+        "\u1ac9\u1aca\u1acb\u1acb\u1acb\u1acc\u1acd\u1ad0\u1ad1\u1ad2\u1ad3" +
+        "\u1ad4\u1ad5\u1ad6\u1ad7\u1ad8\u1ad9\u1ada\u1adb\u1adc\u1add\u1ade" +
+        "\u1adf\u1ae0\u1ae1\u1ae1\u1ae1\u1ae2\u1ae5\u1ae6\u1ae7\u1ae8\u1ae8" +
+        "\u1ae9\u1ae9\u1aea\u1aeb\u1aeb\u1aec\u1aed\u1aee\u1aef\u1af0\u1af1" +
+        "\u1af1\u1af2\u1af3\u1af4\u1af5\u1af6\u1af6\u1af7\u1af7\u1af7\u1af7" +
+        "\u1af9\u1afa\u1afb\u1afc\u1afd\u1afe\u1afe\u1aff\u1b00\u1b01\u1b02" +
+        "\u1b02\u1b03\u1b04\u1b04\u1b05\u1b05\u1b06\u1b07\u1b07\u1b08\u1b08" +
+        "\u1b08\u1b09\u1b09\u1b0a\u1b0b\u1b0b\u1b0b\u1b0b\u1b0d\u1b0e\u1b0e" +
+        "\u1b0e\u1b0e\u1b0f\u1b10\u1b11\u1b11\u1b11\u1b12\u1b13\u1b15\u1b16" +
+        "\u1b16\u1b16\u1b16\u1b17\u1b17\u1b17\u1b18\u1b18\u1b18\u1b19\u1b1a" +
+        "\u1b1b\u1b1c\u1b1d\u1b1d\u1b1e\u1b1f\u1b20\u1b21\u1b22\u1b23\u1b24" +
+        "\u1b24\u1b25\u1b25\u1b26\u1b27\u1b27\u1b27\u1b27\u1b27\u1b27\u1b28" +
+        "\u1b29\u1b2a\u1b2b\u1b2c\u1b2c\u1b2d\u1b2d\u1b2e\u1b2f\u1b30\u1b30" +
+        "\u1b30\u1b30\u1b30\u1b30\u1b30\u1b30\u1b31\u1b32\u1b32\u1b32\u1b33" +
+        "\u1b34\u1b34\u1b35\u1b36\u1b36\u1b37\u1b38\u1b39\u1b3a\u1b3a\u1b3a" +
+        "\u1b3a\u1b3b\u1b3b\u1b3b\u1b3c\u1b3c\u1b3d\u1b3e\u1b3e\u1b3e\u1b3f" +
+        "\u1b40\u1b40\u1b40\u1b41\u1b42\u1b43\u1b44\u1b45\u1b46\u1b47\u1b48" +
+        "\u1b49\u1b49\u1b4a\u1b4a\u1b4b\u1b4c\u1b4d\u1b4d\u1b4e\u1b4e\u1b4e" +
+        "\u1b4f\u1b50\u1b51\u1b51\u1b52\u1b53\u1b54\u1b56\u1b57\u1b58\u1b59" +
+        "\u1b5a\u1b5b\u1b5c\u1b5d\u1b5f\u1b60\u1b60\u1b60\u1b60\u1b60\u1b61" +
+        "\u1b62\u1b63\u1b64\u1b65\u1b66\u1b66\u1b67\u1b68\u1b69\u1b69\u1b6a" +
+        "\u1b6a\u1b6a\u1b6a\u1b70\u1b70\u1b71\u1b72\u1b72\u1b73\u1b74\u1b74" +
+        "\u1b74\u1b75\u1b76\u1b77\u1b78\u1b79\u1b79\u1b79\u1b79\u1b79\u1b79" +
+        "\u1b7a\u1b7a\u1b7a\u1b7b\u1b7c\u1b7d\u1b7e\u1b7f\u1b80\u1b81\u1b84" +
+        "\u1b85\u1b86\u1b87\u1b88\u1b89\u1b8a\u1b8b\u1b8c\u1b8d\u1b8e\u1b8f" +
+        "\u1b90\u1b91\u1b92\u1b92\u1b93\u1b94\u1b95\u1b96\u1b97\u1b98\u1b98" +
+        "\u1b99\u1b9a\u1b9b\u1b9b\u1b9b\u1b9b\u1b9c\u1b9d\u1b9e\u1b9f\u1ba0" +
+        "\u1ba1\u1ba2\u1ba3\u1ba4\u1ba5\u1ba6\u1ba7\u1ba8\u1baa\u1bab\u1bb1" +
+        "\u1bb2\u1bb3\u1bb4\u1bb5\u1bb6\u1bb7\u1bb8\u1bb9\u1bba\u1bbb\u1bbb" +
+        "\u1bbb\u1bbb\u1bbb\u1bbc\u1bbd\u1bbd\u1bbd\u1bbd\u1bbe\u1bbf\u1bc0" +
+        "\u1bc1\u1bc2\u1bc3\u1bc4\u1bc5\u1bc6\u1bc6\u1bc6\u1bc6\u1bc6\u1bc8" +
+        "\u1bc9\u1bca\u1bcb\u1bcd\u1bce\u1bcf\u1bd0\u1bd3\u1bd4\u1bd5\u1bd6" +
+        "\u1bd7\u1bd8\u1bd8\u1bd8\u1bd8\u1bd8\u1bd8\u1bd9\u1bda\u1bdb\u1bdc" +
+        "\u1bdd\u1bdd\u1bde\u1bdf\u1be0\u1be0\u1be1\u1be2\u1be3\u1be4\u1be4" +
+        "\u1be4\u1be4\u1be5\u1be6\u1be7\u1be8\u1be9\u1bea\u1beb\u1beb\u1beb" +
+        "\u1bec\u1bec\u1bec\u1bec\u1bed\u1bee\u1bef\u1bf0\u1bf3\u1bf4\u1bf5" +
+        "\u1bf6\u1bf7\u1bf8\u1bf9\u1bfa\u1bfb\u1bfb\u1bfb\u1bfb\u1bfc\u1bfd" +
+        "\u1bfd\u1bfd\u1bfd\u1bfd\u1bfe\u1bfe\u1bfe\u1bfe\u1bff\u1bff\u1c00" +
+        "\u1c00\u1c08\u1c0a\u1c0a\u1c0b\u1c0b\u1c0b\u1c0c\u1c0d\u1c0d\u1c0e" +
+        "\u1c0f\u1c10\u1c11\u1c13\u1c13\u1c13\u1c14\u1c15\u1c15\u1c16\u1c17" +
+        "\u1c17\u1c18\u1c18\u1c19\u1c19\u1c1a\u1c1b\u1c1c\u1c1d\u1c1e\u1c1f" +
+        "\u1c20\u1c20\u1c21\u1c21\u1c22\u1c23\u1c24\u1c25\u1c25\u1c25\u1c25" +
+        "\u1c26\u1c27\u1c28\u1c28\u1c28\u1c29\u1c29\u1c29\u1c29\u1c29\u1c2a" +
+        "\u1c2a\u1c2a\u1c2a\u1c2a\u1c2a\u1c2b\u1c2c\u1c2d\u1c2e\u1c2e\u1c2f" +
+        "\u1c34\u1c35\u1c35\u1c36\u1c37\u1c37\u1c38\u1c38\u1c38\u1c39\u1c3a" +
+        "\u1c3b\u1c3b\u1c3b\u1c3b\u1c3c\u1c3d\u1c3d\u1c3e\u1c3f\u1c3f\u1c3f" +
+        "\u1c3f\u1c3f\u1c40\u1c42\u1c43\u1c44\u1c44\u1c45\u1c46\u1c46\u1c46" +
+        "\u1c46\u1c47\u1c47\u1c48\u1c49\u1c4a\u1c4a\u1c4c\u1c4d\u1c4d\u1c4e" +
+        "\u1c4e\u1c4e\u1c4e\u1c4e\u1c4f\u1c50\u1c51\u1c52\u1c53\u1c54\u1c55" +
+        "\u1c56\u1c57\u1c57\u1c57\u1c57\u1c58\u1c59\u1c59\u1c59\u1c59\u1c59" +
+        "\u1c59\u1c59\u1c5a\u1c5a\u1c5b\u1c5b\u1c5b\u1c5b\u1c5b\u1c5c\u1c5c" +
+        "\u1c5d\u1c5f\u1c5f\u1c5f\u1c60\u1c61\u1c62\u1c63\u1c64\u1c64\u1c64" +
+        "\u1c64\u1c64\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65" +
+        "\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c65\u1c66" +
+        "\u1c66\u1c68\u1c68\u1c69\u1c69\u1c6a\u1c6b\u1c6b\u1c6b\u1c6c\u1c6d" +
+        "\u1c6e\u1c6e\u1c6f\u1c6f\u1c6f\u1c6f\u1c70\u1c70\u1c71\u1c71\u1c71" +
+        "\u1c72\u1c73\u1c73\u1c74\u1c75\u1c75\u1c75\u1c75\u1c75\u1c75\u1c75" +
+        "\u1c75\u1c75\u1c75\u1c76\u1c77\u1c77\u1c78\u1c78\u1c78\u1c79\u1c7a" +
+        "\u1c7b\u1c7c\u1c7c\u1c7d\u1c7d\u1c7d\u1c7d\u1c7d\u1c7d\u1c7d\u1c7d" +
+        "\u1c7d\u1c7e\u1c7e\u1c7e\u1c7e\u1c7f\u1c7f\u1c7f\u1c7f\u1c7f\u1c80" +
+        "\u1c80\u1c80\u1c80\u1c80\u1c81\u1c82\u1c82\u1c82\u1c82\u1c83\u1c84" +
+        "\u1c85\u1c86\u1c87\u1c88\u1c89\u1c8a\u1c8a\u1c8c\u1c8c\u1c8d\u1c8e" +
+        "\u1c8f\u1c90\u1c91\u1c92\u1c92\u1c92\u1c92\u1c93\u1c93\u1c93\u1c93" +
+        "\u1c94\u1c95\u1c96\u1c97\u1c98\u1c99\u1c99\u1c9a\u1c9a\u1c9a\u1c9b" +
+        "\u1c9b\u1c9c\u1c9c\u1c9c\u1c9c\u1c9c\u1c9c\u1c9c\u1c9c\u1c9d\u1c9d" +
+        "\u1c9e\u1c9f\u1ca0\u1ca1\u1ca1\u1ca2\u1ca3\u1ca4\u1ca4\u1ca4\u1ca5" +
+        "\u1ca5\u1ca5\u1ca5\u1ca5\u1ca5\u1ca6\u1ca6\u1ca6\u1ca6\u1ca7\u1ca8" +
+        "\u1ca9\u1caa\u1caa\u1caa\u1caa\u1cab\u1cad\u1cad\u1cad\u1cad\u1cae" +
+        "\u1cae\u1caf\u1caf\u1caf\u1caf\u1cb0\u1cb1\u1cb2\u1cb3\u1cb4\u1cb4" +
+        "\u1cb4\u1cb5\u1cb6\u1cb7\u1cb8\u1cb9\u1cba\u1cbb\u1cbc\u1cbc\u1cbd" +
+        "\u1cbd\u1cbe\u1cbe\u1cbe\u1cbf\u1cbf\u1cbf\u1cc0\u1cc1\u1cc1\u1cc2" +
+        "\u1cc3\u1cc5\u1cc6\u1cc8\u1cc8\u1cc9\u1cc9\u1cc9\u1cc9\u1cc9\u1cca" +
+        "\u1cca\u1ccb\u1ccb\u1ccc\u1ccc\u1ccd\u1ccd\u1ccd\u1ccd\u1ccd\u1ccd" +
+        "\u1cce\u1ccf\u1ccf\u1cd0\u1cd0\u1cd1\u1cd1\u1cd1\u1cd1\u1cd2\u1cd3" +
+        "\u1cd3\u1cd3\u1cd3\u1cd3\u1cd4\u1cd4\u1cd5\u1cd5\u1cd6\u1cd6\u1cd7" +
+        "\u1cd8\u1cd8\u1cd8\u1cd8\u1cd9\u1cda\u1cdb\u1cdc\u1cdd\u1cdd\u1cde" +
+        "\u1cdf\u1ce0\u1ce1\u1ce1\u1ce1\u1ce2\u1ce3\u1ce4\u1ce4\u1ce4\u1ce4" +
+        "\u1ce4\u1ce5\u1ce6\u1ce7\u1ce7\u1ce7\u1ce8\u1ce8\u1ce8\u1ce9\u1ce9" +
+        "\u1ce9\u1ce9\u1ce9\u1cea\u1cea\u1cea\u1ceb\u1ceb\u1ceb\u1cec\u1ced" +
+        "\u1ced\u1ced\u1cee\u1cee\u1cef\u1cf0\u1cf0\u1cf0\u1cf0\u1cf1\u1cf2" +
+        "\u1cf3\u1cf4\u1cf5\u1cf6\u1cf7\u1cf7\u1cf8\u1cf8\u1cf9\u1cf9\u1cfa" +
+        "\u1cfa\u1cfa\u1cfa\u1cfa\u1cfb\u1cfc\u1cfc\u1cfc\u1cfc\u1cfc\u1cfd" +
+        "\u1cfd\u1cfe\u1cfe\u1cff\u1cff\u1cff\u1d00\u1d01\u1d01\u1d01\u1d01" +
+        "\u1d02\u1d03\u1d04\u1d04\u1d05\u1d05\u1d05\u1d05\u1d06\u1d06\u1d06" +
+        "\u1d06\u1d07\u1d07\u1d08\u1d08\u1d08\u1d08\u1d08\u1d08\u1d09\u1d09" +
+        "\u1d0a\u1d0b\u1d0c\u1d0d\u1d0d\u1d0e\u1d0f\u1d0f\u1d0f\u1d0f\u1d10" +
+        "\u1d11\u1d11\u1d12\u1d13\u1d14\u1d15\u1d15\u1d16\u1d17\u1d18\u1d19" +
+        "\u1d1a\u1d1b\u1d1c\u1d1c\u1d1d\u1d1e\u1d1e\u1d1e\u1d1e\u1d1e\u1d1f" +
+        "\u1d1f\u1d1f\u1d1f\u1d1f\u1d1f\u1d1f\u1d20\u1d21\u1d21\u1d22\u1d23" +
+        "\u1d23\u1d23\u1d23\u1d24\u1d24\u1d24\u1d24\u1d25\u1d25\u1d26\u1d26" +
+        "\u1d27\u1d28\u1d29\u1d2a\u1d2a\u1d2c\u1d2c\u1d2c\u1d2c\u1d2c\u1d2c" +
+        "\u1d2c\u1d2d\u1d2d\u1d2e\u1d2f\u1d30\u1d31\u1d32\u1d32\u1d33\u1d33" +
+        "\u1d33\u1d34\u1d34\u1d35\u1d36\u1d37\u1d37\u1d38\u1d38\u1d39\u1d3a" +
+        "\u1d3b\u1d3c\u1d3d\u1d3d\u1d3d\u1d3d\u1d3d\u1d3d\u1d3d\u1d3d\u1d3e" +
+        "\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e\u1d3e" +
+        "\u1d3e\u1d3e\u1d3f\u1d40\u1d41\u1d41\u1d42\u1d43\u1d43\u1d43\u1d43" +
+        "\u1d44\u1d45\u1d46\u1d47\u1d48\u1d49\u1d4a\u1d4b\u1d4c\u1d4d\u1d4e" +
+        "\u1d4f\u1d50\u1d50\u1d51\u1d52\u1d53\u1d55\u1d56\u1d57\u1d58\u1d5a" +
+        "\u1d5b\u1d5c\u1d5d\u1d60\u1d61\u1d61\u1d62\u1d63\u1d63\u1d64\u1d65" +
+        "\u1d65\u1d66\u1d67\u1d68\u1d69\u1d6a\u1d6b\u1d6c\u1d6d\u1d6e\u1d6f" +
+        "\u1d70\u1d71\u1d72\u1d73\u1d74\u1d75\u1d76\u1d76\u1d77\u1d78\u1d79" +
+        "\u1d7a\u1d7b\u1d7c\u1d7d\u1d7e\u1d80\u1d81\u1d82\u1d82\u1d83\u1d84" +
+        "\u1d85\u1d86\u1d87\u1d88\u1d89\u1d8a\u1d8b\u1d8c\u1d8d\u1d8e\u1d8f" +
+        "\u1d90\u1d91\u1d92\u1d94\u1d95\u1d97\u1d98\u1d99\u1d9a\u1d9b\u1d9c" +
+        "\u1d9d\u1da0\u1da1\u1da2\u1da2\u1da2\u1da3\u1da4\u1da5\u1da6\u1da7" +
+        "\u1da9\u1daa\u1dab\u1dac\u1dad\u1dae\u1dae\u1daf\u1db0\u1db1\u1db2" +
+        "\u1db3\u1db4\u1db5\u1db6\u1db7\u1db8\u1db9\u1dba\u1dbb\u1dbf\u1dc0" +
+        "\u1dc0\u1dc1\u1dc1\u1dc3\u1dc4\u1dc5\u1dc6\u1dc7\u1dcb\u1dcb\u1dcc" +
+        "\u1dce\u1dcf\u1dd0\u1dd1\u1dd2\u1dd3\u1dd4\u1dd5\u1dd8\u1dd9\u1dda" +
+        "\u1ddb\u1ddc\u1ddd\u1dde\u1ddf\u1de0\u1de1\u1de2\u1de3\u1de4\u1de5" +
+        "\u1de6\u1de7\u1de9\u1dea\u1deb\u1def\u1df0\u1df2\u1df3\u1df4\u1df5" +
+        "\u1df6\u1df7\u1df8\u1df9\u1dfa\u1dfb\u1dfc\u1dfd\u1dfe\u1dfe\u1dff" +
+        "\u1e00\u1e01\u1e02\u1e03\u1e03\u1e04\u1e05\u1e06\u1e06\u1e0a\u1e0b" +
+        "\u1e0c\u1e0c\u1e0d\u1e0e\u1e0f\u1e10\u1e11\u1e12\u1e13\u1e14\u1e15" +
+        "\u1e15\u1e16\u1e16\u1e17\u1e17\u1e18\u1e19\u1e1a\u1e1b\u1e1b\u1e1c" +
+        "\u1e1d\u1e1e\u1e1e\u1e1e\u1e1e\u1e1e\u1e1e\u1e1f\u1e20\u1e21\u1e21" +
+        "\u1e22\u1e23\u1e24\u1e25\u1e26\u1e27\u1e27\u1e28\u1e28\u1e29\u1e2a" +
+        "\u1e2b\u1e2b\u1e2b\u1e2c\u1e2d\u1e2e\u1e2f\u1e30\u1e31\u1e32\u1e33" +
+        "\u1e34\u1e34\u1e35\u1e35\u1e36\u1e37\u1e37\u1e37\u1e37\u1e37\u1e38" +
+        "\u1e38\u1e39\u1e3a\u1e3b\u1e3c\u1e3d\u1e3e\u1e3e\u1e3e\u1e3e\u1e3e" +
+        "\u1e3e\u1e3f\u1e3f\u1e40\u1e41\u1e42\u1e42\u1e43\u1e44\u1e45\u1e46" +
+        "\u1e47\u1e48\u1e48\u1e49\u1e4a\u1e4b\u1e4b\u1e4b\u1e4c\u1e4d\u1e4d" +
+        "\u1e4e\u1e4f\u1e50\u1e51\u1e52\u1e53\u1e53\u1e54\u1e55\u1e55\u1e56" +
+        "\u1e57\u1e58\u1e58\u1e59\u1e59\u1e5a\u1e5b\u1e5c\u1e5d\u1e5e\u1e5f" +
+        "\u1e60\u1e61\u1e62\u1e63\u1e64\u1e64\u1e64\u1e65\u1e65\u1e65\u1e65" +
+        "\u1e65\u1e65\u1e66\u1e67\u1e68\u1e69\u1e6a\u1e6b\u1e6c\u1e6c\u1e6d" +
+        "\u1e6e\u1e6e\u1e6f\u1e70\u1e70\u1e70\u1e71\u1e72\u1e73\u1e75\u1e76" +
+        "\u1e77\u1e78\u1e78\u1e78\u1e79\u1e79\u1e7a\u1e7a\u1e7b\u1e7b\u1e7c" +
+        "\u1e7d\u1e7e\u1e7f\u1e7f\u1e80\u1e81\u1e82\u1e83\u1e83\u1e83\u1e84" +
+        "\u1e85\u1e85\u1e85\u1e86\u1e87\u1e88\u1e89\u1e8a\u1e8a\u1e8a\u1e8a" +
+        "\u1e8a\u1e8a\u1e8a\u1e8b\u1e8b\u1e8b\u1e8c\u1e8d\u1e8e\u1e8e\u1e8e" +
+        "\u1e8e\u1e8f\u1e8f\u1e8f\u1e90\u1e91\u1e91\u1e91\u1e91\u1e91\u1e91" +
+        "\u1e91\u1e91\u1e91\u1e92\u1e93\u1e93\u1e94\u1e94\u1e95\u1e95\u1e95" +
+        "\u1e95\u1e96\u1e97\u1e98\u1e99\u1e9a\u1e9b\u1e9b\u1e9c\u1e9d\u1e9e" +
+        "\u1e9f\u1e9f\u1e9f\u1ea0\u1ea0\u1ea0\u1ea1\u1ea1\u1ea1\u1ea1\u1ea1" +
+        "\u1ea2\u1ea3\u1ea4\u1ea5\u1ea6\u1ea7\u1ea8\u1ea9\u1eaa\u1eaa\u1eab" +
+        "\u1eac\u1eac\u1ead\u1ead\u1eae\u1eaf\u1eb0\u1eb0\u1eb0\u1eb1\u1eb2" +
+        "\u1eb3\u1eb5\u1eb7\u1eb9\u1eb9\u1eb9\u1eb9\u1eb9\u1ebb\u1ebc\u1ebd" +
+        "\u1ebe\u1ebf\u1ec0\u1ec1\u1ec1\u1ec1\u1ec1\u1ec1\u1ec1\u1ec1\u1ec1" +
+        "\u1ec1\u1ec3\u1ec4\u1ec4\u1ec5\u1ec6\u1ec7\u1ec8\u1ec9\u1ec9\u1ece" +
+        "\u1ecf\u1ecf\u1ecf\u1ed0\u1ed1\u1ed2\u1ed3\u1ed3\u1ed4\u1ed5\u1ed5" +
+        "\u1ed6\u1ed7\u1ed7\u1ed8\u1ed9\u1eda\u1edb\u1edc\u1edd\u1ede\u1edf" +
+        "\u1ee0\u1ee0\u1ee0\u1ee1\u1ee2\u1ee3\u1ee4\u1ee5\u1ee6\u1ee7\u1ee8" +
+        "\u1ee9\u1eea\u1eeb\u1eec\u1eed\u1eee\u1eef\u1eef\u1ef0\u1ef1\u1ef1" +
+        "\u1ef2\u1ef3\u1ef4\u1ef5\u1ef6\u1ef7\u1ef8\u1ef9\u1efa\u1efd\u1efe" +
+        "\u1eff\u1f00\u1f01\u1f03\u1f04\u1f05\u1f06\u1f07\u1f08\u1f09\u1f0a" +
+        "\u1f0b\u1f0c\u1f0d\u1f0e\u1f0f\u1f10\u1f11\u1f12\u1f13\u1f14\u1f15" +
+        "\u1f16\u1f17\u1f18\u1f18\u1f19\u1f1b\u1f1c\u1f1d\u1f20\u1f21\u1f22" +
+        "\u1f23\u1f24\u1f25\u1f27\u1f28\u1f29\u1f2a\u1f2b\u1f2c\u1f2d\u1f2e" +
+        "\u1f2f\u1f30\u1f31\u1f32\u1f33\u1f33\u1f34\u1f35\u1f36\u1f37\u1f38" +
+        "\u1f39\u1f3a\u1f3b\u1f3c\u1f3d\u1f3e\u1f3f\u1f40\u1f41\u1f42\u1f43" +
+        "\u1f44\u1f45\u1f46\u1f47\u1f48\u1f49\u1f4a\u1f4b\u1f4b\u1f4c\u1f4d" +
+        "\u1f4e\u1f4f\u1f50\u1f51\u1f52\u1f53\u1f54\u1f55\u1f56\u1f58\u1f59" +
+        "\u1f5a\u1f5b\u1f5c\u1f5e\u1f5f\u1f60\u1f60\u1f61\u1f62\u1f63\u1f64" +
+        "\u1f66\u1f67\u1f68\u1f69\u1f69\u1f6a\u1f6b\u1f6b\u1f6c\u1f6d\u1f6e" +
+        "\u1f6f\u1f70\u1f71\u1f72\u1f73\u1f74\u1f75\u1f76\u1f78\u1f79\u1f79" +
+        "\u1f7a\u1f7b\u1f7c\u1f7d\u1f7e\u1f7f\u1f80\u1f81\u1f82\u1f83\u1f84" +
+        "\u1f85\u1f86\u1f87\u1f88\u1f89\u1f8a\u1f8b\u1f8c\u1f8d\u1f8e\u1f8e" +
+        "\u1f8f\u1f90\u1f91\u1f91\u1f91\u1f92\u1f93\u1f94\u1f95\u1f96\u1f97" +
+        "\u1f98\u1f99\u1f99\u1f99\u1f9b\u1f9c\u1f9d\u1f9e\u1f9f\u1fa0\u1fa1" +
+        "\u1fa2\u1fa3\u1fa4\u1fa5\u1fa6\u1fa7\u1fa8\u1fa9\u1faa\u1fab\u1fab" +
+        "\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab\u1fab" +
+        "\u1fab\u1fac\u1fad\u1fae\u1fae\u1fae\u1fae\u1faf\u1faf\u1fb0\u1fb0" +
+        "\u1fb0\u1fb1\u1fb2\u1fb3\u1fb3\u1fb3\u1fb3\u1fb3\u1fb4\u1fb5\u1fb6" +
+        "\u1fb6\u1fb6\u1fb7\u1fb8\u1fb9\u1fb9\u1fb9\u1fba\u1fbb\u1fbb\u1fbc" +
+        "\u1fbd\u1fbd\u1fbe\u1fbf\u1fbf\u1fc0\u1fc1\u1fc1\u1fc1\u1fc2\u1fc3" +
+        "\u1fc4\u1fc5\u1fc6\u1fc6\u1fc6\u1fc6\u1fc6\u1fc7\u1fc8\u1fc8\u1fc9" +
+        "\u1fca\u1fcb\u1fcb\u1fcb\u1fcb\u1fcb\u1fcc\u1fcd\u1fce\u1fcf\u1fd0" +
+        "\u1fd0\u1fd0\u1fd1\u1fd2\u1fd2\u1fd2\u1fd2\u1fd2\u1fd2\u1fd2\u1fd2" +
+        "\u1fd2\u1fd4\u1fd5\u1fd6\u1fd9\u1fda\u1fda\u1fda\u1fdb\u1fdc\u1fdd" +
+        "\u1fdd\u1fde\u1fde\u1fdf\u1fe0\u1fe1\u1fe2\u1fe4\u1fe4\u1fe4\u1fe5" +
+        "\u1fe6\u1fe7\u1fe7\u1fe8\u1fe8\u1fe9\u1fea\u1feb\u1feb\u1feb\u1fec" +
+        "\u1fed\u1fee\u1fef\u1fef\u1ff0\u1ff1\u1ff2\u1ff3\u1ff5\u1ff7\u1ff9" +
+        "\u1ff9\u1ff9\u1ffa\u1ffa\u1ffa\u1ffb\u1ffc\u1ffd\u1ffd\u1ffd\u1ffd" +
+        "\u1ffd\u1ffd\u1ffe\u1ffe\u1fff\u1fff\u2000\u2001\u2003\u2004\u2005" +
+        "\u2006\u2007\u2008\u2008\u2008\u2008\u2008\u2008\u2009\u200a\u200a" +
+        "\u200b\u200b\u200c\u200c\u200d\u200e\u200f\u200f\u2010\u2012\u2013" +
+        "\u2014\u2015\u2015\u2015\u2015\u2016\u2018\u2019\u2019\u201a\u201a" +
+        "\u201a\u201a\u201b\u201c\u201d\u201e\u201e\u201e\u201f\u2020\u2020" +
+        "\u2021\u2023\u2024\u2024\u2025\u2025\u2026\u2027\u2027\u2028\u2029" +
+        "\u2029\u202a\u202b\u202b\u202c\u202d\u202d\u202d\u202e\u202f\u2030" +
+        "\u2031\u2033\u2033\u2034\u2034\u2035\u2036\u2037\u2038\u2038\u2039" +
+        "\u203c\u203e\u203f\u2040\u2041\u2042\u2042\u2043\u2044\u2044\u2045" +
+        "\u2046\u2047\u2048\u2049\u204a\u204a\u204b\u204c\u204d\u204e\u204f" +
+        "\u2050\u2051\u2052\u2053\u2054\u2055\u2056\u2057\u2058\u2059\u205a" +
+        "\u205b\u205b\u205c\u205d\u205e\u205f\u2060\u2061\u2061\u2062\u2063" +
+        "\u2064\u2065\u2066\u2067\u2067\u2068\u2069\u206a\u206b\u206c\u206d" +
+        "\u206e\u206f\u2071\u2071\u2072\u2073\u2074\u2075\u2076\u2076\u2077" +
+        "\u2078\u2079\u207a\u207b\u207c\u207d\u207e\u207f\u2080\u2080\u2080" +
+        "\u2081\u2082\u2083\u2084\u2085\u2086\u2087\u2087\u2088\u2089\u208a" +
+        "\u208a\u2091\u2092\u2093\u2094\u2095\u2096\u2097\u2098\u2099\u209a" +
+        "\u209b\u209c\u209d\u209e\u209f\u209f\u20a0\u20a1\u20a2\u20a3\u20a4" +
+        "\u20a5\u20a6\u20a7\u20a8\u20a8\u20a9\u20aa\u20aa\u20ab\u20ac\u20ad" +
+        "\u20ae\u20b0\u20b1\u20b2\u20b3\u20b4\u20b7\u20b8\u20b9\u20ba\u20bb" +
+        "\u20bc\u20bd\u20be\u20bf\u20c0\u20c1\u20c2\u20c3\u20c4\u20c5\u20c6" +
+        "\u20c7\u20c8\u20c9\u20ca\u20cb\u20cc\u20cd\u20ce\u20cf\u20d0\u20d1" +
+        "\u20d2\u20d3\u20d4\u20d5\u20d5\u20d6\u20d6\u20d7\u20d8\u20d9\u20d9" +
+        "\u20da\u20db\u20dc\u20dc\u20dd\u20de\u20df\u20e0\u20e1\u20e2\u20e3" +
+        "\u20e4\u20e5\u20e6\u20e7\u20e8\u20e9\u20ea\u20eb\u20eb\u20eb\u20eb" +
+        "\u20ec\u20ed\u20ee\u20ef\u20ef\u20ef\u20f0\u20f1\u20f2\u20f3\u20f4" +
+        "\u20f4\u20f5\u20f6\u20f7\u20f9\u20fa\u20fb\u20fb\u20fc\u20fc\u20fd" +
+        "\u20fe\u20ff\u2100\u2101\u2102\u2103\u2103\u2103\u2104\u2104\u2104" +
+        "\u2105\u2106\u2106\u2107\u2108\u2109\u210a\u210b\u210c\u210d\u210e" +
+        "\u210e\u210f\u2110\u2111\u2112\u2113\u2114\u2115\u2116\u2116\u2117" +
+        "\u2118\u2119\u211a\u211b\u211c\u211c\u211d\u211e\u211e\u211e\u211f" +
+        "\u211f\u2120\u2120\u2121\u2121\u2122\u2123\u2124\u2124\u2125\u2126" +
+        "\u2127\u2128\u2128\u212a\u212b\u212c\u212d\u212e\u212f\u2130\u2131" +
+        "\u2132\u2133\u2134\u2134\u2135\u2136\u2137\u2138\u2138\u2138\u2139" +
+        "\u213a\u213b\u213c\u213c\u213c\u213d\u213d\u213e\u213f\u2140\u2140" +
+        "\u2141\u2142\u2143\u2144\u2145\u2146\u2147\u2148\u2149\u2149\u214a" +
+        "\u214b\u214c\u214d\u214d\u214e\u214f\u214f\u2150\u2151\u2152\u2153" +
+        "\u2154\u2155\u2159\u215a\u215b\u215c\u215d\u215e\u215f\u2160\u2161" +
+        "\u2163\u2164\u2165\u2166\u2167\u2168\u2169\u216a\u216b\u216c\u216d" +
+        "\u216e\u216f\u2170\u2170\u2171\u2172\u2173\u2174\u2174\u2175\u2176" +
+        "\u2177\u2178\u2179\u217a\u217b\u217c\u217d\u217d\u217e\u217f\u2180" +
+        "\u2180\u2181\u2182\u2183\u2184\u2185\u2186\u2187\u2188\u2189\u218a" +
+        "\u218b\u218c\u218d\u218e\u218f\u218f\u2190\u2191\u2192\u2193\u2194" +
+        "\u2195\u2195\u2196\u2197\u2198\u2199\u219a\u219b\u219c\u219d\u219e" +
+        "\u219f\u21a1\u21a2\u21a3\u21a4\u21a5\u21a6\u21a7\u21a7\u21a8\u21a8" +
+        "\u21a9\u21aa\u21ab\u21ac\u21ad\u21ae\u21af\u21b0\u21b1\u21b2\u21b3" +
+        "\u21b4\u21b5\u21b6\u21b7\u21b8\u21bb\u21bc\u21bd\u21bf\u21c0\u21c4" +
+        "\u21c6\u21c7\u21c8\u21c9\u21ca\u21cb\u21cc\u21cd\u21ce\u21cf\u21d0" +
+        "\u21d1\u21d2\u21d2\u21d3\u21d4\u21d5\u21d6\u21d7\u21d7\u21d8\u21d9" +
+        "\u21da\u21db\u21dc\u21dd\u21dd\u21de\u21df\u21e0\u21e1\u21e2\u21e3" +
+        "\u21e5\u21e5\u21e6\u21e7\u21e8\u21e9\u21ea\u21eb\u21ec\u21ed\u21ee" +
+        "\u21ef\u21f0\u21f1\u21f2\u21f3\u21f4\u21f5\u21f6\u21f6\u21f6\u21f7" +
+        "\u21f7\u21f7\u21f8\u21f9\u21f9\u21fa\u21fb\u21fc\u21fc\u21fd\u21fe" +
+        "\u21ff\u2200\u2201\u2202\u2203\u2204\u2205\u2206\u2208\u2209\u220a" +
+        "\u220b\u220d\u220d\u220e\u220f\u220f\u2210\u2211\u2211\u2212\u2213" +
+        "\u2214\u2215\u2216\u2217\u2219\u2219\u221a\u221b\u221c\u221d\u221d" +
+        "\u221e\u221f\u2220\u2222\u2223\u2224\u2225\u2226\u2227\u2227\u2227" +
+        "\u2227\u2228\u2229\u2229\u222a\u222b\u222c\u222c\u222c\u222d\u222d" +
+        "\u222e\u222f\u222f\u2230\u2231\u2232\u2232\u2232\u2233\u2234\u2234" +
+        "\u2235\u2236\u2237\u2237\u2238\u2239\u223a\u223b\u223c\u223d\u223e" +
+        "\u223f\u223f\u2240\u2241\u2241\u2241\u2242\u2243\u2243\u2243\u2244" +
+        "\u2245\u2245\u2246\u2247\u2248\u2249\u224a\u224b\u224c\u224d\u224e" +
+        "\u224e\u224e\u224e\u224f\u2250\u2252\u2253\u2254\u2254\u2254\u2255" +
+        "\u2256\u2257\u2258\u2259\u225a\u225b\u225c\u225d\u225e\u225f\u2260" +
+        "\u2261\u2262\u2263\u2264\u2265\u2266\u2267\u2268\u2269\u226a\u226b" +
+        "\u226c\u226d\u226e\u226f\u2270\u2271\u2272\u2273\u2274\u2274\u2275" +
+        "\u2276\u2277\u2279\u227a\u227b\u227b\u227c\u227d\u227e\u227f\u2280" +
+        "\u2281\u2282\u2283\u2284\u2285\u2286\u2286\u2287\u2288\u2289\u228a" +
+        "\u228b\u228c\u228d\u2290\u2291\u2292\u2294\u2295\u2296\u2297\u2298" +
+        "\u2298\u2299\u229a\u229b\u229c\u229d\u229e\u229f\u22a0\u22a1\u22a1" +
+        "\u22a2\u22a3\u22a4\u22a5\u22a6\u22a7\u22a8\u22a9\u22aa\u22ab\u22ac" +
+        "\u22ad\u22ae\u22af\u22b0\u22b1\u22b2\u22b3\u22b4\u22b5\u22b6\u22b6" +
+        "\u22b7\u22b8\u22b9\u22ba\u22ba\u22bb\u22bc\u22bd\u22be\u22bf\u22c0" +
+        "\u22c1\u22c1\u22c2\u22c3\u22c4\u22c4\u22c5\u22c6\u22c7\u22c8\u22c9" +
+        "\u22ca\u22cb\u22cb\u22cc\u22cd\u22ce\u22cf\u22d0\u22d1\u22d2\u22d3" +
+        "\u22d4\u22d5\u22d6\u22d7\u22d8\u22d9\u22da\u22db\u22dc\u22dd\u22de" +
+        "\u22df\u22e0\u22e1\u22e1\u22e2\u22e3\u22e3\u22e3\u22e4\u22e5\u22e6" +
+        "\u22e7\u22e7\u22e8\u22ea\u22eb\u22eb\u22eb\u22ec\u22ed\u22ee\u22ef" +
+        "\u22f0\u22f1\u22f2\u22f3\u22f3\u22f4\u22f4\u22f5\u22f6\u22f6\u22f7" +
+        "\u22f8\u22f9\u22fa\u22fb\u22fb\u22fc\u22fd\u22fe\u22fe\u22ff\u2300" +
+        "\u2301\u2301\u2301\u2301\u2301\u2302\u2303\u2303\u2304\u2305\u2306" +
+        "\u2307\u2308\u2308\u2308\u2309\u230a\u230b\u230c\u230d\u230e\u230f" +
+        "\u2310\u2311\u2312\u2313\u2314\u2315\u2316\u2317\u2318\u2319\u231a" +
+        "\u231b\u231b\u231c\u231c\u231d\u231e\u231f\u231f\u231f\u231f\u2320" +
+        "\u2322\u2323\u2324\u2325\u2326\u2327\u2328\u2329\u232a\u232b\u232b" +
+        "\u232b\u232b\u232b\u232c\u232e\u232f\u2330\u2331\u2331\u2332\u2333" +
+        "\u2335\u2337\u2338\u2339\u233a\u233b\u233c\u233d\u233e\u233f\u2340" +
+        "\u2341\u2343\u2344\u2345\u2346\u2347\u2348\u2349\u234a\u234b\u234c" +
+        "\u234d\u234e\u234f\u2350\u2351\u2352\u2352\u2353\u2354\u2355\u2356" +
+        "\u2357\u2358\u2358\u2359\u235a\u235a\u235b\u235c\u235c\u235d\u235e" +
+        "\u235f\u2360\u2360\u2360\u2361\u2361\u2361\u2362\u2363\u2364\u2364" +
+        "\u2365\u2366\u2367\u2368\u2369\u236a\u236a\u236b\u236b\u236c\u236d" +
+        "\u236e\u236f\u236f\u2370\u2371\u2372\u2373\u2374\u2375\u2376\u2377" +
+        "\u2378\u2379\u237a\u237b\u237c\u237d\u237e\u237f\u2380\u2381\u2382" +
+        "\u2383\u2384\u2384\u2385\u2386\u2387\u2388\u2389\u238a\u238b\u238c" +
+        "\u238d\u238d\u238e\u238e\u238f\u2390\u2390\u2391\u2392\u2393\u2394" +
+        "\u2395\u2396\u2397\u2398\u2399\u239a\u239b\u239c\u239d\u239e\u239f" +
+        "\u23a0\u23a1\u23a2\u23a3\u23a4\u23a5\u23a6\u23a7\u23a8\u23a8\u23a9" +
+        "\u23aa\u23ab\u23ac\u23ad\u23ae\u23ae\u23af\u23b0\u23b1\u23b2\u23b3" +
+        "\u23b6\u23b7\u23b8\u23ba\u23bb\u23bb\u23bc\u23bd\u23be\u23be\u23bf" +
+        "\u23bf\u23c0\u23c1\u23c2\u23c3\u23c4\u23c5\u23c6\u23c6\u23c7\u23c8" +
+        "\u23c9\u23ca\u23cb\u23cb\u23cc\u23cd\u23ce\u23cf\u23d0\u23d1\u23d1" +
+        "\u23d5\u23d6\u23d7\u23d8\u23d9\u23da\u23db\u23dc\u23dd\u23de\u23de" +
+        "\u23df\u23e0\u23e1\u23e2\u23e3\u23e4\u23e5\u23e6\u23e7\u23e8\u23e9" +
+        "\u23ea\u23eb\u23ec\u23ed\u23ee\u23ef\u23f0\u23f1\u23f2\u23f4\u23f5" +
+        "\u23f6\u23f7\u23f8\u23f9\u23fa\u23fb\u23fc\u23fd\u23fd\u23fe\u23ff" +
+        "\u2400\u2400\u2400\u2401\u2403\u2404\u2405\u2406\u2407\u2407\u2408" +
+        "\u2408\u2409\u240a\u240b\u240b\u240c\u240d\u240e\u240f\u2410\u2411" +
+        "\u2412\u2413\u2414\u2415\u2416\u2416\u2417\u2418\u2419\u241a\u241a" +
+        "\u241c\u241d\u241e\u241f\u241f\u2420\u2421\u2422\u2423\u2424\u2426" +
+        "\u2427\u2428\u2429\u242a\u242b\u242c\u242d\u242e\u242f\u2430\u2431" +
+        "\u2432\u2433\u2434\u2435\u2436\u2437\u2439\u243a\u243b\u243b\u243c" +
+        "\u243d\u243e\u243f\u2440\u2440\u2441\u2442\u2442\u2443\u2443\u2444" +
+        "\u2445\u2445\u2446\u2447\u2448\u2449\u244a\u244b\u244c\u244d\u244e" +
+        "\u244f\u2450\u2451\u2451\u2452\u2453\u2454\u2455\u2456\u2457\u2458" +
+        "\u2459\u245a\u245b\u245c\u245d\u245e\u245f\u2460\u2461\u2462\u2463" +
+        "\u2464\u2465\u2466\u2467\u2468\u2468\u2469\u2469\u246a\u246b\u246c" +
+        "\u246d\u246d\u246d\u246e\u246e\u246f\u2470\u2471\u2472\u2472\u2473" +
+        "\u2474\u2475\u2476\u2476\u2477\u2477\u2478\u2479\u247a\u247b\u247b" +
+        "\u247c\u247d\u247e\u247f\u2480\u2481\u2482\u2484\u2484\u2485\u2485" +
+        "\u2485\u2486\u2487\u2488\u2488\u2489\u248a\u248b\u248b\u248b\u248c" +
+        "\u248d\u248d\u248d\u248e\u248f\u2490\u2491\u2492\u2493\u2494\u2494" +
+        "\u2495\u2496\u2497\u2498\u2498\u2498\u2499\u2499\u249a\u249a\u249b" +
+        "\u249d\u249e\u249f\u24a0\u24a0\u24a1\u24a2\u24a2\u24a3\u24a3\u24a4" +
+        "\u24a5\u24a6\u24a6\u24a7\u24a9\u24aa\u24ab\u24ac\u24ad\u24ae\u24af" +
+        "\u24b0\u24b1\u24b1\u24b1\u24b2\u24b3\u24b3\u24b4\u24b5\u24b6\u24b6" +
+        "\u24b7\u24b7\u24b7\u24b8\u24b9\u24ba\u24bb\u24bc\u24bd\u24be\u24bf" +
+        "\u24c0\u24c0\u24c1\u24c2\u24c3\u24c4\u24c5\u24c6\u24c7\u24c8\u24c9" +
+        "\u24ca\u24cb\u24cb\u24cc\u24cd\u24ce\u24cf\u24d0\u24d0\u24d1\u24d2" +
+        "\u24d4\u24d5\u24d6\u24d7\u24d8\u24d9\u24da\u24da\u24db\u24db\u24db" +
+        "\u24db\u24dc\u24dd\u24de\u24df\u24df\u24e0\u24e0\u24e1\u24e2\u24e3" +
+        "\u24e4\u24e5\u24e6\u24e6\u24e7\u24e7\u24e8\u24e8\u24e9\u24e9\u24e9" +
+        "\u24ea\u24eb\u24ec\u24ed\u24ee\u24ef\u24ef\u24f0\u24f1\u24f2\u24f3" +
+        "\u24f4\u24f4\u24f5\u24f6\u24f7\u24fa\u24fa\u24fb\u24fc\u24fd\u24fe" +
+        "\u24ff\u2500\u2501\u2503\u2504\u2504\u2505\u2506\u2507\u2508\u2509" +
+        "\u2509\u250a\u250a\u250b\u250c\u250c\u250d\u250e\u250f\u2510\u2511" +
+        "\u2512\u2514\u2514\u2515\u2516\u2517\u2518\u2519\u2519\u2519\u2519" +
+        "\u251a\u251b\u251c\u251c\u251d\u251e\u251e\u251f\u2520\u2520\u2521" +
+        "\u2522\u2522\u2523\u2524\u2525\u2526\u2527\u2528\u2528\u2529\u2529" +
+        "\u2529\u252a\u252b\u252b\u252c\u252c\u252c\u252d\u252e\u252f\u252f" +
+        "\u2530\u2530\u2530\u2531\u2532\u2532\u2533\u2533\u2534\u2534\u2535" +
+        "\u2535\u2536\u2537\u2538\u2539\u253a\u253b\u253b\u253c\u253d\u253e" +
+        "\u253e\u253f\u2540\u2541\u2542\u2543\u2543\u2543\u2544\u2545\u2546" +
+        "\u2547\u2548\u2549\u2549\u2549\u254a\u254b\u254c\u254d\u254e\u254f" +
+        "\u2550\u2551\u2552\u2553\u2554\u2555\u2555\u2556\u2557\u2558\u2559" +
+        "\u255a\u255b\u255c\u255d\u255e\u255f\u2560\u2561\u2562\u2562\u2562" +
+        "\u2563\u2564\u2564\u2564\u2565\u2566\u2567\u2567\u2568\u2569\u256a" +
+        "\u256b\u256c\u256d\u256e\u256e\u256f\u2570\u2571\u2571\u2571\u2571" +
+        "\u2572\u2573\u2574\u2575\u2576\u2577\u2578\u2579\u257c\u257c\u257d" +
+        "\u257e\u257f\u2580\u2581\u2582\u2583\u2584\u2584\u2585\u2586\u2587" +
+        "\u2588\u2589\u258a\u258b\u258b\u258c\u258d\u258e\u258f\u2590\u2591" +
+        "\u2591\u2592\u2593\u2594\u2595\u2596\u2597\u2597\u2598\u2598\u2599" +
+        "\u259a\u259b\u259b\u259c\u259c\u259c\u259d\u259d\u259d\u259e\u259f" +
+        "\u25a0\u25a0\u25a0\u25a0\u25a1\u25a2\u25a2\u25a3\u25a4\u25a4\u25a4" +
+        "\u25a4\u25a4\u25a5\u25a6\u25a6\u25a7\u25a8\u25a9\u25aa\u25ab\u25ab" +
+        "\u25ac\u25ac\u25ac\u25ad\u25ae\u25af\u25b0\u25b1\u25b1\u25b2\u25b3" +
+        "\u25b3\u25b4\u25b5\u25b6\u25b7\u25b8\u25b8\u25b9\u25ba\u25bb\u25bb" +
+        "\u25bb\u25bc\u25bc\u25bd\u25be\u25bf\u25c0\u25c1\u25c1\u25c1\u25c2" +
+        "\u25c3\u25c4\u25c5\u25c6\u25c7\u25c8\u25c8\u25c9\u25ca\u25cb\u25cc" +
+        "\u25cd\u25ce\u25cf\u25d0\u25d1\u25d1\u25d2\u25d3\u25d3\u25d4\u25d5" +
+        "\u25d6\u25d8\u25d8\u25d9\u25d9\u25d9\u25da\u25db\u25dc\u25dd\u25de" +
+        "\u25df\u25e0\u25e1\u25e2\u25e3\u25e3\u25e4\u25e5\u25e5\u25e5\u25e6" +
+        "\u25e7\u25e8\u25e9\u25e9\u25e9\u25ea\u25eb\u25ec\u25ed\u25ed\u25ed" +
+        "\u25ee\u25ef\u25f0\u25f0\u25f0\u25f1\u25f1\u25f1\u25f2\u25f2\u25f3" +
+        "\u25f4\u25f5\u25f6\u25f7\u25f8\u25f9\u25fa\u25fb\u25fc\u25fc\u25fc" +
+        "\u25fd\u25fd\u25fd\u25fe\u25ff\u2600\u2600\u2601\u2601\u2602\u2602" +
+        "\u2602\u2602\u2602\u2603\u2604\u2605\u2606\u2606\u2607\u2608\u2609" +
+        "\u260a\u260a\u260b\u260c\u260d\u260d\u260e\u260e\u260f\u260f\u2610" +
+        "\u2611\u2612\u2612\u2613\u2614\u2614\u2615\u2616\u2617\u2618\u2618" +
+        "\u2619\u261a\u261b\u261c\u261d\u261d\u261e\u261e\u261f\u2620\u2620" +
+        "\u2620\u2620\u2621\u2621\u2622\u2623\u2623\u2623\u2624\u2625\u2626" +
+        "\u2627\u2628\u2629\u262a\u262b\u262c\u262d\u262e\u262e\u262e\u262f" +
+        "\u2630\u2631\u2631\u2631\u2632\u2632\u2633\u2634\u2635\u2636\u2637" +
+        "\u2637\u2638\u2639\u263a\u263b\u263c\u263d\u263e\u263f\u2640\u2640" +
+        "\u2640\u2641\u2642\u2642\u2642\u2642\u2642\u2642\u2643\u2643\u2643" +
+        "\u2644\u2644\u2645\u2646\u2647\u2648\u2649\u264a\u264b\u264b\u264c" +
+        "\u264d\u264d\u264e\u264f\u264f\u264f\u2650\u2651\u2652\u2652\u2653" +
+        "\u2654\u2655\u2656\u2656\u2657\u2658\u2659\u265a\u265b\u265c\u265c" +
+        "\u265c\u265c\u265c\u265d\u265e\u265f\u2660\u2661\u2661\u2662\u2662" +
+        "\u2662\u2663\u2664\u2664\u2664\u2664\u2664\u2665\u2666\u2667\u2667" +
+        "\u2668\u2669\u2669\u2669\u266a\u266a\u266b\u266c\u266c\u266d\u266d" +
+        "\u266d\u266e\u266e\u266e\u266f\u266f\u2670\u2671\u2671\u2672\u2673" +
+        "\u2673\u2674\u2675\u2676\u2676\u2676\u2677\u2677\u2678\u2679\u267a" +
+        "\u267b\u267c\u267d\u267d").toCharArray ();
+
+    private static final char[] nodeValue = (
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0005\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0009\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\r\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0011\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0015\u0000\u0000\u0000\u0019\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u001d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "!\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000%\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000)\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000-\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00001\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00005\u0000\u0000\u0000" +
+        "9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000=\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000A\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000E\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000I\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000M\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000Q\u0000\u0000\u0000\u0000\u0000\u0009\u0000\u0000" +
+        "\u0000\u0000U\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000Y\u0000\u0000]\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000a\u0000\u0000e\u0000\u0000i\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000m\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000q\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000u\u0000\u0000\u0000\u0000\u0019" +
+        "\u0000\u0000\u0000y\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000}\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0081\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0085\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0089\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u008d" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0091\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0095\u0000\u0000" +
+        "\u0000\u0000%\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0099\u0000\u0000\u009d" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u00a1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u00a5\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00a9\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u00ad\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00b1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u00b5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u00b9\u0000\u0000\u0000\u0000\u00bd\u0000\u0000\u0000" +
+        "\u00c1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000=\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00c5\u0000\u0000" +
+        "\u00c9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u00cd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u00d1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00d5" +
+        "\u00d9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00dd" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00e1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0009\u0000\u0000\u0000\u00e5" +
+        "\u00ea\u0000\u0000\u0000\u00f1\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u00f5\u0000\u0000\u0000\u00f9\u0000\u0000\u0000\u00fe\u0000" +
+        "\u0000\u0000\u0000\u0000\u0105\u0000\u0109\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u010d\u0111\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0115\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0119\u011d\u0000\u0122" +
+        "\u0000\u0000\u0000\u0000\u00d1\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0129\u0011\u0000\u0000\u0000\u012d\u0000\u0132\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0139\u013d\u0000" +
+        "\u0000\u0141\u0146\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u014d\u0000\u0152\u0000\u0000\u0000\u0000\u0000\u0159" +
+        "\u0000\u015d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0161\u0000\u001d\u0000\u0000\u0000\u0000\u0165\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0169\u0000\u016d\u0172" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0179\u017e\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0185\u0000" +
+        "\u0000\u018a\u0000\u0000\u0000\u0000\u0000\u0000\u0191\u0000\u0195" +
+        "\u0199\u0000\u0000\u019e\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u01a5\u0000\u0000\u0000\u01aa\u0000\u0000\u0000\u01b1\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u01b5\u0000\u01ba\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u01c1\u0000\u0000\u01c5\u01ca" +
+        "\u01d1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u01d5\u01d9" +
+        "\u01de\u0000\u0000\u0000=\u0000\u0000\u0000\u0000\u0000\u01e5\u0000" +
+        "A\u01e9\u0000\u0000\u0000\u0000\u0000\u01ed\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u01f1\u01f6\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u01fd\u0000\u0000\u0000\u0201\u0205\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0209\u020d\u0000\u0000\u0211\u0216\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u021d\u0000\u0222\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0229\u0000\u0000\u022d\u0000\u0231\u0000\u0000\u0000\u0236\u0000" +
+        "\u0000\u0000\u0000\u0000\u023e\u0000\u0000\u0246\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u024d\u0252\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0259\u0000\u0000\u0000\u025d\u0000\u0000\u0000\u0000\u0262" +
+        "\u0269\u0000\u0000\u026d\u0000\u0272\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0009\u0279\u0000\u0000\u0000\u0000\u027d\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0281\u0000\u0285\u0000\u0000\u0000" +
+        "\u0000\u0000\u0289\u0000\u0000\u028d\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0291\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0296\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u029e\u0000\u0000\u0000\u02a5\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u02a9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u02ad\u02b2\u0000\u0000\u02b9\u02bd" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0105\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u02c1\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u02c5\u0000\u0000\u0000]\u0000\u0000" +
+        "\u0000\u02ca\u0000\u0000\u00d1\u0000\u0000\u02d1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u02d5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u02d9" +
+        "\u0000\u0000\u02de\u0000\u02e5\u0000\u0000\u02e9\u02ed\u0000\u0000" +
+        "\u0000\u0000\u02f1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u02f5m\u02f9\u0000\u0000\u0000\u0000\u0000\u0000\u02fd\u0000\u0000" +
+        "\u0000\u0000\u0302\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0309\u0000\u0000\u030d\u0000" +
+        "\u0000\u0311\u0000\u0315u\u0000\u0000\u0319\u0000\u0000\u0000\u031e" +
+        "\u0015\u0000\u0000\u0325\u0329\u032d\u0331\u0000\u0335\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u033a\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0341\u0000" +
+        "\u0000\u0345\u034a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0351\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0355" +
+        "\u0000\u0359\u035e\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0365" +
+        "\u036a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0371" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0375\u0000\u0000\u0379\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u037d\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0381\u0091\u0000\u0000\u0385\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u038a\u0391\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0395\u0000\u0399\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u039d" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u03a1\u0000\u0000\u0000\u0191" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u03a5\u0000\u0000\u03a9" +
+        "\u0000\u0000\u0000\u03ad\u0000\u0000\u03b2\u03b9\u0000\u03bd\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u03c2\u03ca\u0000\u0000\u03d2\u03da\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u03e1\u0000\u0000\u0000\u0000\u0000\u03e5\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u03e9\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u03ee\u03f6\u03fd\u0000\u0000\u0000\u0401\u0000" +
+        "\u0000\u0000\u0000\u0405\u0000\u00a5\u0000\u0000\u040a\u0000\u0000" +
+        "\u0411\u0000\u0000\u0000\u0000\u0415\u0000\u0000\u0000\u00a9\u0000" +
+        "\u0000\u0000\u0000\u0419\u0000\u0000\u0000\u0000\u0000\u0000\u041d" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0421\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0425\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u042a\u0000\u0000\u0431\u0000\u0435\u0000\u0000\u0000\u0000" +
+        "\u0000\u0439\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u043d\u0000\u0441\u0445\u0000\u0000\u0000\u0449\u0000\u0000" +
+        "\u0000\u0000\u0000\u044d\u0000\u0451\u0455\u0000\u0000\u0459\u0000" +
+        "\u0000\u0000\u0000\u0000\u045e\u0465\u0000\u0000\u0000\u0000\u0469" +
+        "\u0000\u0000\u0000\u0000\u0000\u046d\u0000\u0000\u0471\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0475\u0000" +
+        "\u047a\u0000\u0000\u0000\u0000\u0000\u0000\u01d9\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0481\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000=\u0000\u0000\u0486\u0000\u048d\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0491\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u01ed\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0495\u0000\u0000\u0000\u0499" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u049d\u0000\u0000\u0000" +
+        "\u04a1\u0000\u0000\u0000\u0000\u04a6\u0000\u0000\u0000\u0000\u0000" +
+        "\u00cd\u0000\u04ad\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u04b1\u0000\u0000\u04b5\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u04b9\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u04bd\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0201\u0000\u04c1\u04c5\u04c9\u04cd\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u04d1\u0000\u0000\u0000\u04d5\u0000\u0000\u04da\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04e1" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u04e5\u0000\u0000\u0000\u0000\u04ea" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00d1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u04f1\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u04f5\u0000\u00b5\u0000\u0000\u0000" +
+        "\u0000\u0000\u04fa\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0502\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u050a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0511\u00e1\u0516\u0000\u0000\u0000\u0000\u051d\u0000" +
+        "\u0000\u0521\u0000\u0000\u0000\u0526\u0000\u0000\u0000\u0000\u052d" +
+        "\u0000\u0531\u0000\u0000\u0535\u0000\u0000\u0000\u0000\u053a\u0000" +
+        "\u0541\u0546\u0000\u0000\u00f5\u0000\u054d\u0000\u0000\u0000\u0551" +
+        "\u0556\u0000\u055d\u0000\u0561\u0105\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0565\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0569\u0000\u0000\u0000\u056e\u0000\u0000\u0575\u0579\u057d" +
+        "\u0000\u0581\u0000\u0000\u0000\u0000\u0000\u0000\u0586\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u058e\u0000\u0000\u0000" +
+        "\u0595\u0599\u0000\u0000\u0000\u0000\u0000\u059e\u0000\u0000\u0000" +
+        "\u05a5\u05a9\u013d\u0000\u0000\u0000\u05ae\u0000\u0000\u05b5\u05b9" +
+        "\u0000\u0000\u0000\u0000\u05bd\u05c2\u0000\u05ca\u0000\u0000\u0000" +
+        "\u0000\u05d1\u0000\u05d5\u0000\u0000\u0000\u05d9\u0000\u05dd\u0000" +
+        "\u05e1\u05e5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u05ea" +
+        "\u05f1\u05f5\u0000\u0000\u0169\u0000\u05fa\u0602\u0000\u0000\u0609" +
+        "\u060d\u0000\u0000\u0612\u061a\u0621\u0000\u0000\u0625\u0000\u0629" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u062e\u0000\u0635\u0000\u0000\u0000\u0000\u063a\u0641" +
+        "\u0645\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0649\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u064e\u0000\u0000\u0000\u0655\u0000" +
+        "\u0000\u0000\u0000\u0000\u065a\u0000\u0662\u0000\u0000\u0000\u01c1" +
+        "\u0000\u0000\u0000\u0000\u0000\u0669\u0000\u0000\u0000\u0000\u066e" +
+        "\u01d9\u0675\u067a\u0000\u0000\u0681\u0685\u0000\u0000\u0000\u0000" +
+        "\u0000\u0689\u0000\u0000\u068d\u0000\u0000\u0691\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0696\u069d\u0000\u06a2\u06a9\u0000" +
+        "\u0000\u0000\u0000\u0000\u06ad\u0000\u0000\u06b1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u06b6\u0000\u06be\u0000\u0000\u06c5\u0000" +
+        "\u0000\u0000\u06c9\u0000\u0000\u0000\u0000\u0000\u0000\u06ce\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u06d5\u0000\u0000\u06da\u0000" +
+        "\u0229\u0000\u06e1\u0000\u0000\u06e5\u0000\u0000\u06ea\u06f2\u0000" +
+        "\u0000\u0000\u06fa\u0702\u070a\u0712\u0719\u071d\u0721\u0000\u0000" +
+        "\u0726\u072e\u0735\u0739\u0000\u0000\u073d\u0000\u0741\u0745\u074a" +
+        "\u0000\u0000\u0751\u0755\u0759\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u075d\u0000\u0761\u0765\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u076a\u0000\u0771\u0775\u0000\u0779\u077e\u0000\u0000\u028d" +
+        "\u0000\u0000\u0785\u0000\u0000\u0000\u0000\u0000\u0000\u0789\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u078d\u0791\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0795\u079a\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u07a1\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u07a5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u07a9\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u07ad\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u07b2\u0000\u07b9\u0000\u07bd\u0000\u0000\u07c1" +
+        "\u0000\u07c5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u07ca" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u07d1\u07d5\u0000\u02ad" +
+        "\u0000\u07d9\u0000\u07dd\u07e1\u0000\u0000\u07e5\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u07e9\u0000\u0000\u07ed\u0000\u0000\u07f2\u0000" +
+        "\u0105\u0000\u0000\u0000\u07fa\u0801\u0000\u0805\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u080a\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0811\u0815\u0000\u0000" +
+        "\u0819\u081d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0821\u0000\u0000\u0000\u0000\u0000\u0000\u0825" +
+        "\u0000\u0000\u0000\u082a\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0832\u0839\u083d\u0000\u0000\u0841\u0000" +
+        "\u0000\u0000\u0000\u0845\u0000\u0000\u0849\u0000\u0000\u0000\u084d" +
+        "\u0851\u0000\u0855\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0859\u085d\u0000\u0862\u0869\u0000\u0000\u086d\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0871\u0000" +
+        "\u0875\u02f9\u0879\u087d\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0881\u0000\u0000\u0885\u088a\u0000\u0891\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0896\u0000" +
+        "\u0000\u0000\u0000\u089dq\u0000\u0000\u0000\u08a2\u0000\u0000\u08a9" +
+        "\u08ad\u0000\u0335\u0000\u0000\u08b2\u0000\u08b9\u08bd\u0000\u0000" +
+        "\u08c1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u08c6\u0345\u0000\u08cd\u0000\u0000\u08d1\u0000\u0000\u08d5" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u08da" +
+        "\u0000\u08e2\u0000\u0000\u0000\u0000\u0000\u08e9\u08ed\u08f1\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u08f5" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u08f9\u0000" +
+        "\u08fe\u0905\u0000\u0000\u090a\u0085\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0355\u0000\u0000\u0912\u091a\u0000\u0000\u0000\u0000\u0000" +
+        "\u0921\u0925\u092a\u0932\u0000\u0939\u0000\u0000\u093d\u0000\u0000" +
+        "\u0000\u0000\u0941\u0000\u0000\u0945\u0949\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u094d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0951\u0955\u0000\u0000\u0000\u0959\u0000\u0000" +
+        "\u0000\u0000\u0000\u008d\u0000\u0000\u0000\u095e\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0965\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0969\u0000\u0399\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u096e\u0000\u0000\u0000\u0000" +
+        "\u0000\u0975\u0979\u0000\u0000\u0000\u0000\u0000\u0000\u097e\u0985" +
+        "\u0000\u0000\u0989\u0000\u0000\u098d\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0991\u0000\u0000\u0000\u0000\u0000\u0996\u0000\u03a5" +
+        "\u099d\u09a1\u0000\u0000\u0000\u0000\u0000\u0000\u09a5\u0000\u0000" +
+        "\u0000\u0000\u09a9\u09ad\u0000\u0000\u09b2\u09ba\u0000\u0000\u0000" +
+        "\u09c2\u0000\u09ca\u0000\u0000\u0000\u0000\u0000\u09d2\u09da\u0000" +
+        "\u0000\u0000\u0000\u03e5\u0000\u09e1\u0000\u0000\u0000\u09e5\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u03fd\u0000\u0000" +
+        "\u09ea\u0000\u0401\u0000\u0000\u0000\u09f1\u09f5\u0000\u0000\u09f9" +
+        "\u0000\u0411\u0000\u0000\u09fe\u0000\u0000\u0000\u0a05\u0a0a\u0000" +
+        "\u0000\u0a11\u0000\u0000\u0000\u0000\u0000\u0a16\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0a1e\u0a26\u0000\u0a2d\u0000\u0000\u0000\u0000" +
+        "\u0a31\u0000\u0000\u0000\u0000\u0a35\u0000\u0000\u0000\u0a39\u0000" +
+        "\u0a3d\u0000\u0000\u0000\u0000\u0000\u0a42\u0000\u0a4a\u0a52\u0000" +
+        "\u0000\u0a5a\u0a62\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0a69\u0a6d\u0a71\u0000\u0000\u0a75\u0a79\u0000\u0000\u0000" +
+        "\u0a7d\u0000\u0000\u0a81\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0a85\u0000\u0a8a\u0a91\u0000\u0000\u0000\u0000\u0441\u0445\u0000" +
+        "\u0a95\u0000\u0a99\u0000\u0a9d\u0000\u0000\u044d\u0000\u0455\u0000" +
+        "\u0000\u0000\u0aa1\u0000\u0000\u0000\u02a5\u0000\u0aa5\u0000\u0000" +
+        "\u0000\u0000\u0000\u0aa9\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0aae\u0ab5\u0ab9\u0000\u00c1\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0abd\u0000\u0000\u0ac1\u0000\u0000\u0000\u0ac5\u0000" +
+        "\u0000\u0000\u0aca\u0000\u0ad1\u0ad6\u0000\u0ade\u0000\u0000\u0000" +
+        "\u01d9\u0000\u0ae5\u0000\u0000\u0ae9\u0aee\u0000\u0000\u0000\u0af5" +
+        "\u0000\u0000\u0000\u0af9\u0afd\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0b01\u0b05\u0000\u0000\u0b09A\u0000\u0000\u0000" +
+        "\u0b0d\u0000\u0000\u0000\u0000\u0b11\u0000\u0b15\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0b1a\u0000\u0000\u0b21\u0000" +
+        "\u0000\u0000\u0000\u0b26\u0b2d\u0000\u0000\u0000\u0b31\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0b35\u0000\u0000\u0000\u0000\u0b39\u0000" +
+        "\u0000\u0000\u0000\u0b3d\u0000\u0000\u0000\u0000\u0000\u04a1\u0b41" +
+        "\u0000\u0000\u0000\u0b45\u0000\u0000\u0000\u0b49\u0000\u0000\u0000" +
+        "\u0b4d\u0000\u0b51\u0000\u0b55\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u03bd\u0000\u0b59\u0000\u0000\u0b5d\u0000\u0b62\u0000" +
+        "\u0451\u0000\u0000\u0000\u0000\u0000\u0b69\u0000\u0b6e\u0000\u0000" +
+        "\u0000\u0b75\u0000\u0000\u0000\u0b79\u0000\u0b7d\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u00c9\u0000\u0000\u0000\u0000" +
+        "\u0000\u0b81\u04c1\u04c5\u04c9\u0b85\u0000\u0000\u0b89\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0b8d\u0000\u0b91\u0000\u0000\u0b95\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0b99\u0000\u0b9d\u0ba1\u0ba5\u0000\u0000\u0baa" +
+        "\u0000\u0bb1\u0000\u0000\u0000\u0000\u0bb5\u0000\u0000\u0000\u0000" +
+        "\u0000\u0bba\u0bc1\u0000\u0000\u0000\u0000\u0bc5\u0bc9\u0000\u0bcd" +
+        "\u0000\u0000\u0bd1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0bd6\u0000\u0000\u0000\u0000\u0bdd" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0be2\u0000\u0000\u0be9" +
+        "\u0000\u0000\u04f1\u0000\u0bed\u0bf1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0bf5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0bf9\u0000\u0000\u0000\u0bfe\u0000\u0000" +
+        "\u0c06\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c0e\u0000\u0c16" +
+        "\u0c1d\u0000\u0c21\u0000\u0000\u0000\u0000\u0000\u0c25\u0c29\u0000" +
+        "\u0c2e\u0000\u0000\u0000\u0000\u0c36\u0000\u0000\u0000\u0231\u0000" +
+        "\u0000\u0c3d\u0000\u0c41\u0c46\u0c4e\u0c55\u051d\u0000\u0000\u0c59" +
+        "\u0000\u0c5d\u0c61\u0000\u0c66\u0c6e\u0c75\u0531\u0c79\u0000\u0535" +
+        "\u0c7d\u0c81\u0c85\u0c89\u0000\u0541\u0000\u0c8d\u0000\u0000\u0000" +
+        "\u0000\u0c91\u0000\u0000\u0000\u0000\u0000\u0c95\u0c99\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0c9d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0ca1\u0000\u0000\u0000\u0ca5\u0000\u0ca9\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0cad\u0000" +
+        "\u0595\u0cb1\u0000\u0cb5\u0000\u0000\u0cb9\u0000\u0cbd\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0cc1\u0000\u0000\u0000\u0cc5\u0000" +
+        "\u0000\u0cc9\u0ccd\u0000\u0000\u0000\u0000\u0000\u0cd1\u0cd5\u05e1" +
+        "\u0cd9\u0cdd\u0000\u0000\u0000\u0000\u0000\u0ce1\u0000\u0ce5\u0ce9" +
+        "\u0000\u0ced\u0cf1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0cf5\u0cf9\u0cfd\u0655\u0000\u0d01\u0d05\u0435\u0000\u0000" +
+        "\u0d09\u0d0d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0d11" +
+        "\u0000\u0000\u0d15\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0d19\u0000\u0000\u0000\u0000\u0d1d\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u06ad\u0d21\u0d25\u0000\u0000\u0000\u0d29" +
+        "\u0000\u0000\u04ad\u0000\u0000\u0000\u0000\u0000\u0d2d\u0000\u0d31" +
+        "\u0000\u06c9\u0000\u0d35\u0d39\u0000\u0000\u0c21\u0000\u0d3d\u0000" +
+        "\u0000\u0000\u02a5\u0000\u0000\u0000\u0000\u0000\u0000\u0d41\u0000" +
+        "\u0d45\u0d49\u0000\u0000\u0000\u0000\u0000\u0d4d\u0d51\u0d55\u0d59" +
+        "\u0000\u0000\u0000\u0d5d\u0000\u0751\u0755\u0759\u0d61\u0000\u0d65" +
+        "\u0d69\u0d6d\u0d71\u0000\u0000\u027d\u0000\u0d75\u0000\u0000\u0541" +
+        "\u0000\u0d79\u0000\u0000\u0779U\u0000\u0d7d\u0000\u0d81\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0d85\u0d89\u0000\u0000\u0d8d\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0d91\u0d95\u0d99\u0d9d\u0da1" +
+        "\u0000\u0000\u0000\u0da5\u0da9\u0dad\u0db1\u0db5\u0db9\u0dbd\u0dc1" +
+        "\u0dc5\u0dc9\u0dcd\u0dd1\u0dd5\u0dd9\u0ddd\u0de1\u0de5\u0de9\u0000" +
+        "\u0ded\u0df1\u0df5\u0df9\u0dfd\u0e01\u0e05\u0e09\u0000\u0000\u0000" +
+        "\u0e0d\u0e11\u0e15\u0e19\u0e1d\u0e21\u0e25\u0e29\u0e2d\u0e31\u0000" +
+        "\u0c91\u0e35\u0e39\u0e3d\u0e41\u0000\u0000\u0e45\u0e49\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0e4d\u0cc9\u0e51\u0000\u0e55\u0e59" +
+        "\u0e5d\u0000\u07d5\u0000\u0000\u0e61\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0e65\u0000\u0e69\u0000\u0e6d\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0e71\u0e75\u0e79\u0e7d\u0e81\u0000\u0e85\u0e89\u0000" +
+        "\u0000\u0000\u0000\u0000\u0e8d\u0000\u0000\u0000\u0000\u0e91\u0000" +
+        "\u0e95\u0e99\u0000\u0e9d\u0000\u0000\u0000\u0ea1\u0000\u0ea5\u0000" +
+        "\u0000\u0ea9\u0000\u0ead\u0000\u0000\u0eb1\u0eb5\u0000\u0eb9\u0000" +
+        "\u0ebd\u02d1\u0000\u0000\u0000\u0000\u0ec1\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0ec5\u0ec9\u0ecd" +
+        "\u0ed1\u0000\u0000\u0ed5\u0ed9\u0000\u0000\u0851\u0000\u0edd\u0ee1" +
+        "\u0000\u0000\u0000\u0ee5\u0ee9\u0000\u0000\u0000\u0000\u0eed\u0000" +
+        "\u0ef1\u0000\u0ef5\u0000\u0000\u0875\u0000\u0000\u0000\u0ef9\u0000" +
+        "\u0000\u0efd\u0f01\u0ec1\u0f05\u0000\u0000\u0000\u0000\u0000\u0f09" +
+        "\u0000\u0f0d\u0f12\u0f19\u0f1d\u0000\u0f21\u0000\u08cd\u0000\u0f25" +
+        "\u0000\u0000\u0000\u0000\u0000\u0f29\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0f2d\u0f31\u0000\u0f35\u0000\u0000\u0f39\u0000\u0f3d\u0000" +
+        "\u0000\u0f41\u0000\u0331\u0f45\u0f49\u0f4d\u0f51\u0f55\u0f59\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0f5d\u0f61\u0000\u0000\u0000\u0000\u0000\u0f65\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0f69\u08e9\u08f1\u0f6d" +
+        "\u0000\u0ba1\u0000\u0f71\u0f75\u0f79\u001d\u0000\u0000\u0f7d\u0f81" +
+        "\u0000\u0f85\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0f89\u0f8d" +
+        "\u0f91\u0f95\u0000\u0f99\u0000\u0085\u0000\u0f9d\u0fa1\u0fa5\u0000" +
+        "\u0fa9\u0fad\u0000\u0000\u0000\u0fb1\u0000\u0fb5\u0000\u0000\u0000" +
+        "\u0000\u0fb9\u0000\u0945\u0fbd\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0fc2\u0fc9\u0fcd\u0000\u0000\u0fd1\u0000\u0000\u0000" +
+        "\u0fd5\u0fd9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0fdd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0fe1" +
+        "\u0fe5\u0000\u0fe9\u0fed\u0000\u0000\u0ff1\u0000\u0000\u0000\u0395" +
+        "\u0ff5\u0ff9\u0ffd\u1001\u0000\u0000\u0000\u0000\u1005\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1009\u0000\u100d\u0000\u1011\u0000\u1015" +
+        "\u1019\u101d\u0000\u0000\u1021\u1025\u0000\u0000\u0000\u0000\u0000" +
+        "\u1029\u102d\u0000\u0000\u0000\u1031\u0000\u0000\u0000\u0000\u1035" +
+        "\u0000\u09a5\u0000\u0000\u1039\u103d\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u1041\u0000\u0000\u0000\u0000\u0000\u011d\u0000\u1046\u104d" +
+        "\u0000\u1051\u0000\u1056\u0000\u0000\u0000\u105d\u0000\u1061\u1065" +
+        "\u0000\u1069\u0000\u106e\u0000\u0000\u1076\u0000\u03f6\u0000\u107d" +
+        "\u1081\u1085\u1089\u108d\u1091\u0000\u0000\u040a\u0000\u0415\u1095" +
+        "\u1099\u0000\u109d\u0000\u0000\u0000\u10a1\u0000\u0000\u0000\u10a6" +
+        "\u0000\u0000\u0419\u0000\u10ad\u10b1\u0000\u0000\u0000\u10b5\u0000" +
+        "\u0000\u0000\u10b9\u0000\u0a05\u0a11\u0000\u0000\u10be\u10c5\u0000" +
+        "\u041d\u0000\u10ca\u10d1\u0000\u10d5\u0000\u0000\u10d9\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u10de\u10e5\u0000\u10e9\u0000" +
+        "\u0000\u10ed\u0a71\u10f1\u0000\u0000\u10f5\u10f9\u10fd\u1101\u1105" +
+        "\u1109\u0000\u110d\u1111\u1115\u0000\u0000\u1119\u111d\u1121\u0a99" +
+        "\u0000\u0000\u0000\u1125\u1129\u0000\u112d\u0000\u0000\u1131\u0000" +
+        "\u0000\u0000\u0000\u0000\u1135\u0000\u0000\u0000\u0000\u1139\u0000" +
+        "\u0000\u0000\u113d\u00bd\u0000\u0000\u0000\u0ab5\u1141\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u1145\u0000\u1149\u0000\u0000\u0000" +
+        "\u0000\u0000\u114d\u0000\u0000\u0000\u0000\u0000\u1151\u0000\u1155" +
+        "\u0000\u1159\u0000\u069d\u0000\u115d\u1161\u0000\u0af9\u0000\u1165" +
+        "\u0000\u1169\u0000\u0000\u0000\u0000\u0000\u0000\u116d\u0000\u1171" +
+        "\u0000\u1175\u1179\u0000\u0000\u117d\u0000\u0000\u0000\u1181\u0000" +
+        "\u1185\u0000\u0000\u0000\u0689\u0000\u0000\u1189\u118d\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1191\u1195\u0000\u1199\u119d" +
+        "\u11a1\u11a5\u11a9\u0000\u0000\u0000\u0000\u11ad\u0000\u11b1\u0000" +
+        "\u0000\u0000\u11b5\u11b9\u0000\u0000\u0000\u11bd\u0000\u11c1\u0000" +
+        "\u11c5\u11c9\u0000\u0000\u11cd\u11d1\u11d5\u11d9\u0000\u11dd\u0000" +
+        "\u0000\u0000\u11e1\u0000\u11e5\u0000\u0000\u0000\u11e9\u0000\u0000" +
+        "\u0000\u0b4d\u11ed\u11f1\u11f5\u0000\u0000\u0949\u0000\u0000\u0000" +
+        "\u11f9\u11fe\u0000\u0000\u0000\u1205\u0000\u1209\u0000\u120d\u0000" +
+        "\u0000\u1211\u0000\u0000\u0000\u0000\u0afd\u0000\u0000\u0000\u1215" +
+        "\u0000\u03a5\u0000\u0000\u0000\u1219\u121d\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u1221\u1225\u0000\u0000\u0000\u0000" +
+        "\u0000\u1229\u0000\u122d\u0000\u0000\u0b8d\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u1231\u0000\u0000\u0000\u0000\u0000U\u0000\u0b99\u1235" +
+        "\u0b9d\u0000\u0000\u0000\u0000\u0000\u0000\u0d21\u0000\u0000\u0000" +
+        "\u0000\u1239\u0000\u0000\u123d\u0000\u1241\u0000\u1245\u1249\u0000" +
+        "\u0bd1\u124d\u0000\u1251\u0000\u1255\u1259\u125d\u1261\u0000\u0000" +
+        "\u1265\u1269\u126d\u0000\u0000\u0000\u1271\u06d5\u0000\u0000\u0000" +
+        "\u0000\u1275\u1279\u127d\u0000\u1281\u1285\u0000\u1289\u128d\u0000" +
+        "\u0000\u0000\u0000\u0000\u0469\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u1291\u0000\u1295\u0000\u0000\u1299\u129e\u12a6\u0ac5\u12ad" +
+        "\u0000\u0000\u0000\u0000\u0000\u12b1\u0000\u0279\u0000\u0000\u0000" +
+        "\u12b5\u12b9\u12bd\u12c1\u12c5\u12c9\u12cd\u0000\u0000\u12d1\u12d5" +
+        "\u0000\u0000\u12d9\u0000\u12dd\u12e1\u0000\u0000\u0000\u0000\u0c79" +
+        "\u12e5\u0c7d\u0000\u12e9\u0c8d\u0000\u12ed\u0000\u0000\u07c5\u12f1" +
+        "\u0000\u0000\u12f5\u0c95\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u12f9\u0000\u12fd\u0000\u0000\u0000\u1301\u0000\u1305" +
+        "\u1309\u0000\u0000\u0000\u130d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1311\u0cad\u1315\u0cb1" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0f05\u0000\u0000\u0000\u1319" +
+        "\u0000\u131d\u1321\u1325\u0000\u1329\u0000\u0000\u132d\u0000\u0000" +
+        "\u0cd5\u0cd9\u0000\u0000\u0000\u0000\u0000\u1331\u1335\u1339\u133d" +
+        "\u1341\u0000\u1345\u1349\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u134d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u1351\u0000\u0000\u0000\u1355\u1359\u135d\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0cf5\u0cfd\u1361\u0d01\u0000\u0000\u0d09\u0d0d\u1365\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1369\u136d\u1371\u1375" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u1379\u137d\u1381\u1385\u1389\u0000\u0000\u0000" +
+        "\u0000\u0000\u04b9\u0000\u0000\u0000\u01fd\u0000\u0000\u0000\u0000" +
+        "\u0205\u138d\u1391\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1395" +
+        "\u0d2d\u0000\u1399\u139d\u0d35\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u13a1\u13a5\u06e5\u0000" +
+        "\u0000\u13a9\u0d55\u13ad\u13b1\u0000\u0d5d\u13b5\u0d61\u0000\u13b9" +
+        "\u0000\u13bd\u0000\u0000\u13c1\u0000\u13c5U\u0000\u0000\u0d7d\u0000" +
+        "\u0000\u0000\u0000\u0000\u13c9\u13cd\u0000\u0000\u13d1\u0000\u0000" +
+        "\u055d\u0000\u0c1d\u0000\u0c21\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0231\u0000\u1175\u0000\u0000\u0000\u0000\u02a5\u13d5\u13d9" +
+        "\u0000\u0000\u0000\u13dd\u0e35\u0000\u07c1\u0e49\u13e1\u13e5\u0000" +
+        "\u13e9\u13ed\u13f1\u13f5\u0e55\u0000\u0000\u0000\u0000\u07e5\u0000" +
+        "\u0000\u0000\u13f9\u0000\u0000\u12e9\u0000\u13fd\u1401\u0000\u0000" +
+        "\u0000\u0a81\u1405\u1409\u0000\u0000\u140d\u0000\u0000\u1411\u1415" +
+        "\u1419\u141d\u0000\u0000\u0000\u0000\u0e91\u0000\u0000\u1421\u1425" +
+        "\u1429\u0000\u142d\u0000\u0000\u0000\u1431\u0000\u0000\u02d1\u0000" +
+        "\u1435\u1439\u143d\u1441\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u1445\u1449\u144d\u0000\u0000\u0ed9\u1451\u1455\u1459" +
+        "\u0ee1\u145d\u0000\u1461\u0000\u0ee9\u1465\u1469\u146d\u0000\u084d" +
+        "\u0000\u0000\u1471\u1475\u0000\u0000\u0000\u0000\u0000\u1479\u147d" +
+        "\u1481\u1319\u0000\u08cd\u1485\u0f25\u1489\u148d\u1491\u1495\u1499" +
+        "\u0f29\u149d\u14a1\u14a5\u14a9\u14ad\u14b1\u14b5\u14b9\u14bd\u0000" +
+        "\u14c1\u0000\u14c5\u0000\u14c9\u0000\u0000\u14cd\u0f59\u0000\u0000" +
+        "\u0000\u08bd\u0000\u14d1\u05d5\u14d5\u0000\u14d9\u0000\u09ad\u14dd" +
+        "\u0000\u0000\u14e1\u0000\u0000\u14e5\u08d5\u14e9\u14ed\u081d\u0f69" +
+        "\u0f6d\u0ad1\u14f1\u0000\u0000\u14f5\u0000\u0f7d\u14f9\u0000\u0000" +
+        "\u0000\u0000\u0f91\u0000\u14fd\u1501\u1505\u1509\u150d\u1511\u1515" +
+        "\u1519\u0000\u0635\u151d\u0941\u0000\u1521\u1525\u1529\u152d\u0000" +
+        "\u1531\u1535\u0951\u0989\u0000\u0000\u1539\u153d\u0d89\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1541\u0000\u1545\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1549\u154d\u1551\u0000\u1555\u1559\u155d" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1561\u0000\u1565\u1569\u0000" +
+        "\u156d\u0000\u1571\u1575\u11bd\u1579\u157d\u1581\u1585\u0000\u1589" +
+        "\u0000\u0000\u0000\u0000\u03a9\u0000\u0000\u0000\u158d\u1591\u0000" +
+        "\u0289\u1595\u1039\u1599\u159d\u0000\u0099\u15a1M\u0000\u0000\u0000" +
+        "\u0000\u15a5\u15a9\u15ad\u0000\u0000\u15b2\u15b9\u15bd\u0000\u15c1" +
+        "\u0000\u15c5\u0ba5\u15c9\u0000\u0000\u0000\u0000\u0000\u15cd\u15d2" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u15da\u0000\u15e1" +
+        "\u0000\u15e6\u15ee\u0000\u15f5\u15f9\u0000\u0000\u10b9\u0000\u0000" +
+        "\u0000\u0000\u0000\u10d5\u0000\u15fd\u1601\u1605\u1609\u0000\u160d" +
+        "\u0000\u1611\u0000\u1615\u0000\u1619\u10ed\u161d\u1621\u10fd\u0000" +
+        "\u0000\u1625\u0000\u1629\u0000\u1125\u1129\u162d\u0000\u0000\u1631" +
+        "\u1635\u1639\u163d\u0000\u0641\u0000\u08d5\u0000\u08d5\u0000\u0000" +
+        "\u1641\u1645\u00bd\u0000\u0000\u0000\u0000\u0000\u0471\u0000\u0000" +
+        "\u0000\u0000\u0669\u1649\u0000\u0000\u0000\u0ac5\u164d\u1651\u1655" +
+        "\u0000\u0000\u0000\u1659\u165d\u0000\u0af5\u1661\u0000\u1665\u1669" +
+        "\u166d\u1671\u0000\u1675\u1679\u0000\u0b01\u0b2d\u0000\u0000\u167d" +
+        "\u1681\u0000\u1185\u0000\u0000\u1685\u1689\u168d\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1691\u0000\u1695\u0000\u1699\u0000\u169d" +
+        "\u11b1\u16a1\u16a5\u0000\u0000\u16a9\u16ad\u16b1\u16b5\u0000\u16b9" +
+        "\u0000\u0bb1\u0000\u0f31\u16bd\u0000\u0000\u16c1\u16c1\u16c5\u0000" +
+        "\u0000\u0000\u16c9\u0000\u16cd\u16d1\u16d5\u0000\u16da\u16e2\u16e9" +
+        "\u0000\u16ed\u0000\u04b9\u0b69\u11e1\u11f9\u06a9\u0000\u16f1\u0000" +
+        "\u0000\u0000\u0000\u04bd\u0000\u0000\u16f5\u16f9\u16fd\u0000\u0000" +
+        "\u0499\u0000\u0000\u0000\u0000\u1701\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u04cd\u0000\u0000\u1705\u1709\u170d\u1711\u0000\u1715" +
+        "\u1719\u171d\u1721\u1725\u1729\u0000\u0000\u172d\u0000\u0000\u1731" +
+        "\u04ad\u1735\u0000\u1739\u173d\u1741\u0000\u1745\u0000\u1749\u0000" +
+        "\u0000\u0000\u0000\u174d\u0000\u1245\u1751\u1755\u1759\u1255\u175d" +
+        "\u0000\u1761\u0000\u0000\u0000\u0000\u0000\u1765\u0000\u1769\u176d" +
+        "\u0000\u1771\u0000\u0000\u0000\u0aa5\u0000\u0b11\u0000\u0000\u0000" +
+        "\u0000\u0000\u1775\u1779\u0bf9\u177e\u1786\u178e\u1796\u0000\u179d" +
+        "\u17a1\u00d5\u00d9\u17a5\u17a9\u17ad\u17b1\u0d51\u12dd\u17b5\u17b9" +
+        "\u025d\u0000\u0000\u0000\u13d1\u0000\u0000\u010d\u17bd\u07d5\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0821\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u04e1\u0000\u0000\u0085\u0000\u0000\u17c1" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0ae5\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0ea1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u17c5\u17c9\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0415\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u17cd" +
+        "\u0000\u110d\u0000\u0000\u0000\u0000\u0000\u0000\u0ac1\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0bcd\u0000\u0000" +
+        "\u0000\u0000\u0000\u0bc5\u0000\u0000\u0000\u17d1\u0000\u0000\u0000" +
+        "\u0d65\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u17d5" +
+        "\u0000\u17d9\u0000\u1301\u0000\u0000\u0000\u0000\u07b9\u0000\u0000" +
+        "\u0000\u13d1\u17dd\u1241\u12b5\u12cd\u0000\u0000\u0000\u1215\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u17e2\u0000\u1139\u0000\u0000\u0000" +
+        "\u17e9\u17ed\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u17f1\u0000\u12e9\u0000\u0000\u17f5\u17f9\u17fd\u1801\u0000\u1805" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1159\u1305\u0ed5\u1809\u0821" +
+        "\u0000\u14b9\u0000\u0000\u0000\u1641\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u180d\u0000\u0000\u0000\u086d\u1459\u0000\u0000\u1811\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u1815\u0000\u0000\u1819\u0000\u0000" +
+        "\u0000y\u0000\u181d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0f8d\u1821\u0000\u1825\u1829\u182d\u1831\u1835" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1839\u0000\u0000\u1025" +
+        "\u0000\u0000\u0095\u0985\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u183d\u039d\u0000\u1841\u0000\u1845\u0000\u09a1\u0000\u0000\u0000" +
+        "\u0000\u1849\u0000\u0000\u0000\u0000\u03e1\u1051\u0000\u0000\u1069" +
+        "\u15c9\u0000\u0000\u0000\u0000\u0000\u109d\u184d\u1851\u10a1\u1855" +
+        "\u1859\u0000\u185d\u0a16\u0000\u0000\u0000\u1861\u1865\u129e\u0000" +
+        "\u0a1e\u12a6\u0000\u0000\u1869\u186e\u1876\u10e9\u187d\u1881\u0a99" +
+        "\u1885\u0000\u0000\u1889\u0000\u188d\u0000\u1891\u1895\u1899\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u114d\u0000\u0000\u0000\u0000\u189d" +
+        "\u1475\u0000\u18a1\u18a5\u0000\u18a9\u18ad\u18b1\u068d\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u18b5\u0000\u0000\u18b9" +
+        "\u0000\u11dd\u0000\u0000\u0000\u18bd\u18c1\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u18c5\u18c9\u18cd\u18d1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u11cd\u18d5\u18d9\u18dd\u18e1\u18e5\u18e9\u18ed\u0000" +
+        "\u0000\u122d\u0000\u0000\u0000\u0000\u0000\u18f1\u0000\u0000\u18f5" +
+        "\u18f9\u0000\u0000\u0000\u0000\u0bcd\u0000\u0000\u0bdd\u0000\u0000" +
+        "\u18fd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1901" +
+        "\u1905\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u1909\u0000\u0000\u0ec1\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0351\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u190d\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u00a1\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0a2d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0aa1\u0000\u0000\u00c1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1291\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00c9\u0000\u0000" +
+        "\u0000\u00a5\u04cd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u1911\u1569\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1915\u1919\u191d" +
+        "\u1921\u1925\u1929\u192d\u1931\u1935\u1939\u0285\u193d\u0d85\u0000" +
+        "\u0000\u0000\u13cd\u1941\u17a5\u0000\u17ad\u0000\u17b1\u0d51\u0000" +
+        "\u0000\u0000\u1599\u1735\u1945\u1949\u0000\u0000\u0000=\u00b1\u0000" +
+        "\u0000\u0000\u194d\u0e65\u0000\u0000\u1951\u0000\u0000\u0e95\u0000" +
+        "\u0000\u1955\u0000\u0000\u0849\u159d\u0000\u0000\u0000\u0000\u0000" +
+        "\u0d15\u1959\u195d\u0ee9\u0000\u0000\u1961\u0000\u0000\u0000\u1965" +
+        "\u0319\u1969\u08ad\u0000\u0000\u0000\u0000\u0000\u16b9\u1711\u0000" +
+        "\u0000\u05f5\u001d\u196d\u0745\u14f9\u1971\u1975\u1979\u0000\u0000" +
+        "\u0000\u0000\u0000\u0385\u197d\u0000\u0000\u0000\u1439\u0000\u0969" +
+        "\u0000\u0000\u0000\u0000\u0000\u1445\u1981\u0000\u0000\u0000\u1985" +
+        "\u0000\u1041\u0000\u0000\u0000\u0649\u198a\u0000\u0000\u0000\u0000" +
+        "\u1992\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1999\u0451\u0000" +
+        "\u199d\u19a1\u0000\u0000\u0000\u0abd\u1649\u19a5\u19a9\u19ad\u0000" +
+        "\u19b1\u0000A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u19b5" +
+        "\u19b9\u19bd\u11e1\u03bd\u0000\u0000\u19c1\u0000\u120d\u0000\u1211" +
+        "\u0000\u0000\u0000\u0b7d\u0000\u0000\u0000\u0000\u0000\u0b39\u16b5" +
+        "\u0b89\u0000\u0000\u0000\u172d\u0000\u04ad\u19c5\u0be9\u0000\u0000" +
+        "\u0000\u0000\u19c9\u19cd\u0000\u0000\u175d\u0000\u0000\u0000\u1765" +
+        "\u0000\u1509\u0000\u0000\u16c1\u0000\u0000\u172d\u0000\u0000\u11e1" +
+        "\u0000\u0000\u1039\u0a79\u0000\u0000\u0000\u0000\u0000\u0ef9\u0000" +
+        "\u1405\u0000\u0000\u0000\u0000\u00d1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0819\u0000\u0000\u19d1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0811\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0e49\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0949\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u154d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0939" +
+        "\u0000\u0000\u0000\u0000\u0000\u0985\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0641\u0099\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u19d5\u0000\u0000\u0000\u15c9\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u129e\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u19d9\u0000\u0000\u00bd\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u1729\u0000\u1731\u0000\u0000\u0000\u0b95\u0000\u0000\u0000\u1271" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u13dd\u0e3d\u17a9\u0000\u0000\u0000\u0000" +
+        "\u1039\u0e61\u0000\u0000\u0000\u0000\u0000\u0569\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u11d1\u0000\u0819\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u030d\u0315\u0000\u08c6\u14d9\u0000\u0000\u0949\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0381\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0996\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u09ea\u0000\u0000\u09fe\u0a11\u0000\u0a05\u0000\u10c5\u0000" +
+        "\u10d1\u0000\u0000\u0000\u0891\u0000\u0000\u0000\u0000\u0675\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u16d5" +
+        "\u0000\u0000\u0000\u0000\u0b79\u121d\u0000\u0000\u0000\u0000\u0b85" +
+        "\u1225\u0000\u1729\u0000\u0000\u0000\u0bb5\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0ac5\u0000\u0000\u0000\u0000\u055d" +
+        "\u0000\u0000\u111d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0875" +
+        "\u0000\u0000\u0000\u0000\u05b5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0081\u0000\u0000\u0000\u0635\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0fe5\u0000\u0000\u0000\u0000\u0000\u0000\u0fb1\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u109d\u0000\u0401\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c9d\u0000" +
+        "\u0000\u0000\u0000\u0000\u0afd\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u1689\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0ae5\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u19de\u0b4d\u0000U\u19e5\u0000\u0000\u19e9" +
+        "\u0000\u0000\u0000\u1985\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0a69\u0000\u0000" +
+        "\u07e9\u0000\u0000\u0e99\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u02e5\u0000\u0000\u0000\u0000\u0309\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0375\u0371\u155d\u0000\u0000\u0c25\u0000" +
+        "\u0000\u0000\u19ed\u19f1\u0000\u108d\u0000\u0000\u1091\u0000\u0000" +
+        "\u0000\u10be\u10ca\u0000\u0000\u0ab9\u0000\u0000\u0000\u0afd\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1691\u0000\u0000\u16e9" +
+        "\u16ed\u0000\u0000\u1219\u0b35\u0000\u0000\u1221\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1285\u0ef5\u0ee9\u0000\u0000" +
+        "\u0000\u0000\u0000\u1625\u162d\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1195\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "y\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0fd5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0095\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u19f5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u09ca\u0000\u0000\u0000\u0000\u0419\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u041d\u0000\u0000\u0000\u12a6" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0b91\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u118d\u0000\u0000" +
+        "\u1155\u19f9\u0000\u0000\u0000\u0000\u1401\u0000\u0000\u0000\u1209" +
+        "\u0b7d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0bf5\u0000" +
+        "\u0bed\u0000\u0000\u03bd\u0000\u0000\u0000\u0000\u0000\u0d8d\u0000" +
+        "\u0000\u0000\u0b69\u0000\u0000\u0000\u0a6d\u10f1\u0e85\u0e89\u0000" +
+        "\u0000\u0eb9\u0000\u0000\u0000\u0000\u0000\u02ed\u05a5\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u10ad\u0000\u10b1\u0000\u0000" +
+        "\u0000\u1141\u1149\u05d1\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0aa5\u11c1\u11c9U\u0000\u0000\u0000\u0000" +
+        "\u0000\u0bf5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u19fd" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u19ed\u0000\u0000a\u0000\u0000" +
+        "u\u0000\u0000\u0000\u0000\u08bd\u05d5\u0000\u07c5\u0c1d\u0000\u0000" +
+        "\u0000\u0fbd\u0000\u0000\u0000\u0000\u0000\u0000\u19f1\u0000\u1299" +
+        "\u0000\u0000\u0000\u0000\u1259\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u15c5\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u15b2\u0000\u0411\u0000\u0000\u1095\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0ac5\u0000\u0000\u0000\u0000\u0000\u0000\u1181\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1a01\u0000\u0000\u0000" +
+        "\u0bcd\u0000\u120d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0789" +
+        "\u0000\u0000\u0000\u0000\u0000\u0bf9\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0975\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0efd\u0000" +
+        "\u0000\u0000\u0841\u0991\u0000\u0000\u0000\u0000\u0000\u0000\u1786" +
+        "\u0000\u1796\u0000\u0000\u0000Q\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000Y\u0000\u0000\u0000\u0000\u0ca5\u0000" +
+        "\u0000\u0000\u0000\u0bc5\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1a05\u0000\u0000" +
+        "\u0000\u0000\u0000\u1a09\u0000\u0000\u008d\u0000\u12c9\u0000\u0000" +
+        "\u12c5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u1076\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u10b9\u0000\u03e1\u0000\u0000\u0000\u0000" +
+        "\u015d\u0471\u0000\u114d\u0000\u0000\u0000\u0000\u1165\u0000\u0000" +
+        "\u0000\u0000\u03a9\u0000\u12ad\u0000\u0000\u0000\u0000\u125d\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0499\u0000\u11cd\u0b89" +
+        "\u0000\u0000\u0000\u1251\u0000\u0000\u0000\u00d9\u14d1\u0000\u0000" +
+        "\u12d9\u1281\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1435\u0000" +
+        "\u0000\u0000\u0000\u0edd\u1525\u0000\u1531\u0000\u0fe5\u0000\u0000" +
+        "\u0000\u0000\u0000\u12c9\u0000\u0000\u1529\u0000\u13bd\u0000\u0000" +
+        "\u0000\u1099\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0451\u11e1\u0000\u0000\u0b31\u0000\u0000\u0000\u1259\u0000" +
+        "\u177e\u178e\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u02d5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u128d\u0000\u0000\u0000\u0000\u0000\u0fe1\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1a0d\u0000\u07a9}\u0089\u0000" +
+        "\u0000\u0000\u0000\u0eb1\u0000\u08d1\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0345\u0000\u0385\u0000\u12d5\u0000\u12d1\u122d\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000%\u0000\u0000\u0000\u0000\u0000\u0a39\u0000" +
+        "\u0000\u0000\u0000\u0a3d\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u10c5\u0000\u0000\u0000\u0000\u0000\u0a05\u0000\u101d" +
+        "\u0000\u0000\u00a5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1a11" +
+        "\u0000\u0000\u0000\u0000\u0000\u1a15\u0819\u0949\u0000\u0000\u0000" +
+        "\u1211\u0000\u0000\u07ed\u0000\u0000\u10e9\u0000\u0000\u1a19\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u140d\u0000\u12ed\u0ea9\u0000\u0000" +
+        "\u1669\u0000\u0fed\u08d1\u0000\u0000\u0000\u157d\u0000\u12d5\u166d" +
+        "\u0000\u0000\u0a11\u0000\u10b5\u0000\u1675\u0000\u118d\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1029\u0000\u0000\u0000\u125d\u0000\u0000" +
+        "\u0000\u0000\u0000\u11b1\u0a81\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0811\u0939\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u1189\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1a1d\u1a21\u0000\u0000\u1a25" +
+        "\u1a29\u0000\u0000\u0000\u11dd\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u03fd\u0000\u0000\u0000\u107d\u1056\u1099\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1a2e\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1a35\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0eb5\u0000\u0000\u0000\u0000\u0000\u0000\u0afd\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1069\u0000\u12b9\u0000\u0000\u0000\u1105" +
+        "\u0000\u141d\u0eb1\u0000\u0fe1\u1009\u0000\u0000\u0000\u1081\u1085" +
+        "\u15cd\u0000\u0000\u1191\u0000\u0000\u116d\u16a1\u0ef5\u11b5\u0000" +
+        "\u0000\u1299\u0000\u0000\u0000\u0000\u0000\u0755\u0000\u0f49\u1235" +
+        "\u0000\u0000\u0000\u0000\u0000\u0ae5\u0000\u0000\u0ecd\u0000\u0000" +
+        "\u0000\u0000\u0000\u1a39\u0000\u0000\u0000\u0315q\u0000\u0941\u0000" +
+        "\u0000\u0000\u0000\u0000\u1a3d\u0381\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u03e5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0a16\u0000\u0000\u10b5\u0000\u0000\u0000\u0000\u0a1e\u0000" +
+        "\u1a42\u10d1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u1a49\u0000\u0000\u1a4d\u1a51\u0000\u0000\u0000\u0000\u1a55" +
+        "\u124d\u0000\u0000\u0000\u0000\u1121\u0eb5\u0000\u0000\u0000\u15f5" +
+        "\u1189\u0000\u11ad\u0629\u0000\u12ad\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0bed\u0451\u0000\u1a59\u1a5d\u0000" +
+        "\u0000\u0000\u1a61\u0000\u0319\u0000\u1001\u1a65\u1a69\u1029\u0000" +
+        "\u0000\u0000\u0000\u1a19\u0000\u0000\u0000\u0000\u09c2\u0000\u0000" +
+        "\u0000\u09fe\u0000\u1a6e\u0000\u10a1\u0000\u0000\u0000\u1a76\u0000" +
+        "\u0000\u105d\u0000\u0000\u0000\u0000\u0af5\u0000\u0000\u0000\u0000" +
+        "\u0000\u1a7d\u0000\u16e9\u0000\u0000\u1a81\u0ec9\u102d\u0000\u100d" +
+        "\u0000\u0000\u1195\u0685\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u1a85\u1a89\u0000\u0000\u0000\u12c1\u12bd" +
+        "\u0000\u1a19\u0000\u0000\u0000\u0000\u0000\u1a8e\u0000\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1141\u100d\u0000\u0000\u11a5" +
+        "\u1a95\u1a99\u11b5\u1205\u0000\u11c1\u11b9\u0000\u12c1\u0000\u0000" +
+        "\u0000\u0000\u0000\u0000\u0000\u12c5\u0000\u0000\u1a9d\u0000\u0000" +
+        "\u1009\u1a19\u0000\u0000\u0000\u03f6\u0000\u0000\u0000\u0000\u1aa2" +
+        "\u0000\u0000\u0000\u0000\u0000\u0000\u1191\u16ed\u0f5d\r\u0000\u0000" +
+        "\u0000\u0000\u0000\u0345\u0000\u12d1\u1aa9\u0000\u0000\u0019\u0a11" +
+        "\u09ea\u15cd\u0000\u0000\u0000\u1861\u0000\u0000\u0fd9\u0ed1\u0000" +
+        "\u1185\u0000\u0000\u12fd\u0000\u0b69\u1a19\u0000\u15e1\u15f5\u0000" +
+        "\u15f9\u0000\u0000\u0ea5\u0000\u0000\u1865\u0000\u0000\u0000\u1aae" +
+        "\u1955\u0000\u12bd\u0000\u0000\u0000\u0000\u0000\u0000\u193d").toCharArray ();
+
+    private static final char[] values = (
+        "><&\u2145\u00d0\u22d9\u226b\u2111\u22d8\u226a\u039c\u039d\u2a54\u03a0" +
+        "\u2abb\u00ae\u211c\u2abc\u039e\u223e\u2061\u2248\u2146\u00b0\u2147" +
+        "\u2a9a\u2a99\u00f0\u2267\u2265\u2277\u2063\u2148\u2208\u2062\u2266" +
+        "\u2264\u2276\u2213\u03bc\u2260\u220b\u00ac\u03bd\u24c8\u2228\u03c0" +
+        "\u00b1\u227a\u211e\u227b\u00ad\u00a8\u2118\u2240\u03be\u00a5\u0410" +
+        "\ud835\udd04\u2a53\u00c4\u0411\ud835\udd05\u00a9\u22d2\u212d\u03a7" +
+        "\u22d3\u0414\u2207\ud835\udd07\u014a\u042d\ud835\udd08\u0397\u00cb" +
+        "\u0424\ud835\udd09\u0413\ud835\udd0a^\u210c\u0418\u222c\u00cf\u0419" +
+        "\ud835\udd0d\u041a\ud835\udd0e\u041b\ud835\udd0f\u21b0\u2905\u041c" +
+        "\ud835\udd10\u041d\ud835\udd11\u2aec\u041e\ud835\udd12\u00d6\u041f" +
+        "\ud835\udd13\u03a6\u03a8\"\ud835\udd14\u0420\u03a1\u21b1\u0421\ud835" +
+        "\udd16\u22d0\u2211\u22d1\u0009\u03a4\u0422\ud835\udd17\u0423\ud835" +
+        "\udd18\u00dc\u0412\u22c1\ud835\udd19\ud835\udd1a\ud835\udd1b\u042b" +
+        "\ud835\udd1c\u0417\u2128\u223e\u0333\u223f\u0430\ud835\udd1e\u2227" +
+        "\u2220\u2a70\u224a*\u00e4\u0431\ud835\udd1f=\u20e5\u22a5\u2229\u00a2" +
+        "\ud835\udd20\u03c7\u25cb\u222a\u0434\ud835\udd21\u00f7\u02d9\u044d" +
+        "\ud835\udd22\u2a96\u2113\u2a95\u014b\u03b7\u00eb\u0444\ud835\udd23" +
+        "\u2a8c\u2a86\u0433\u22db\u2a7e\ud835\udd24\u2a92\u2aa5\u2aa4\u2269" +
+        "\u2a88\ud835\udd25\u0438\u21d4\ud835\udd26\u222b\u00ef\u0439\ud835" +
+        "\udd27\u043a\ud835\udd28\u2a8b\u2a85\u2aab\u043b\u22da\u2a7d\ud835" +
+        "\udd29\u2a91\u2268\u2a87\u25ca\u200e\u00af\u21a6\u043c\ud835\udd2a" +
+        "\u2127\u2223\u22d9\u0338\u226b\u20d2\u22d8\u0338\u226a\u20d2\u2249" +
+        "\u00a0\u043d\ud835\udd2b\u2267\u0338\u2271\u226f\u22fc\u2266\u0338" +
+        "\u2270\u226e\u2280\u2281#\u043e\ud835\udd2c\u29c1\u03a9\u29c0\u2a5d" +
+        "\u00aa\u00ba\u2a5b\u00f6\u2225\u00b6\u043f\ud835\udd2d\u03c6\u03d6" +
+        "\u2ab3\u2aaf\u03c8\ud835\udd2e\u0440\ud835\udd2f\u03c1\u200f\u2ab4" +
+        "\u2ab0\u0441\u00a7\ud835\udd30\u223c\u2aaa/\u25a1\u2282\u00b9\u00b2" +
+        "\u00b3\u2283\u03c4\u0442\ud835\udd31\u22a4\u0443\ud835\udd32\u00fc" +
+        "\u0432\ud835\udd33\ud835\udd34\ud835\udd35\u044b\ud835\udd36\u00ff" +
+        "\u0437\ud835\udd37\u200d\u00c6\u00c2\ud835\udd38\u00c5\ud835\udc9c" +
+        "\u2ae7\u0392\ud835\udd39\u212c\u0427\u010a\u2102\ud835\udc9e\u0402" +
+        "\u0405\u040f\u21a1\ud835\udd3b\ud835\udc9f\u00ca\u0116\ud835\udd3c" +
+        "\u2130\u2a73\ud835\udd3d\u2131\u0403\u0120\ud835\udd3e\ud835\udca2" +
+        "\u210d\u210b\u0415\u0401\u00ce\u0130\ud835\udd40\u0399\u2110\ud835" +
+        "\udd41\ud835\udca5\u0425\u040c\ud835\udd42\ud835\udca6\u0409\u27ea" +
+        "\u219e\ud835\udd43\u2112\ud835\udd44\u2133\u040a\u2115\ud835\udca9" +
+        "\u00d4\ud835\udd46\ud835\udcaa\u2119\ud835\udcab\u211a\ud835\udcac" +
+        "\u27eb\u21a0\u211d\u211b\u0428\ud835\udd4a\u221a\ud835\udcae\u22c6" +
+        "\u00de\u0426\ud835\udd4b\ud835\udcaf\u219f\u00db\ud835\udd4c\u03d2" +
+        "\ud835\udcb0\u2aeb\u2016\ud835\udd4d\ud835\udcb1\ud835\udd4e\ud835" +
+        "\udcb2\ud835\udd4f\ud835\udcb3\u042f\u0407\u042e\ud835\udd50\ud835" +
+        "\udcb4\u0178\u0416\u017b\u0396\u2124\ud835\udcb5\u00e2\u00b4\u00e6" +
+        "\u2a5c\u2a5a\u29a4\ud835\udd52\u224b'\u00e5\ud835\udcb6\u2aed\u23b5" +
+        "\u03b2\u2136\u2310\ud835\udd53\u2550\u2551\u2500\u2502\ud835\udcb7" +
+        "\u223d\\\u2022\u224e\u2229\ufe00\u010b\u00b8\u0447\u29c3\u02c6\u2257" +
+        "\u2201\u2245\ud835\udd54\ud835\udcb8\u2acf\u2ad0\u222a\ufe00\u21d3" +
+        "\u2965\u2193\u2010\u22c4\u0452\ud835\udd55\ud835\udcb9\u0455\u29f6" +
+        "\u25bf\u045f\u2251\u2256\u00ea\u0117\u2003\u2002\ud835\udd56\u22d5" +
+        "\u03b5\u212f\u2242\u20ac!\u266d\u0192\ud835\udd57\u22d4\ud835\udcbb" +
+        "\u0121\u22db\ufe00\u0453\u2a8a\ud835\udd58\u210a\u2273\u2aa7\u2269" +
+        "\ufe00\u00bd\u2194\u210f\ud835\udd59\ud835\udcbd\u00ee\u0435\u00a1" +
+        "\u22b7\u0451\ud835\udd5a\u03b9\ud835\udcbe\ud835\udd5b\ud835\udcbf" +
+        "\u0445\u045c\ud835\udd5c\ud835\udcc0\u21d0\u2962\u27e8\u00ab\u2190" +
+        "\u2aad{\u2936\u21b2\u22da\ufe00\u0459\u2a89\ud835\udd5d\u29eb(\ud835" +
+        "\udcc1\u2272[\u2aa6\u25c3\u2268\ufe00\u2642\u2720\u00b5\u2adb\u2026" +
+        "\ud835\udd5e\ud835\udcc2\u226b\u0338\u226a\u0338\u2220\u20d2\u2a70" +
+        "\u0338\u2a43\u2a42\u2a7e\u0338\u22fa\u045a\u2025\u2a7d\u0338\u2224" +
+        "\ud835\udd5f\u2226\u2aaf\u0338\u2ab0\u0338\ud835\udcc3\u2241\u2284" +
+        "\u2285\u2279\u2278\u224d\u20d2\u2265\u20d2>\u20d2\u2264\u20d2<\u20d2" +
+        "\u229b\u229a\u00f4\u2a38\u2299\u02db\u222e\u29b6\ud835\udd60\u29b7" +
+        "\u2a56\u2134\u2298\u2202\u03d5+\ud835\udd61\u00a3\u2ab7\u2ab5\u220f" +
+        "\u221d\ud835\udcc5\u2a0c\ud835\udd62\ud835\udcc6\u21d2\u2964\u223d" +
+        "\u0331\u27e9\u00bb\u2192}\u2937\u21b3\u25ad\u03f1\u02da\ud835\udd63" +
+        ")\ud835\udcc7]\u25b9\u2ab8\u2ab6\u22c5;\u2736\u0448\u2243\u2a9e\u2a9d" +
+        "\u2aac\u29c4\ud835\udd64\u25aa\ud835\udcc8\u2606\u2ac5\u2286\u266a" +
+        "\u2ac6\u2287\u00df\u23b4\u20db\u00fe\u00d7\u222d\u2928\ud835\udd65" +
+        "\u2929\u225c\ud835\udcc9\u0446\u21d1\u2963\u2191\u00fb\ud835\udd66" +
+        "\u03c5\ud835\udcca\u25b5\u21d5\u2ae8\u2195|\ud835\udd67\ud835\udccb" +
+        "\ud835\udd68\ud835\udccc\u22c2\u22c3\u27fc\u22fb\ud835\udd69\ud835" +
+        "\udccd\u044f\u0457\ud835\udd6a\ud835\udcce\u044e\u017c\u03b6\u0436" +
+        "\ud835\udd6b\ud835\udccf\u200c\u00c1\u00c0\u0391\u0100\u0104\u00c3" +
+        "\u02d8\u00c7\u0108\u2237\u2a2f\u2ae4\u0394\u00c9\u00c8\u0112\u0118" +
+        "\u2a75\u0393\u011c\u02c7\u0124\u0132\u00cd\u00cc\u012a\u012e\u0406" +
+        "\u0134\u0404\u039a\u00d1\u0152\u00d3\u00d2\u014c\u00d8\u00d5\u2033" +
+        "\u2910\u015c\u03a3\u2122\u040b\u0398\u00da\u040e\u00d9\u016a\u0172" +
+        "\u016e\u22ab\u22a9\u0174\u22c0\u00dd\u0176\u00e1\u00e0\u2135\u03b1" +
+        "\u0101\u2a3f\u221f\u0105\u00e3\u2a11\u224c\u201e\u03f6\u2423\u2592" +
+        "\u2591\u2593\u2588\u2557\u2554\u2556\u2553\u2566\u2569\u2564\u2567" +
+        "\u255d\u255a\u255c\u2559\u256c\u2563\u2560\u256b\u2562\u255f\u2555" +
+        "\u2552\u2510\u250c\u2565\u2568\u252c\u2534\u255b\u2558\u2518\u2514" +
+        "\u256a\u2561\u255e\u253c\u2524\u251c\u00a6\u204f\u22cd\u29c5\u2aae" +
+        "\u224f\u2041\u2a4d\u00e7\u0109\u2a4c\u2713\u2663:,\u21b5\u2717\u2ad1" +
+        "\u2ad2\u22ef\u22de\u22df\u2a45\u00a4\u22ce\u22cf\u2231\u22a3\u02dd" +
+        "\u21ca\u03b4\u21c3\u21c2\u2666\u22f2\u2250\u22f1\u25be\u21f5\u296f" +
+        "\u2a77\u00e9\u2252\u00e8\u0113\u2205\u0119\u2a71\u03f5\u2261\u2253" +
+        "\u2971\u2203\ufb00\ufb01fj\ufb02\u25b1\u2ad9\u00bc\u00be\u2044\u2322" +
+        "\u03b3\u011d\u2aa9\u2137\u22e7`\u2a8e\u2a90\u2a7a\u22d7\u21ad\u0125" +
+        "\u21ff\u00ed\u00ec\u2129\u0133\u012b\u0131\u01b5\u221e\u012f\u2a3c" +
+        "\u00bf\u22f9\u22f4\u0456\u0135\u0237\u0454\u03ba\u21da\u290e\u2991" +
+        "\u21e4\u2aad\ufe00\u290c\u2772\u298b\u2308\u201c\u2aa8\u21bd\u21bc" +
+        "\u2584\u21c7\u25fa\u22e6\u27ec\u21fd\u27e6\u2985\u21c6\u21cb\u22bf" +
+        "\u2a8d\u2a8f\u2018\u2a79\u22d6\u22b4\u25c2\u223a\u2014\u00b7\u2212" +
+        "\u22b8\u224b\u0338\u0149\u266e\u224e\u0338\u2247\u2013\u21d7\u2197" +
+        "\u2250\u0338\u2242\u0338\u2275\u21ce\u21ae\u2af2\u21cd\u219a\u2274" +
+        "\u22ea\u2209\u220c\u2202\u0338\u21cf\u219b\u22eb\u2244\u2ac5\u0338" +
+        "\u2288\u2ac6\u0338\u2289\u00f1\u2007\u223c\u20d2\u21d6\u2196\u00f3" +
+        "\u229d\u0153\u29bf\u00f2\u29b5\u21ba\u29be\u203e\u014d\u03c9\u29b9" +
+        "\u2295\u21bb\u00f8\u00f5\u233d\u2afd\u260e\u229e\u2a72\u227c\u2032" +
+        "\u2ab9\u227e?\u21db\u290f\u2992\u29a5\u21e5\u2933\u219d\u2236\u290d" +
+        "\u2773\u298c\u2309\u201d\u21c1\u21c0\u21c4\u21cc\u2aee\u27ed\u21fe" +
+        "\u27e7\u2986\u21c9\u2019\u22b5\u25b8\u201a\u227d\u015d\u2aba\u227f" +
+        "\u22a1\u2a66\u21d8\u2198\u2216\u266f\u03c3\u2aa0\u2a9f\u2246\u2323" +
+        "\u2aac\ufe00\u2293\u2294\u228f\u2290\u2605\u2acb\u228a\u2acc\u228b" +
+        "\u21d9\u2199\u03b8\u02dc\u29cd\u045b\u226c\u00fa\u045e\u21c5\u296e" +
+        "\u00f9\u21bf\u21be\u2580\u25f8\u016b\u0173\u228e\u016f\u25f9\u22f0" +
+        "\u25b4\u21c8\u2ae9\u22a8\u22a2\u225a\u22b2\u2282\u20d2\u2283\u20d2" +
+        "\u22b3\u0175\u25ef\u25bd\u27fa\u27f7\u27f8\u27f5\u2a00\u27f9\u27f6" +
+        "\u25b3\u00fd\u0177\u0102\u2254\u2306\u0106\u010c\u2a74\u222f\u224d" +
+        "\u2021\u010e\u20dc\u0110\u011a\u2200\u03dc\u011e\u0122\u042a\u0126" +
+        "\u0128\u0408\u0136\u0139\u039b\u013d\u013b\u013f\u0141\u0143\u0147" +
+        "\u0145\u0150\u2a37\u0154\u2916\u0158\u0156\u0429\u042c\u015a\u0160" +
+        "\u015e\u0164\u0162\u0166\u016c\u0170\u0168\u2ae6\u22aa\u0179\u017d" +
+        "\u0103\u2a55\u2221\u2222\u2a6f\u22bd\u2305\u2235\u22c8\u29c9\u2035" +
+        "\u0107\u2a44\u2a4b\u2a47\u2a40\u010d\u2aef@\u2218\u2210\u2117\u21b6" +
+        "\u2a46\u2a4a\u228d\u21b7\u232d\u2020\u2138\u010f\u297f\u22c7\u231e" +
+        "\u230d$\u231f\u230c\u0111\u2a6e\u011b\u2255\u2a98\u2a97\u2004\u2005" +
+        "\u29e3=\u225f\u2640\ufb03\ufb04\u2153\u2155\u2159\u215b\u2154\u2156" +
+        "\u2157\u215c\u2158\u215a\u215d\u215e\u01f5\u03dd\u011f\u2a80\u2a94" +
+        "\u2995\u2978\u200a\u044a\u2665\u22b9\u223b\u2015\u0127\u2043\u29dc" +
+        "\u2105\u22ba\u22f3\u0129\u0458\u03f0\u0137\u0138\u291b\u013a\u03bb" +
+        "\u291d\u21a9\u21ab\u2939\u21a2\u2919\u013e\u013c\u2a7f\u2a93\u297c" +
+        "\u230a\u296a\u296b\u0140\u23b0\u2a2d\u2217_\u2993\u296d\u2039\u0142" +
+        "\u22cb\u22c9\u2976\u2996\u25ae\u2a29\u2af0\u229f\u2238\u22a7\u22af" +
+        "\u22ae\u0144\u224f\u0338\u0148\u0146\u2924\u2262\u2204\u22ec\u22f9" +
+        "\u0338\u2afd\u20e5\u22e0\u2933\u0338\u219d\u0338\u22ed\u22e1\u2116" +
+        "\u22ad\u2904\u22ac\u2902\u2903\u2923\u2927\u0151\u29bc\u2296\u22b6" +
+        "\u2297\u2af3%.\u2030\u2214\u2a25\u22e8\u22b0\u2008\u2057\u291c\u0155" +
+        "\u2975\u291e\u21aa\u21ac\u2945\u21a3\u291a\u0159\u0157\u297d\u230b" +
+        "\u296c\u23b1\u2a2e\u2994\u203a\u22cc\u22ca\u015b\u0161\u015f\u22e9" +
+        "\u2925\u0449\u03c2\u2a6a\u2a33\u044c\u233f\u2660\u2293\ufe00\u2294" +
+        "\ufe00\u2291\u2292\u2abd\u2ac7\u2ad5\u2ad3\u2abe\u2ac8\u2ad4\u2ad6" +
+        "\u2926\u292a\u2316\u0165\u0163\u2315\u2234\u03d1\u2009\u22a0\u2a30" +
+        "\u2336\u2af1\u2034\u25ec\u0167\u016d\u0171\u297e\u231c\u230f\u231d" +
+        "\u230e\u0169\u299c\u22bb\u22ee\u2acb\ufe00\u228a\ufe00\u2acc\ufe00" +
+        "\u228b\ufe00\u2a5f\u2259\u2a01\u2a02\u2a06\u2a04\u017a\u017e\u2230" +
+        "\u0395\n\u2060\u039f\u03a5\u22be\u237c\u29b0\u2261\u20e5\u2a50\u29b2" +
+        "\u29c2\u2a6d\u2938\u2935\u293d\u293c\u29b1\u29a6\u2a78\u2a82\u2a7c" +
+        "\u2948\u22f5\u291f\u2973\u298f\u298d\u2967\u2a81\u2a34\u2a7b\u2966" +
+        "\u2a2a\u22f7\u22f6\u22fe\u22fd\u2a14\u22e2\u22e3\u29de\u22b4\u20d2" +
+        "\u22b5\u20d2\u29bb\u03bf\u2a57\u2031\u210e\u2a22\u2a26\u2a27\u2a16" +
+        "\u2920\u2974\u298e\u2990\u2969\u2a35\u2968\u2a24\u2972\u2ac3\u2ac1" +
+        "\u2abf\u2979\u2ad8\u2ac4\u27c9\u2ad7\u297b\u2ac2\u2ac0\u2ada\u2a39" +
+        "\u2a3b\u29a7\u299a\u21dd\u2911\u2aa1\u2949\u2a58\u29a8\u29a9\u29aa" +
+        "\u29ab\u29ac\u29ad\u29ae\u29af\u299d\u2233\u23b6\u27c8\u2a49\u2a10" +
+        "\u2a48\u2232\u27ff\u23e7\u29e5\u2a0d\u2a84\u29dd\u2a17\u29b4\u294b" +
+        "\u2a83\u294a\u21a5\u2a6d\u0338\u22f5\u0338\u2a36\u2a23\u2a15\u232e" +
+        "\u2312\u2313\u29b3\u2a12\u29ce\u2a13\u29e4\u2a31\u2a3a\u23e2\u0311" +
+        "\u226d\u23de\u205f\u200a\u23df\u2912\u21a7\u21a4\u205f\u29f4\u2913" +
+        "\u2970\u295a\u2952\u2aa2\u295b\u2953\u200b\u294e\u29cf\u2960\u2958" +
+        "\u228f\u0338\u23dc\u25fb\u2951\u227f\u0338\u29d0\u295c\u2954\u23dd" +
+        "\u295e\u2956\u25fc\u2961\u2959\u2aa1\u0338\u2290\u0338\u294f\u2758" +
+        "\u295f\u2957\u29cf\u0338\u295d\u2955\u2950\u29d0\u0338\u25ab\u2aa2" +
+        "\u0338").toCharArray ();
+}
@@ -43,7 +43,6 @@ import java.io.StringReader;
 import java.io.StringBufferInputStream;
 #endif JDK1.0*/
 import java.io.ByteArrayOutputStream;
-import java.util.Hashtable;
 import java.util.Enumeration;
 import java.util.Vector;
 import java.util.Stack;
@@ -79,7 +78,23 @@ public class HTMLParser {
      */
     public void parse (Page page) throws IOException {
         tokenize (page);
-        buildParseTree (page);
+        buildParseTree (page, false);
+    }
+
+    /**
+     * Parse a page only far enough to find its links and title.
+     * The page's element tree isn't built until somebody calls
+     * getElements() or getRootElement() on it.  Form buttons
+     * (&lt;INPUT TYPE=submit&gt; and &lt;INPUT TYPE=image&gt;) depend 
+     * on the contents of their form, so they are only found in
+     * the page's links once the element tree has been built.
+     * The links found have the same extents they'll have in the
+     * tree, but no parent until the tree is built.
+     * @param page Page to parse
+     */
+    public void parseLinks (Page page) throws IOException {
+        tokenize (page);
+        extractLinks (page);
     }
 
 
@@ -112,11 +127,12 @@ public class HTMLParser {
     private static final int ENTREF = 22;
 
     StringBuffer wordBuf = new StringBuffer ();
-    StringBuffer tagName = new StringBuffer ();
     StringBuffer attrName = new StringBuffer ();
     StringBuffer attrVal = new StringBuffer ();
-    Vector attrs = new Vector ();
-    StringBuffer entity = new StringBuffer ();
+
+    // rough guess at the number of characters per token, used to
+    // size the token table
+    static final int CHARS_PER_TOKEN = 8;
 
     // FIX: should entities in attr names or values be expanded?
     private void tokenize (Page page) throws IOException {
@@ -128,29 +144,41 @@ public class HTMLParser {
         int bufbase = 0;
 
         // token list
-        Vector tokens = new Vector();
+        TokenTable tokens = new TokenTable (buflen / CHARS_PER_TOKEN);
 
         int wordStart = 0;
-        int nWords = 0;
+        boolean wordRaw = true;
+            // true while the word's text is exactly its raw content,
+            // in which case wordBuf isn't used
 
-        Tag tag = null;
+        int tag = -1;   // index of current start tag in token table
         int tagStart = 0;
-
-        int entnum = 0;
+        int nameStart = 0;  // offset of current tag's name
+
+        // character reference being decoded
+        int entityStart = 0;    // offset just after the '&'
+        int entnum = 0;         // value of numeric reference
+        int entDigits = 0;      // number of digits in numeric reference
+        boolean entHex = false; // numeric reference is hexadecimal
+        int entNode = 0;        // HTMLEntities trie node reached by name so far
+        int entMatch = -1;      // longest complete name seen so far, or -1
+        int entMatchEnd = 0;    // offset just after entMatch
         
         StringBuffer entityTargetBuf = null;
         int postEntityState = 0;
 
         boolean isHTML = "text/html".equals (page.getContentType ());
 
-        while (bufptr < buflen) {
+        while (bufptr < buflen
+               // a character reference at EOF must still be finished
+               || state == ENTITY || state == ENTREF || state == ENTNUM) {
             if (!isHTML && bufptr >= VALID_HTML_PREFIX)
                 // we didn't see any HTML tags in the first
                 // VALID_HTML_PREFIX bytes,
                 // so assume the document isn't HTML and stop parsing it.
                 return;
 
-            char c = content.charAt (bufptr);
+            char c = bufptr < buflen ? content.charAt (bufptr) : '\0';
 
             //System.err.println ("%% state == " + state + ", ptr == " + (bufbase+bufptr) + ", c == " + c);
 
@@ -169,8 +197,8 @@ public class HTMLParser {
                             ++bufptr;
                             break;
                         default:
-                            wordBuf.setLength (0);
                             wordStart = bufbase+bufptr;
+                            wordRaw = true;
                             state = INWORD;
                             break;
                     }
@@ -180,84 +208,122 @@ public class HTMLParser {
                     // Character data
                     switch (c) {
                         case '<':
-                            tokens.addElement (new Text (page, wordStart, bufbase+bufptr, wordBuf.toString ()));
-                            ++nWords;
+                            tokens.addWord (wordStart, bufbase+bufptr, wordRaw ? null : wordBuf.toString ());
                             state = START;
                             break;
                         case ' ':
                         case '\t':
                         case '\n':
                         case '\r':
-                            tokens.addElement (new Text (page, wordStart, bufbase+bufptr, wordBuf.toString ()));
-                            ++nWords;
+                            tokens.addWord (wordStart, bufbase+bufptr, wordRaw ? null : wordBuf.toString ());
                             state = START;
                             ++bufptr;
                             break;
                         case '&':
+                            if (wordRaw) {
+                                // switch to accumulating the word in wordBuf
+                                wordBuf.setLength (0);
+                                for (int i=wordStart-bufbase; i<bufptr; ++i)
+                                    wordBuf.append (content.charAt (i));
+                                wordRaw = false;
+                            }
                             ++bufptr;
                             postEntityState = INWORD;
                             entityTargetBuf = wordBuf;
                             state = ENTITY;
                             break;
                         default:
-                            wordBuf.append ((char)c);
+                            if (!wordRaw)
+                                wordBuf.append ((char)c);
                             ++bufptr;
                             // state == INWORD;
                             break;
                     }
                     break;
 
-                //  Entities
+                //  Entities (character references), decoded as in HTML5
                 case ENTITY:
+                    // just after '&'
+                    entityStart = bufptr;
                     if (c == '#') {
                         ++bufptr;
                         entnum = 0;
+                        entDigits = 0;
+                        entHex = false;
                         state = ENTNUM;
                     }
-                    else if ((c >= 'A' && c <= 'Z')
-                             || (c >= 'a' && c <= 'z')) {
-                        entity.setLength (0);
+                    else if ((entNode = HTMLEntities.step (HTMLEntities.ROOT, c)) != -1) {
+                        ++bufptr;
+                        entMatch = -1;
                         state = ENTREF;
                     }
                     else {
+                        // not a reference -- leave the '&' as-is
                         entityTargetBuf.append ('&');
                         state = postEntityState;
                     }
                     break;
 
                 case ENTREF:
-                    if (!Character.isLetterOrDigit(c)) {
-                        Character ent = lookupEntityRef (entity.toString ());
-                        if (ent != null) {
-                            entityTargetBuf.append (ent.charValue());
-                            if (c == ';')
-                                ++bufptr;
+                    // named reference: find the longest name that matches
+                    if (HTMLEntities.isEntity (entNode)) {
+                        entMatch = entNode;
+                        entMatchEnd = bufptr;
+                    }
+                    if ((entNode = HTMLEntities.step (entNode, c)) != -1)
+                        ++bufptr;
+                        // state == ENTREF
+                    else {
+                        if (entMatch != -1 
+                            && (postEntityState == INWORD
+                                || content.charAt (entMatchEnd-1) == ';'
+                                || !isAlnumOrEquals (entMatchEnd < buflen 
+                                                ? content.charAt (entMatchEnd) 
+                                                : '\0'))) {
+                            // (in attribute values, names without
+                            // semicolons that are followed by = or 
+                            // letters are left alone, since they're 
+                            // usually part of a URL query)
+                            HTMLEntities.appendValue (entityTargetBuf, entMatch);
+                            bufptr = entMatchEnd;
                         }
                         else {
-                            // unrecognized entity -- leave
-                            // as-is
+                            // unrecognized entity -- leave as-is
                             entityTargetBuf.append ('&');
-                            entityTargetBuf.append (entity.toString ());
-                        }                            
+                            bufptr = entityStart;
+                        }
+                        // characters after the name are rescanned
                         state = postEntityState;
                     }
-                    else {
-                        ++bufptr;
-                        entity.append (c);
-                        // state == ENTREF;
-                    }
                     break;
 
                 case ENTNUM:
-                    if (c==';' || !Character.isDigit(c)) {
-                        entityTargetBuf.append ((char) entnum);
-                        if (c == ';')
+                    // numeric reference, after "&#"
+                    {
+                        int d = Character.digit (c, entHex ? 16 : 10);
+                        if (d != -1 && c < 128) {
+                            if (entnum <= HTMLEntities.MAX_CODE_POINT)
+                                entnum = (entHex ? 16 : 10) * entnum + d;
+                            ++entDigits;
                             ++bufptr;
-                        state = postEntityState;
-                    }
-                    else {
-                        entnum = 10*entnum + (c - '0');
-                        ++bufptr;
+                        }
+                        else if ((c == 'x' || c == 'X') && !entHex && entDigits == 0) {
+                            entHex = true;
+                            ++bufptr;
+                        }
+                        else {
+                            if (entDigits > 0) {
+                                HTMLEntities.appendCharRef (entityTargetBuf, entnum);
+                                if (c == ';')
+                                    ++bufptr;
+                            }
+                            else {
+                                // no digits -- leave "&#" as-is
+                                entityTargetBuf.append ('&');
+                                bufptr = entityStart;
+                            }
+                            state = postEntityState;
+                        }
                     }
                     break;
 
@@ -266,7 +332,7 @@ public class HTMLParser {
                     switch (c) {
                         case '/':
                             ++bufptr;
-                            tagName.setLength (0);
+                            nameStart = bufptr;
                             state = ETAG;
                             break;
                         case '!':
@@ -275,11 +341,13 @@ public class HTMLParser {
                             break;
                         default:
                             if (Character.isLetter (c)) {
-                                tagName.setLength (0);
+                                nameStart = bufptr;
                                 state = STAG;
                             }
                             else {
-                                wordBuf.append ('<');
+                                // not a tag -- '<' starts a word
+                                wordStart = tagStart;
+                                wordRaw = true;
                                 state = INWORD;
                             }
                             break;
@@ -334,8 +402,7 @@ public class HTMLParser {
                 case CMT_DASHDASH:
                     if (c == '>') {
                         ++bufptr;
-                        tag = new Tag (page, tagStart, bufbase+bufptr, Tag.COMMENT, true);
-                        tokens.addElement (tag);
+                        tokens.addTag (tagStart, bufbase+bufptr, COMMENT_ID, null, true);
                         state = START;
                     }
                     else if (c == '-') {
@@ -351,8 +418,7 @@ public class HTMLParser {
                 case DIRECTIVE:
                     if (c == '>') {
                         ++bufptr;
-                        tag = new Tag (page, tagStart, bufbase+bufptr, Tag.COMMENT, true);
-                        tokens.addElement (tag);
+                        tokens.addTag (tagStart, bufbase+bufptr, COMMENT_ID, null, true);
                         state = START;
                     }
                     else {
@@ -363,16 +429,14 @@ public class HTMLParser {
                 // Tags
                 case STAG:
                     if (c == '>' || isWhitespace(c)) {
-                        tag = new Tag (page, tagStart, bufbase+bufptr, // tag doesn't really end here
-                                                                       // -- we'll fix it up when we actually see it
-                                       tagName.toString (), true);
-                        tokens.addElement (tag);
-                        attrs.setSize (0);
+                        tag = addTag (tokens, content, nameStart, bufptr,
+                                      tagStart, bufbase+bufptr, // tag doesn't really end here
+                                                                // -- we'll fix it up when we actually see it
+                                      true);
                         state = ATTR;
                         isHTML = true;
                     }
                     else {
-                        tagName.append (c);
                         ++bufptr;
                         // state == STAG;
                     }
@@ -380,13 +444,12 @@ public class HTMLParser {
 
                 case ETAG:
                     if (c == '>') {
+                        addTag (tokens, content, nameStart, bufptr,
+                                tagStart, bufbase+bufptr+1, false);
                         ++bufptr;
-                        tag = new Tag (page, tagStart, bufbase+bufptr, tagName.toString (), false);
-                        tokens.addElement (tag);
                         state = START;
                     }
                     else {
-                        tagName.append (c);
                         ++bufptr;
                         // state == ETAG
                     }
@@ -398,11 +461,7 @@ public class HTMLParser {
                         ++bufptr;
                     else if (c == '>') {
                         ++bufptr;
-                        tag.end = bufbase+bufptr;
-                        if (attrs.size() > 0) {
-                            tag.htmlAttributes = new String[attrs.size()];
-                            attrs.copyInto (tag.htmlAttributes);
-                        }
+                        tokens.end[tag] = bufbase+bufptr;
                         state = START;
                     }
                     else {
@@ -431,8 +490,7 @@ public class HTMLParser {
                     }
                     else {
                         String name = Tag.toHTMLAttributeName (attrName.toString());
-                        tag.setLabel (name);
-                        attrs.addElement (name);
+                        tokens.addAttribute (name, Region.TRUE);
                         state = ATTR;
                     }
                     break;
@@ -445,8 +503,7 @@ public class HTMLParser {
                             case '>':
                             {
                                 String name = Tag.toHTMLAttributeName (attrName.toString());
-                                tag.setLabel (name);
-                                attrs.addElement (name);
+                                tokens.addAttribute (name, Region.TRUE);
                                 state = ATTR;
                                 break;
                             }
@@ -470,8 +527,7 @@ public class HTMLParser {
                 case ATTRVAL:
                     if (c == '>' || isWhitespace(c)) {
                         String name = Tag.toHTMLAttributeName (attrName.toString());
-                        tag.setLabel (name, attrVal.toString());
-                        attrs.addElement (name);
+                        tokens.addAttribute (name, attrVal.toString());
                         state = ATTR;
                     }
                     else if (c == '&') {
@@ -491,8 +547,7 @@ public class HTMLParser {
                     if (c=='\'') {
                         ++bufptr;
                         String name = Tag.toHTMLAttributeName (attrName.toString());
-                        tag.setLabel (name, attrVal.toString());
-                        attrs.addElement (name);
+                        tokens.addAttribute (name, attrVal.toString());
                         state = ATTR;
                     }
                     else if (c == '&') {
@@ -512,8 +567,7 @@ public class HTMLParser {
                     if (c=='"') {
                         ++bufptr;
                         String name = Tag.toHTMLAttributeName (attrName.toString());
-                        tag.setLabel (name, attrVal.toString());
-                        attrs.addElement (name);
+                        tokens.addAttribute (name, attrVal.toString());
                         state = ATTR;
                     }
                     else if (c == '&') {
@@ -538,8 +592,7 @@ public class HTMLParser {
         switch (state) {
             case INWORD:
                 // EOF terminated some text -- save the text
-                tokens.addElement (new Text (page, wordStart, bufbase+bufptr, wordBuf.toString ()));
-                ++nWords;
+                tokens.addWord (wordStart, bufbase+bufptr, wordRaw ? null : wordBuf.toString ());
                 break;
 
             default:
@@ -548,22 +601,36 @@ public class HTMLParser {
                 break;
         }
 
-        int nTotal = tokens.size ();
-
-        page.tokens = new Region[nTotal];
-        tokens.copyInto (page.tokens);
+        page.tokenTable = tokens;
+        page.tokens = null;
+        page.tags = null;
+        page.words = null;
+        page.text = null;
+        page.canonicalTags = null;
+    }
 
-        page.words = new Text[nWords];
-        int textnum = 0;
-        page.tags = new Tag[nTotal - nWords];
-        int tagnum = 0;
+    private static final int COMMENT_ID = HTMLTags.lookup (Tag.COMMENT);
+
+    // Adds a tag whose name is content[nameStart..nameEnd) to the token table.
+    // Known tag names are found by HTMLTags without making a String.
+    private static int addTag (TokenTable tokens, String content, 
+                               int nameStart, int nameEnd,
+                               int start, int end, boolean startTag) {
+        int id = HTMLTags.lookup (content, nameStart, nameEnd);
+        return tokens.addTag (start, end, id, 
+                              id == HTMLTags.UNKNOWN 
+                                ? content.substring (nameStart, nameEnd) 
+                                : null,
+                              startTag);
+    }
 
-        for (int i=0; i < nTotal; ++i) {
-            if (page.tokens[i] instanceof Tag)
-                page.tags[tagnum++] = (Tag)page.tokens[i];
-            else
-                page.words[textnum++] = (Text)page.tokens[i];
-        }
+    // characters that stop a reference without a semicolon from being
+    // decoded in an attribute value
+    private static boolean isAlnumOrEquals (char c) {
+        return c == '='
+            || (c >= 'a' && c <= 'z') 
+            || (c >= 'A' && c <= 'Z') 
+            || (c >= '0' && c <= '9');
     }
 
     private static boolean isWhitespace (char c) {
@@ -576,113 +643,6 @@ public class HTMLParser {
     }
         
 
-    private static Hashtable entities = new Hashtable2()
-          .add ("quot", new Character ((char)34))
-          .add ("amp", new Character ((char)38))
-          .add ("lt", new Character ((char)60))
-          .add ("gt", new Character ((char)62))
-          .add ("nbsp", new Character ((char)160))
-          .add ("iexcl", new Character ((char)161))
-          .add ("cent", new Character ((char)162))
-          .add ("pound", new Character ((char)163))
-          .add ("curren", new Character ((char)164))
-          .add ("yen", new Character ((char)165))
-          .add ("brvbar", new Character ((char)167))
-          .add ("sect", new Character ((char)167))
-          .add ("uml", new Character ((char)168))
-          .add ("copy", new Character ((char)169))
-          .add ("ordf", new Character ((char)170))
-          .add ("laquo", new Character ((char)171))
-          .add ("not", new Character ((char)172))
-          .add ("shy", new Character ((char)173))
-          .add ("reg", new Character ((char)174))
-          .add ("macr", new Character ((char)175))
-          .add ("deg", new Character ((char)176))
-          .add ("plusmn", new Character ((char)177))
-          .add ("sup2", new Character ((char)178))
-          .add ("sup3", new Character ((char)179))
-          .add ("acute", new Character ((char)180))
-          .add ("micro", new Character ((char)181))
-          .add ("para", new Character ((char)182))
-          .add ("middot", new Character ((char)183))
-          .add ("cedil", new Character ((char)184))
-          .add ("sup1", new Character ((char)185))
-          .add ("ordm", new Character ((char)186))
-          .add ("raquo", new Character ((char)187))
-          .add ("frac14", new Character ((char)188))
-          .add ("frac12", new Character ((char)189))
-          .add ("frac34", new Character ((char)190))
-          .add ("iquest", new Character ((char)191))
-          .add ("Agrave", new Character ((char)192))
-          .add ("Aacute", new Character ((char)193))
-          .add ("Acirc", new Character ((char)194))
-          .add ("Atilde", new Character ((char)195))
-          .add ("Auml", new Character ((char)196))
-          .add ("Aring", new Character ((char)197))
-          .add ("AElig", new Character ((char)198))
-          .add ("Ccedil", new Character ((char)199))
-          .add ("Egrave", new Character ((char)200))
-          .add ("Eacute", new Character ((char)201))
-          .add ("Ecirc", new Character ((char)202))
-          .add ("Euml", new Character ((char)203))
-          .add ("Igrave", new Character ((char)204))
-          .add ("Iacute", new Character ((char)205))
-          .add ("Icirc", new Character ((char)206))
-          .add ("Iuml", new Character ((char)207))
-          .add ("ETH", new Character ((char)208))
-          .add ("Ntilde", new Character ((char)209))
-          .add ("Ograve", new Character ((char)210))
-          .add ("Oacute", new Character ((char)211))
-          .add ("Ocirc", new Character ((char)212))
-          .add ("Otilde", new Character ((char)213))
-          .add ("Ouml", new Character ((char)214))
-          .add ("times", new Character ((char)215))
-          .add ("Oslash", new Character ((char)216))
-          .add ("Ugrave", new Character ((char)217))
-          .add ("Uacute", new Character ((char)218))
-          .add ("Ucirc", new Character ((char)219))
-          .add ("Uuml", new Character ((char)220))
-          .add ("Yacute", new Character ((char)221))
-          .add ("THORN", new Character ((char)222))
-          .add ("szlig", new Character ((char)223))
-          .add ("agrave", new Character ((char)224))
-          .add ("aacute", new Character ((char)225))
-          .add ("acirc", new Character ((char)226))
-          .add ("atilde", new Character ((char)227))
-          .add ("auml", new Character ((char)228))
-          .add ("aring", new Character ((char)229))
-          .add ("aelig", new Character ((char)230))
-          .add ("ccedil", new Character ((char)231))
-          .add ("egrave", new Character ((char)232))
-          .add ("eacute", new Character ((char)233))
-          .add ("ecirc", new Character ((char)234))
-          .add ("euml", new Character ((char)235))
-          .add ("igrave", new Character ((char)236))
-          .add ("iacute", new Character ((char)237))
-          .add ("icirc", new Character ((char)238))
-          .add ("iuml", new Character ((char)239))
-          .add ("eth", new Character ((char)240))
-          .add ("ntilde", new Character ((char)241))
-          .add ("ograve", new Character ((char)242))
-          .add ("oacute", new Character ((char)243))
-          .add ("ocirc", new Character ((char)244))
-          .add ("otilde", new Character ((char)245))
-          .add ("ouml", new Character ((char)246))
-          .add ("divide", new Character ((char)247))
-          .add ("oslash", new Character ((char)248))
-          .add ("ugrave", new Character ((char)249))
-          .add ("uacute", new Character ((char)250))
-          .add ("ucirc", new Character ((char)251))
-          .add ("uuml", new Character ((char)252))
-          .add ("yacute", new Character ((char)253))
-          .add ("thorn", new Character ((char)254))
-          .add ("yuml", new Character ((char)255))
-          ;
-
-    private static Character lookupEntityRef (String name) {
-        return (Character) entities.get (name);
-    }
-
     /*
      *  Parser (constructs a canonical tree of elements)
      *
@@ -693,176 +653,215 @@ public class HTMLParser {
 
     StringBuffer text = new StringBuffer ();
 
-    // elements with no content: e.g., IMG, BR, HR.  End tags for these elements
-    // are simply ignored.
-    private static Hashtable empty = new Hashtable2 ()
-          .add (Tag.AREA)
-          .add (Tag.BASE)
-          .add (Tag.BASEFONT)
-          .add (Tag.BGSOUND)
-          .add (Tag.BR)
-          .add (Tag.COL)
-          .add (Tag.COLGROUP)
-          .add (Tag.COMMENT) // actually <!-- ... -->
-          .add (Tag.HR)
-          .add (Tag.IMG)
-          .add (Tag.INPUT)
-          .add (Tag.ISINDEX)
-          .add (Tag.LINK)
-          .add (Tag.META)
-          .add (Tag.NEXTID)
-          .add (Tag.PARAM)
-          .add (Tag.SPACER)
-          .add (Tag.WBR)
-          ;
-
-    // elements that close <P> (correspond to "%block" entity in HTML 3.2 DTD)
-    static Hashtable blocktag = new Hashtable2()
-          .add (Tag.P)
-          .add (Tag.UL)
-          .add (Tag.OL)
-          .add (Tag.DIR)
-          .add (Tag.MENU)
-          .add (Tag.PRE)
-          .add (Tag.XMP)
-          .add (Tag.LISTING)
-          .add (Tag.DL)
-          .add (Tag.DIV)
-          .add (Tag.CENTER)
-          .add (Tag.BLOCKQUOTE)
-          .add (Tag.FORM)
-          .add (Tag.ISINDEX)
-          .add (Tag.HR)
-          .add (Tag.TABLE)
-          .add (Tag.H1)
-          .add (Tag.H2)
-          .add (Tag.H3)
-          .add (Tag.H4)
-          .add (Tag.H5)
-          .add (Tag.H6)
-          .add (Tag.ADDRESS)
-          ;
-
-    // maps elements which force closure to the elements that they close, e.g.,
-    // LI maps to LI, DT maps to DD,DT, and all block-level tags map to P.
-    private static Hashtable forcesClosed = new Hashtable2 ()
-          .add (Tag.DD, new Hashtable2 () .add (Tag.DD) .add (Tag.DT))
-          .add (Tag.DT, new Hashtable2 () .add (Tag.DD) .add (Tag.DT))
-          .add (Tag.LI, new Hashtable2 () .add (Tag.LI))
-          .add (Tag.OPTION, new Hashtable2 () .add (Tag.OPTION))
-          .add (Tag.TR, new Hashtable2 () .add (Tag.TR))
-          .add (Tag.TD, new Hashtable2 () .add (Tag.TD) .add (Tag.TH))
-          .add (Tag.TH, new Hashtable2 () .add (Tag.TD) .add (Tag.TH))
-          ;
-    static {
-        Hashtable p = new Hashtable2 () .add (Tag.P);
-        Enumeration enum = blocktag.keys ();
-        while (enum.hasMoreElements ())
-            union (forcesClosed, enum.nextElement(), p);
+    /*
+     *  Link extractor (finds links and title without building the tree)
+     *
+     */
+
+    private void extractLinks (Page page) {
+        TokenTable tokens = page.tokenTable;
+        if (tokens == null)
+            return; // tokenizer decided the page isn't HTML
+
+        String content = page.content;
+        String keepTag = null;  // savetext tag whose text is being kept
+        Link textLink = null;   // link that gets the kept text
+
+        vLinks.setSize (0);
+        linkOpen = 0;
+
+        for (int t=0; t<tokens.size; ++t) {
+            if (tokens.isTag (t)) {
+                String tagName = tokens.getTagName (t);
+                int id = tokens.getTagId (t);
+                int flags = HTMLTags.getFlags (id);
+
+                if (tokens.kind[t] == TokenTable.START_TAG) {
+                    // close open elements the same way buildParseTree() does,
+                    // so links get the extents they'll have in the tree
+                    if ((flags & HTMLTags.FORCES_CLOSE) != 0) {
+                        int i = findOpenToken (tokens, HTMLTags.getContext (id));
+                        if (i != -1 && HTMLTags.contains (HTMLTags.getForcesClosed (id), 
+                                                          tokens.getTagId (linkOpenTokens[i])))
+                            closeTokens (i, tokens.start[t]);
+                    }
+
+                    if ((flags & HTMLTags.SAVETEXT) != 0) {
+                        text.setLength (0);
+                        keepTag = tagName;
+                        textLink = null;
+                    }
+
+                    String hrefAttr = HTMLTags.getLinkAttribute (id);
+                    Link link = null;
+                    if (tagName == Tag.FORM
+                        || (hrefAttr != null && tokens.hasAttribute (t, hrefAttr))) {
+                        Tag tag = (Tag)page.getToken (t);
+                        try {
+                            link = (tagName == Tag.FORM)
+                                ? new Form (tag, null, page.base)
+                                : new Link (tag, null, page.base);
+                            vLinks.addElement (link);
+                            tag.element = link;
+                            if (tagName == keepTag)
+                                textLink = link;
+                        } catch (MalformedURLException f) {} // bad URL
+                          catch (NullPointerException ex) {} // base == null
+                    }
+
+                    openToken (t, link);
+                    if ((flags & HTMLTags.EMPTY) != 0)
+                        closeTokens (linkOpen-1, tokens.end[t]);
+
+                    if (tagName == Tag.BASE) {
+                        String href = tokens.getAttribute (t, "href");
+                        if (href != null) {
+                            try {                         
+                                page.base = new URL (page.base, new String (href.toCharArray())); // make copy to avoid reference to page content
+                            } catch (MalformedURLException ex) {} // bad URL
+                              catch (NullPointerException ex) {} // base == null
+                        }
+                    }
+                }
+                else {
+                    int i = findOpenToken (tokens, tagName);
+                    if (i != -1) {
+                        Link link = linkOpenLinks[i];
+                        closeTokens (i, tokens.start[t]);
+                        if (link != null) {
+                            Tag tag = (Tag)page.getToken (t);
+                            link.endTag = tag;
+                            link.end = tag.end;
+                            tag.element = link;
+                        }
+                    }
+
+                    if (tagName == keepTag) {
+                        // end tag of the element whose text we're keeping
+                        if (tagName == Tag.TITLE)
+                            page.title = text.toString();
+                        else if (textLink != null)
+                            textLink.setText (text.toString());
+                        keepTag = null;
+                        textLink = null;
+                    }
+                }
+            }
+            else if (keepTag != null) {
+                if (text.length() > 0)
+                    text.append (' ');
+                tokens.appendText (text, content, t);
+            }
+        }
+
+        closeTokens (0, page.end);
+
+        page.links = new Link[vLinks.size()];
+        vLinks.copyInto (page.links);
+        page.elements = null;
+        page.root = null;
     }
 
-    // union of forcesClosed plus the tag's possible containers.  For instance,
-    // LI maps to LI, OL, UL, MENU, DIR.  When a forcesClosed tag like LI is
-    // encountered, the parser looks upward for the first context tag.
-    // Having the tag's container element included in the search ensures that
-    // LI in a nested list won't close its parent LI.
-    static Hashtable context = new Hashtable2 ()
-          .add (Tag.DD, new Hashtable2 () .add (Tag.DL))
-          .add (Tag.DT, new Hashtable2 () .add (Tag.DL))
-          .add (Tag.LI, new Hashtable2 () .add (Tag.OL) .add (Tag.UL) .add (Tag.MENU) .add (Tag.DIR))
-          .add (Tag.OPTION, new Hashtable2 () .add (Tag.SELECT))
-          .add (Tag.TR, new Hashtable2 () .add (Tag.TABLE))
-          .add (Tag.TD, new Hashtable2 () .add (Tag.TR) .add (Tag.TABLE))
-          .add (Tag.TH, new Hashtable2 () .add (Tag.TR) .add (Tag.TABLE))
-          ;
-    static {
-        Enumeration enum = forcesClosed.keys ();
-        while (enum.hasMoreElements ()) {
-            Object tagname = enum.nextElement();
-            union (context, tagname, (Hashtable)forcesClosed.get (tagname));
+    // Stack of the start tags of open elements, as token indexes, with
+    // the Link made for each one (or null).  Used by extractLinks() to
+    // find where each link ends without building elements.
+    int[] linkOpenTokens = new int[20];
+    Link[] linkOpenLinks = new Link[20];
+    int linkOpen = 0;
+
+    private void openToken (int t, Link link) {
+        if (linkOpen == linkOpenTokens.length) {
+            int[] newtokens = new int[linkOpen + 10];
+            System.arraycopy (linkOpenTokens, 0, newtokens, 0, linkOpen);
+            linkOpenTokens = newtokens;
+            Link[] newlinks = new Link[linkOpen + 10];
+            System.arraycopy (linkOpenLinks, 0, newlinks, 0, linkOpen);
+            linkOpenLinks = newlinks;
         }
+        linkOpenTokens[linkOpen] = t;
+        linkOpenLinks[linkOpen] = link;
+        ++linkOpen;
     }
 
-    // NIY: handle literal and semi-literal elements (XMP, LISTING, TEXTAREA, OPTION)
-    // elements whose content should be treated as plain text
-    static Hashtable literal = new Hashtable2()
-            ;
-
-    // maps link elements to their URL attribute (e.g., A maps to HREF)
-    static Hashtable linktag = new Hashtable2 ()
-            .add (Tag.A, "href")
-            .add (Tag.AREA, "href")
-            .add (Tag.APPLET, "code")
-            .add (Tag.EMBED, "src")
-            .add (Tag.FRAME, "src")
-            .add (Tag.FORM, "action")
-            .add (Tag.IMG, "src")
-            .add (Tag.LINK, "href")
-            .add (Tag.SCRIPT, "src")
-            ;
-
-    // elements whose text contents are crucial to the crawler
-    static Hashtable savetext = new Hashtable2 ()
-            .add (Tag.A)
-            .add (Tag.TITLE);
-
-    // elements found in <HEAD>
-    static Hashtable headtag = new Hashtable2()
-          .add (Tag.META)
-          .add (Tag.TITLE)
-          .add (Tag.BASE)
-          .add (Tag.LINK)
-          .add (Tag.ISINDEX)
-          ;
-
-    private static void union (Hashtable map, Object tagname, Hashtable tagset) {
-        Hashtable2 currset = (Hashtable2)map.get (tagname);
-        if (currset == null)
-            map.put (tagname, tagset);
-        else
-            map.put (tagname, currset.union (tagset));
+    // Close the open elements from i up, ending them at end.
+    private void closeTokens (int i, int end) {
+        while (linkOpen > i) {
+            --linkOpen;
+            if (linkOpenLinks[linkOpen] != null) {
+                linkOpenLinks[linkOpen].end = end;
+                linkOpenLinks[linkOpen] = null;
+            }
+        }
     }
 
-    private void buildParseTree (Page page) {
+    private int findOpenToken (TokenTable tokens, String tagName) {
+        for (int i=linkOpen-1; i >= 0; --i)
+            if (tokens.getTagName (linkOpenTokens[i]) == tagName)
+                return i;
+        return -1;
+    }
+
+    private int findOpenToken (TokenTable tokens, long[] tags) {
+        for (int i=linkOpen-1; i >= 0; --i)
+            if (HTMLTags.contains (tags, tokens.getTagId (linkOpenTokens[i])))
+                return i;
+        return -1;
+    }
+
+    /*
+     *  Tree builder
+     *
+     *  If relink is true, the page was already parsed by extractLinks(),
+     *  so the Links it made are reused and linked into the tree, and
+     *  the page's base URL is left alone.
+     */
+
+    void buildParseTree (Page page, boolean relink) {
+        TokenTable tokens = page.tokenTable;
+        if (tokens == null)
+            return; // tokenizer decided the page isn't HTML
+
         boolean keepText = false;
+        String content = page.content;
 
         elems.setSize (0);
         openPtr = 0;
+        currentForm = null;
+        vElements.setSize (0);
+        vLinks.setSize (0);
 
-        Region[] tokens = page.tokens;
-        for (int t=0; t<tokens.length; ++t) {
-            Region r = tokens[t];
+        for (int t=0; t<tokens.size; ++t) {
+            if (tokens.isTag (t)) {
+                String tagName = tokens.getTagName (t);
+                int id = tokens.getTagId (t);
+                int flags = HTMLTags.getFlags (id);
 
-            if (r instanceof Tag) {
-                Tag tag = (Tag)r;
-                String tagName = tag.getTagName();
-
-                if (tag.isStartTag()) {
+                if (tokens.kind[t] == TokenTable.START_TAG) {
                     // start tag <X>
 
                     // check if <X> forces closure of an open element
-                    if (forcesClosed.containsKey (tagName)) {
-                        Element e = findOpenElement ((Hashtable)context.get (tagName));
-                        if (e != null && ((Hashtable)forcesClosed.get (tagName)).containsKey (e.getTagName()))
-                            close (e, tag.start);
+                    if ((flags & HTMLTags.FORCES_CLOSE) != 0) {
+                        Element e = findOpenElement (HTMLTags.getContext (id));
+                        if (e != null && HTMLTags.contains (HTMLTags.getForcesClosed (id), e.startTag.id))
+                            close (e, tokens.start[t]);
                     }
 
                     // create the element and push it on the elems stack
-                    Element e = makeElement (page.base, tag);
+                    Element e = makeElement (page, t);
                     open (e);
 
-                    if (empty.containsKey (tagName)) {
+                    if ((flags & HTMLTags.EMPTY) != 0) {
                         // element has no content
                         // close it off right now
-                        close (e, tag.end);
+                        close (e, tokens.end[t]);
                     }
-                    else if (savetext.containsKey (tagName)) {
+                    else if ((flags & HTMLTags.SAVETEXT) != 0) {
                         text.setLength (0);
                         keepText = true;
                     }
 
-                    if (tagName == Tag.BASE) {
-                        String href = tag.getHTMLAttribute ("href");
+                    if (tagName == Tag.BASE && !relink) {
+                        String href = tokens.getAttribute (t, "href");
                         if (href != null) {
                             try {                         
                                 page.base = new URL (page.base, new String (href.toCharArray())); // make copy to avoid reference to page content
@@ -877,9 +876,9 @@ public class HTMLParser {
                     // find matching start tag <X>
                     Element e = findOpenElement (tagName);
                     if (e != null) {
-                        close (e, tag);
+                        close (e, (Tag)page.getToken (t));
 
-                        if (savetext.containsKey (tagName)) {
+                        if ((flags & HTMLTags.SAVETEXT) != 0) {
                             if (tagName == Tag.TITLE)
                                 page.title = text.toString();
                             else if (e instanceof Link)
@@ -890,11 +889,11 @@ public class HTMLParser {
                 }
 
             }
-            else { // r is a text token
+            else { // t is a text token
                 if (keepText) {
                     if (text.length() > 0)
                         text.append (' ');
-                    text.append (r.toText());
+                    tokens.appendText (text, content, t);
                 }
             }
         }
@@ -921,25 +920,38 @@ public class HTMLParser {
         vLinks.copyInto (page.links);
     }
 
-    private Element makeElement (URL base, Tag tag) {
+    private Element makeElement (Page page, int t) {
+        // decide what kind of element to make from the token table,
+        // before creating the start tag
+        TokenTable tokens = page.tokenTable;
+        URL base = page.base;
         Element e = null;
-        String tagName = tag.getTagName ();
-        String hrefAttr = (String)linktag.get (tagName);
+        String tagName = tokens.getTagName (t);
+        String hrefAttr = HTMLTags.getLinkAttribute (tokens.getTagId (t));
         String type;
 
+        Tag tag = (Tag)page.getToken (t);
+        if (tag.element != null) {
+            // already made by extractLinks()
+            e = tag.element;
+            vLinks.addElement (e);
+            vElements.addElement (e);
+            return e;
+        }
+
         try {
             if (tagName == Tag.FORM) {
-                e = new Form (tag, null, base);
+                e = new Form ((Tag)page.getToken (t), null, base);
                 vLinks.addElement (e);
             }
             else if (tagName == Tag.INPUT 
-                     && (type = tag.getHTMLAttribute ("type")) != null
+                     && (type = tokens.getAttribute (t, "type")) != null
                      && (type.equalsIgnoreCase ("submit") || type.equalsIgnoreCase ("image"))) {
-                e = new FormButton (tag, null, currentForm);
+                e = new FormButton ((Tag)page.getToken (t), null, currentForm);
                 vLinks.addElement (e);
             }
-            else if (hrefAttr != null && tag.hasHTMLAttribute (hrefAttr)) {
-                e = new Link (tag, null, base);
+            else if (hrefAttr != null && tokens.hasAttribute (t, hrefAttr)) {
+                e = new Link ((Tag)page.getToken (t), null, base);
                 vLinks.addElement (e);
             }
         } catch (MalformedURLException f) {} // bad URL
@@ -994,10 +1006,10 @@ public class HTMLParser {
         return null;
     }
 
-    private Element findOpenElement (Hashtable tags) {
+    private Element findOpenElement (long[] tags) {
         for (int i=openPtr-1; i >= 0; --i) {
             Element e = (Element)elems.elementAt (openElems[i]);
-            if (tags.containsKey (e.getTagName ()))
+            if (HTMLTags.contains (tags, e.startTag.id))
                 return e;
         }
         return null;
@@ -1070,13 +1082,13 @@ public class HTMLParser {
         */
  
         System.out.println ("Tokens: ------------------------------------------");
-        Region[] tokens = page.tokens;
+        Region[] tokens = page.getTokens ();
         for (int i=0; i<tokens.length; ++i) {
             System.out.println ("[" + tokens[i].getStart() + "," + tokens[i].getEnd() + "]" + tokens[i]);
         }
 
        System.out.println ("Tags: ------------------------------------------");
-        Tag[] tags = page.tags;
+        Tag[] tags = page.getTags ();
         for (int i=0; i<tags.length; ++i) {
             Tag t = tags[i];
             System.out.print ((t.isStartTag() ? "start tag" : "end tag") + " " + t.getTagName ());
@@ -1093,7 +1105,7 @@ public class HTMLParser {
         }
 
         System.out.println ("Words: ------------------------------------------");
-        Text[] words = page.words;
+        Text[] words = page.getWords ();
         for (int i=0; i<words.length; ++i) {
             System.out.println (words[i]);
         }
@@ -1131,28 +1143,3 @@ public class HTMLParser {
         }
     }
 }
-
-class Hashtable2 extends Hashtable {
-    public Hashtable2 () {
-    }
-
-    public Hashtable2 add (Object key) {
-        put (key, key);
-        return this;
-    }
-
-    public Hashtable2 add (Object key, Object val) {
-        put (key, val);
-        return this;
-    }
-
-    public Hashtable2 union (Hashtable map) {
-        Enumeration enum = map.keys ();
-        while (enum.hasMoreElements ()) {
-            Object key = enum.nextElement ();
-            put (key, map.get (key));
-        }
-
-        return this;
-    }
-}
@@ -0,0 +1,364 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Hashtable;
+
+/**
+ * Table of known HTML tag names.  Every tag name defined in Tag gets
+ * a small integer id, found by a perfect hash over the characters of
+ * the name (so lookup needs neither toLowerCase() nor intern()), and
+ * the parser's classification of tags (empty, block-level, link tags,
+ * and so on) is kept in tables indexed by id.  Names that aren't in
+ * the table are canonicalized through a lock-striped intern pool.
+ */
+final class HTMLTags {
+
+    static final int UNKNOWN = -1;
+
+    // tag properties (bits of flags[id])
+    static final int EMPTY = 1;
+        // element has no content: e.g., IMG, BR, HR.  End tags for these
+        // elements are simply ignored.
+    static final int BLOCK = 2;
+        // element closes <P> (corresponds to "%block" entity in HTML 3.2 DTD)
+    static final int HEAD = 4;
+        // element is found in <HEAD>
+    static final int SAVETEXT = 8;
+        // element's text contents are crucial to the crawler
+    static final int FORCES_CLOSE = 16;
+        // element may force closure of an open element
+
+    // NIY: handle literal and semi-literal elements (XMP, LISTING, TEXTAREA, OPTION)
+    // elements whose content should be treated as plain text
+
+    /**
+     * Tag names, indexed by id.  Every name is lower-case and interned.
+     */
+    static final String[] NAMES = {
+        Tag.A, Tag.ABBR, Tag.ABBREV, Tag.ACRONYM, Tag.ADDRESS, Tag.APPLET,
+        Tag.AREA, Tag.B, Tag.BASE, Tag.BASEFONT, Tag.BDO, Tag.BGSOUND,
+        Tag.BIG, Tag.BLINK, Tag.BLOCKQUOTE, Tag.BODY, Tag.BR, Tag.BUTTON,
+        Tag.CAPTION, Tag.CENTER, Tag.CITE, Tag.CODE, Tag.COL, Tag.COLGROUP,
+        Tag.COMMENT, Tag.DD, Tag.DEL, Tag.DFN, Tag.DIR, Tag.DIV, Tag.DL,
+        Tag.DT, Tag.EM, Tag.EMBED, Tag.FIELDSET, Tag.FONT, Tag.FORM,
+        Tag.FRAME, Tag.FRAMESET, Tag.H1, Tag.H2, Tag.H3, Tag.H4, Tag.H5,
+        Tag.H6, Tag.HEAD, Tag.HR, Tag.HTML, Tag.I, Tag.IFRAME, Tag.IMG,
+        Tag.INPUT, Tag.INS, Tag.ISINDEX, Tag.KBD, Tag.LABEL, Tag.LEGEND,
+        Tag.LI, Tag.LINK, Tag.LISTING, Tag.MAP, Tag.MARQUEE, Tag.MENU,
+        Tag.META, Tag.NEXTID, Tag.NOBR, Tag.NOEMBED, Tag.NOFRAMES,
+        Tag.NOSCRIPT, Tag.OBJECT, Tag.OL, Tag.OPTGROUP, Tag.OPTION, Tag.P,
+        Tag.PARAM, Tag.PLAINTEXT, Tag.PRE, Tag.Q, Tag.S, Tag.SAMP,
+        Tag.SCRIPT, Tag.SELECT, Tag.SMALL, Tag.SPACER, Tag.SPAN,
+        Tag.STRIKE, Tag.STRONG, Tag.STYLE, Tag.SUB, Tag.SUP, Tag.TABLE,
+        Tag.TBODY, Tag.TD, Tag.TEXTAREA, Tag.TFOOT, Tag.TH, Tag.THEAD,
+        Tag.TITLE, Tag.TR, Tag.TT, Tag.U, Tag.UL, Tag.VAR, Tag.WBR,
+        Tag.XMP
+    };
+
+    /**
+     * Number of known tag names.  Ids run from 0 to COUNT-1.
+     */
+    static final int COUNT = NAMES.length;
+
+    private static final int[] flags = new int[COUNT];
+    private static final String[] linkAttribute = new String[COUNT];
+    private static final long[][] forcesClosed = new long[COUNT][];
+    private static final long[][] context = new long[COUNT][];
+
+    /*
+     * Perfect hash
+     *
+     * A name hashes to a slot of the table, which holds its id+1 (or 0
+     * if no known name hashes there).  SEED was chosen so that no two
+     * known names share a slot; if the name list is ever changed so
+     * that they do, the static initializer searches for a new seed.
+     */
+
+    private static final int TABLE_SIZE = 1024;  // must be a power of 2
+    private static final int SEED = 251;
+    private static int seed;
+    private static final short[] slots = new short[TABLE_SIZE];
+    private static int maxLength;
+
+    static {
+        for (seed = SEED; !buildTable (); ++seed)
+            ;
+    }
+
+    private static boolean buildTable () {
+        for (int i=0; i<TABLE_SIZE; ++i)
+            slots[i] = 0;
+        for (int id=0; id<COUNT; ++id) {
+            String name = NAMES[id];
+            int slot = hash (name, 0, name.length ());
+            if (slots[slot] != 0)
+                return false;
+            slots[slot] = (short)(id+1);
+            maxLength = Math.max (maxLength, name.length ());
+        }
+        return true;
+    }
+
+    private static int hash (String s, int start, int end) {
+        int h = seed;
+        for (int i=start; i<end; ++i)
+            h = (h ^ fold (s.charAt (i))) * 0x01000193;
+        return (h ^ (h >>> 16)) & (TABLE_SIZE-1);
+    }
+
+    // lower-cases ASCII letters only, which is all the known names use
+    private static char fold (char c) {
+        return (c >= 'A' && c <= 'Z') ? (char)(c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Look up a tag name, ignoring case.
+     * @param s String containing the name
+     * @param start starting offset of the name in s
+     * @param end ending offset of the name in s
+     * @return id of the name, or UNKNOWN if it isn't a known tag name
+     */
+    static int lookup (String s, int start, int end) {
+        int n = end - start;
+        if (n <= 0 || n > maxLength)
+            return UNKNOWN;
+        int id = slots[hash (s, start, end)] - 1;
+        if (id < 0)
+            return UNKNOWN;
+        String name = NAMES[id];
+        if (name.length () != n)
+            return UNKNOWN;
+        for (int i=0; i<n; ++i)
+            if (fold (s.charAt (start+i)) != name.charAt (i))
+                return UNKNOWN;
+        return id;
+    }
+
+    /**
+     * Look up a tag name, ignoring case.
+     * @param name tag name
+     * @return id of the name, or UNKNOWN if it isn't a known tag name
+     */
+    static int lookup (String name) {
+        return lookup (name, 0, name.length ());
+    }
+
+    /*
+     * Intern pool
+     *
+     * Maps names as they appear in pages to their lower-case, interned
+     * form, so that String.intern() is only called the first time a name
+     * is seen.  The pool is split into stripes, each with its own lock,
+     * so that crawler threads parsing pages at the same time rarely
+     * contend for it.  A stripe stops growing when it's full, so that
+     * garbage names can't fill up memory.
+     */
+
+    private static final int STRIPES = 16;  // must be a power of 2
+    private static final int MAX_STRIPE_SIZE = 1024;
+    private static final Hashtable[] pool = new Hashtable[STRIPES];
+    static {
+        for (int i=0; i<STRIPES; ++i)
+            pool[i] = new Hashtable ();
+    }
+
+    /**
+     * Convert a tag or attribute name to its lower-case,
+     * String.intern()'ed form.
+     * @param name Name to convert (e.g., "P")
+     * @return canonical name (e.g. "p")
+     */
+    static String canonicalize (String name) {
+        int id = lookup (name, 0, name.length ());
+        if (id != UNKNOWN)
+            return NAMES[id];
+
+        Hashtable stripe = pool[name.hashCode () & (STRIPES-1)];
+        String s = (String)stripe.get (name);
+        if (s == null) {
+            s = name.toLowerCase ().intern ();
+            if (stripe.size () < MAX_STRIPE_SIZE)
+                stripe.put (name, s);
+        }
+        return s;
+    }
+
+    /*
+     * Tag properties
+     */
+
+    static {
+        set (EMPTY, new String[] {
+            Tag.AREA, Tag.BASE, Tag.BASEFONT, Tag.BGSOUND, Tag.BR, Tag.COL,
+            Tag.COLGROUP,
+            Tag.COMMENT, // actually <!-- ... -->
+            Tag.HR, Tag.IMG, Tag.INPUT, Tag.ISINDEX, Tag.LINK, Tag.META,
+            Tag.NEXTID, Tag.PARAM, Tag.SPACER, Tag.WBR
+        });
+
+        set (BLOCK, new String[] {
+            Tag.P, Tag.UL, Tag.OL, Tag.DIR, Tag.MENU, Tag.PRE, Tag.XMP,
+            Tag.LISTING, Tag.DL, Tag.DIV, Tag.CENTER, Tag.BLOCKQUOTE,
+            Tag.FORM, Tag.ISINDEX, Tag.HR, Tag.TABLE, Tag.H1, Tag.H2,
+            Tag.H3, Tag.H4, Tag.H5, Tag.H6, Tag.ADDRESS
+        });
+
+        set (HEAD, new String[] {
+            Tag.META, Tag.TITLE, Tag.BASE, Tag.LINK, Tag.ISINDEX
+        });
+
+        set (SAVETEXT, new String[] {
+            Tag.A, Tag.TITLE
+        });
+
+        // link elements and their URL attribute (e.g., A maps to HREF)
+        link (Tag.A, "href");
+        link (Tag.AREA, "href");
+        link (Tag.APPLET, "code");
+        link (Tag.EMBED, "src");
+        link (Tag.FRAME, "src");
+        link (Tag.FORM, "action");
+        link (Tag.IMG, "src");
+        link (Tag.LINK, "href");
+        link (Tag.SCRIPT, "src");
+
+        // elements which force closure, and the elements that they close:
+        // e.g., LI closes LI, DT closes DD,DT, and all block-level tags
+        // close P.
+        closes (Tag.DD, new String[] { Tag.DD, Tag.DT });
+        closes (Tag.DT, new String[] { Tag.DD, Tag.DT });
+        closes (Tag.LI, new String[] { Tag.LI });
+        closes (Tag.OPTION, new String[] { Tag.OPTION });
+        closes (Tag.TR, new String[] { Tag.TR });
+        closes (Tag.TD, new String[] { Tag.TD, Tag.TH });
+        closes (Tag.TH, new String[] { Tag.TD, Tag.TH });
+        for (int id=0; id<COUNT; ++id)
+            if ((flags[id] & BLOCK) != 0)
+                closes (NAMES[id], new String[] { Tag.P });
+
+        // possible containers of the elements that force closure.
+        // For instance, LI's context is OL, UL, MENU, DIR (plus LI
+        // itself, since every element's context includes the elements
+        // it closes).  When a tag like LI is encountered, the parser
+        // looks upward for the first context tag.  Having the tag's
+        // container element included in the search ensures that LI
+        // in a nested list won't close its parent LI.
+        context (Tag.DD, new String[] { Tag.DL });
+        context (Tag.DT, new String[] { Tag.DL });
+        context (Tag.LI, new String[] { Tag.OL, Tag.UL, Tag.MENU, Tag.DIR });
+        context (Tag.OPTION, new String[] { Tag.SELECT });
+        context (Tag.TR, new String[] { Tag.TABLE });
+        context (Tag.TD, new String[] { Tag.TR, Tag.TABLE });
+        context (Tag.TH, new String[] { Tag.TR, Tag.TABLE });
+    }
+
+    private static void set (int flag, String[] names) {
+        for (int i=0; i<names.length; ++i)
+            flags[lookup (names[i])] |= flag;
+    }
+
+    private static void link (String name, String attr) {
+        linkAttribute[lookup (name)] = attr;
+    }
+
+    private static void closes (String name, String[] names) {
+        int id = lookup (name);
+        flags[id] |= FORCES_CLOSE;
+        forcesClosed[id] = union (forcesClosed[id], names);
+        context[id] = union (context[id], names);
+    }
+
+    private static void context (String name, String[] names) {
+        int id = lookup (name);
+        context[id] = union (context[id], names);
+    }
+
+    private static long[] union (long[] set, String[] names) {
+        if (set == null)
+            set = new long[(COUNT + 63) / 64];
+        for (int i=0; i<names.length; ++i) {
+            int id = lookup (names[i]);
+            set[id >> 6] |= 1L << (id & 63);
+        }
+        return set;
+    }
+
+    /**
+     * Get the properties of a tag.
+     * @param id tag id, or UNKNOWN
+     * @return bitwise OR of EMPTY, BLOCK, HEAD, SAVETEXT, and FORCES_CLOSE
+     * (0 for unknown tags)
+     */
+    static int getFlags (int id) {
+        return id != UNKNOWN ? flags[id] : 0;
+    }
+
+    /**
+     * Get the URL attribute of a link tag.
+     * @param id tag id, or UNKNOWN
+     * @return name of the attribute (e.g., "href" for A), or null if
+     * the tag isn't a link tag
+     */
+    static String getLinkAttribute (int id) {
+        return id != UNKNOWN ? linkAttribute[id] : null;
+    }
+
+    /**
+     * Get the tags whose open elements a tag closes.
+     * @param id id of a tag with the FORCES_CLOSE property
+     * @return set of tag ids, to be tested with contains()
+     */
+    static long[] getForcesClosed (int id) {
+        return forcesClosed[id];
+    }
+
+    /**
+     * Get the tags at which to stop looking for an open element to close.
+     * Includes getForcesClosed(id).
+     * @param id id of a tag with the FORCES_CLOSE property
+     * @return set of tag ids, to be tested with contains()
+     */
+    static long[] getContext (int id) {
+        return context[id];
+    }
+
+    /**
+     * Test if a tag is in a set of tags.
+     * @param set set returned by getForcesClosed() or getContext()
+     * @param id tag id, or UNKNOWN
+     */
+    static boolean contains (long[] set, int id) {
+        return id != UNKNOWN && (set[id >> 6] & (1L << (id & 63))) != 0;
+    }
+}
@@ -36,6 +36,7 @@ import java.io.File;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.io.IOException;
+import java.nio.charset.Charset;
 //#ifdef JDK1.1 
 import java.io.Writer;
 import java.io.OutputStreamWriter;
@@ -70,6 +71,15 @@ public class HTMLTransformer {
                                     //    has been emit()ed but not actually
                                     //    written)
     private int transformEnd;       // end of region being transformed
+    private Charset charset = DEFAULT_CHARSET;
+                                    // encoding of the output: the charset
+                                    //   of the page being written
+
+    /**
+     * Charset used to write pages that weren't decoded from bytes
+     * (see Page.getCharset()), and text written before any page.
+     */
+    public static final Charset DEFAULT_CHARSET = Charset.forName ("UTF-8");
     
     /**
      * Make an HTMLTransformer that writes pages to a
@@ -82,6 +92,20 @@ public class HTMLTransformer {
         setOutput (out);
     }
 
+//#ifdef JDK1.1
+    /**
+     * Make an HTMLTransformer that writes HTML to a
+     * character stream.  Binary pages can't be written
+     * to it.
+     * @param out Writer to receive HTML output
+     */
+    public HTMLTransformer (Writer out) {
+        head = tail = this;
+        next = null;
+        writer = out;
+    }
+//#endif JDK1.1
+
     /**
      * Make an HTMLTransformer that writes pages to a
      * file.
@@ -142,7 +166,7 @@ public class HTMLTransformer {
     public void setOutput (OutputStream out) {
         if (next == null) {
             stream = out;
-            writer = new OutputStreamWriter (out);
+            writer = new OutputStreamWriter (out, charset);
         } else
             next.setOutput (out);
     }
@@ -187,6 +211,37 @@ public class HTMLTransformer {
         return tail.readwrite;
     }
 
+    /**
+     * Get the charset in which output is currently encoded.  Each page
+     * is written in the charset it was decoded with, so that the output
+     * matches the page's own declaration (such as its &lt;META charset&gt;).
+     * Output to a Writer is left for the Writer to encode.
+     * @return charset of the page being written, or of the last page
+     * written
+     */
+    public Charset getOutputCharset () {
+        return tail.charset;
+    }
+
+    // Switch the output to the charset of a page.  Called on the tail,
+    // with nothing pending.
+    private void setOutputCharset (String name) throws IOException {
+        Charset cs = DEFAULT_CHARSET;
+        if (name != null)
+            try {
+                cs = Charset.forName (name);
+            } catch (IllegalArgumentException e) {
+                // unknown or illegal name: keep the default
+            }
+        if (cs.equals (charset))
+            return;
+        if (stream != null && writer != null) {
+            writer.flush ();
+            writer = new OutputStreamWriter (stream, cs);
+        }
+        charset = cs;
+    }
+
     /**
      * Writes a literal string through the HTML transformer
      * (without parsing it or transforming it).
@@ -211,7 +266,9 @@ public class HTMLTransformer {
             int oldEmitStart = emitStart;
             int oldEmitEnd = emitEnd;
             int oldTransformEnd = transformEnd;
+            Charset oldCharset = charset;
             
+            setOutputCharset (region.getSource().getCharset ());
             content = region.getSource().getContent ();
             emitStart = emitEnd = region.getStart ();
             transformEnd = region.getEnd ();
@@ -226,6 +283,7 @@ public class HTMLTransformer {
             emitStart = oldEmitStart;
             emitEnd = oldEmitEnd;
             transformEnd = oldTransformEnd;
+            setOutputCharset (oldCharset.name ());
         }
         else
             next.write (region);
@@ -241,8 +299,8 @@ public class HTMLTransformer {
                 write (page);
             else {
                 System.err.println ("binary write of " + page.getURL ());
-                writeStream (page.getContentBytes (),
-                             0, page.getLength ());
+                byte[] bytes = page.getContentBytes ();
+                writeStream (bytes, 0, bytes.length);
             }
         }
         else
@@ -436,7 +494,7 @@ public class HTMLTransformer {
             #endif JDK1.0*/
         }
         else
-            readwrite.writeBytes (s);
+            readwrite.write (s.getBytes (charset));
     }
 
     private void writeStream (byte[] buf, int offset, int len) throws IOException {
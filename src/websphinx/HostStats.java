@@ -0,0 +1,111 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+/**
+ * Statistics about the pages fetched from one web site, as collected 
+ * by CrawlMetrics.
+ */
+public class HostStats {
+    String host;
+    long pages;
+    long bytes;
+    long errors;
+    long time;      // nanoseconds spent fetching
+    long overcount; // pages that may belong to hosts this entry replaced
+
+    HostStats (String host) {
+        this.host = host;
+    }
+
+    HostStats (HostStats s) {
+        host = s.host;
+        pages = s.pages;
+        bytes = s.bytes;
+        errors = s.errors;
+        time = s.time;
+        overcount = s.overcount;
+    }
+
+    /**
+     * Get the web site, as host:port (or just host for the default port).
+     */
+    public String getHost () {
+        return host;
+    }
+
+    /**
+     * Get the number of pages fetched (or that failed) from this site.
+     * If the site was tracked only part of the time, this may be too 
+     * high by as much as getOvercount().
+     */
+    public long getPages () {
+        return pages;
+    }
+
+    /**
+     * Get the number of bytes downloaded from this site.
+     */
+    public long getBytes () {
+        return bytes;
+    }
+
+    /**
+     * Get the number of pages from this site that failed.
+     */
+    public long getErrors () {
+        return errors;
+    }
+
+    /**
+     * Get the total time spent fetching pages from this site.
+     * @return time in nanoseconds
+     */
+    public long getTime () {
+        return time;
+    }
+
+    /**
+     * Get the largest amount by which getPages() may be too high.  It's
+     * 0 unless the site started being tracked after some other site was
+     * dropped to make room for it.
+     */
+    public long getOvercount () {
+        return overcount;
+    }
+
+    public String toString () {
+        return host + " pages=" + pages + " bytes=" + bytes 
+            + " errors=" + errors + " ms=" + time / 1000000;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Hashtable;
+
+/**
+ * Global registry of label names.  The first 64 names that are set
+ * without a value (like "hyperlink" or "remote") are given small ids,
+ * and a Region stores such labels as bits of a long instead of as
+ * entries in its own Hashtable.  A list of names compiles to a mask,
+ * so Region.hasAnyLabels (String[]) is a single AND.  Names set after
+ * the registry is full, and labels with other values, are kept in the
+ * region's Hashtable as before.
+ */
+final class LabelRegistry {
+
+    static final int MAX_IDS = 64;
+
+    private static Hashtable ids = new Hashtable ();
+        // maps label name to Integer id
+    private static String[] names = new String[MAX_IDS];
+        // maps id to label name
+    private static int nIds = 0;
+
+    // The labels set by StandardClassifier, which Crawler tests on
+    // every link, always get ids.
+    static {
+        String[] standard = {
+            "root", "local", "same-page", "sibling", "descendent",
+            "ancestor", "remote", "image", "code", "form", "hyperlink"
+        };
+        for (int i=0; i<standard.length; ++i)
+            register (standard[i]);
+    }
+
+    /**
+     * Get the id of a label name, giving it one if there is room.
+     * @return id, or -1 if the registry is full
+     */
+    static int register (String name) {
+        Integer id = (Integer)ids.get (name);
+        if (id != null)
+            return id.intValue ();
+        synchronized (ids) {
+            id = (Integer)ids.get (name);
+            if (id != null)
+                return id.intValue ();
+            if (nIds == MAX_IDS)
+                return -1;
+            names[nIds] = name;
+            ids.put (name, new Integer (nIds));
+            return nIds++;
+        }
+    }
+
+    /**
+     * Get the id of a label name without registering it.
+     * @return id, or -1 if the name has none
+     */
+    static int lookup (String name) {
+        Integer id = (Integer)ids.get (name);
+        return id != null ? id.intValue () : -1;
+    }
+
+    static String getName (int id) {
+        return names[id];
+    }
+
+    /**
+     * Compiled form of a list of label names.
+     */
+    static final class Mask {
+        final String[] labels;  // copy of the names, to detect changes
+        final long bits;        // bits of the names that have ids
+        final boolean complete; // true if every name has an id
+
+        Mask (String[] labels) {
+            String[] copy = new String[labels.length];
+            long bits = 0;
+            boolean complete = true;
+            for (int i=0; i<labels.length; ++i) {
+                copy[i] = labels[i];
+                int id = register (labels[i]);
+                if (id == -1)
+                    complete = false;
+                else
+                    bits |= 1L << id;
+            }
+            this.labels = copy;
+            this.bits = bits;
+            this.complete = complete;
+        }
+
+        boolean isFor (String[] labels) {
+            if (labels.length != this.labels.length)
+                return false;
+            for (int i=0; i<labels.length; ++i)
+                if (labels[i] != this.labels[i])
+                    return false;
+            return true;
+        }
+    }
+
+    // Masks of recently tested arrays, indexed by the array's identity
+    // hash.  Masks are immutable, so threads may share them without
+    // locking; a collision just compiles the mask again.
+    private static final Mask[] masks = new Mask[64];
+
+    /**
+     * Get the mask for a list of label names.
+     */
+    static Mask getMask (String[] labels) {
+        int h = System.identityHashCode (labels) & (masks.length - 1);
+        Mask mask = masks[h];
+        if (mask == null || !mask.isFor (labels)) {
+            mask = new Mask (labels);
+            masks[h] = mask;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations, in nanoseconds, with bounded relative error.
+ * Values below 64 ns are counted exactly; above that, each power of two
+ * is split into 32 buckets, so any percentile is accurate to within about
+ * 3%, from nanoseconds to centuries, in a fixed 15KB.  Recording a value
+ * takes a few atomic increments and never blocks, so many threads can
+ * record into one histogram.
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;          // 32 buckets per power of two
+    static final int LINEAR = SUB_BUCKETS * 2;             // values below 64 counted exactly
+    static final int BUCKETS = LINEAR + (63 - (SUB_BITS + 1)) * SUB_BUCKETS;
+
+    AtomicLongArray counts = new AtomicLongArray (BUCKETS);
+    AtomicLong count = new AtomicLong ();
+    AtomicLong sum = new AtomicLong ();
+    AtomicLong max = new AtomicLong ();
+
+    /**
+     * Make an empty histogram.
+     */
+    public LatencyHistogram () {
+    }
+
+    /**
+     * Record a duration.
+     * @param nanos duration in nanoseconds (negative values count as 0)
+     */
+    public void record (long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        counts.incrementAndGet (bucket (nanos));
+        count.incrementAndGet ();
+        sum.addAndGet (nanos);
+        long m;
+        while (nanos > (m = max.get ()) && !max.compareAndSet (m, nanos))
+            ;
+    }
+
+    static int bucket (long v) {
+        if (v < LINEAR)
+            return (int)v;
+        int exp = 63 - Long.numberOfLeadingZeros (v);
+        return LINEAR + (exp - (SUB_BITS + 1)) * SUB_BUCKETS
+            + (int)((v >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    // smallest value that falls in bucket i
+    static long lowest (int i) {
+        if (i < LINEAR)
+            return i;
+        int exp = (i - LINEAR) / SUB_BUCKETS + SUB_BITS + 1;
+        long mantissa = SUB_BUCKETS + (i - LINEAR) % SUB_BUCKETS;
+        return mantissa << (exp - SUB_BITS);
+    }
+
+    // largest value that falls in bucket i
+    static long highest (int i) {
+        return i + 1 < BUCKETS ? lowest (i + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Get the number of durations recorded.
+     */
+    public long getCount () {
+        return count.get ();
+    }
+
+    /**
+     * Get the total of the durations recorded.
+     * @return total in nanoseconds
+     */
+    public long getTotal () {
+        return sum.get ();
+    }
+
+    /**
+     * Get the mean duration.
+     * @return mean in nanoseconds, or 0 if nothing has been recorded
+     */
+    public double getMean () {
+        long n = count.get ();
+        return n > 0 ? (double)sum.get () / n : 0;
+    }
+
+    /**
+     * Get the longest duration recorded.
+     * @return maximum in nanoseconds
+     */
+    public long getMax () {
+        return max.get ();
+    }
+
+    /**
+     * Get a percentile of the durations recorded.
+     * @param percent percentile to get, from 0 to 100
+     * @return duration in nanoseconds (within about 3%) that percent of
+     * the recorded durations are no longer than, or 0 if nothing has been
+     * recorded
+     */
+    public long getPercentile (double percent) {
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int i=0; i<BUCKETS; ++i)
+            n += (snapshot[i] = counts.get (i));
+        if (n == 0)
+            return 0;
+
+        long rank = (long)Math.ceil (Math.max (0, Math.min (100, percent)) / 100 * n);
+        if (rank < 1)
+            rank = 1;
+        if (rank == n)
+            return max.get ();
+        long seen = 0;
+        for (int i=0; i<BUCKETS; ++i) {
+            seen += snapshot[i];
+            if (seen >= rank)
+                // middle of the bucket, but never more than the maximum
+                return Math.min (lowest (i) + (highest (i) - lowest (i)) / 2, 
+                                 max.get ());
+        }
+        return max.get ();
+    }
+
+    /**
+     * Forget all recorded durations.
+     */
+    public void reset () {
+        for (int i=0; i<BUCKETS; ++i)
+            counts.set (i, 0);
+        count.set (0);
+        sum.set (0);
+        max.set (0);
+    }
+}
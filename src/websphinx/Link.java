@@ -59,6 +59,9 @@ public class Link extends Element implements Prioritized {
     private float priority;
     private DownloadParameters dp;  
         // timeouts, etc. to use when downloading this link
+    long queuedTime;
+        // when the link was submitted to a crawler collecting metrics 
+        // (System.nanoTime)
 
     /**
      * Make a Link from a start tag and end tag and a base URL (for relative references).  
@@ -576,7 +579,7 @@ public class Link extends Element implements Prioritized {
     }
     
     private static String getHrefAttributeName (Tag tag) {
-        return (String)HTMLParser.linktag.get (tag.getTagName ());
+        return HTMLTags.getLinkAttribute (tag.id);
     }
 
     /**
@@ -88,6 +88,16 @@ public class LinkTransformer extends HTMLTransformer {
         super (out);
     }
 
+//#ifdef JDK1.1
+    /**
+     * Make a LinkTransformer writing to a character stream.
+     * @param out writer to write to
+     */
+    public LinkTransformer (Writer out) {
+        super (out);
+    }
+//#endif JDK1.1
+
     /**
      * Make a LinkTransformer writing to another HTMLTransformer
      * @param next next transformer in filter chain
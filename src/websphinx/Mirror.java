@@ -36,12 +36,21 @@ import java.io.*;
 import java.net.URL;
 import java.net.MalformedURLException;
 import java.util.Vector;
+import java.util.Hashtable;
+import java.util.Enumeration;
 
 /**
  * Offline mirror of a Web site.  Web pages written to
  * a mirror are stored as files on the local disk in a directory
  * structure mirroring their URLs.
  * <P>
+ * Pages may be written by several threads at once; each file is
+ * locked only while it is being written.  Links to pages that
+ * haven't been stored yet are written as remote URLs, and their
+ * locations are saved in a small index file for each page.  When
+ * one of those pages is stored later, the files that link to it are
+ * marked, and rewrite() fixes up just those files, several at a
+ * time.
  */
  
 // FIX: discards ALL anchors (for some reason)
@@ -49,11 +58,17 @@ public class Mirror extends LinkTransformer {
     String root;
         // Root directory represented as file:/<dir>/
         
-    Vector files = new Vector ();
-        // collection of RewritableLinkTransformers, one for each
-        // file in the mirror
+    Hashtable files = new Hashtable ();
+        // maps each local File in the mirror to its MirrorFile
+    Hashtable dependents = new Hashtable ();
+        // maps each URL that isn't mapped yet to a Vector of the
+        // MirrorFiles with links to it
+    Vector dirty = new Vector ();
+        // MirrorFiles with links whose URLs have been mapped since
+        // the file was written or rewritten
+    int pageCount = 0;
 
-    boolean needRewrite = false;
+    int rewriteThreads = 4;
 
     String defaultFilename = "index.html";
         // name given to a directory URL (like http://foo.com/)
@@ -102,7 +117,23 @@ public class Mirror extends LinkTransformer {
      * @return number of calls to writePage() on this mirror
      */
     public synchronized int getPageCount () {
-        return files.size ();
+        return pageCount;
+    }
+
+    /**
+     * Get the number of threads used by rewrite().
+     * @return number of files rewritten at once.  Default is 4.
+     */
+    public int getRewriteThreads () {
+        return rewriteThreads;
+    }
+
+    /**
+     * Set the number of threads used by rewrite().
+     * @param threads number of files to rewrite at once
+     */
+    public synchronized void setRewriteThreads (int threads) {
+        rewriteThreads = Math.max (threads, 1);
     }
 
     public void write (Region region) throws IOException {
@@ -119,46 +150,128 @@ public class Mirror extends LinkTransformer {
      * copies of any pages already stored to this mirror.
      * @param page Page to write
      */
-    public synchronized void writePage (Page page) throws IOException {
+    public void writePage (Page page) throws IOException {
         URL url = page.getURL ();        
-        String local = toLocalFileURL (url);
-        URL localURL = new URL (local);
-        File localFile = Link.URLToFile (localURL);        
+        URL localURL;
+        File localFile;
+        MirrorFile mf;
+        synchronized (this) {
+            localURL = new URL (toLocalFileURL (url));
+            localFile = Link.URLToFile (localURL);
+            mf = (MirrorFile)files.get (localFile);
+            if (mf == null) {
+                mf = new MirrorFile (localFile, localURL);
+                files.put (localFile, mf);
+            }
+            ++pageCount;
+        }
 
         File parent = new File (localFile.getParent ());
         if (parent != null)
             Access.getAccess ().makeDir (parent);
 
-        MirrorTransformer out = new MirrorTransformer (this, localFile);
-        out.setBase (localURL);
-        out.setEmitBaseElement (getEmitBaseElement ());
-        out.writePage (page);
-        out.close ();
-        
-        needRewrite = !files.isEmpty ();
-        files.addElement (out);
+        synchronized (mf) {
+            MirrorTransformer out = new MirrorTransformer (this, localFile);
+            out.setBase (localURL);
+            out.setEmitBaseElement (getEmitBaseElement ());
+            out.writePage (page);
+            out.close ();
+            mf.saveLinks (out);
+            addDependent (mf, out.getRewritableURLs ());
+        }
+    }
+
+    // Record that a file links to some URLs which weren't mapped when
+    // it was written.
+    private synchronized void addDependent (MirrorFile mf, URL[] urls) {
+        for (int i=0; i<urls.length; ++i) {
+            if (isMapped (urls[i])) {
+                // mapped since the link was written
+                markDirty (mf);
+                continue;
+            }
+            Vector v = (Vector)dependents.get (urls[i]);
+            if (v == null) {
+                v = new Vector ();
+                dependents.put (urls[i], v);
+            }
+            if (!v.contains (mf))
+                v.addElement (mf);
+        }
+    }
+
+    private void markDirty (MirrorFile mf) {
+        if (!mf.dirty) {
+            mf.dirty = true;
+            dirty.addElement (mf);
+        }
+    }
+
+    public synchronized void map (URL url, String href) {
+        super.map (url, href);
+        changed (url);
+    }
+
+    public synchronized void map (URL url, URL newURL) {
+        super.map (url, newURL);
+        changed (url);
+    }
+
+    // Mark the files with links to a URL whose mapping has changed.
+    private void changed (URL url) {
+        Vector v = (Vector)dependents.remove (url);
+        if (v != null)
+            for (int i=0; i<v.size (); ++i)
+                markDirty ((MirrorFile)v.elementAt (i));
     }
 
     /**
      * Close the mirror.  Makes sure that links point to local versions of
-     * pages wherever possible.
+     * pages wherever possible, and deletes the mirror's link indexes.
+     * Don't write to the mirror after closing it.
      */
-    public synchronized void close () throws IOException {
+    public void close () throws IOException {
         rewrite ();
+        synchronized (this) {
+            for (Enumeration e = files.elements (); e.hasMoreElements (); )
+                ((MirrorFile)e.nextElement ()).deleteLinks ();
+            files.clear ();
+            dependents.clear ();
+        }
     }
 
     /**
-     * Rewrite the mirror to make local links consistent.
+     * Rewrite the mirror to make local links consistent.  Only files
+     * with links to pages stored since they were last written or
+     * rewritten are changed.
      */
-    public synchronized void rewrite () throws IOException {
-        if (needRewrite) {
-            for (int i=0, n = files.size (); i < n; ++i) {
-                RewritableLinkTransformer r = 
-                    (RewritableLinkTransformer)files.elementAt (i);
-                r.rewrite ();
-            }
-            needRewrite = false;
+    public void rewrite () throws IOException {
+        Vector work;
+        int nThreads;
+        synchronized (this) {
+            work = dirty;
+            dirty = new Vector ();
+            for (int i=0; i<work.size (); ++i)
+                ((MirrorFile)work.elementAt (i)).dirty = false;
+            nThreads = Math.min (rewriteThreads, work.size ());
         }
+        if (nThreads == 0)
+            return;
+
+        MirrorRewriter[] rewriters = new MirrorRewriter[nThreads];
+        for (int i=0; i<nThreads; ++i)
+            rewriters[i] = new MirrorRewriter (this, work);
+        for (int i=1; i<nThreads; ++i)
+            rewriters[i].start ();
+        rewriters[0].run ();
+        for (int i=1; i<nThreads; ++i)
+            try {
+                rewriters[i].join ();
+            } catch (InterruptedException e) {}
+
+        for (int i=0; i<nThreads; ++i)
+            if (rewriters[i].exception != null)
+                throw rewriters[i].exception;
     }
     
     // maps a remote URL to a local file URL ("<root>/<host>/<filename>")
@@ -303,6 +416,19 @@ class MirrorTransformer extends RewritableLinkTransformer {
         super (file.toString());
         this.mirror = mirror;
     }
+
+    // Make a transformer to rewrite a file already in the mirror.
+    MirrorTransformer (Mirror mirror, File file, DataInputStream links) 
+            throws IOException {
+        super (file);
+        this.mirror = mirror;
+        loadLinks (links);
+    }
+
+    // Links to pages already in the mirror won't change again.
+    protected boolean isRewritable (URL url) {
+        return !mirror.isMapped (url);
+    }
     
     public String lookup (URL base, URL url) {
         return mirror.lookup (base, url);
@@ -321,3 +447,96 @@ class MirrorTransformer extends RewritableLinkTransformer {
     }
 }
     
+
+/**
+ * A file in a Mirror, with the index of its links that may need
+ * rewriting.
+ */
+class MirrorFile {
+    File file;
+    URL base;
+    File links;
+        // temporary file holding the locations of the links (see
+        // RewritableLinkTransformer.saveLinks()), or null if none
+    boolean dirty;
+        // true if queued for rewriting (guarded by the Mirror)
+
+    MirrorFile (File file, URL base) {
+        this.file = file;
+        this.base = base;
+    }
+
+    synchronized void saveLinks (RewritableLinkTransformer out) 
+            throws IOException {
+        if (out.getRewritableURLs ().length == 0) {
+            deleteLinks ();
+            return;
+        }
+        if (links == null)
+            links = Access.getAccess ().makeTemporaryFile ("mirror", ".links");
+        DataOutputStream stream = new DataOutputStream (
+            new BufferedOutputStream (Access.getAccess ().writeFile (links, false)));
+        try {
+            out.saveLinks (stream);
+        } finally {
+            stream.close ();
+        }
+    }
+
+    synchronized void deleteLinks () {
+        if (links != null)
+            links.delete ();
+        links = null;
+    }
+
+    synchronized void rewrite (Mirror mirror) throws IOException {
+        if (links == null)
+            return;
+        DataInputStream stream = new DataInputStream (
+            new BufferedInputStream (Access.getAccess ().readFile (links)));
+        MirrorTransformer out;
+        try {
+            out = new MirrorTransformer (mirror, file, stream);
+        } finally {
+            stream.close ();
+        }
+        out.setBase (base);
+        out.rewrite ();
+        saveLinks (out);
+    }
+}
+
+/**
+ * Thread that rewrites files of a Mirror, taking them from a queue
+ * shared with other MirrorRewriters.
+ */
+class MirrorRewriter extends Thread {
+    Mirror mirror;
+    Vector work;
+    IOException exception;
+        // first exception thrown by a rewrite, if any
+
+    MirrorRewriter (Mirror mirror, Vector work) {
+        super ("Mirror rewriter");
+        this.mirror = mirror;
+        this.work = work;
+    }
+
+    public void run () {
+        while (true) {
+            MirrorFile mf;
+            synchronized (work) {
+                if (work.isEmpty ())
+                    return;
+                mf = (MirrorFile)work.elementAt (work.size () - 1);
+                work.removeElementAt (work.size () - 1);
+            }
+            try {
+                mf.rewrite (mirror);
+            } catch (IOException e) {
+                if (exception == null)
+                    exception = e;
+            }
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.net.HttpURLConnection;
 //#endif JDK1.1
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Vector;
 import rcm.util.Str;
 
 /**
@@ -57,8 +58,17 @@ public class Page extends Region {
     long expiration = 0;
     String contentType;
     String contentEncoding;
+    String[] headerKeys;
+    String[] headerValues;
+        // response headers, as returned by the URLConnection
+    String charset;
     int responseCode = -1;
     String responseMessage = null;
+    long connectTime;
+    long firstByteTime;
+    long downloadTime;
+    long parseTime;
+        // how long each stage of downloading took, in nanoseconds
     URL base;
     String title;
     Link[] links;
@@ -71,8 +81,14 @@ public class Page extends Region {
     // Discardable content (thrown away when contentLock falls to 0)
     byte[] contentBytes;
     String content;
+    TokenTable tokenTable;
     Region[] tokens;
+        // Region objects made so far from tokenTable (null entries 
+        // haven't been made yet)
+    boolean allTokens;
+        // true if every entry of tokens has been made
     Text[] words;
+    PageText text;
     Tag[] tags;
     Element[] elements;
     Element root;
@@ -101,11 +117,27 @@ public class Page extends Region {
      * @param parser HTML parser to use
      */
     public Page (Link link, DownloadParameters dp, HTMLParser parser) throws IOException {
+        this (link, dp, parser, new PageDecoder ());
+    }
+
+    // Used by crawler threads, which keep their own decoder.
+    Page (Link link, DownloadParameters dp, HTMLParser parser, PageDecoder decoder) throws IOException {
+        super (null, 0, 0);
+        source = this;
+        origin = link;
+        base = getURL ();
+        download (dp, parser, decoder);
+        link.setPage (this);
+    }
+
+    // Used to make a page from a response that was saved earlier (see
+    // WarcReader).
+    Page (Link link, URLConnection conn, HTMLParser parser) throws IOException {
         super (null, 0, 0);
         source = this;
         origin = link;
         base = getURL ();
-        download (dp, parser);
+        download (conn, DownloadParameters.NO_LIMITS, parser, new PageDecoder ());
         link.setPage (this);
     }
 
@@ -152,14 +184,17 @@ public class Page extends Region {
     /**
      * Make a Page from a byte array of content.  The content is not parsed. 
      * The created page has no originating link, so calls to getURL(), getProtocol(), etc. will fail.
+     * The content is decoded using the charset declared by its byte order mark or 
+     * &lt;META&gt; tag, if any.
      * @param content byte content of the page */
     public Page (byte[] content) {
-        super (null, 0, content.length);
+        super (null, 0, 0);
         // FIX: don't think base==null will work
         source = this;
         this.contentBytes = new byte[content.length];
         System.arraycopy (content, 0, this.contentBytes, 0, content.length);
-        this.content = new String (content);
+        this.content = new PageDecoder ().decode (this, this.contentBytes, null);
+        end = this.content.length ();
         contentLock = -1;
     }
 
@@ -185,17 +220,42 @@ public class Page extends Region {
      * @exception IOException if an error occurs in downloading the page
      */
     public void download (DownloadParameters dp, HTMLParser parser) throws IOException {
-        URLConnection conn = 
-            Access.getAccess ().openConnection (origin);
-        
+        download (dp, parser, new PageDecoder ());
+    }
+
+    void download (DownloadParameters dp, HTMLParser parser, PageDecoder decoder) throws IOException {
+        long t = System.nanoTime ();
+        URLConnection conn = Access.getAccess ().openConnection (origin);
+        connectTime = System.nanoTime () - t;
+        download (conn, dp, parser, decoder);
+    }
+
+    void download (URLConnection conn, DownloadParameters dp, HTMLParser parser, PageDecoder decoder) throws IOException {
         // fetch and store final redirected URL and response headers
+        long t = System.nanoTime ();
         InputStream in = conn.getInputStream ();
+        firstByteTime = System.nanoTime () - t;
+        t += firstByteTime;
         base = conn.getURL ();
         lastModified = conn.getLastModified ();
         expiration = conn.getExpiration ();
         contentType = conn.getContentType ();
         contentEncoding = conn.getContentEncoding ();
 
+        Vector keys = new Vector ();
+        Vector values = new Vector ();
+        for (int i=0; ; ++i) {
+            String value = conn.getHeaderField (i);
+            if (value == null)
+                break;
+            keys.addElement (conn.getHeaderFieldKey (i));
+            values.addElement (value);
+        }
+        headerKeys = new String[keys.size ()];
+        keys.copyInto (headerKeys);
+        headerValues = new String[values.size ()];
+        values.copyInto (headerValues);
+
 //#ifdef JDK1.1 
         // get HTTP response codes
         if (conn instanceof HttpURLConnection) {
@@ -258,16 +318,20 @@ public class Page extends Region {
         }
  
         contentBytes = buf;
-        content = new String (buf);
+        content = decoder.decode (this, buf, contentType);
         start = 0;
-        end = total;
+        end = content.length ();
         contentLock = 1;
+        long now = System.nanoTime ();
+        downloadTime = now - t;
 
         //  parse the response
         if (contentType == null
             || contentType.startsWith ("text/html") 
-            || contentType.startsWith ("content/unknown"))
-            parse (parser);
+            || contentType.startsWith ("content/unknown")) {
+            parse (parser, dp.getParseLinksOnly ());
+            parseTime = System.nanoTime () - now;
+        }
     }
 
     void downloadSafely () {
@@ -287,10 +351,17 @@ public class Page extends Region {
      * @exception RuntimeException if an error occurs in downloading the page
      */
     public void parse (HTMLParser parser) {
+        parse (parser, false);
+    }
+
+    private void parse (HTMLParser parser, boolean linksOnly) {
         if (!hasContent())
             downloadSafely ();
         try {
-            parser.parse (this);
+            if (linksOnly)
+                parser.parseLinks (this);
+            else
+                parser.parse (this);
         } catch (IOException e) {
             throw new RuntimeException (e.toString());
         }
@@ -302,7 +373,7 @@ public class Page extends Region {
      * @return true if page was parsed, false if not
      */
     public boolean isParsed () {
-        return tokens != null;
+        return tokenTable != null;
     }
 
     /**
@@ -310,7 +381,8 @@ public class Page extends Region {
      * @return true if page is HTML.
      */
     public boolean isHTML () {
-        return root != null;
+        TokenTable table = tokenTable;
+        return table != null && table.nStartTags > 0;
     }
 
     /**
@@ -383,9 +455,12 @@ public class Page extends Region {
         //System.err.println ("discarding content of " + toDescription());
         contentBytes = null;
         content = null;
+        tokenTable = null;
         tokens = null;
+        allTokens = false;
         tags = null;
         words = null;
+        text = null;
         elements = null;
         root = null;
         canonicalTags = null;
@@ -490,7 +565,7 @@ public class Page extends Region {
     public Region[] getTokens() {
         if (!hasContent ())
             downloadSafely ();
-        return tokens;
+        return makeTokens ();
     }
 
     /**
@@ -500,7 +575,7 @@ public class Page extends Region {
     public Tag[] getTags () {
         if (!hasContent ())
             downloadSafely ();
-        return tags;
+        return makeTags ();
     }
 
     /**
@@ -510,6 +585,66 @@ public class Page extends Region {
     public Text[] getWords () {
         if (!hasContent ())
             downloadSafely ();
+        return makeWords ();
+    }
+
+    /*
+     * Token materialization.  The parser stores tokens in a TokenTable;
+     * Tag and Text objects are made only when somebody asks for them,
+     * and then only once, so that the same Tag object is always
+     * returned for the same token.
+     */
+
+    // Get token t, making its Region if necessary.
+    synchronized Region getToken (int t) {
+        if (tokens == null)
+            tokens = new Region[tokenTable.size];
+        Region r = tokens[t];
+        if (r == null)
+            tokens[t] = r = tokenTable.makeToken (this, t);
+        return r;
+    }
+
+    private synchronized Region[] makeTokens () {
+        TokenTable table = tokenTable;
+        if (table == null)
+            return null;
+        if (!allTokens) {
+            if (tokens == null)
+                tokens = new Region[table.size];
+            for (int t=0; t<table.size; ++t)
+                if (tokens[t] == null)
+                    tokens[t] = table.makeToken (this, t);
+            allTokens = true;
+        }
+        return tokens;
+    }
+
+    private synchronized Tag[] makeTags () {
+        TokenTable table = tokenTable;
+        if (table == null)
+            return null;
+        if (tags == null) {
+            Tag[] result = new Tag[table.size - table.nWords];
+            for (int t=0, i=0; t<table.size; ++t)
+                if (table.isTag (t))
+                    result[i++] = (Tag)getToken (t);
+            tags = result;
+        }
+        return tags;
+    }
+
+    private synchronized Text[] makeWords () {
+        TokenTable table = tokenTable;
+        if (table == null)
+            return null;
+        if (words == null) {
+            Text[] result = new Text[table.nWords];
+            for (int t=0, i=0; t<table.size; ++t)
+                if (!table.isTag (t))
+                    result[i++] = (Text)getToken (t);
+            words = result;
+        }
         return words;
     }
 
@@ -523,6 +658,7 @@ public class Page extends Region {
     public Element[] getElements () {
         if (!hasContent ())
             downloadSafely ();
+        makeParseTree ();
         return elements;
     }
     
@@ -534,9 +670,16 @@ public class Page extends Region {
     public Element getRootElement () {
         if (!hasContent ())
             downloadSafely ();
+        makeParseTree ();
         return root;
     }
 
+    // Build the element tree of a page that was parsed for links only.
+    private synchronized void makeParseTree () {
+        if (elements == null && tokenTable != null)
+            new HTMLParser ().buildParseTree (this, true);
+    }
+
     /**
      * Get the links found in the page.
      * @return links in the page, or null 
@@ -634,6 +777,18 @@ public class Page extends Region {
         contentEncoding = encoding;
     }
 
+    /**
+     * Get character encoding of page.  The charset is taken from the page's
+     * byte order mark, the charset parameter of its Content-Type header,
+     * or a &lt;META&gt; tag near its start, in that order.  Pages that declare
+     * none are read as UTF-8 if valid, and as windows-1252 otherwise.
+     * @return the Java name of the charset used to decode the page, such as
+     * "UTF-8", or null if the page was not made from bytes.
+     */
+    public String getCharset () {
+        return charset;
+    }
+
     /**
      * Get response code returned by the Web server.  For list of
      * possible values, see java.net.HttpURLConnection.
@@ -653,6 +808,31 @@ public class Page extends Region {
         return responseMessage;
     }
 
+    /**
+     * Get the key of the nth response header, as sent by the server.
+     * For HTTP, header 0 is the status line, which has no key.
+     * @param n index of header
+     * @return key of header, or null if there is no nth header (or
+     * it has no key)
+     * @see java.net.URLConnection#getHeaderFieldKey
+     */
+    public String getHeaderFieldKey (int n) {
+        return headerKeys != null && n < headerKeys.length
+            ? headerKeys[n] : null;
+    }
+
+    /**
+     * Get the value of the nth response header, as sent by the server.
+     * @param n index of header
+     * @return value of header, or null if there is no nth header (or
+     * the page wasn't downloaded)
+     * @see java.net.URLConnection#getHeaderField
+     */
+    public String getHeaderField (int n) {
+        return headerValues != null && n < headerValues.length
+            ? headerValues[n] : null;
+    }
+
     /**
      * Get raw content found in a region.
      * @param start starting offset of region
@@ -688,21 +868,20 @@ public class Page extends Region {
      * @return tagless text contained in the region
      */
     public String substringText (int start, int end) {
-        if (words == null)
+        PageText text = getPageText ();
+        if (text == null)
             return ""; // page is not parsed
+        return text.substring (start, end);
+    }
 
-        // FIX: find some other mapping
-        StringBuffer buf = new StringBuffer();
-        for (int j = findStart (words, start); j<words.length; ++j) {
-            if (words[j].end > end)
-                break;
-            else {
-                if (buf.length() > 0)
-                    buf.append (' ');
-                buf.append (words[j].text);
-            }
-        }
-        return buf.toString();             
+    /**
+     * Get the tagless text of the whole page, making it on first use.
+     * @return the page's text, or null if the page hasn't been parsed
+     */
+    synchronized PageText getPageText () {
+        if (text == null && tokenTable != null)
+            text = new PageText (tokenTable, content);
+        return text;
     }
 
     /**
@@ -713,18 +892,18 @@ public class Page extends Region {
      * @return tags contained in the region
      */
     public String substringTags (int start, int end) {
-        if (tags == null)
+        TokenTable table = tokenTable;
+        if (table == null)
             return ""; // page is not parsed
 
-        // FIX: find some other mapping
         StringBuffer buf = new StringBuffer();
-        for (int j = findStart (tags, start); j<tags.length; ++j) {
-            if (tags[j].end > end)
+        for (int j = table.findStart (start); j<table.size; ++j) {
+            if (table.end[j] > end)
                 break;
-            else {
+            else if (table.isTag (j)) {
                 if (buf.length() > 0)
                     buf.append (' ');
-                buf.append (getContent ().substring (tags[j].start, tags[j].end));
+                buf.append (content.substring (table.start[j], table.end[j]));
             }
         }
         return buf.toString();             
@@ -762,7 +941,8 @@ public class Page extends Region {
      * @return canonicalized tags contained in the region
      */
     public String substringCanonicalTags (int start, int end) {
-        if (tokens == null)
+        TokenTable table = tokenTable;
+        if (table == null)
             return ""; // page is not parsed
 
         boolean all = (start == this.start && end == this.end);
@@ -770,13 +950,12 @@ public class Page extends Region {
         if (all && canonicalTags != null)
             return canonicalTags;
 
-        // FIX: find some other mapping
         StringBuffer buf = new StringBuffer();
-        for (int j = findStart (tokens, start); j<tokens.length; ++j) {
-            if (tokens[j].end > end)
+        for (int j = table.findStart (start); j<table.size; ++j) {
+            if (table.end[j] > end)
                 break;
-            else if (tokens[j] instanceof Tag)
-                Tagexp.canonicalizeTag (buf, (Tag)tokens[j], j);
+            else if (table.isTag (j))
+                Tagexp.canonicalizeTag (buf, table, j);
         }
 
         String result = buf.toString ();
@@ -0,0 +1,418 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Hashtable;
+
+/**
+ * Converts downloaded bytes to page content.  The page's character
+ * encoding is found in one early pass over the start of the bytes,
+ * trying in order: a byte order mark, the charset parameter of the
+ * HTTP Content-Type header, and a &lt;META&gt; tag in the first
+ * PRESCAN_LENGTH bytes (as in the HTML5 prescan).  A page that declares
+ * none of these is checked for valid UTF-8 by a scan over the bytes
+ * that doesn't decode them.  The bytes are then decoded in a single pass.
+ *
+ * <P>A PageDecoder keeps its CharsetDecoders and its output buffer
+ * between pages, so each crawler thread has its own.  It is not
+ * thread-safe.
+ */
+final class PageDecoder {
+
+    /**
+     * Number of bytes searched for a &lt;META&gt; tag declaring the charset.
+     */
+    static final int PRESCAN_LENGTH = 4096;
+
+    /**
+     * Charset used when the page doesn't declare one and isn't valid UTF-8.
+     */
+    static final String DEFAULT_CHARSET = "windows-1252";
+
+    private Hashtable decoders = new Hashtable ();  // maps Charset to CharsetDecoder
+    private CharBuffer out = CharBuffer.allocate (Page.TYPICAL_LENGTH);
+        // reused for pages that fit; larger pages get a buffer of
+        // their own, so one huge page doesn't pin a huge buffer for
+        // the rest of the crawl
+
+    /**
+     * Make a PageDecoder.
+     */
+    PageDecoder () {
+    }
+
+    /**
+     * Decode page content.
+     * @param page page whose charset field is set to the
+     * charset used
+     * @param buf content bytes
+     * @param contentType value of Content-Type header, or null if none
+     * @return decoded content, without any byte order mark
+     */
+    String decode (Page page, byte[] buf, String contentType) {
+        int len = buf.length;
+        int offset = 0;
+        Charset charset = null;
+
+        // byte order mark
+        if (len >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+            charset = forName ("UTF-8", false);
+            offset = 3;
+        }
+        else if (len >= 2 && (buf[0] & 0xFF) == 0xFE && (buf[1] & 0xFF) == 0xFF) {
+            charset = forName ("UTF-16BE", false);
+            offset = 2;
+        }
+        else if (len >= 2 && (buf[0] & 0xFF) == 0xFF && (buf[1] & 0xFF) == 0xFE) {
+            charset = forName ("UTF-16LE", false);
+            offset = 2;
+        }
+
+        // HTTP header
+        if (charset == null && contentType != null)
+            charset = forName (extractCharset (contentType), false);
+
+        // <META> tag
+        if (charset == null)
+            charset = forName (prescan (buf, Math.min (len, PRESCAN_LENGTH)), true);
+
+        if (charset == null)
+            // undeclared: UTF-8 if the bytes are valid UTF-8
+            // (which includes plain ASCII), otherwise the default
+            charset = forName (isUTF8 (buf, offset, len) ? "UTF-8" : DEFAULT_CHARSET, 
+                               false);
+
+        page.charset = charset.name ();
+        return decode (charset, buf, offset, len);
+    }
+
+    // Decodes buf[offset..len) in one pass, substituting U+FFFD for
+    // malformed input.
+    private String decode (Charset charset, byte[] buf, int offset, int len) {
+        CharsetDecoder decoder = (CharsetDecoder)decoders.get (charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder ();
+            decoder.onMalformedInput (CodingErrorAction.REPLACE);
+            decoder.onUnmappableCharacter (CodingErrorAction.REPLACE);
+            decoders.put (charset, decoder);
+        }
+        decoder.reset ();
+
+        ByteBuffer in = ByteBuffer.wrap (buf, offset, len - offset);
+        int capacity = (int)((len - offset) * (double)decoder.maxCharsPerByte ()) + 1;
+        CharBuffer out = capacity <= this.out.capacity () 
+            ? this.out : CharBuffer.allocate (capacity);
+        out.clear ();
+
+        decoder.decode (in, out, true);
+        decoder.flush (out);
+        // (overflow can't happen, since out holds maxCharsPerByte chars per byte)
+
+        out.flip ();
+        return out.toString ();
+    }
+
+    /**
+     * Test whether bytes are well-formed UTF-8: no overlong forms,
+     * surrogates, or code points past U+10FFFF, just as the UTF-8
+     * decoder requires.
+     * @param buf bytes
+     * @param offset start of bytes to test
+     * @param len end of bytes to test
+     * @return true if buf[offset..len) is valid UTF-8
+     */
+    static boolean isUTF8 (byte[] buf, int offset, int len) {
+        int i = offset;
+        while (i < len) {
+            int b = buf[i];
+            if (b >= 0) {
+                ++i;    // ASCII
+                continue;
+            }
+            b &= 0xFF;
+            int n, lo = 0x80, hi = 0xBF;    // range of the second byte
+            if (b < 0xC2)
+                return false;               // continuation byte or overlong
+            else if (b < 0xE0)
+                n = 1;
+            else if (b < 0xF0) {
+                n = 2;
+                if (b == 0xE0)
+                    lo = 0xA0;              // overlong
+                else if (b == 0xED)
+                    hi = 0x9F;              // surrogate
+            }
+            else if (b < 0xF5) {
+                n = 3;
+                if (b == 0xF0)
+                    lo = 0x90;              // overlong
+                else if (b == 0xF4)
+                    hi = 0x8F;              // past U+10FFFF
+            }
+            else
+                return false;
+
+            if (i + n >= len)
+                return false;               // truncated
+            int c = buf[i+1] & 0xFF;
+            if (c < lo || c > hi)
+                return false;
+            for (int j=2; j<=n; ++j) {
+                c = buf[i+j] & 0xFF;
+                if (c < 0x80 || c > 0xBF)
+                    return false;
+            }
+            i += n + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Look up a charset by the name a page or server gave for it.
+     * Following browsers, ISO-8859-1 and US-ASCII are taken to mean
+     * windows-1252, which is a superset of both.
+     * @param name charset name, or null
+     * @param fromMeta true if the name came from a &lt;META&gt; tag, in which
+     * case UTF-16 is taken to mean UTF-8 (the prescan found an
+     * ASCII-compatible tag, so the page can't really be UTF-16)
+     * @return charset, or null if name is null or unsupported
+     */
+    static Charset forName (String name, boolean fromMeta) {
+        if (name == null)
+            return null;
+        Charset charset;
+        try {
+            charset = Charset.forName (name.trim ());
+        } catch (IllegalArgumentException e) {
+            return null;  // illegal or unsupported name
+        }
+        String canon = charset.name ();
+        if (canon.equals ("ISO-8859-1") || canon.equals ("US-ASCII")) {
+            try {
+                charset = Charset.forName (DEFAULT_CHARSET);
+            } catch (IllegalArgumentException e) {} // keep ISO-8859-1
+        }
+        else if (fromMeta && canon.startsWith ("UTF-16"))
+            charset = Charset.forName ("UTF-8");
+        return charset;
+    }
+
+    /**
+     * Find the charset parameter in a Content-Type value, like
+     * "text/html; charset=UTF-8".
+     * @param value header or &lt;META&gt; content value
+     * @return charset name, or null if value doesn't mention one
+     */
+    static String extractCharset (String value) {
+        int n = value.length ();
+        int i = 0;
+        while (true) {
+            i = indexOfIgnoreCase (value, "charset", i);
+            if (i == -1)
+                return null;
+            i += 7;
+            while (i < n && value.charAt (i) <= ' ')
+                ++i;
+            if (i < n && value.charAt (i) == '=')
+                break;
+            // not followed by '=' -- keep looking
+        }
+        ++i;
+        while (i < n && value.charAt (i) <= ' ')
+            ++i;
+        if (i == n)
+            return null;
+
+        char q = value.charAt (i);
+        if (q == '"' || q == '\'') {
+            int j = value.indexOf (q, i+1);
+            return (j == -1) ? null : value.substring (i+1, j);
+        }
+        int j = i;
+        while (j < n && value.charAt (j) > ' ' && value.charAt (j) != ';')
+            ++j;
+        return value.substring (i, j);
+    }
+
+    private static int indexOfIgnoreCase (String s, String lower, int from) {
+        int last = s.length () - lower.length ();
+        for (int i=from; i<=last; ++i)
+            if (s.regionMatches (true, i, lower, 0, lower.length ()))
+                return i;
+        return -1;
+    }
+
+    /*
+     * Prescan: a byte-level search for <META charset=...> or 
+     * <META http-equiv=Content-Type content="...; charset=...">,
+     * skipping comments and the attributes of other tags.
+     */
+
+    private int pos;            // current position in prescanned bytes
+    private String attrName;    // last attribute read by readAttribute()
+    private String attrValue;
+    private StringBuffer attrBuf = new StringBuffer ();
+
+    /**
+     * Search the start of a page for a &lt;META&gt; tag declaring its charset.
+     * @param buf page bytes
+     * @param len number of bytes to search
+     * @return declared charset name, or null if none was found
+     */
+    String prescan (byte[] buf, int len) {
+        pos = 0;
+        while (pos < len) {
+            if (buf[pos] != '<')
+                ++pos;
+            else if (startsWith (buf, len, pos, "<!--")) {
+                // comment
+                pos += 4;
+                while (pos < len && !startsWith (buf, len, pos, "-->"))
+                    ++pos;
+                pos += 3;
+            }
+            else if (startsWith (buf, len, pos, "<meta") 
+                     && pos+5 < len && (isSpace (buf[pos+5]) || buf[pos+5] == '/')) {
+                pos += 5;
+                boolean gotPragma = false;
+                boolean needPragma = false;
+                String charset = null;
+                while (readAttribute (buf, len)) {
+                    if (attrName.equals ("http-equiv")) {
+                        if (attrValue.equalsIgnoreCase ("content-type"))
+                            gotPragma = true;
+                    }
+                    else if (attrName.equals ("content")) {
+                        if (charset == null) {
+                            charset = extractCharset (attrValue);
+                            needPragma = true;
+                        }
+                    }
+                    else if (attrName.equals ("charset")) {
+                        charset = attrValue;
+                        needPragma = false;
+                    }
+                }
+                if (charset != null && (!needPragma || gotPragma))
+                    return charset;
+            }
+            else if (pos+1 < len && (isLetter (buf[pos+1]) 
+                                     || (buf[pos+1] == '/' && pos+2 < len && isLetter (buf[pos+2])))) {
+                // some other tag -- skip its name and attributes, 
+                // which may contain '<' or '>' in quotes
+                ++pos;
+                while (pos < len && !isSpace (buf[pos]) && buf[pos] != '>')
+                    ++pos;
+                while (readAttribute (buf, len))
+                    ;
+            }
+            else if (pos+1 < len && (buf[pos+1] == '!' || buf[pos+1] == '/' || buf[pos+1] == '?')) {
+                // directive, processing instruction, or bogus end tag
+                while (pos < len && buf[pos] != '>')
+                    ++pos;
+            }
+            else
+                ++pos;
+        }
+        return null;
+    }
+
+    // Reads the next attribute of a tag into attrName and attrValue
+    // (name in lower case).  Returns false at the end of the tag.
+    private boolean readAttribute (byte[] buf, int len) {
+        while (pos < len && (isSpace (buf[pos]) || buf[pos] == '/'))
+            ++pos;
+        if (pos >= len || buf[pos] == '>') {
+            ++pos;
+            return false;
+        }
+
+        attrBuf.setLength (0);
+        do {
+            attrBuf.append (Character.toLowerCase ((char)(buf[pos] & 0xFF)));
+            ++pos;
+        } while (pos < len && buf[pos] != '=' && buf[pos] != '>'
+                 && buf[pos] != '/' && !isSpace (buf[pos]));
+        attrName = attrBuf.toString ();
+        attrValue = "";
+
+        while (pos < len && isSpace (buf[pos]))
+            ++pos;
+        if (pos >= len || buf[pos] != '=')
+            return true;
+        ++pos;
+        while (pos < len && isSpace (buf[pos]))
+            ++pos;
+
+        attrBuf.setLength (0);
+        if (pos < len && (buf[pos] == '"' || buf[pos] == '\'')) {
+            byte q = buf[pos++];
+            while (pos < len && buf[pos] != q)
+                attrBuf.append ((char)(buf[pos++] & 0xFF));
+            ++pos;
+        }
+        else {
+            while (pos < len && buf[pos] != '>' && !isSpace (buf[pos]))
+                attrBuf.append ((char)(buf[pos++] & 0xFF));
+        }
+        attrValue = attrBuf.toString ();
+        return true;
+    }
+
+    private static boolean startsWith (byte[] buf, int len, int i, String lower) {
+        int n = lower.length ();
+        if (i + n > len)
+            return false;
+        for (int j=0; j<n; ++j) {
+            int b = buf[i+j];
+            if (b >= 'A' && b <= 'Z')
+                b += 'a' - 'A';
+            if (b != lower.charAt (j))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isSpace (byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+    }
+
+    private static boolean isLetter (byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+/**
+ * Tagless text of a parsed page, made once and shared by everything
+ * that looks at the page's words.  The text is the page's words
+ * separated by single spaces (as returned by Page.substringText), and
+ * each word records where it lies both in the text and in the page's
+ * HTML, so that offsets in the text can be mapped back to the page.
+ * A PageText is never modified once made.
+ */
+final class PageText {
+
+    String text;
+    int nWords;
+    int[] textStart;   // offset of each word in text
+    int[] textEnd;
+    int[] htmlStart;   // offset of each word in the page content
+    int[] htmlEnd;
+    boolean[] raw;
+        // true if the word's text is exactly its HTML (no entities),
+        // so that offsets inside it map one-to-one
+
+    PageText (TokenTable table, String content) {
+        nWords = table.nWords;
+        textStart = new int[nWords];
+        textEnd = new int[nWords];
+        htmlStart = new int[nWords];
+        htmlEnd = new int[nWords];
+        raw = new boolean[nWords];
+
+        StringBuffer buf = new StringBuffer ();
+        for (int t=0, w=0; t<table.size; ++t) {
+            if (table.isTag (t))
+                continue;
+            if (w > 0)
+                buf.append (' ');
+            textStart[w] = buf.length ();
+            table.appendText (buf, content, t);
+            textEnd[w] = buf.length ();
+            htmlStart[w] = table.start[t];
+            htmlEnd[w] = table.end[t];
+            raw[w] = table.name[t] == -1;
+            ++w;
+        }
+        text = buf.toString ();
+    }
+
+    /**
+     * Get the first word that starts at or after a page offset.
+     */
+    int firstWord (int start) {
+        int lo = 0, hi = nWords;
+        while (lo != hi) {
+            int mid = (lo + hi) / 2;
+            if (htmlStart[mid] < start)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Get the number of words that end at or before a page offset.
+     */
+    int endWord (int end) {
+        int lo = 0, hi = nWords;
+        while (lo != hi) {
+            int mid = (lo + hi) / 2;
+            if (htmlEnd[mid] <= end)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Get the start of a region's text.  The text of a region is made of
+     * the words lying entirely inside it; it runs from getStart() to
+     * getEnd() in text.
+     */
+    int getStart (int start, int end) {
+        int w = firstWord (start);
+        return w < endWord (end) ? textStart[w] : 0;
+    }
+
+    int getEnd (int start, int end) {
+        int w = firstWord (start);
+        int e = endWord (end);
+        return w < e ? textEnd[e-1] : 0;
+    }
+
+    /**
+     * Get the text of a region.
+     */
+    String substring (int start, int end) {
+        int w = firstWord (start);
+        int e = endWord (end);
+        if (w >= e)
+            return "";
+        return text.substring (textStart[w], textEnd[e-1]);
+    }
+
+    // Find the last word starting at or before offset t of the text
+    // (or -1).
+    private int wordAt (int t) {
+        int lo = 0, hi = nWords;
+        while (lo != hi) {
+            int mid = (lo + hi) / 2;
+            if (textStart[mid] <= t)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return lo-1;
+    }
+
+    /**
+     * Map the start of a match in the text to a page offset.  A match
+     * starting inside a word with entities starts at the word; one
+     * starting on a space starts after the preceding word.
+     */
+    int toHTMLStart (int t) {
+        int w = wordAt (t);
+        if (w == -1)
+            return nWords > 0 ? htmlStart[0] : 0;
+        if (t >= textEnd[w])
+            return htmlEnd[w];
+        return raw[w] ? htmlStart[w] + (t - textStart[w]) : htmlStart[w];
+    }
+
+    /**
+     * Map the end of a match in the text to a page offset.  A match
+     * ending inside a word with entities ends with the word; one ending
+     * on a space ends with the preceding word.
+     */
+    int toHTMLEnd (int t) {
+        int w = wordAt (t-1);
+        if (w == -1)
+            return nWords > 0 ? htmlStart[0] : 0;
+        if (t >= textEnd[w])
+            return htmlEnd[w];
+        return raw[w] ? htmlStart[w] + (t - textStart[w]) : htmlEnd[w];
+    }
+}
@@ -47,7 +47,7 @@ implements java.io.Serializable
     public abstract PatternMatcher match (Region region);
 
     public boolean found (Region region) {
-        return match(region).hasMoreElements ();
+        return match(region).find ();
     }
 
     public Region oneMatch (Region region) {
@@ -66,6 +66,31 @@ implements java.io.Serializable
         return regions;
     }
 
+    /**
+     * Match the pattern against the tagless text of a region (the
+     * string returned by region.toText()) instead of its HTML.  Matches
+     * are reported as Regions of the region's page, spanning the HTML
+     * of the matched words.  The page's text is made once and kept with
+     * the page, and Regexp and Wildcard patterns match it in place;
+     * other patterns are run over a Page made from the region's text.
+     * @param region Region whose text is searched
+     * @return matcher for the matches in the region's text
+     */
+    public PatternMatcher matchText (Region region) {
+        return new TextMatcher (this, region);
+    }
+
+    /**
+     * Test whether the pattern matches the tagless text of a region.
+     * Equivalent to found (region.toText ()), but without copying the
+     * text.
+     * @param region Region whose text is searched
+     * @return true if the pattern matches somewhere in the region's text
+     */
+    public boolean foundText (Region region) {
+        return matchText (region).find ();
+    }
+
     public boolean found (String string) {
         return found (new Page (string));
     }
@@ -90,4 +115,3 @@ implements java.io.Serializable
     public static final String groups = "Pattern.groups";
 
 }
-
@@ -61,5 +61,71 @@ public abstract class PatternMatcher implements Enumeration {
 
     protected abstract Region findNext ();
 
-}
+    /**
+     * Advance to the next match.  Where it is can then be read with
+     * getStart(), getEnd(), and the group accessors, and a Region for it
+     * made with getMatch().  Matchers that can do so (such as Regexp's)
+     * make no Region or other garbage until getMatch() is called, so
+     * looping with find() is the cheapest way to look at many matches.
+     * Calling nextMatch() also advances the matcher; it is the same as
+     * find() followed by getMatch().
+     * @return true if there is another match, false if not
+     */
+    public boolean find () {
+        nextMatch ();
+        return match != null;
+    }
+
+    /**
+     * Get the current match.
+     * @return region matched by the last call to find() or nextMatch(),
+     * or null if there was no match
+     */
+    public Region getMatch () {
+        return match;
+    }
+
+    /**
+     * Get the start of the current match.
+     * @return starting offset of the match in the page
+     */
+    public int getStart () {
+        return match.getStart ();
+    }
 
+    /**
+     * Get the end of the current match.
+     * @return ending offset of the match in the page
+     */
+    public int getEnd () {
+        return match.getEnd ();
+    }
+
+    /**
+     * Get the number of groups in the current match.
+     * @return number of groups (the length of the match's
+     * Pattern.groups field)
+     */
+    public int getGroupCount () {
+        Region[] groups = match.getFields (Pattern.groups);
+        return groups != null ? groups.length : 0;
+    }
+
+    /**
+     * Get the start of a group in the current match.
+     * @param i index of group, from 0 to getGroupCount()-1
+     * @return starting offset of the group in the page
+     */
+    public int getGroupStart (int i) {
+        return match.getFields (Pattern.groups)[i].getStart ();
+    }
+
+    /**
+     * Get the end of a group in the current match.
+     * @param i index of group, from 0 to getGroupCount()-1
+     * @return ending offset of the group in the page
+     */
+    public int getGroupEnd (int i) {
+        return match.getFields (Pattern.groups)[i].getEnd ();
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Vector;
+
+/**
+ * A set of patterns that are all tested against the same regions.
+ * Rather than having each pattern scan a page on its own, a PatternSet
+ * makes one pass over the region looking for the literal strings that
+ * the set's Regexp and Wildcard patterns require (the longest literal
+ * every match must contain, as found by
+ * org.apache.regexp.REProgram.getRequiredLiteral()).  Only patterns
+ * whose literal occurs, or which have no such literal, are then run.
+ * On pages where most rules don't apply, the cost of testing a set is
+ * close to one scan of the page no matter how many patterns it holds.
+ * <P>
+ * Other kinds of Pattern can be added to a set too; they are always run.
+ */
+public class PatternSet 
+//#ifdef JDK1.1 
+implements java.io.Serializable 
+//#endif JDK1.1
+{
+    Vector patterns = new Vector ();
+    transient LiteralSet literals;
+        // literal prefilter for the current patterns, or null if it
+        // must be rebuilt
+
+    /**
+     * Make an empty PatternSet.
+     */
+    public PatternSet () {
+    }
+
+    /**
+     * Make a PatternSet holding some patterns.
+     * @param patterns Patterns to put in the set
+     */
+    public PatternSet (Pattern[] patterns) {
+        for (int i=0; i<patterns.length; ++i)
+            addPattern (patterns[i]);
+    }
+
+    /**
+     * Add a pattern to the set.
+     * @param pattern Pattern to add
+     * @return index of the pattern in the set, which is also its index
+     * in the arrays returned by found() and oneMatch()
+     */
+    public synchronized int addPattern (Pattern pattern) {
+        patterns.addElement (pattern);
+        literals = null;
+        return patterns.size () - 1;
+    }
+
+    /**
+     * Get the number of patterns in the set.
+     * @return number of patterns
+     */
+    public int size () {
+        return patterns.size ();
+    }
+
+    /**
+     * Get a pattern in the set.
+     * @param i index of pattern
+     * @return the i-th pattern added to the set
+     */
+    public Pattern getPattern (int i) {
+        return (Pattern)patterns.elementAt (i);
+    }
+
+    /**
+     * Get the patterns in the set.
+     * @return patterns in the order they were added
+     */
+    public synchronized Pattern[] getPatterns () {
+        Pattern[] result = new Pattern[patterns.size ()];
+        patterns.copyInto (result);
+        return result;
+    }
+
+    /**
+     * Test every pattern in the set against a region.
+     * @param region Region to search
+     * @return array with an entry for each pattern, true if the 
+     * pattern is found in the region
+     */
+    public boolean[] found (Region region) {
+        Region[] matches = oneMatch (region);
+        boolean[] result = new boolean[matches.length];
+        for (int i=0; i<matches.length; ++i)
+            result[i] = matches[i] != null;
+        return result;
+    }
+
+    /**
+     * Find the first match of every pattern in the set.
+     * @param region Region to search
+     * @return array with an entry for each pattern, holding the 
+     * pattern's first match in the region (as Pattern.oneMatch() would
+     * return it), or null if the pattern doesn't match
+     */
+    public Region[] oneMatch (Region region) {
+        Pattern[] set;
+        LiteralSet prefilter;
+        synchronized (this) {
+            set = getPatterns ();
+            prefilter = getLiterals (set);
+        }
+
+        boolean[] candidates = prefilter.scan (region.getSource ().getContent (),
+                                               region.getStart (), 
+                                               region.getEnd ());
+        Region[] result = new Region[set.length];
+        for (int i=0; i<set.length; ++i)
+            if (candidates[i])
+                result[i] = set[i].oneMatch (region);
+        return result;
+    }
+
+    /**
+     * Test every pattern in the set against a string.
+     * @param string String to search
+     * @return array with an entry for each pattern, true if the 
+     * pattern is found in the string
+     */
+    public boolean[] found (String string) {
+        return found (new Page (string));
+    }
+
+    /**
+     * Find the first match of every pattern in the set.
+     * @param string String to search
+     * @return array with an entry for each pattern, holding its first
+     * match or null
+     */
+    public Region[] oneMatch (String string) {
+        return oneMatch (new Page (string));
+    }
+
+    private LiteralSet getLiterals (Pattern[] set) {
+        if (literals == null) {
+            String[] required = new String[set.length];
+            for (int i=0; i<set.length; ++i)
+                required[i] = getRequiredLiteral (set[i]);
+            literals = new LiteralSet (required);
+        }
+        return literals;
+    }
+
+    /**
+     * Get a string that every match of a pattern contains.
+     * Only plain Regexps and Wildcards are searched in the page content
+     * as written; a Tagexp, for instance, runs over the page's tags
+     * and has no regular expression program at all.
+     */
+    static String getRequiredLiteral (Pattern pattern) {
+        Class c = pattern.getClass ();
+        if (c != Regexp.class && c != Wildcard.class)
+            return null;
+        return ((Regexp)pattern).getRequiredLiteral ();
+    }
+
+    public String toString () {
+        StringBuffer buf = new StringBuffer ();
+        Pattern[] set = getPatterns ();
+        for (int i=0; i<set.length; ++i) {
+            if (i > 0)
+                buf.append ('\n');
+            buf.append (set[i].toString ());
+        }
+        return buf.toString ();
+    }
+}
+
+/**
+ * Aho-Corasick automaton for the required literals of a PatternSet.
+ * The transitions of the shallow trie nodes, where a scan spends most
+ * of its time, are resolved on ASCII characters in a table when the
+ * automaton is built, so the scan loop makes one array lookup per
+ * character there.  Deeper nodes, and other characters, follow their
+ * edges and failure links, so the table stays small however many
+ * literals there are.
+ */
+final class LiteralSet {
+
+    static final int ASCII = 128;
+    static final int DENSE_DEPTH = 2;   // nodes shallower than this get a table row
+
+    int nPatterns;
+    boolean[] always;     // patterns with no literal, which always run
+    int nLiterals;        // patterns with a literal
+
+    // trie
+    int nNodes;
+    char[][] edgeChars;   // sorted edge characters of each node
+    int[][] edgeTargets;  // node reached by each edge
+    int[] fail;           // failure link of each node
+    int[] row;            // start of each node's row in delta, or -1
+    int[] delta;          // resolved transitions on ASCII, ASCII per row
+    int[][] output;       // patterns whose literal ends at each node
+                          // (including through failure links)
+
+    LiteralSet (String[] literals) {
+        nPatterns = literals.length;
+        always = new boolean[nPatterns];
+
+        // build the trie
+        int capacity = 1;
+        for (int i=0; i<nPatterns; ++i)
+            if (literals[i] != null)
+                capacity += literals[i].length ();
+        edgeChars = new char[capacity][];
+        edgeTargets = new int[capacity][];
+        int[][] ends = new int[capacity][];
+        nNodes = 1;
+        for (int i=0; i<nPatterns; ++i) {
+            String literal = literals[i];
+            if (literal == null || literal.length () == 0) {
+                always[i] = true;
+                continue;
+            }
+            ++nLiterals;
+            int node = 0;
+            for (int j=0; j<literal.length (); ++j) {
+                char c = literal.charAt (j);
+                int next = child (node, c);
+                if (next == -1)
+                    next = addChild (node, c);
+                node = next;
+            }
+            ends[node] = append (ends[node], i);
+        }
+
+        // breadth-first: failure links, outputs, and the ASCII table
+        // (a node's failure link is shallower, so it's done first)
+        fail = new int[nNodes];
+        output = new int[nNodes][];
+        row = new int[nNodes];
+        int[] depth = new int[nNodes];
+        int nRows = 1 + (edgeChars[0] != null ? edgeChars[0].length : 0);
+        delta = new int[nRows * ASCII];
+        nRows = 0;
+        int[] queue = new int[nNodes];
+        int head = 0, tail = 0;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            int f = fail[node];
+            output[node] = ends[node];
+            if (node != 0 && output[f] != null)
+                for (int k=0; k<output[f].length; ++k)
+                    output[node] = append (output[node], output[f][k]);
+
+            if (depth[node] < DENSE_DEPTH) {
+                if (nRows * ASCII == delta.length) {
+                    int[] d = new int[delta.length * 2];
+                    System.arraycopy (delta, 0, d, 0, delta.length);
+                    delta = d;
+                }
+                int r = row[node] = nRows++ * ASCII;
+                for (int c=0; c<ASCII; ++c) {
+                    int next = child (node, (char)c);
+                    if (next == -1)
+                        delta[r + c] = (node == 0) ? 0 : step (f, (char)c);
+                    else
+                        delta[r + c] = next;
+                }
+            }
+            else
+                row[node] = -1;
+
+            char[] chars = edgeChars[node];
+            if (chars != null)
+                for (int k=0; k<chars.length; ++k) {
+                    int next = edgeTargets[node][k];
+                    fail[next] = (node == 0) ? 0 : step (f, chars[k]);
+                    depth[next] = depth[node] + 1;
+                    queue[tail++] = next;
+                }
+        }
+    }
+
+    /**
+     * Scan part of a text for the literals.
+     * @param text Text to scan
+     * @param start offset at which to start scanning
+     * @param end offset at which to stop
+     * @return array with an entry for each pattern, true if its literal
+     * occurs in text[start..end) or it has none
+     */
+    boolean[] scan (String text, int start, int end) {
+        boolean[] found = new boolean[nPatterns];
+        System.arraycopy (always, 0, found, 0, nPatterns);
+        int remaining = nLiterals;
+        if (remaining == 0)
+            return found;
+
+        int node = 0;
+        for (int i=start; i<end; ++i) {
+            char c = text.charAt (i);
+            int r = row[node];
+            node = (c < ASCII && r != -1) ? delta[r + c] : step (node, c);
+
+            int[] out = output[node];
+            if (out != null)
+                for (int k=0; k<out.length; ++k)
+                    if (!found[out[k]]) {
+                        found[out[k]] = true;
+                        if (--remaining == 0)
+                            return found;
+                    }
+        }
+        return found;
+    }
+
+    // transition from node on c, following failure links
+    int step (int node, char c) {
+        for (;;) {
+            if (c < ASCII && row[node] != -1)
+                return delta[row[node] + c];
+            int next = child (node, c);
+            if (next != -1)
+                return next;
+            if (node == 0)
+                return 0;
+            node = fail[node];
+        }
+    }
+
+    int child (int node, char c) {
+        char[] chars = edgeChars[node];
+        if (chars == null)
+            return -1;
+        int lo = 0, hi = chars.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (chars[mid] < c)
+                lo = mid + 1;
+            else if (chars[mid] > c)
+                hi = mid - 1;
+            else
+                return edgeTargets[node][mid];
+        }
+        return -1;
+    }
+
+    int addChild (int node, char c) {
+        char[] chars = edgeChars[node];
+        int[] targets = edgeTargets[node];
+        int n = (chars == null) ? 0 : chars.length;
+        char[] newChars = new char[n+1];
+        int[] newTargets = new int[n+1];
+        int k = 0;
+        while (k < n && chars[k] < c) {
+            newChars[k] = chars[k];
+            newTargets[k] = targets[k];
+            ++k;
+        }
+        newChars[k] = c;
+        newTargets[k] = nNodes;
+        for (; k < n; ++k) {
+            newChars[k+1] = chars[k];
+            newTargets[k+1] = targets[k];
+        }
+        edgeChars[node] = newChars;
+        edgeTargets[node] = newTargets;
+        return nNodes++;
+    }
+
+    static int[] append (int[] a, int x) {
+        if (a == null)
+            return new int[] { x };
+        int[] b = new int[a.length + 1];
+        System.arraycopy (a, 0, b, 0, a.length);
+        b[a.length] = x;
+        return b;
+    }
+}
@@ -0,0 +1,592 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import rcm.util.Str;
+
+/**
+ * File of records extracted from pages, written by many threads at once.
+ * Each record is a URL and a list of fields, and the file is an HTML
+ * table (like RecordTransformer's), CSV, or JSON Lines.
+ * <P>
+ * writeRecord() never waits for another crawling thread: each thread
+ * formats its records into a buffer of its own, and hands the buffer
+ * to a background thread when it's full.  The background thread merges
+ * the buffers and writes them to the file in large blocks.  Records from
+ * one thread stay in order, but records from different threads are
+ * interleaved by buffer.  Call flush() to write the records buffered so
+ * far, and close() when done.  close() waits for writeRecord() calls
+ * already in progress, and records written after it are ignored, so a
+ * crawl can be stopped while its threads are still extracting.
+ */
+public class RecordSink {
+
+    /**
+     * Output formats.
+     */
+    public static final int HTML = 0;
+    public static final int CSV = 1;
+    public static final int JSON_LINES = 2;
+
+    /**
+     * Map from format (CSV) to name ("CSV")
+     */
+    public static final String[] formatName = {
+        "HTML table",
+        "CSV",
+        "JSON Lines"
+    };
+
+    /**
+     * Map from format (CSV) to file extension (".csv")
+     */
+    public static final String[] formatExtension = {
+        ".html",
+        ".csv",
+        ".jsonl"
+    };
+
+    static final String PROLOG = "<HTML><HEAD><TITLE>Extracted Records</TITLE></HEAD><BODY><TABLE>\n";
+    static final String EPILOG = "</TABLE></BODY></HTML>\n";
+    static final String RECORD_START = "<TR>\n<TD><A HREF=\"%u\">%n.</A>\n";
+    static final String RECORD_END = "\n";
+    static final String FIELD_START = "  <TD>";
+    static final String FIELD_END = "\n";
+
+    static final int BATCH_SIZE = 32*1024;  // characters a thread buffers before handing off
+    static final int MAX_PENDING = 64;      // batches waiting to be written before threads wait
+
+    File file;
+    int format;
+    String[] fieldNames;
+    boolean asText;
+
+    ThreadLocal local = new ThreadLocal ();     // this thread's RecordBuffer
+    Vector buffers = new Vector ();             // every thread's RecordBuffer
+    ConcurrentLinkedQueue queue = new ConcurrentLinkedQueue ();
+        // RecordBatches waiting to be written
+    AtomicLong enqueued = new AtomicLong ();
+    volatile long written = 0;
+    AtomicInteger records = new AtomicInteger ();
+    AtomicInteger active = new AtomicInteger ();
+        // writeRecord() calls in progress
+
+    volatile boolean closed = false;
+        // set by close(); later records are ignored
+    volatile boolean closing = false;
+        // set once the last batches have been handed to the writer
+    volatile boolean flushRequested = false;
+    long flushed = 0;
+        // batches written and flushed (guarded by this)
+    int flushes = 0;
+        // number of times the writer has flushed (guarded by this)
+    volatile IOException exception;
+        // first error from the writer thread
+    Thread writer;
+
+    // Used only by the writer thread
+    RandomAccessFile out;
+    int nWritten = 0;
+
+    /**
+     * Make a RecordSink.  The file is overwritten.
+     * @param filename File to which records are written
+     * @param format Output format (HTML, CSV, or JSON_LINES)
+     * @param fieldNames Names of the fields, used as column headings.
+     * An empty array means each record is a single unnamed field.
+     * @param asText true if Region fields should be written as text,
+     * false if they should be written as HTML
+     */
+    public RecordSink (String filename, int format, String[] fieldNames, 
+                       boolean asText) throws IOException {
+        this.file = new File (filename);
+        this.format = format;
+        this.fieldNames = fieldNames;
+        this.asText = asText;
+
+        // open a stream first, to truncate the file to 0
+        Access.getAccess ().writeFile (file, false).close ();
+        out = Access.getAccess ().readWriteFile (file);
+        out.write (encode (makeProlog ()));
+
+        writer = new RecordSinkThread (this);
+        writer.start ();
+    }
+
+    /**
+     * Get the output format.
+     * @return HTML, CSV, or JSON_LINES
+     */
+    public int getFormat () {
+        return format;
+    }
+
+    /**
+     * Get the number of records written so far.
+     * @return number of calls to writeRecord()
+     */
+    public int getRecordCount () {
+        return records.get ();
+    }
+
+    /**
+     * Write a record.  May be called by any number of threads at once.
+     * @param fields Fields of the record.  Regions are written as HTML
+     * or text; other objects are converted with toString().  The record's
+     * URL is the URL of the page containing the first Region.  If the
+     * sink has been closed, the record is ignored.
+     * @exception IOException if writing an earlier record failed
+     */
+    public void writeRecord (Object[] fields) throws IOException {
+        // close() waits until active is 0 after setting closed, so
+        // either it sees this call or this call sees closed
+        active.incrementAndGet ();
+        try {
+            if (exception != null)
+                throw exception;
+            if (closed)
+                return;
+
+            RecordBuffer buf = (RecordBuffer)local.get ();
+            if (buf == null) {
+                buf = new RecordBuffer ();
+                local.set (buf);
+                buffers.addElement (buf);
+            }
+
+            URL url = urlOfFirstRegion (fields);
+            synchronized (buf) {
+                RecordBatch batch = buf.batch;
+                switch (format) {
+                  case HTML:
+                    formatHTML (buf, fields);
+                    break;
+                  case CSV:
+                    formatCSV (buf, url, fields);
+                    break;
+                  default:
+                    formatJSON (buf, url, fields);
+                    break;
+                }
+                batch.add (url);
+                if (batch.text.length () >= BATCH_SIZE) {
+                    enqueue (batch);
+                    buf.batch = new RecordBatch ();
+                }
+            }
+            records.incrementAndGet ();
+        } finally {
+            active.decrementAndGet ();
+        }
+
+        while (enqueued.get () - written > MAX_PENDING 
+               && exception == null && !closing)
+            LockSupport.parkNanos (1000000);
+    }
+
+    /**
+     * Write all the records written so far to the file.  The file is
+     * complete after flush() returns; for HTML, the table's closing tags
+     * are written and then overwritten by the next records.
+     * @exception IOException if writing failed
+     */
+    public void flush () throws IOException {
+        handOff ();
+        long target = enqueued.get ();
+        synchronized (this) {
+            int n = flushes;
+            while ((flushed < target || flushes == n)
+                   && exception == null && writer.isAlive ()) {
+                flushRequested = true;
+                LockSupport.unpark (writer);
+                try {
+                    wait (100);
+                } catch (InterruptedException e) {}
+            }
+            if (exception != null)
+                throw exception;
+        }
+    }
+
+    /**
+     * Write all the records and close the file.  Waits for writeRecord()
+     * calls in progress to finish; records written after this are
+     * ignored.
+     * @exception IOException if writing failed
+     */
+    public void close () throws IOException {
+        closed = true;
+        while (active.get () > 0)
+            LockSupport.parkNanos (100000);
+        handOff ();
+        closing = true;
+        LockSupport.unpark (writer);
+        try {
+            writer.join ();
+        } catch (InterruptedException e) {}
+        buffers.removeAllElements ();
+        if (exception != null)
+            throw exception;
+    }
+
+    // Hand every thread's partly-full batch to the writer.
+    private void handOff () {
+        RecordBuffer[] bufs;
+        synchronized (buffers) {
+            bufs = new RecordBuffer[buffers.size ()];
+            buffers.copyInto (bufs);
+        }
+        for (int i=0; i<bufs.length; ++i)
+            synchronized (bufs[i]) {
+                if (bufs[i].batch.count > 0) {
+                    enqueue (bufs[i].batch);
+                    bufs[i].batch = new RecordBatch ();
+                }
+            }
+    }
+
+    private void enqueue (RecordBatch batch) {
+        // count it first, so that written never passes enqueued
+        if (enqueued.incrementAndGet () - written == MAX_PENDING/2)
+            LockSupport.unpark (writer);
+        queue.offer (batch);
+    }
+
+    //
+    // Formatting, done by the thread that calls writeRecord()
+    //
+
+    private void formatHTML (RecordBuffer buf, Object[] fields) throws IOException {
+        StringBuffer text = buf.batch.text;
+        for (int i=0; i<fields.length; ++i) {
+            text.append (FIELD_START);
+            text.append (fieldValue (buf, fields[i]));
+            text.append (FIELD_END);
+        }
+    }
+
+    private void formatCSV (RecordBuffer buf, URL url, Object[] fields) throws IOException {
+        StringBuffer text = buf.batch.text;
+        if (url != null)
+            quoteCSV (text, url.toString ());
+        for (int i=0; i<fields.length; ++i) {
+            text.append (',');
+            quoteCSV (text, fieldValue (buf, fields[i]));
+        }
+        text.append ('\n');
+    }
+
+    private void formatJSON (RecordBuffer buf, URL url, Object[] fields) throws IOException {
+        StringBuffer text = buf.batch.text;
+        text.append ("{\"url\":");
+        if (url != null)
+            quoteJSON (text, url.toString ());
+        else
+            text.append ("null");
+        for (int i=0; i<fields.length; ++i) {
+            text.append (',');
+            quoteJSON (text, columnName (i));
+            text.append (':');
+            quoteJSON (text, fieldValue (buf, fields[i]));
+        }
+        text.append ("}\n");
+    }
+
+    private String fieldValue (RecordBuffer buf, Object f) throws IOException {
+        if (!(f instanceof Region))
+            return String.valueOf (f);
+        Region r = (Region)f;
+        if (asText)
+            return r.toText ();
+        StringBuffer html = buf.html.getBuffer ();
+        html.setLength (0);
+        buf.transformer.write (r);
+        buf.transformer.flush ();
+        return html.toString ();
+    }
+
+    private String columnName (int i) {
+        if (i < fieldNames.length)
+            return fieldNames[i];
+        return fieldNames.length == 0 && i == 0 ? "match" : "field" + (i+1);
+    }
+
+    private static URL urlOfFirstRegion (Object[] fields) {
+        for (int i=0; i<fields.length; ++i)
+            if (fields[i] instanceof Region)
+                return ((Region)fields[i]).getSource ().getURL ();
+        return null;
+    }
+
+    private static void quoteCSV (StringBuffer buf, String s) {
+        boolean quote = false;
+        for (int i=0; i<s.length () && !quote; ++i) {
+            char c = s.charAt (i);
+            quote = (c == ',' || c == '"' || c == '\n' || c == '\r');
+        }
+        if (!quote) {
+            buf.append (s);
+            return;
+        }
+        buf.append ('"');
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            if (c == '"')
+                buf.append ('"');
+            buf.append (c);
+        }
+        buf.append ('"');
+    }
+
+    private static void quoteJSON (StringBuffer buf, String s) {
+        buf.append ('"');
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            switch (c) {
+              case '"': buf.append ("\\\""); break;
+              case '\\': buf.append ("\\\\"); break;
+              case '\n': buf.append ("\\n"); break;
+              case '\r': buf.append ("\\r"); break;
+              case '\t': buf.append ("\\t"); break;
+              default:
+                if (c < 0x20)
+                    buf.append ("\\u00")
+                       .append (Character.forDigit (c >> 4, 16))
+                       .append (Character.forDigit (c & 15, 16));
+                else
+                    buf.append (c);
+                break;
+            }
+        }
+        buf.append ('"');
+    }
+
+    //
+    // Writing, done by the writer thread
+    //
+
+    private String makeProlog () {
+        StringBuffer buf = new StringBuffer ();
+        switch (format) {
+          case HTML:
+            buf.append (PROLOG).append ("<TR>\n<TH>\n");
+            if (fieldNames.length == 0)
+                buf.append ("<TH>\n");
+            else
+                for (int i=0; i<fieldNames.length; ++i)
+                    buf.append ("<TH>").append (fieldNames[i]).append ('\n');
+            break;
+          case CSV:
+            buf.append ("url");
+            for (int i=0; i<Math.max (fieldNames.length, 1); ++i) {
+                buf.append (',');
+                quoteCSV (buf, columnName (i));
+            }
+            buf.append ('\n');
+            break;
+        }
+        return buf.toString ();
+    }
+
+    // Write all the waiting batches in one block.  Returns false if 
+    // there were none.
+    boolean writeBatches () throws IOException {
+        RecordBatch batch = (RecordBatch)queue.poll ();
+        if (batch == null)
+            return false;
+
+        StringBuffer buf = new StringBuffer ();
+        int n = 0;
+        for (; batch != null; batch = (RecordBatch)queue.poll ()) {
+            if (format == HTML) {
+                int start = 0;
+                for (int i=0; i<batch.count; ++i) {
+                    ++nWritten;
+                    String template = Str.replace (RECORD_START, "%n", String.valueOf (nWritten));
+                    template = Str.replace (template, "%u", 
+                                            batch.urls[i] != null ? batch.urls[i].toString () : "");
+                    buf.append (template);
+                    buf.append (batch.text, start, batch.ends[i]);
+                    buf.append (RECORD_END);
+                    start = batch.ends[i];
+                }
+            }
+            else
+                buf.append (batch.text);
+            ++n;
+            if (buf.length () >= 4 * BATCH_SIZE * MAX_PENDING)
+                break;
+        }
+        out.write (encode (buf.toString ()));
+        written += n;
+        return true;
+    }
+
+    // True when every batch handed off has been written.
+    boolean isDrained () {
+        return written == enqueued.get () && queue.isEmpty ();
+    }
+
+    void flushed () throws IOException {
+        if (out != null && format == HTML) {
+            // write the epilog, then back up so the next records overwrite it
+            long p = out.getFilePointer ();
+            out.write (encode (EPILOG));
+            out.seek (p);
+        }
+        synchronized (this) {
+            flushed = written;
+            ++flushes;
+            notifyAll ();
+        }
+    }
+
+    void finish () throws IOException {
+        if (format == HTML)
+            out.write (encode (EPILOG));
+        out.setLength (out.getFilePointer ());
+        out.close ();
+        synchronized (this) {
+            flushed = written;
+            notifyAll ();
+        }
+    }
+
+    synchronized void failed (IOException e) {
+        if (exception == null)
+            exception = e;
+        closing = true;
+        queue.clear ();
+        try {
+            out.close ();
+        } catch (IOException e2) {}
+        notifyAll ();
+    }
+
+    // HTML is written in ISO 8859-1, with character references for
+    // characters outside it; CSV and JSON are written in UTF-8.
+    private byte[] encode (String s) throws IOException {
+        if (format != HTML)
+            return s.getBytes ("UTF-8");
+
+        ByteArrayOutputStream b = new ByteArrayOutputStream (s.length () + 16);
+        for (int i=0; i<s.length (); ++i) {
+            char c = s.charAt (i);
+            if (c <= 0xFF)
+                b.write (c);
+            else {
+                int cp = Character.codePointAt (s, i);
+                if (cp > 0xFFFF)
+                    ++i;
+                byte[] ref = ("&#" + cp + ";").getBytes ("ISO-8859-1");
+                b.write (ref, 0, ref.length);
+            }
+        }
+        return b.toByteArray ();
+    }
+}
+
+/**
+ * One thread's buffer of formatted records.
+ */
+class RecordBuffer {
+    RecordBatch batch = new RecordBatch ();
+    StringWriter html = new StringWriter ();
+    LinkTransformer transformer = new LinkTransformer (html);
+        // renders Regions as HTML with absolute links
+}
+
+/**
+ * Formatted records handed from a thread to the writer thread.
+ */
+class RecordBatch {
+    StringBuffer text = new StringBuffer (RecordSink.BATCH_SIZE + 1024);
+    int count = 0;
+    int[] ends = new int[64];   // end of each record in text
+    URL[] urls = new URL[64];   // URL of each record
+
+    void add (URL url) {
+        if (count == ends.length) {
+            int[] newends = new int[count * 2];
+            System.arraycopy (ends, 0, newends, 0, count);
+            ends = newends;
+            URL[] newurls = new URL[count * 2];
+            System.arraycopy (urls, 0, newurls, 0, count);
+            urls = newurls;
+        }
+        ends[count] = text.length ();
+        urls[count] = url;
+        ++count;
+    }
+}
+
+/**
+ * Background thread that writes a RecordSink's records to its file.
+ */
+class RecordSinkThread extends Thread {
+    RecordSink sink;
+
+    static final long POLL = 10 * 1000000L;     // nanoseconds
+
+    RecordSinkThread (RecordSink sink) {
+        super ("Record writer");
+        this.sink = sink;
+        setDaemon (true);
+    }
+
+    public void run () {
+        try {
+            while (true) {
+                if (sink.writeBatches ())
+                    continue;
+                if (sink.flushRequested) {
+                    sink.flushRequested = false;
+                    sink.flushed ();
+                }
+                if (sink.closing && sink.isDrained ())
+                    break;
+                LockSupport.parkNanos (POLL);
+            }
+            sink.finish ();
+        } catch (IOException e) {
+            sink.failed (e);
+        }
+    }
+}
@@ -34,6 +34,7 @@ package websphinx;
 
 import java.util.Vector;
 import java.util.Enumeration;
+import java.util.Hashtable;
 import java.io.IOException;
 //#ifdef JDK1.1
 import java.io.ObjectInputStream;
@@ -51,7 +52,7 @@ public class Regexp extends Pattern {
     }
     
     public boolean equals (Object object) {
-        if (! (object instanceof Regexp))
+        if (! (object instanceof Regexp) || object.getClass () != getClass ())
             return false;
         Regexp p = (Regexp)object;
         return p.stringRep.equals (stringRep);
@@ -66,18 +67,42 @@ public class Regexp extends Pattern {
     //#endif JDK1.1
 
     
-    private void init () {
-        try {
-            this.pattern = new org.apache.regexp.RECompiler ().compile (translateFields (stringRep));
-        } catch (org.apache.regexp.RESyntaxException e) {
-            throw new RuntimeException ("syntax error in pattern: " 
-                                        + e.getMessage ());
+    void init () {
+        this.pattern = compile (translateFields (stringRep));
+    }
+
+    // Compiled programs, shared by all Regexps (and the Wildcards that
+    // need one) with the same regular expression.  REPrograms are never
+    // modified once compiled, so any number of matchers can run one at
+    // the same time.
+    private static Hashtable programs = new Hashtable ();
+    static final int MAX_PROGRAMS = 1000;
+
+    private static org.apache.regexp.REProgram compile (String regexp) {
+        org.apache.regexp.REProgram program = 
+            (org.apache.regexp.REProgram)programs.get (regexp);
+        if (program == null) {
+            try {
+                program = new org.apache.regexp.RECompiler ().compile (regexp);
+            } catch (org.apache.regexp.RESyntaxException e) {
+                throw new RuntimeException ("syntax error in pattern: " 
+                                            + e.getMessage ());
+            }
+            if (programs.size () >= MAX_PROGRAMS)
+                programs.clear ();
+            programs.put (regexp, program);
         }
+        return program;
     }
     
     public String[] getFieldNames () {
         return fields;
     }
+
+    // Get a string that every match contains, or null.
+    String getRequiredLiteral () {
+        return pattern.getRequiredLiteral ();
+    }
     
     public String toString () {
         return stringRep;
@@ -87,6 +112,17 @@ public class Regexp extends Pattern {
         return new RegexpMatcher (this, region);
     }
 
+    public PatternMatcher matchText (Region region) {
+        return new RegexpMatcher (this, region, true);
+    }
+
+    public boolean found (String string) {
+        // match the string itself rather than a Page copied from it
+        // (an empty string never matches, as with an empty region)
+        return string.length () > 0
+            && new org.apache.regexp.RE (pattern, 0).match (string, 0);
+    }
+
     public static String escape (String s) {
         return rcm.util.Str.escape (s, '\\', "\\^.$|()[]*+?{}");
     }
@@ -166,42 +202,129 @@ class RegexpMatcher extends PatternMatcher {
     Regexp regexp;
     Region source;
     org.apache.regexp.RE re;
-    String content;
+    org.apache.regexp.CharacterIterator content;
+        // window onto the page content covered by source, so that
+        // matching doesn't copy the region's text
+    int length;
+    int base;
     int pos;
+    boolean matched;
+        // true if re holds a match found by advance()
+    PageText text;
+        // if matching the region's text rather than its HTML, the
+        // page's text (base is then an offset in the text)
 
     public RegexpMatcher (Regexp regexp, Region source) {
+        this (regexp, source, false);
+    }
+
+    public RegexpMatcher (Regexp regexp, Region source, boolean overText) {
         this.regexp = regexp;
         this.source = source;
         this.re = new org.apache.regexp.RE (regexp.pattern, 0);
-        this.content = source.toString ();
+        Page page = source.getSource ();
+        String content = page.getContent ();
+            // (may download the page, which sets the region's extent)
+        if (overText) {
+            text = page.getPageText ();
+            if (text == null) {
+                // page is not parsed, so it has no text
+                content = "";
+                base = length = 0;
+            }
+            else {
+                content = text.text;
+                base = text.getStart (source.getStart (), source.getEnd ());
+                length = text.getEnd (source.getStart (), source.getEnd ()) - base;
+            }
+        }
+        else {
+            base = source.getStart ();
+            length = source.getEnd () - base;
+        }
+        this.content = new org.apache.regexp.StringCharacterIterator (
+                               content, base, length);
         this.pos = 0;
     }
 
+    // Map the start and end of a match or group to page offsets.
+    // (Offsets of unmatched groups are negative and are left alone.)
+    int toStart (int offset) {
+        return text != null && offset >= 0
+            ? text.toHTMLStart (base + offset) : base + offset;
+    }
+
+    int toEnd (int offset) {
+        return text != null && offset >= 0
+            ? text.toHTMLEnd (base + offset) : base + offset;
+    }
+
     protected Region findNext () {
-        if (pos < content.length () && re.match (content, pos)) {
+        return advance () ? makeMatch () : null;
+    }
+
+    public boolean find () {
+        if (!yielded) {
+            // hasMoreElements() already found this one
+            yielded = true;
+            return match != null;
+        }
+        match = null;
+        return advance ();
+    }
+
+    // Run the regexp from pos, leaving the match (if any) in re
+    boolean advance () {
+        matched = pos < length && re.match (content, pos);
+        if (matched)
             pos = Math.max (pos+1, re.getParenEnd (0));
- 
-            Page page = source.getSource ();
-            int base = source.getStart ();
-            Region match = new Region (page, 
-                                       base + re.getParenStart (0),
-                                       base + re.getParenEnd (0));
+        else
+            pos = length;
+        return matched;
+    }
+
+    Region makeMatch () {
+        Page page = source.getSource ();
+        Region match = new Region (page, 
+                                   toStart (re.getParenStart (0)),
+                                   toEnd (re.getParenEnd (0)));
             
-            int n = re.getParenCount () - 1;
-            Region[] groups = new Region[n];
-            for (int i=0; i<n; ++i) {
-                Region r = new Region (page, 
-                                       base + re.getParenStart (i+1),
-                                       base + re.getParenEnd (i+1));
-                groups[i] = r;
-                match.setField (regexp.fields[i], r);
-            }
-            match.setFields (Pattern.groups, groups);
-            return match;
-        }
-        else {
-            pos = content.length ();
-            return null;
+        int n = re.getParenCount () - 1;
+        Region[] groups = new Region[n];
+        for (int i=0; i<n; ++i) {
+            Region r = new Region (page, 
+                                   toStart (re.getParenStart (i+1)),
+                                   toEnd (re.getParenEnd (i+1)));
+            groups[i] = r;
+            match.setField (regexp.fields[i], r);
         }
+        match.setFields (Pattern.groups, groups);
+        return match;
+    }
+
+    public Region getMatch () {
+        if (match == null && matched)
+            match = makeMatch ();
+        return match;
+    }
+
+    public int getStart () {
+        return toStart (re.getParenStart (0));
+    }
+
+    public int getEnd () {
+        return toEnd (re.getParenEnd (0));
+    }
+
+    public int getGroupCount () {
+        return re.getParenCount () - 1;
+    }
+
+    public int getGroupStart (int i) {
+        return toStart (re.getParenStart (i+1));
+    }
+
+    public int getGroupEnd (int i) {
+        return toEnd (re.getParenEnd (i+1));
     }
 }
@@ -68,8 +68,7 @@ public class Region {
         this.source = region.source;
         this.start = region.start;
         this.end = region.end;
-        if (region.names != null)
-            this.names = (Hashtable)region.names.clone ();
+        copyLabels (region);
     }
 
     /**
@@ -223,7 +222,15 @@ public class Region {
         return new Region (source, start, r.end);
     }
 
-    protected Hashtable names = null;
+    private Hashtable names = null;
+            // label values other than TRUE, and labels whose names
+            // have no id in the LabelRegistry.  Not every label is
+            // here, so it's private; use enumerateObjectLabels ()
+            // and getObjectLabel () to see them all.
+    long labelBits = 0;
+            // labels whose names have ids, by id
+    boolean unindexed = false;
+            // true if a label was ever put in names without its bit
 
     static final int INITIAL_SIZE = 4; 
             // typically only a handful of names are set
@@ -243,19 +250,53 @@ public class Region {
         if (value == null)
             removeLabel (name);
         else {
+            // only valueless labels claim ids, since arbitrary names
+            // (like the attributes of a Tag) would soon use them up
+            int id = value == TRUE
+                ? LabelRegistry.register (name)
+                : LabelRegistry.lookup (name);
+            if (id != -1) {
+                labelBits |= 1L << id;
+                if (value == TRUE) {
+                    if (names != null)
+                        names.remove (name);
+                    return;
+                }
+            }
+            else
+                unindexed = true;
             if (names == null)
                 names = new Hashtable (INITIAL_SIZE);
             names.put (name, value);
         }
     }
 
+    // replaces this region's labels with a copy of region's
+    void copyLabels (Region region) {
+        labelBits = region.labelBits;
+        unindexed = region.unindexed;
+        names = region.names != null ? (Hashtable)region.names.clone () : null;
+    }
+
+    private boolean hasBit (String name) {
+        if (labelBits == 0)
+            return false;
+        int id = LabelRegistry.lookup (name);
+        return id != -1 && (labelBits & (1L << id)) != 0;
+    }
+
     /**
      * Get an object-valued label.
      * @param name name of label (case-sensitive, whitespace permitted)
      * @return Object value set for label, or null if label not set
      */
     public Object getObjectLabel (String name) {
-        return names != null ? names.get (name) : null;
+        if (names != null) {
+            Object value = names.get (name);
+            if (value != null)
+                return value;
+        }
+        return hasBit (name) ? TRUE : null;
     }
 
     /**
@@ -263,7 +304,29 @@ public class Region {
      * @return enumeration producing label names
      */
     public Enumeration enumerateObjectLabels () {
-        return names != null ? names.keys () : new ArrayEnumeration (null);
+        if (labelBits == 0)
+            return names != null ? names.keys () : new ArrayEnumeration (null);
+
+        int n = names != null ? names.size () : 0;
+        for (long bits = labelBits; bits != 0; bits &= bits - 1)
+            ++n;
+        String[] result = new String[n];
+        int i = 0;
+        for (int id=0; id<LabelRegistry.MAX_IDS; ++id)
+            if ((labelBits & (1L << id)) != 0)
+                result[i++] = LabelRegistry.getName (id);
+        if (names != null)
+            for (Enumeration e = names.keys (); e.hasMoreElements (); ) {
+                String name = (String)e.nextElement ();
+                if (!hasBit (name))
+                    result[i++] = name;
+            }
+        if (i < n) {
+            String[] shorter = new String[i];
+            System.arraycopy (result, 0, shorter, 0, i);
+            result = shorter;
+        }
+        return new ArrayEnumeration (result);
     }
 
     /**
@@ -352,7 +415,7 @@ public class Region {
      * @return true if label is set, otherwise false
      */
     public boolean hasLabel (String name) {
-        return names != null && names.containsKey (name);
+        return hasBit (name) || (names != null && names.containsKey (name));
     }
 
     /** 
@@ -374,8 +437,13 @@ public class Region {
      * @return true if region has at least one of the labels
      */
     public boolean hasAnyLabels (String[] labels) {
+        LabelRegistry.Mask mask = LabelRegistry.getMask (labels);
+        if ((labelBits & mask.bits) != 0)
+            return true;
+        if (names == null || (mask.complete && !unindexed))
+            return false;
         for (int i=0; i<labels.length; ++i)
-            if (hasLabel (labels[i]))
+            if (names.containsKey (labels[i]))
                 return true;
         return false;
     }
@@ -399,6 +467,9 @@ public class Region {
      * @return true if region has all of the labels
      */
     public boolean hasAllLabels (String[] labels) {
+        LabelRegistry.Mask mask = LabelRegistry.getMask (labels);
+        if (mask.complete && !unindexed)
+            return (labelBits & mask.bits) == mask.bits;
         for (int i=0; i<labels.length; ++i)
             if (!hasLabel (labels[i]))
                 return false;
@@ -413,6 +484,11 @@ public class Region {
     public void removeLabel (String name) {
         if (names != null)
             names.remove (name);
+        if (labelBits != 0) {
+            int id = LabelRegistry.lookup (name);
+            if (id != -1)
+                labelBits &= ~(1L << id);
+        }
     }
 
     /**
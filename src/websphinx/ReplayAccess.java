@@ -0,0 +1,503 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Hashtable;
+import java.util.Vector;
+import java.util.zip.Inflater;
+import java.util.zip.DataFormatException;
+
+/**
+ * Access that serves pages from local archives instead of the network,
+ * so that a crawl can be repeated exactly.  Install it with
+ * Access.setAccess() before starting the crawler.
+ * <P>
+ * Two kinds of archive can be added:
+ * <UL>
+ * <LI>WARC files, compressed or not, such as those made by WarcWriter.
+ * Response and resource records are indexed by URL; when a URL was
+ * archived more than once, the last record wins.  A metadata record that
+ * refers to a response record (as WarcWriter writes for a redirected
+ * page) makes its URL a redirect to that response, and the replayed
+ * connection reports the response's URL, just as a live one would.
+ * <LI>Directory stores, in which the page for
+ * <CODE>http://<I>host</I>:<I>port</I>/<I>path</I></CODE> is kept in the file
+ * <CODE><I>host</I>_<I>port</I>/<I>path</I></CODE> (or
+ * <CODE><I>host</I>/<I>path</I></CODE> for the default port), and
+ * directory URLs are kept in <CODE>index.html</CODE>.
+ * </UL>
+ * Archives are memory-mapped rather than read.  A URL that isn't in any
+ * archive fails with FileNotFoundException, just like a missing page.
+ * <P>
+ * Network latency and bandwidth can be simulated per host.
+ */
+public class ReplayAccess extends Access {
+
+    Hashtable records = new Hashtable ();  // page URL (String) -> ArchivedRecord
+    Hashtable targets = new Hashtable ();  // response record ID -> page URL (String)
+    Vector stores = new Vector ();         // directory stores (File)
+
+    int defaultLatency;
+    int defaultBandwidth;
+    Hashtable latencies = new Hashtable ();    // host -> Integer
+    Hashtable bandwidths = new Hashtable ();   // host -> Integer
+
+    static final int CHUNK_SIZE = 64 * 1024;
+    static final int MAX_HEADER_SIZE = 64 * 1024;
+
+    /**
+     * Make a ReplayAccess with no archives.
+     */
+    public ReplayAccess () {
+    }
+
+    /**
+     * Make a ReplayAccess that serves from an archive.
+     * @param archive WARC file or directory store
+     * @exception IOException if the archive can't be read
+     */
+    public ReplayAccess (File archive) throws IOException {
+        addArchive (archive);
+    }
+
+    /**
+     * Add an archive.  If it's a directory, it's used as a directory
+     * store; otherwise it's indexed as a WARC file.
+     * @param archive WARC file or directory store
+     * @exception IOException if the archive can't be read
+     */
+    public void addArchive (File archive) throws IOException {
+        if (archive.isDirectory ()) {
+            synchronized (stores) {
+                stores.addElement (archive);
+            }
+            return;
+        }
+
+        ByteBuffer buf = map (archive);
+        if (buf.remaining () >= 2
+            && (buf.get (0) & 0xFF) == 0x1f && (buf.get (1) & 0xFF) == 0x8b)
+            indexCompressed (buf);
+        else
+            indexUncompressed (buf);
+    }
+
+    /**
+     * Add a page held in memory.  It replaces any page already archived
+     * for the URL.
+     * @param url URL of the page
+     * @param contentType MIME type of the page, or null if unknown
+     * @param content content of the page
+     */
+    public void addPage (URL url, String contentType, byte[] content) {
+        records.put (key (url), new StoredRecord (contentType, content));
+    }
+
+    /**
+     * Test whether a URL can be served from a WARC file or a page added
+     * with addPage().  (URLs in directory stores aren't checked.)
+     * @param url URL to look up
+     * @return true if some WARC file or added page has a page for url
+     */
+    public boolean isArchived (URL url) {
+        return records.containsKey (key (url));
+    }
+
+    /**
+     * Get the number of URLs indexed from WARC files or added with 
+     * addPage().
+     * @return number of distinct URLs
+     */
+    public int getArchivedCount () {
+        return records.size ();
+    }
+
+    /**
+     * Set the simulated latency, the time taken to open a connection.
+     * @param host Host name, or null for the default for all other hosts
+     * @param millis delay in milliseconds, or 0 for none
+     */
+    public synchronized void setLatency (String host, int millis) {
+        if (host == null)
+            defaultLatency = millis;
+        else
+            latencies.put (host.toLowerCase (), new Integer (millis));
+    }
+
+    /**
+     * Get the simulated latency for a host.
+     * @param host Host name, or null for the default
+     * @return delay in milliseconds
+     */
+    public synchronized int getLatency (String host) {
+        Integer millis = host != null 
+            ? (Integer)latencies.get (host.toLowerCase ()) : null;
+        return millis != null ? millis.intValue () : defaultLatency;
+    }
+
+    /**
+     * Set the simulated bandwidth, the rate at which content can be read.
+     * @param host Host name, or null for the default for all other hosts
+     * @param bytesPerSecond rate, or 0 for no limit
+     */
+    public synchronized void setBandwidth (String host, int bytesPerSecond) {
+        if (host == null)
+            defaultBandwidth = bytesPerSecond;
+        else
+            bandwidths.put (host.toLowerCase (), new Integer (bytesPerSecond));
+    }
+
+    /**
+     * Get the simulated bandwidth for a host.
+     * @param host Host name, or null for the default
+     * @return rate in bytes per second, or 0 for no limit
+     */
+    public synchronized int getBandwidth (String host) {
+        Integer rate = host != null 
+            ? (Integer)bandwidths.get (host.toLowerCase ()) : null;
+        return rate != null ? rate.intValue () : defaultBandwidth;
+    }
+
+    public URLConnection openConnection (URL url) throws IOException {
+        return replay (Link.getPageURL (url));
+    }
+
+    public URLConnection openConnection (Link link) throws IOException {
+        switch (link.getMethod ()) {
+            case Link.GET:
+            case Link.POST:
+                // a POST is archived under its full URL, query included
+                return replay (link.getPageURL ());
+            default:
+                throw new IOException ("Unknown HTTP method " + link.getMethod());
+        }
+    }
+
+    ArchivedConnection replay (URL url) throws IOException {
+        String host = url.getHost ();
+        int latency = getLatency (host);
+        if (latency > 0)
+            try {
+                Thread.sleep (latency);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException ();
+            }
+
+        ArchivedConnection conn = lookup (url);
+        if (conn == null)
+            throw new FileNotFoundException ("not archived: " + url);
+        conn.setBandwidth (getBandwidth (host));
+        conn.connect ();
+        return conn;
+    }
+
+    ArchivedConnection lookup (URL url) throws IOException {
+        ArchivedRecord r = (ArchivedRecord)records.get (key (url));
+        if (r != null)
+            return r.open (url);
+
+        File[] dirs;
+        synchronized (stores) {
+            dirs = new File[stores.size ()];
+            stores.copyInto (dirs);
+        }
+        for (int i=0; i<dirs.length; ++i) {
+            File file = storeFile (dirs[i], url);
+            if (file != null && file.isFile ())
+                return new ArchivedConnection (url, 
+                           URLConnection.guessContentTypeFromName (file.getName ()),
+                           map (file));
+        }
+        return null;
+    }
+
+    static String key (URL url) {
+        String s = url.toExternalForm ();
+        int hash = s.indexOf ('#');
+        return hash != -1 ? s.substring (0, hash) : s;
+    }
+
+    static File storeFile (File dir, URL url) {
+        String host = url.getHost ();
+        if (host == null || host.length () == 0)
+            return null;
+        int port = url.getPort ();
+        String path = url.getFile ();
+        if (path.length () == 0 || path.endsWith ("/"))
+            path += "index.html";
+        if (path.indexOf ("..") != -1)
+            return null;
+        return new File (new File (dir, port != -1 ? host + "_" + port : host),
+                         path.replace ('/', File.separatorChar));
+    }
+
+    static ByteBuffer map (File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile (file, "r");
+        try {
+            FileChannel channel = raf.getChannel ();
+            long size = channel.size ();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException (file + " is too large to map");
+            return channel.map (FileChannel.MapMode.READ_ONLY, 0, size);
+        } finally {
+            raf.close ();
+        }
+    }
+
+    /*
+     * Indexing
+     *
+     */
+
+    void indexUncompressed (ByteBuffer buf) throws IOException {
+        int p = 0;
+        int limit = buf.limit ();
+        Hashtable fields = new Hashtable ();
+        while (true) {
+            while (p < limit && (buf.get (p) == '\r' || buf.get (p) == '\n'))
+                ++p;
+            if (p == limit)
+                break;
+
+            int start = p;
+            fields.clear ();
+            p = parseHeaders (buf, p, limit, fields);
+            String length = (String)fields.get ("content-length");
+            if (p == -1 || length == null)
+                throw new IOException ("bad WARC record at offset " + start);
+            p += Integer.parseInt (length);
+            if (p > limit)
+                throw new EOFException ("WARC record is truncated at offset " 
+                                        + start);
+            put (fields, new ArchivedRecord (buf, start, p - start));
+        }
+    }
+
+    void indexCompressed (ByteBuffer buf) throws IOException {
+        Inflater inflater = new Inflater (true);
+        byte[] in = new byte[CHUNK_SIZE];
+        byte[] out = new byte[CHUNK_SIZE];
+        byte[] head = new byte[MAX_HEADER_SIZE];
+        Hashtable fields = new Hashtable ();
+        int p = 0;
+        int limit = buf.limit ();
+        try {
+            while (p < limit) {
+                int start = p;
+                p = skipGzipHeader (buf, p, limit);
+
+                // inflate the member, keeping just the start of it
+                inflater.reset ();
+                int headLength = 0;
+                int fed = p;
+                while (!inflater.finished ()) {
+                    if (inflater.needsInput ()) {
+                        if (fed == limit)
+                            throw new EOFException ("WARC record is truncated at offset "
+                                                    + start);
+                        int n = Math.min (in.length, limit - fed);
+                        ByteBuffer chunk = buf.duplicate ();
+                        chunk.position (fed);
+                        chunk.get (in, 0, n);
+                        inflater.setInput (in, 0, n);
+                        fed += n;
+                    }
+                    int n = inflater.inflate (out);
+                    if (n == 0 && inflater.needsDictionary ())
+                        throw new IOException ("bad gzip member at offset " + start);
+                    int k = Math.min (n, head.length - headLength);
+                    System.arraycopy (out, 0, head, headLength, k);
+                    headLength += k;
+                }
+                p = fed - inflater.getRemaining () + 8;  // skip CRC and size
+
+                fields.clear ();
+                if (parseHeaders (ByteBuffer.wrap (head, 0, headLength), 0, 
+                                  headLength, fields) == -1)
+                    throw new IOException ("bad WARC record at offset " + start);
+                put (fields, new ArchivedRecord (buf, start, p - start));
+            }
+        } catch (DataFormatException e) {
+            throw new IOException ("bad gzip member: " + e.getMessage ());
+        } finally {
+            inflater.end ();
+        }
+    }
+
+    // Returns the offset of the deflated data in a gzip member.
+    static int skipGzipHeader (ByteBuffer buf, int p, int limit) throws IOException {
+        if (limit - p < 10 
+            || (buf.get (p) & 0xFF) != 0x1f || (buf.get (p+1) & 0xFF) != 0x8b
+            || buf.get (p+2) != 8)
+            throw new IOException ("bad gzip member at offset " + p);
+        int flags = buf.get (p+3);
+        p += 10;
+        if ((flags & 4) != 0)   // FEXTRA
+            p += 2 + ((buf.get (p) & 0xFF) | (buf.get (p+1) & 0xFF) << 8);
+        if ((flags & 8) != 0)   // FNAME
+            while (p < limit && buf.get (p++) != 0)
+                ;
+        if ((flags & 16) != 0)  // FCOMMENT
+            while (p < limit && buf.get (p++) != 0)
+                ;
+        if ((flags & 2) != 0)   // FHCRC
+            p += 2;
+        if (p > limit)
+            throw new EOFException ("truncated gzip header");
+        return p;
+    }
+
+    // Parses WARC header lines into fields (with lower-cased names).
+    // Returns the offset after the blank line, or -1 if there isn't one.
+    static int parseHeaders (ByteBuffer buf, int p, int limit, Hashtable fields) {
+        StringBuffer line = new StringBuffer ();
+        boolean first = true;
+        while (p < limit) {
+            int c = buf.get (p++) & 0xFF;
+            if (c == '\r')
+                continue;
+            if (c != '\n') {
+                line.append ((char)c);
+                continue;
+            }
+            if (line.length () == 0)
+                return p;
+            String s = line.toString ();
+            line.setLength (0);
+            int colon = s.indexOf (':');
+            if (first) {
+                if (!s.startsWith ("WARC/"))
+                    return -1;
+                first = false;
+            }
+            else if (colon > 0)
+                fields.put (s.substring (0, colon).trim ().toLowerCase (),
+                            s.substring (colon+1).trim ());
+        }
+        return -1;
+    }
+
+    void put (Hashtable fields, ArchivedRecord record) {
+        String type = (String)fields.get ("warc-type");
+        String uri = (String)fields.get ("warc-target-uri");
+        String refersTo = (String)fields.get ("warc-refers-to");
+        if (uri == null)
+            return;
+        try {
+            String key = key (new URL (uri));
+            if ("response".equals (type) || "resource".equals (type)) {
+                records.put (key, record);
+                String id = (String)fields.get ("warc-record-id");
+                if (id != null)
+                    targets.put (id, key);
+            }
+            else if ("metadata".equals (type) && refersTo != null)
+                records.put (key, new RedirectRecord (this, refersTo));
+        } catch (MalformedURLException e) {
+            // can't be requested anyway
+        }
+    }
+}
+
+/**
+ * Location of a record in a mapped WARC file.
+ */
+class ArchivedRecord {
+    ByteBuffer buf;
+    int offset;
+    int length;
+
+    ArchivedRecord (ByteBuffer buf, int offset, int length) {
+        this.buf = buf;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    ArchivedConnection open (URL url) throws IOException {
+        ByteBuffer slice = buf.duplicate ();
+        slice.position (offset);
+        slice.limit (offset + length);
+        WarcRecord record = new WarcReader (new BufferInputStream (slice.slice ())).readRecord ();
+        if (record == null)
+            throw new IOException ("empty WARC record");
+        return (ArchivedConnection)record.toConnection (url);
+    }
+}
+
+/**
+ * URL that was redirected to the URL of another record, named by its
+ * record ID.
+ */
+class RedirectRecord extends ArchivedRecord {
+    ReplayAccess access;
+    String refersTo;
+
+    RedirectRecord (ReplayAccess access, String refersTo) {
+        super (null, 0, 0);
+        this.access = access;
+        this.refersTo = refersTo;
+    }
+
+    ArchivedConnection open (URL url) throws IOException {
+        String target = (String)access.targets.get (refersTo);
+        if (target == null)
+            return null;
+        ArchivedRecord r = (ArchivedRecord)access.records.get (target);
+        if (r == null || r instanceof RedirectRecord)
+            return null;
+        // the connection reports the final URL, as after a live redirect
+        return r.open (new URL (target));
+    }
+}
+
+/**
+ * Page added to a ReplayAccess from memory.
+ */
+class StoredRecord extends ArchivedRecord {
+    String contentType;
+
+    StoredRecord (String contentType, byte[] content) {
+        super (ByteBuffer.wrap (content), 0, content.length);
+        this.contentType = contentType;
+    }
+
+    ArchivedConnection open (URL url) {
+        return new ArchivedConnection (url, contentType, buf.duplicate ());
+    }
+}
@@ -34,6 +34,10 @@ package websphinx;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Vector;
 
 /**
  * Transformer that remaps URLs in links in such a way
@@ -59,6 +63,18 @@ public class RewritableLinkTransformer extends LinkTransformer {
         file = new File (filename);
     }
 
+    /**
+     * Make a RewritableLinkTransformer for a file that has already
+     * been written and closed, whose links will be read with
+     * loadLinks().  The file is left as it is until rewrite().
+     * @param file File to rewrite
+     */
+    RewritableLinkTransformer (File file) {
+        super ((HTMLTransformer)null);
+        this.file = file;
+        closed = true;
+    }
+
     public void close () throws IOException {
         super.close ();
         closed = true;
@@ -77,8 +93,15 @@ public class RewritableLinkTransformer extends LinkTransformer {
             
             emit (s.substring (0, prefix));
             
+            // (test before looking up the href, in case the URL's
+            // mapping changes in between)
+            boolean rewritable = isRewritable (url);
             String href = lookup (base, url);
-            RewriteRegion node = addURL (url, getFilePointer(), href.length());
+            if (rewritable) {
+                Charset charset = getOutputCharset ();
+                addURL (url, getFilePointer(), 
+                        href.getBytes (charset).length, charset);
+            }
             emit (href);
             
             emit (s.substring (postfix));
@@ -91,11 +114,12 @@ public class RewritableLinkTransformer extends LinkTransformer {
            emit (link.getEndTag ());
     }
 
-    private RewriteRegion addURL (URL url, long offset, int len) {
+    private RewriteRegion addURL (URL url, long offset, int len, Charset charset) {
         RewriteRegion node = new RewriteRegion ();
         node.url = url;
         node.offset = offset;
         node.len = len;
+        node.charset = charset;
 
         if (tail == null) {
             head = tail = node;
@@ -112,11 +136,89 @@ public class RewritableLinkTransformer extends LinkTransformer {
         return node;
     }
 
-    static final int BUFFER_SIZE = 8;
+    /**
+     * Test whether links to a URL may need rewriting later.  Links for
+     * which this returns false are written as usual, but rewrite()
+     * leaves them alone and does not keep track of them.  By default,
+     * every link may need rewriting.
+     * @param url URL of a link
+     * @return true if the link's href may change
+     */
+    protected boolean isRewritable (URL url) {
+        return true;
+    }
+
+    /**
+     * Get the URLs of the links that rewrite() would remap.
+     * @return URLs of the links being tracked, in file order, with
+     * duplicates removed
+     */
+    URL[] getRewritableURLs () {
+        Vector v = new Vector ();
+        for (RewriteRegion loc = head; loc != null; loc = loc.next)
+            if (!v.contains (loc.url))
+                v.addElement (loc.url);
+        URL[] urls = new URL[v.size ()];
+        v.copyInto (urls);
+        return urls;
+    }
+
+    /**
+     * Save the locations of the links being tracked.
+     * @param out stream to write to
+     */
+    void saveLinks (DataOutputStream out) throws IOException {
+        int n = 0;
+        for (RewriteRegion loc = head; loc != null; loc = loc.next)
+            ++n;
+        out.writeInt (n);
+        for (RewriteRegion loc = head; loc != null; loc = loc.next) {
+            out.writeUTF (loc.url.toExternalForm ());
+            out.writeLong (loc.offset);
+            out.writeInt (loc.len);
+            out.writeUTF (loc.charset.name ());
+        }
+    }
+
+    /**
+     * Read link locations saved by saveLinks(), and track them.
+     * @param in stream to read from
+     */
+    void loadLinks (DataInputStream in) throws IOException {
+        for (int n = in.readInt (); n > 0; --n) {
+            URL url = new URL (in.readUTF ());
+            long offset = in.readLong ();
+            int len = in.readInt ();
+            addURL (url, offset, len, Charset.forName (in.readUTF ()));
+        }
+    }
+
+    private void removeURL (RewriteRegion node) {
+        if (node.prev != null)
+            node.prev.next = node.next;
+        else
+            head = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        else
+            tail = node.prev;
+    }
 
     /**
      * Rewrite the file, remapping all the URLs according to their
-     * current values from lookup().
+     * current values from lookup().  The file is copied once through a
+     * FileChannel to a temporary file next to it, with the new URLs in
+     * place; the unchanged runs between links are moved with
+     * transferTo(), so the kernel can copy them without passing them
+     * through Java buffers.  The copy then replaces the file in a single
+     * atomic rename, so if the rewrite fails, the file is left as it
+     * was and the temporary file is deleted.
+     * <P>
+     * If the transformer is still writing to the file (as Concatenator
+     * does), the file is closed for the rename and reopened afterwards,
+     * and writing carries on at its new end.  Links that were no longer
+     * rewritable (see isRewritable()) when this pass looked them up are
+     * forgotten.
      */
     public void rewrite () throws IOException {
         flush ();
@@ -125,154 +227,102 @@ public class RewritableLinkTransformer extends LinkTransformer {
             // no links to rewrite
             return;
 
-        RandomAccessFile raf = closed
-            ? Access.getAccess ().readWriteFile (file)
-            : getRandomAccessFile ();
-
-        byte buf[] = new byte[BUFFER_SIZE];
-        long end = raf.length ();
-        long src = 0;
-        long dest = 0;
-        long left;
-        int n;
-        int growth = 0;
-        int shrinkage = 0;
-
-        // Forward pass
-        //    Rewrite only URLs which are becoming shorter
-        raf.seek (dest);
-        for (RewriteRegion loc = head; loc != null; loc = loc.next) {
-            // loop invariant: file[0..dest-1] is rewritten,
-            // and next byte to copy to file[dest] is from file[src]
-            // and raf.getFilePointer() == dest
-            long diff = dest - src;
-
-            String href = lookup (base, loc.url);
-            loc.newHref = href;
-            loc.newLen = href.length ();
-
-            if (loc.newLen > loc.len) {
-                // new URL is longer than old URL
-                // must postpone rewriting this until the backward pass
-                growth += loc.newLen - loc.len;
-                loc.offset += diff;
-                continue;
+        // new locations of the links, applied once the file is replaced
+        int n = 0;
+        for (RewriteRegion loc = head; loc != null; loc = loc.next)
+            ++n;
+        long[] offsets = new long[n];
+        int[] lens = new int[n];
+        boolean[] forget = new boolean[n];
+
+        Access access = Access.getAccess ();
+        File temp = new File (file.getParent (), file.getName () + ".rewrite");
+        RandomAccessFile raf = closed ? access.readWriteFile (file) : getRandomAccessFile ();
+        boolean reopen = false;
+        boolean renamed = false;
+        try {
+            RandomAccessFile tempFile = access.readWriteFile (temp);
+            try {
+                copy (raf.getChannel (), tempFile.getChannel (), 
+                      offsets, lens, forget);
+            } finally {
+                tempFile.close ();
             }
-            else
-                shrinkage += loc.len - loc.newLen;
-
-            // rewrite up to loc
-            left = loc.offset - src;
-            while (left > BUFFER_SIZE) {
-                raf.seek (src);
-                raf.read (buf);
-                raf.seek (dest);
-                raf.write (buf);
-                src += BUFFER_SIZE;
-                dest += BUFFER_SIZE;
-                left -= BUFFER_SIZE;
-            }
-            if (left > 0) {
-                n = (int)left;
-                raf.seek (src);
-                raf.read (buf, 0, n);
-                raf.seek (dest);
-                raf.write (buf, 0, n);
-                src += n;
-                dest += n;
-                left -= n;
+            raf.close ();
+            reopen = !closed;
+            access.renameFile (temp, file);
+            renamed = true;
+        } finally {
+            if (!renamed)
+                temp.delete ();
+            if (closed)
+                raf.close ();
+            if (reopen) {
+                // the new file, or the old one if the rename failed
+                RandomAccessFile r = access.readWriteFile (file);
+                r.seek (r.length ());
+                setRandomAccessFile (r);
             }
-
-            // write loc
-            raf.writeBytes (href);
-
-            dest += loc.newLen;
-            src += loc.len;
-
-            loc.offset += diff;
-            loc.len = loc.newLen;
         }
 
-        if (src > dest) {
-            // rewrite rest of file
-            while (true) {
-                raf.seek (src);
-                if ((n = raf.read (buf)) == -1)
-                    break;
-                raf.seek (dest);
-                raf.write (buf, 0, n);
-                src += n;
-                dest += n;
-            }
+        int i = 0;
+        for (RewriteRegion loc = head; loc != null; ++i) {
+            RewriteRegion next = loc.next;
+            loc.offset = offsets[i];
+            loc.len = lens[i];
+            if (forget[i])
+                removeURL (loc);
+            loc = next;
         }
-        else
-            src = dest = end;
-
-        src = dest;
-        dest += growth;
-        for (RewriteRegion loc = tail; loc != null; loc = loc.prev) {
-            // loop invariant: file[dest...end-1] is rewritten,
-            // and next byte to copy to file[dest] is from file[src]
-            long diff = dest - src;
-
-            if (loc.newLen <= loc.len) {
-                loc.offset += diff;
-                continue;
-            }
-
-            // rewrite back to loc
-            left = src - (loc.offset + loc.len);
-            while (left > BUFFER_SIZE) {
-                src -= BUFFER_SIZE;
-                dest -= BUFFER_SIZE;
-                left -= BUFFER_SIZE;
-                raf.seek (src);
-                raf.read (buf);
-                raf.seek (dest);
-                raf.write (buf);
-            }
-            if (left > 0) {
-                n = (int)left;
-                src -= n;
-                dest -= n;
-                raf.seek (src);
-                raf.read (buf, 0, n);
-                raf.seek (dest);
-                raf.write (buf, 0, n);
-            }
-
-            // write loc
-            dest -= loc.newLen;
-            src -= loc.len;
-            raf.seek (dest);
-            raf.writeBytes (loc.newHref);
+    }
 
-            loc.offset = dest;
-            loc.len = loc.newLen;
+    // Copy source to out, with the links' new hrefs in place, and store
+    // the links' new locations in offsets and lens.
+    private void copy (FileChannel source, FileChannel out, 
+                       long[] offsets, int[] lens, boolean[] forget) 
+            throws IOException {
+        out.truncate (0);
+        long end = source.size ();
+        long src = 0;
+        long diff = 0;
+        int i = 0;
+        for (RewriteRegion loc = head; loc != null; loc = loc.next, ++i) {
+            // loop invariant: source[0..src-1] has been copied to out,
+            // and diff is how much longer the copy is than the original
+
+            // (test before looking up the href, as handleLink() does,
+            // in case the URL's mapping changes in between)
+            forget[i] = !isRewritable (loc.url);
+            // (hrefs are encoded like the page they were written in,
+            // and offsets and lengths count encoded bytes)
+            byte[] href = lookup (base, loc.url).getBytes (loc.charset);
+            transfer (source, src, loc.offset - src, out);
+            write (out, href);
+            src = loc.offset + loc.len;
+
+            offsets[i] = loc.offset + diff;
+            lens[i] = href.length;
+            diff += href.length - loc.len;
         }
+        transfer (source, src, end - src, out);
+    }
 
-        if (src != dest)
-            System.err.println ("ASSERTION FAILURE: src=" + src + "!=dest=" + dest);
-
-        if (shrinkage > growth) {
-            // overwrite the rest of the file with spaces
-            for (int i=0; i<BUFFER_SIZE; ++i)
-                buf[i] = (byte)' ';
-            left = shrinkage - growth;
-            raf.seek (end - left);
-            while (left > BUFFER_SIZE) {
-                raf.write (buf);
-                left -= BUFFER_SIZE;
-            }
-            if (left > 0)
-                raf.write (buf, 0, (int)left);
+    // Transfer len bytes starting at position in source to the end of out.
+    private static void transfer (FileChannel source, long position, long len, 
+                                  FileChannel out) throws IOException {
+        while (len > 0) {
+            long n = source.transferTo (position, len, out);
+            if (n <= 0)
+                throw new EOFException ("file changed during rewrite");
+            position += n;
+            len -= n;
         }
-        else
-            raf.seek (end + (growth - shrinkage));
-
+    }
 
-        if (closed)
-            raf.close ();
+    private static void write (FileChannel out, byte[] b) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap (b);
+        while (buf.hasRemaining ())
+            out.write (buf);
     }
 
     /*
@@ -295,11 +345,9 @@ public class RewritableLinkTransformer extends LinkTransformer {
 
 class RewriteRegion {
     URL url;
-    long offset;
-    int len;
-
-    String newHref;
-    int newLen;
+    long offset;      // in bytes
+    int len;          // in bytes
+    Charset charset;  // charset the href is encoded in
 
     RewriteRegion next;
     RewriteRegion prev;
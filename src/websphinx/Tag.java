@@ -41,6 +41,7 @@ import rcm.enum.ArrayEnumeration;
 public class Tag extends Region {
 
     String tagName;
+    int id;                 // id of tagName in HTMLTags, or HTMLTags.UNKNOWN
     boolean startTag;
     String[] htmlAttributes;// HTML attributes on this tag (lower case and interned)
     Element element;
@@ -55,7 +56,19 @@ public class Tag extends Region {
      */
     public Tag (Page page, int start, int end, String tagName, boolean startTag) {
         super (page, start, end);
-        this.tagName = tagName.toLowerCase ().intern ();
+        this.id = HTMLTags.lookup (tagName);
+        this.tagName = (id != HTMLTags.UNKNOWN) 
+            ? HTMLTags.NAMES[id] 
+            : HTMLTags.canonicalize (tagName);
+        this.startTag = startTag;
+        this.htmlAttributes = null;
+    }
+
+    // Used by TokenTable, which has already canonicalized the tag name.
+    Tag (Page page, int start, int end, String tagName, int id, boolean startTag) {
+        super (page, start, end);
+        this.tagName = tagName;
+        this.id = id;
         this.startTag = startTag;
         this.htmlAttributes = null;
     }
@@ -84,7 +97,7 @@ public class Tag extends Region {
      * @return tag name (e.g. "p"), in lower-case, String.intern()'ed form.
      */
     public static String toTagName (String name) {
-        return name.toLowerCase().intern ();
+        return HTMLTags.canonicalize (name);
     }
 
     /**
@@ -108,7 +121,7 @@ public class Tag extends Region {
      * @return true if and only if tag is a block-level tag (like "&lt;P&gt;")
      */
     public boolean isBlockTag () {
-        return HTMLParser.blocktag.containsKey (tagName);
+        return (HTMLTags.getFlags (id) & HTMLTags.BLOCK) != 0;
     }
 
     /**
@@ -124,7 +137,7 @@ public class Tag extends Region {
      * @return true if and only if tag is a HEAD-level tag (like "&lt;TITLE&gt;")
      */
     public boolean isHeadTag () {
-        return HTMLParser.headtag.containsKey (tagName);
+        return (HTMLTags.getFlags (id) & HTMLTags.HEAD) != 0;
     }
 
     /**
@@ -146,7 +159,7 @@ public class Tag extends Region {
      * @return tag name (e.g. "href"), in lower-case, String.intern()'ed form.
      */
     public static String toHTMLAttributeName (String name) {
-        return name.toLowerCase ().intern ();
+        return HTMLTags.canonicalize (name);
     }
 
     /**
@@ -335,7 +348,7 @@ public class Tag extends Region {
 
         Tag newTag = new Tag (new Page (newstr.toString()), 0, 
                               newstr.length(), tagName, startTag);
-        newTag.names = names;
+        newTag.copyLabels (this);
         newTag.htmlAttributes = newattrs;
         newTag.setLabel (name, value);
         
@@ -349,6 +362,7 @@ public class Tag extends Region {
      */
 
     public static final String A = "a".intern();
+    public static final String ABBR = "abbr".intern();
     public static final String ABBREV = "abbrev".intern();
     public static final String ACRONYM = "acronym".intern();
     public static final String ADDRESS = "address".intern();    
@@ -364,6 +378,7 @@ public class Tag extends Region {
     public static final String BLOCKQUOTE = "blockquote".intern();
     public static final String BODY = "body".intern();
     public static final String BR = "br".intern();
+    public static final String BUTTON = "button".intern();
     public static final String CAPTION = "caption".intern();
     public static final String CENTER = "center".intern();
     public static final String CITE = "cite".intern();
@@ -376,10 +391,11 @@ public class Tag extends Region {
     public static final String DFN = "dfn".intern();
     public static final String DIR = "dir".intern();
     public static final String DIV = "div".intern();
-    public static final String DL = "dd".intern();    
+    public static final String DL = "dl".intern();
     public static final String DT = "dt".intern();
     public static final String EM = "em".intern();
     public static final String EMBED = "embed".intern();
+    public static final String FIELDSET = "fieldset".intern();
     public static final String FONT = "font".intern();
     public static final String FRAME = "frame".intern();
     public static final String FRAMESET = "frameset".intern();
@@ -394,10 +410,14 @@ public class Tag extends Region {
     public static final String HR = "hr".intern();
     public static final String HTML = "html".intern();
     public static final String I = "i".intern();
+    public static final String IFRAME = "iframe".intern();
     public static final String IMG = "img".intern();
     public static final String INPUT = "input".intern();
+    public static final String INS = "ins".intern();
     public static final String ISINDEX = "isindex".intern();
     public static final String KBD = "kbd".intern();
+    public static final String LABEL = "label".intern();
+    public static final String LEGEND = "legend".intern();
     public static final String LI = "li".intern();
     public static final String LINK = "link".intern();
     public static final String LISTING = "listing".intern();
@@ -409,27 +429,35 @@ public class Tag extends Region {
     public static final String NOBR = "nobr".intern();
     public static final String NOEMBED = "noembed".intern();
     public static final String NOFRAMES = "noframes".intern();
+    public static final String NOSCRIPT = "noscript".intern();
     public static final String OBJECT = "object".intern();
     public static final String OL = "ol".intern();
+    public static final String OPTGROUP = "optgroup".intern();
     public static final String OPTION = "option".intern();
     public static final String P = "p".intern();
     public static final String PARAM = "param".intern();
     public static final String PLAINTEXT = "plaintext".intern();
     public static final String PRE = "pre".intern();
+    public static final String Q = "q".intern();
+    public static final String S = "s".intern();
     public static final String SAMP = "samp".intern();
     public static final String SCRIPT = "script".intern();
     public static final String SELECT = "select".intern();
     public static final String SMALL = "small".intern();
     public static final String SPACER = "spacer".intern();
+    public static final String SPAN = "span".intern();
     public static final String STRIKE = "strike".intern();
     public static final String STRONG = "strong".intern();
     public static final String STYLE = "style".intern();
     public static final String SUB = "sub".intern();
     public static final String SUP = "sup".intern();
     public static final String TABLE = "table".intern();
+    public static final String TBODY = "tbody".intern();
     public static final String TD = "td".intern();
     public static final String TEXTAREA = "textarea".intern();
+    public static final String TFOOT = "tfoot".intern();
     public static final String TH = "th".intern();
+    public static final String THEAD = "thead".intern();
     public static final String TITLE = "title".intern();
     public static final String TR = "tr".intern();
     public static final String TT = "tt".intern();
@@ -0,0 +1,447 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Hashtable;
+import java.util.Vector;
+
+/**
+ * Compiled form of a Tagexp.  A tagexp is a regular expression over
+ * the alphabet of HTML tags, so it compiles into a program whose input
+ * symbols are tags: a TAG instruction tests one tag of the page (start
+ * or end, name, attributes), and the rest are the usual split, jump,
+ * and group-saving instructions.  TagexpMatcher runs the program
+ * directly over a page's TokenTable, carrying all live threads along
+ * together, so matching takes time linear in the number of tags.
+ * Programs are never modified once compiled, and are shared by all
+ * Tagexps with the same pattern.
+ */
+final class TagProgram {
+
+    // opcodes
+    static final int TAG = 0;       // consume a tag that passes tests[arg]
+    static final int ANY = 1;       // consume any tag
+    static final int NONE = 2;      // fail (text in a tagexp never matches)
+    static final int BOL = 3;       // start of region
+    static final int EOL = 4;       // end of region
+    static final int SPLIT = 5;     // go to arg, or failing that, to arg2
+    static final int JUMP = 6;      // go to arg
+    static final int SAVE = 7;      // record position in capture slot arg
+    static final int MATCH = 8;
+
+    int[] op = new int[16];
+    int[] arg = new int[16];
+    int[] arg2 = new int[16];
+    int size = 0;
+
+    TagTest[] tests;
+    String[] fields;
+        // field names of groups 1..n, as Regexp.translateFields makes them
+    int nCaptures;
+        // number of capture slots: two for the whole match, two per group
+    TagTest[] firsts;
+        // tests one of which the first tag of any match must pass,
+        // or null if a match can start otherwise (empty, with ., or
+        // with ^ or $)
+
+    // Compiled programs, shared by all Tagexps with the same pattern.
+    private static Hashtable programs = new Hashtable ();
+
+    static TagProgram compile (String tagexp) {
+        TagProgram program = (TagProgram)programs.get (tagexp);
+        if (program == null) {
+            program = new TagProgram (tagexp);
+            if (programs.size () >= Regexp.MAX_PROGRAMS)
+                programs.clear ();
+            programs.put (tagexp, program);
+        }
+        return program;
+    }
+
+    private TagProgram (String tagexp) {
+        tokenize (tagexp);
+        Node node = parseAlternation ();
+        if (sp != syms.length)
+            throw error ("unmatched )");
+
+        emit (SAVE, 0);
+        emit (node);
+        emit (SAVE, 1);
+        emit (MATCH, 0);
+
+        fields = new String[vfields.size ()];
+        vfields.copyInto (fields);
+        nCaptures = 2 * (fields.length + 1);
+
+        tests = new TagTest[vtests.size ()];
+        vtests.copyInto (tests);
+
+        Vector v = new Vector ();
+        if (findFirsts (0, new boolean[size], v)) {
+            firsts = new TagTest[v.size ()];
+            v.copyInto (firsts);
+        }
+
+        // drop the compiler's working storage
+        syms = null;
+        vtests = null;
+        vfields = null;
+    }
+
+    /*
+     * Tokenizing.  The tagexp is parsed as HTML; each tag becomes a
+     * TagTest, and the text between tags is regular expression syntax,
+     * in which . stands for any tag.
+     */
+
+    int[] syms;
+        // characters of syntax, or -1-i for tests[i]
+    int sp;
+    Vector vtests = new Vector ();
+    Vector vfields = new Vector ();
+
+    private void tokenize (String tagexp) {
+        Page page;
+        synchronized (Tagexp.parser) {
+            page = new Page (null, tagexp, Tagexp.parser);
+        }
+
+        // each tag takes at least two characters, so there can't be
+        // more symbols than characters
+        syms = new int[tagexp.length ()];
+        int n = 0;
+
+        Region[] tokens = page.getTokens ();
+        for (int i=0; i<tokens.length; ++i) {
+            if (tokens[i] instanceof Tag) {
+                Tag tag = (Tag)tokens[i];
+                if (tag.getTagName () == Tag.COMMENT)
+                    continue;  // comments and decls are ignored
+                syms[n++] = -1 - vtests.size ();
+                vtests.addElement (new TagTest (tag));
+            }
+            else {
+                String s = tokens[i].toString ();
+                for (int j=0; j<s.length (); ++j) {
+                    char c = s.charAt (j);
+                    if (!Character.isWhitespace (c))
+                        syms[n++] = c;
+                }
+            }
+        }
+
+        if (n < syms.length) {
+            int[] a = new int[n];
+            System.arraycopy (syms, 0, a, 0, n);
+            syms = a;
+        }
+        sp = 0;
+    }
+
+    /*
+     * Parsing
+     */
+
+    // node types besides the leaf opcodes TAG, ANY, NONE, BOL, and EOL
+    static final int EMPTY = 10;
+    static final int CONCAT = 11;
+    static final int ALTERNATION = 12;
+    static final int GROUP = 13;
+    static final int REPEAT = 14;
+
+    static final class Node {
+        int type;
+        Node left, right;
+        int n;              // TAG: test index; GROUP: group number; REPEAT: minimum
+        int max;            // REPEAT: maximum, or -1 for no limit
+        boolean greedy;     // REPEAT
+
+        Node (int type, Node left, Node right) {
+            this.type = type;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private int peek () {
+        return sp < syms.length ? syms[sp] : Integer.MIN_VALUE;
+    }
+
+    private boolean next (int c) {
+        if (peek () != c)
+            return false;
+        ++sp;
+        return true;
+    }
+
+    private RuntimeException error (String message) {
+        return new RuntimeException ("syntax error in pattern: " + message);
+    }
+
+    private Node parseAlternation () {
+        Node node = parseConcatenation ();
+        while (next ('|'))
+            node = new Node (ALTERNATION, node, parseConcatenation ());
+        return node;
+    }
+
+    private Node parseConcatenation () {
+        Node node = null;
+        for (int c = peek (); 
+             c != Integer.MIN_VALUE && c != '|' && c != ')'; 
+             c = peek ()) {
+            Node item = parseRepeat ();
+            node = (node == null) ? item : new Node (CONCAT, node, item);
+        }
+        return node != null ? node : new Node (EMPTY, null, null);
+    }
+
+    private Node parseRepeat () {
+        Node node = parseAtom ();
+        for (;;) {
+            int min, max;
+            int c = peek ();
+            if (c == '*') {
+                ++sp;
+                min = 0;
+                max = -1;
+            }
+            else if (c == '+') {
+                ++sp;
+                min = 1;
+                max = -1;
+            }
+            else if (c == '?') {
+                ++sp;
+                min = 0;
+                max = 1;
+            }
+            else if (c == '{' && isDigit (sp+1)) {
+                ++sp;
+                min = max = parseNumber ();
+                if (next (',')) 
+                    max = isDigit (sp) ? parseNumber () : -1;
+                if (!next ('}') || (max != -1 && max < min))
+                    throw error ("bad {n,m} bracket");
+            }
+            else
+                return node;
+
+            Node repeat = new Node (REPEAT, node, null);
+            repeat.n = min;
+            repeat.max = max;
+            repeat.greedy = !next ('?');
+            node = repeat;
+        }
+    }
+
+    private boolean isDigit (int i) {
+        return i < syms.length && syms[i] >= '0' && syms[i] <= '9';
+    }
+
+    private int parseNumber () {
+        int n = 0;
+        while (isDigit (sp))
+            n = n*10 + (syms[sp++] - '0');
+        return n;
+    }
+
+    private Node parseAtom () {
+        int c = peek ();
+        ++sp;
+        if (c < 0) {
+            Node node = new Node (TAG, null, null);
+            node.n = -1 - c;
+            return node;
+        }
+        switch (c) {
+          case '.':
+            return new Node (ANY, null, null);
+          case '^':
+            return new Node (BOL, null, null);
+          case '$':
+            return new Node (EOL, null, null);
+          case '(': {
+              int group = -1;
+              if (next ('?')) {
+                  if (next ('{')) {
+                      StringBuffer name = new StringBuffer ();
+                      while (peek () >= 0 && peek () != '}')
+                          name.append ((char)syms[sp++]);
+                      if (!next ('}'))
+                          throw error ("missing } in field name");
+                      group = vfields.size () + 1;
+                      vfields.addElement (name.toString ());
+                  }
+                  else if (!next (':'))
+                      throw error ("unknown (? construct");
+              }
+              else {
+                  group = vfields.size () + 1;
+                  vfields.addElement (String.valueOf (vfields.size ()));
+              }
+
+              Node node = parseAlternation ();
+              if (!next (')'))
+                  throw error ("missing )");
+              if (group == -1)
+                  return node;
+              Node g = new Node (GROUP, node, null);
+              g.n = group;
+              return g;
+          }
+          case '*': 
+          case '+': 
+          case '?': 
+            throw error ("nothing to repeat before " + (char)c);
+          default:
+            // any other character would have had to match text in the
+            // tags' coded form, which it never could
+            return new Node (NONE, null, null);
+        }
+    }
+
+    /*
+     * Code generation
+     */
+
+    private int emit (int opcode, int a) {
+        if (size == op.length) {
+            op = grow (op);
+            arg = grow (arg);
+            arg2 = grow (arg2);
+        }
+        op[size] = opcode;
+        arg[size] = a;
+        return size++;
+    }
+
+    private static int[] grow (int[] a) {
+        int[] b = new int[a.length * 2];
+        System.arraycopy (a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private void emit (Node node) {
+        switch (node.type) {
+          case TAG:
+            emit (TAG, node.n);
+            break;
+
+          case ANY:
+          case NONE:
+          case BOL:
+          case EOL:
+            emit (node.type, 0);
+            break;
+
+          case EMPTY:
+            break;
+
+          case CONCAT:
+            emit (node.left);
+            emit (node.right);
+            break;
+
+          case ALTERNATION: {
+              int split = emit (SPLIT, size+1);
+              emit (node.left);
+              int jump = emit (JUMP, 0);
+              arg2[split] = size;
+              emit (node.right);
+              arg[jump] = size;
+              break;
+          }
+
+          case GROUP:
+            emit (SAVE, 2*node.n);
+            emit (node.left);
+            emit (SAVE, 2*node.n + 1);
+            break;
+
+          case REPEAT: {
+              for (int i=0; i<node.n; ++i)
+                  emit (node.left);
+
+              if (node.max == -1) {
+                  int split = emit (SPLIT, 0);
+                  emit (node.left);
+                  emit (JUMP, split);
+                  setSplit (split, split+1, size, node.greedy);
+              }
+              else {
+                  // each optional copy either matches or skips all 
+                  // the rest
+                  int n = node.max - node.n;
+                  int[] splits = new int[n];
+                  for (int i=0; i<n; ++i) {
+                      splits[i] = emit (SPLIT, 0);
+                      emit (node.left);
+                  }
+                  for (int i=0; i<n; ++i)
+                      setSplit (splits[i], splits[i]+1, size, node.greedy);
+              }
+              break;
+          }
+        }
+    }
+
+    private void setSplit (int pc, int body, int exit, boolean greedy) {
+        arg[pc] = greedy ? body : exit;
+        arg2[pc] = greedy ? exit : body;
+    }
+
+    // Collects the tests that can consume the first tag of a match.
+    // Returns false if something else can begin a match.
+    private boolean findFirsts (int pc, boolean[] visited, Vector v) {
+        if (visited[pc])
+            return true;
+        visited[pc] = true;
+        switch (op[pc]) {
+          case TAG:
+            v.addElement (tests[arg[pc]]);
+            return true;
+          case NONE:
+            return true;
+          case SPLIT:
+            return findFirsts (arg[pc], visited, v) 
+                && findFirsts (arg2[pc], visited, v);
+          case JUMP:
+            return findFirsts (arg[pc], visited, v);
+          case SAVE:
+            return findFirsts (pc+1, visited, v);
+          default:
+            return false;
+        }
+    }
+}
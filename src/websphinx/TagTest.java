@@ -0,0 +1,141 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+/**
+ * Test for one tag of a tagexp.  A page's tag passes if it is the
+ * same kind (start or end tag), its name matches, and each attribute
+ * of the tagexp's tag is found on it with a matching value.  Names and
+ * values may be wildcards; a valueless attribute matches only a
+ * valueless attribute.
+ */
+final class TagTest {
+    boolean endTag;
+    String name;
+        // tag name (lower-case and interned), or null if nameWildcard
+    Wildcard nameWildcard;
+
+    String[] attrNames;
+        // attribute names (lower-case and interned), with null entries
+        // where attrNameWildcards is used
+    Wildcard[] attrNameWildcards;
+    String[] attrValues;
+        // attribute values (Region.TRUE for valueless attributes),
+        // with null entries where attrValueWildcards is used
+    Wildcard[] attrValueWildcards;
+        // value wildcards, with null entries where attrValues is used
+        // or the value is just *, which matches any value
+
+    TagTest (Tag tag) {
+        endTag = tag.isEndTag ();
+        name = tag.getTagName ();
+        if (isWildcard (name)) {
+            nameWildcard = new Wildcard (name);
+            name = null;
+        }
+
+        String[] attrs = tag.getHTMLAttributes ();
+        int n = attrs.length / 2;
+        attrNames = new String[n];
+        attrNameWildcards = new Wildcard[n];
+        attrValues = new String[n];
+        attrValueWildcards = new Wildcard[n];
+        for (int i=0; i<n; ++i) {
+            String attrName = attrs[2*i];
+            String value = attrs[2*i+1];
+            if (isWildcard (attrName))
+                attrNameWildcards[i] = new Wildcard (attrName);
+            else
+                attrNames[i] = attrName;
+            if (value == Region.TRUE || !isWildcard (value))
+                attrValues[i] = value;
+            else if (!value.equals ("*"))
+                attrValueWildcards[i] = new Wildcard (value);
+        }
+    }
+
+    static boolean isWildcard (String s) {
+        for (int i=s.length ()-1; i>=0; --i)
+            switch (s.charAt (i)) {
+              case '*': case '?': case '[': case '{': case '\\':
+                return true;
+            }
+        return false;
+    }
+
+    /**
+     * Test a tag.
+     * @param table token table of the page
+     * @param t token index of the tag
+     */
+    boolean passes (TokenTable table, int t) {
+        if ((table.kind[t] == TokenTable.END_TAG) != endTag)
+            return false;
+        if (name != null 
+            ? table.getTagName (t) != name
+            : !nameWildcard.matches (table.getTagName (t)))
+            return false;
+
+        for (int i=0; i<attrNames.length; ++i) {
+            if (attrNames[i] != null) {
+                String value = table.getAttribute (t, attrNames[i]);
+                if (value == null || !valueMatches (i, value))
+                    return false;
+            }
+            else if (!hasMatchingAttribute (i, table, t))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean hasMatchingAttribute (int i, TokenTable table, int t) {
+        for (int k=table.attrStart[t], e=k+table.attrCount[t]; k<e; ++k) {
+            String attrName = table.attrNames[k];
+            if (attrNameWildcards[i].matches (attrName)
+                && valueMatches (i, table.getAttribute (t, attrName)))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean valueMatches (int i, String value) {
+        if (attrValues[i] == Region.TRUE || value == Region.TRUE)
+            return attrValues[i] == value;
+        else if (attrValues[i] != null)
+            return attrValues[i].equals (value);
+        else if (attrValueWildcards[i] != null)
+            return attrValueWildcards[i].matches (value);
+        else
+            return true;
+    }
+}
@@ -40,11 +40,10 @@ import java.util.Enumeration;
  * the alphabet of HTML tags.
  */
 public class Tagexp extends Regexp {
-    String stringRep;
-    
+    transient TagProgram program;
+
     public Tagexp (String pattern) {
-        super (toRegexp (pattern));
-        stringRep = pattern;
+        super (pattern);
     }
     
     public boolean equals (Object object) {
@@ -58,12 +57,36 @@ public class Tagexp extends Regexp {
         return stringRep;
     }
 
+    // Called by Regexp's constructor and readObject().  A tagexp is
+    // compiled into a program over tags, not into a Regexp program.
+    void init () {
+        program = TagProgram.compile (stringRep);
+        fields = new String[program.fields.length];
+        System.arraycopy (program.fields, 0, fields, 0, fields.length);
+    }
+
     public PatternMatcher match (Region region) {
         return new TagexpMatcher (this, region);
     }
 
+    // Text has no tags, so Regexp's ways of matching text directly
+    // don't apply; match a Page made from the text, as Pattern does.
+    public PatternMatcher matchText (Region region) {
+        return new TextMatcher (this, region);
+    }
+
+    public boolean found (String string) {
+        return found (new Page (string));
+    }
+
     static HTMLParser parser = new HTMLParser ();
 
+    /**
+     * Translate a tagexp into a regular expression over the canonical
+     * form of a page's tags (see Page.substringCanonicalTags()).
+     * Tagexps no longer match this way, but the translation is kept
+     * for callers that want it.
+     */
     public static String toRegexp (String tagexp) {
         StringBuffer output = new StringBuffer ();
 
@@ -88,21 +111,27 @@ public class Tagexp extends Regexp {
         return output.toString ();
     }
 
-    static void canonicalizeTag (StringBuffer output, Tag tag, int j) {
-        String tagName = tag.getTagName ();
+    static void canonicalizeTag (StringBuffer output, TokenTable tokens, int j) {
+        String tagName = tokens.getTagName (j);
         if (tagName == Tag.COMMENT)
             return;  // don't put comments or decls in the canonicalization
 
         output.append ('<');
-        if (tag.isEndTag ())
+        if (tokens.kind[j] == TokenTable.END_TAG)
             output.append ('/');
         output.append (tagName);
         output.append ('#');
-        output.append (String.valueOf (j));
+        output.append (j);
         output.append ('#');
 
-        if (tag.countHTMLAttributes () > 0) {
-            String[] attrs = tag.getHTMLAttributes ();
+        int n = tokens.attrCount[j];
+        if (n > 0) {
+            String[] attrs = new String[n * 2];
+            for (int i=0, k=tokens.attrStart[j]; i<attrs.length; ++k) {
+                String name = tokens.attrNames[k];
+                attrs[i++] = name;
+                attrs[i++] = tokens.getAttribute (j, name);
+            }
             sortAttrs (attrs);
 
             for (int i=0; i<attrs.length; ) {
@@ -262,103 +291,272 @@ public class Tagexp extends Regexp {
 class TagexpMatcher extends PatternMatcher {
     Tagexp tagexp;
     Region source;
-    org.apache.regexp.RE re;
-    String canon;
+    TagProgram program;
+    Page page;
+    TokenTable table;
+        // (null if the page isn't parsed)
+
+    // A position is the token index of the next tag in the region,
+    // skipping text and comments, or limit at the end of the region.
+    int first;
+        // position of the region's first tag
+    int limit;
+        // index of the first token past the end of the region
     int pos;
+        // where the next search starts
+
+    ThreadList clist;
+    ThreadList nlist;
+    int[] caps;
+        // capture slots of the thread being followed
+    int[] found;
+        // capture slots of the last match
+
+    static final int COMMENT_ID = HTMLTags.lookup (Tag.COMMENT);
 
     public TagexpMatcher (Tagexp tagexp, Region source) {
         this.tagexp = tagexp;
         this.source = source;
-        this.re = new org.apache.regexp.RE (tagexp.pattern, 0);
-        this.canon = 
-            source.getSource().substringCanonicalTags (source.getStart(), 
-                                                       source.getLength ());
-        this.pos = 0;
+        this.program = tagexp.program;
+        this.page = source.getSource ();
+        this.table = page.tokenTable;
+        if (table == null)
+            return; // page is not parsed, so nothing matches
+
+        int end = source.getEnd ();
+        limit = table.findStart (source.getStart ());
+        first = limit;
+        while (limit < table.size && table.end[limit] <= end)
+            ++limit;
+        first = skip (first);
+        pos = first;
+
+        int n = program.size;
+        int m = program.nCaptures;
+        clist = new ThreadList (n, m);
+        nlist = new ThreadList (n, m);
+        caps = new int[m];
+        found = new int[m];
     }
 
     protected Region findNext () {
-        if (pos < canon.length () && re.match (canon, pos)) {
-            pos = Math.max (pos+1, re.getParenEnd (0));
-
-            Page page = source.getSource ();
-            
-            Region match = mapCanonical2Region (page, canon, 
-                                                re.getParenStart (0), 
-                                                re.getParenEnd (0));
-            
-            int n = re.getParenCount () - 1;
-            Region[] groups = new Region[n];
-            for (int i=0; i<n; ++i) {
-                Region r = mapCanonical2Region (page, canon, 
-                                                re.getParenStart (i+1), 
-                                                re.getParenEnd (i+1));
-                groups[i] = r;
-                match.setField (tagexp.fields[i] != null 
-                                ? tagexp.fields[i] 
-                                : String.valueOf (i), r);
-            }
-            match.setFields (Pattern.groups, groups);
-            return match;
+        if (pos >= limit || !search (pos)) {
+            pos = limit;
+            return null;
         }
+
+        int start = found[0];
+        int end = found[1];
+        if (end > start)
+            pos = end;
         else
-            return null;
+            pos = (start < limit) ? skip (start+1) : limit;
+
+        Region match = map (start, end);
+
+        String[] fields = tagexp.fields;
+        Region[] groups = new Region[fields.length];
+        for (int i=0; i<groups.length; ++i) {
+            int s = found[2*i+2];
+            int e = found[2*i+3];
+            if (s == -1 || e == -1)
+                s = e = first;   // as the canonical-string matcher did
+            Region r = map (s, e);
+            groups[i] = r;
+            match.setField (fields[i], r);
+        }
+        match.setFields (Pattern.groups, groups);
+        return match;
     }
 
-    final static Region mapCanonical2Region (Page page, String canon, int start, int end) {
-        // NIY: (@ and @)
-        Region[] tokens = page.getTokens ();
-        int ft, lt;
+    /*
+     * Running the program.  All threads advance together, one tag at a
+     * time.  Threads are kept in priority order, so that the first to
+     * reach MATCH is the one a backtracking matcher would have found;
+     * once a match is found, no new threads are started and the
+     * lower-priority ones are dropped.
+     */
+
+    static final class ThreadList {
+        int[] pc;
+        int[] caps;
+        int[] mark;
+        int gen;
+        int size;
+
+        ThreadList (int n, int ncaps) {
+            pc = new int[n];
+            caps = new int[n * ncaps];
+            mark = new int[n];
+        }
+
+        void clear () {
+            size = 0;
+            ++gen;
+        }
+    }
 
-        if (start == end) {
-            ft = prevTag (canon, start);
-            lt = nextTag (canon, end);
+    // Finds the leftmost match starting at or after position from,
+    // leaving its capture slots in found.
+    boolean search (int from) {
+        TagProgram prog = program;
+        int[] op = prog.op;
+        int[] arg = prog.arg;
+        int ncaps = prog.nCaptures;
+        ThreadList c = clist;
+        ThreadList n = nlist;
+        boolean matched = false;
+
+        c.clear ();
+        for (int p = from; ; ) {
+            if (!matched) {
+                if (c.size == 0 && prog.firsts != null) {
+                    p = skipToFirst (p);
+                    if (p == limit)
+                        break;
+                }
+                for (int i=0; i<ncaps; ++i)
+                    caps[i] = -1;
+                add (c, 0, p);
+            }
+            if (c.size == 0)
+                break;
+
+            int q = (p < limit) ? skip (p+1) : limit;
+            n.clear ();
+            for (int i=0; i<c.size; ++i) {
+                int pc = c.pc[i];
+                if (op[pc] == TagProgram.MATCH) {
+                    System.arraycopy (c.caps, i*ncaps, found, 0, ncaps);
+                    matched = true;
+                    break;
+                }
+                if (p < limit 
+                    && (op[pc] == TagProgram.ANY
+                        || prog.tests[arg[pc]].passes (table, p))) {
+                    System.arraycopy (c.caps, i*ncaps, caps, 0, ncaps);
+                    add (n, pc+1, q);
+                }
+            }
+            if (p == limit)
+                break;
+
+            ThreadList t = c;
+            c = n;
+            n = t;
+            p = q;
+        }
+
+        clist = c;
+        nlist = n;
+        return matched;
+    }
+
+    // Adds a thread at pc to a list, following jumps and splits and
+    // recording positions in caps as it goes.
+    private void add (ThreadList list, int pc, int p) {
+        if (list.mark[pc] == list.gen)
+            return;
+        list.mark[pc] = list.gen;
+
+        TagProgram prog = program;
+        switch (prog.op[pc]) {
+          case TagProgram.JUMP:
+            add (list, prog.arg[pc], p);
+            break;
+          case TagProgram.SPLIT:
+            add (list, prog.arg[pc], p);
+            add (list, prog.arg2[pc], p);
+            break;
+          case TagProgram.SAVE: {
+              int slot = prog.arg[pc];
+              int old = caps[slot];
+              caps[slot] = p;
+              add (list, pc+1, p);
+              caps[slot] = old;
+              break;
+          }
+          case TagProgram.BOL:
+            if (p == first)
+                add (list, pc+1, p);
+            break;
+          case TagProgram.EOL:
+            if (p == limit)
+                add (list, pc+1, p);
+            break;
+          case TagProgram.NONE:
+            break;
+          default:
+            int i = list.size++;
+            list.pc[i] = pc;
+            System.arraycopy (caps, 0, list.caps, i*caps.length, caps.length);
+            break;
+        }
+    }
+
+    // Skips to the next tag that can start a match.
+    private int skipToFirst (int p) {
+        TagTest[] firsts = program.firsts;
+        for (; p < limit; p = skip (p+1))
+            for (int i=0; i<firsts.length; ++i)
+                if (firsts[i].passes (table, p))
+                    return p;
+        return limit;
+    }
+
+    /*
+     * Positions
+     */
+
+    private boolean isTag (int t) {
+        return table.kind[t] != TokenTable.TEXT && table.name[t] != COMMENT_ID;
+    }
+
+    // Gets the position at or after token t.
+    private int skip (int t) {
+        while (t < limit && !isTag (t))
+            ++t;
+        return t;
+    }
+
+    // Gets the last tag before position p, or -1 if none.
+    private int prevTag (int p) {
+        int t = p-1;
+        while (t >= first && !isTag (t))
+            --t;
+        return t >= first ? t : -1;
+    }
+
+    // Maps positions to a region: the tags from s to e, or if s == e,
+    // the stretch between the tags on either side.
+    Region map (int s, int e) {
+        if (s == e) {
+            int ft = prevTag (s);
+            int lt = (s < limit) ? s : -1;
 
             if (ft != -1)
                 if (lt != -1)
-                    return new Region (page, tokens[ft].getEnd(), tokens[lt].getStart());
+                    return new Region (page, table.end[ft], table.start[lt]);
                 else
-                    return new Region (page, tokens[ft].getEnd(), page.getEnd ());
+                    return new Region (page, table.end[ft], page.getEnd ());
             else
                 if (lt != -1)
-                    return new Region (page, page.getStart(), tokens[lt].getStart());
+                    return new Region (page, page.getStart(), table.start[lt]);
                 else
                     return page;
         }
         else {
-            ft = nextTag (canon, start);
-            lt = prevTag (canon, end);
-
-            Tag f = (Tag)tokens[ft];
-            Tag l = (Tag)tokens[lt];
-            Element e = f.getElement ();
-            if (e != null && e.getStart() == f.getStart() && e.getEnd() == l.getEnd())
-                return e;
-            else if (ft == lt)
-                return tokens[ft];
+            int lt = prevTag (e);
+
+            Tag f = (Tag)page.getToken (s);
+            Element elem = f.getElement ();
+            if (elem != null && elem.getStart() == table.start[s] 
+                && elem.getEnd() == table.end[lt])
+                return elem;
+            else if (s == lt)
+                return f;
             else
-                return tokens[ft].span (tokens[lt]);
+                return new Region (page, table.start[s], table.end[lt]);
         }
     }
-
-    final static int nextTag (String canon, int p) {
-        return indexOfTag (canon, canon.indexOf ('<', p));
-    } 
-
-    final static int prevTag (String canon, int p) {
-        if (p == 0)
-            return -1;
-        return indexOfTag (canon, canon.lastIndexOf ('<', p-1));
-    } 
-
-    final static int indexOfTag (String canon, int p) {
-        if (p == -1)
-            return -1;
-        int s = canon.indexOf ('#', p);
-        if (s == -1)
-            return -1;
-        int e = canon.indexOf ('#', s+1);
-        if (e == -1)
-            return -1;
-        return Integer.parseInt (canon.substring (s+1, e));
-    }
 }
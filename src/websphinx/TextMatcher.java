@@ -0,0 +1,93 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+/**
+ * Matcher for patterns that can't match a page's text in place.  The
+ * pattern is run over a Page made from the text, and its matches are
+ * mapped back to the source page.
+ */
+class TextMatcher extends PatternMatcher {
+    Pattern pattern;
+    Region source;
+    PageText text;
+    int base;
+    PatternMatcher matcher;
+
+    public TextMatcher (Pattern pattern, Region source) {
+        this.pattern = pattern;
+        this.source = source;
+        Page page = source.getSource ();
+        page.getContent ();
+            // (may download the page, which sets the region's extent)
+        text = page.getPageText ();
+        String s = "";
+        if (text != null) {
+            base = text.getStart (source.getStart (), source.getEnd ());
+            s = text.text.substring (base, 
+                         text.getEnd (source.getStart (), source.getEnd ()));
+        }
+        matcher = pattern.match (new Page (s));
+    }
+
+    protected Region findNext () {
+        Region r = matcher.nextMatch ();
+        if (r == null)
+            return null;
+
+        Region match = map (r);
+        String[] fields = pattern.getFieldNames ();
+        for (int i=0; i<fields.length; ++i) {
+            Region field = r.getField (fields[i]);
+            if (field != null)
+                match.setField (fields[i], map (field));
+        }
+        Region[] groups = r.getFields (Pattern.groups);
+        if (groups != null) {
+            Region[] mapped = new Region[groups.length];
+            for (int i=0; i<groups.length; ++i)
+                mapped[i] = map (groups[i]);
+            match.setFields (Pattern.groups, mapped);
+        }
+        return match;
+    }
+
+    Region map (Region r) {
+        if (text == null)
+            return new Region (source.getSource (), 
+                               source.getStart (), source.getStart ());
+        return new Region (source.getSource (),
+                           text.toHTMLStart (base + r.getStart ()),
+                           text.toHTMLEnd (base + r.getEnd ()));
+    }
+}
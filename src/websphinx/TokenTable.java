@@ -0,0 +1,308 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.util.Hashtable;
+
+/**
+ * Compact token storage for a parsed page.  Instead of a Tag or Text
+ * object per token, the tokenizer records each token in parallel int
+ * arrays (start offset, end offset, kind, and tag name id), and keeps
+ * the HTML attributes of all tags in one shared pool.  Page creates
+ * Region objects from the table only when they are actually requested.
+ */
+final class TokenTable {
+
+    // token kinds
+    static final int TEXT = 0;
+    static final int START_TAG = 1;
+    static final int END_TAG = 2;
+
+    int size = 0;
+    int nWords = 0;
+    int nStartTags = 0;
+
+    int[] start;
+    int[] end;
+    int[] kind;
+    int[] name;
+        // for tags: id of a known tag name (see HTMLTags), or
+        //    HTMLTags.COUNT + index into names[] for other names
+        // for text: index into texts[], or -1 if the word's text is
+        //    exactly its raw content (no entities were expanded)
+    int[] attrStart;
+        // index of the tag's first attribute in the attribute pool
+    int[] attrCount;
+        // number of attributes on the tag
+
+    // unknown tag names seen on this page (lower-case and interned)
+    String[] names = new String[4];
+    int nNames = 0;
+    Hashtable nameIds;
+        // maps each name in names[] to its index (Integer); made when
+        // the first unknown name is seen
+
+    // text of words that differ from their raw content
+    String[] texts = new String[8];
+    int nTexts = 0;
+
+    // attribute pool (names are lower-case and interned; valueless
+    // attributes have the value Region.TRUE)
+    String[] attrNames;
+    String[] attrValues;
+    int nAttrs = 0;
+
+    /**
+     * Make an empty TokenTable.
+     * @param capacity expected number of tokens
+     */
+    TokenTable (int capacity) {
+        capacity = Math.max (capacity, 16);
+        start = new int[capacity];
+        end = new int[capacity];
+        kind = new int[capacity];
+        name = new int[capacity];
+        attrStart = new int[capacity];
+        attrCount = new int[capacity];
+        attrNames = new String[capacity/2];
+        attrValues = new String[capacity/2];
+    }
+
+    /*
+     * Building the table (used by HTMLParser)
+     */
+
+    int addWord (int s, int e, String text) {
+        int t = add (s, e, TEXT);
+        if (text == null)
+            name[t] = -1;
+        else {
+            if (nTexts == texts.length)
+                texts = grow (texts);
+            texts[nTexts] = text;
+            name[t] = nTexts++;
+        }
+        ++nWords;
+        return t;
+    }
+
+    /**
+     * Add a tag.
+     * @param id id of the tag name, or HTMLTags.UNKNOWN
+     * @param tagName tag name, needed only if id is HTMLTags.UNKNOWN
+     */
+    int addTag (int s, int e, int id, String tagName, boolean startTag) {
+        int t = add (s, e, startTag ? START_TAG : END_TAG);
+        if (startTag)
+            ++nStartTags;
+        name[t] = (id != HTMLTags.UNKNOWN) 
+            ? id 
+            : HTMLTags.COUNT + nameId (HTMLTags.canonicalize (tagName));
+        attrStart[t] = nAttrs;
+        return t;
+    }
+
+    // Adds an attribute to the most recently added tag.
+    void addAttribute (String attrName, String value) {
+        if (nAttrs == attrNames.length) {
+            attrNames = grow (attrNames);
+            attrValues = grow (attrValues);
+        }
+        attrNames[nAttrs] = attrName;
+        attrValues[nAttrs] = value;
+        ++nAttrs;
+        ++attrCount[size-1];
+    }
+
+    private int add (int s, int e, int k) {
+        if (size == start.length) {
+            int n = size * 2;
+            start = grow (start, n);
+            end = grow (end, n);
+            kind = grow (kind, n);
+            name = grow (name, n);
+            attrStart = grow (attrStart, n);
+            attrCount = grow (attrCount, n);
+        }
+        start[size] = s;
+        end[size] = e;
+        kind[size] = k;
+        attrCount[size] = 0;
+        return size++;
+    }
+
+    private int nameId (String tagName) {
+        if (nameIds == null)
+            nameIds = new Hashtable ();
+        else {
+            Integer id = (Integer)nameIds.get (tagName);
+            if (id != null)
+                return id.intValue ();
+        }
+        if (nNames == names.length)
+            names = grow (names);
+        names[nNames] = tagName;
+        nameIds.put (tagName, new Integer (nNames));
+        return nNames++;
+    }
+
+    private static int[] grow (int[] a, int n) {
+        int[] b = new int[n];
+        System.arraycopy (a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private static String[] grow (String[] a) {
+        String[] b = new String[a.length * 2];
+        System.arraycopy (a, 0, b, 0, a.length);
+        return b;
+    }
+
+    /*
+     * Reading the table
+     */
+
+    final boolean isTag (int t) {
+        return kind[t] != TEXT;
+    }
+
+    final String getTagName (int t) {
+        int i = name[t];
+        return i < HTMLTags.COUNT ? HTMLTags.NAMES[i] : names[i - HTMLTags.COUNT];
+    }
+
+    /**
+     * Get the id of a tag's name.
+     * @param t token index of the tag
+     * @return id, or HTMLTags.UNKNOWN if the name isn't a known tag name
+     */
+    final int getTagId (int t) {
+        int i = name[t];
+        return i < HTMLTags.COUNT ? i : HTMLTags.UNKNOWN;
+    }
+
+    /**
+     * Get the tagless text of a word.
+     * @param content page content
+     * @param t token index of the word
+     * @return text of the word
+     */
+    final String getText (String content, int t) {
+        int i = name[t];
+        return i == -1 ? content.substring (start[t], end[t]) : texts[i];
+    }
+
+    /**
+     * Append the tagless text of a word to a buffer, without
+     * creating a String for it.
+     */
+    final void appendText (StringBuffer buf, String content, int t) {
+        int i = name[t];
+        if (i == -1) {
+            for (int j=start[t], e=end[t]; j<e; ++j)
+                buf.append (content.charAt (j));
+        }
+        else
+            buf.append (texts[i]);
+    }
+
+    /**
+     * Test if a tag has an HTML attribute.
+     * @param t token index of the tag
+     * @param attrName attribute name, lower-case and interned
+     */
+    final boolean hasAttribute (int t, String attrName) {
+        for (int i=attrStart[t], e=i+attrCount[t]; i<e; ++i)
+            if (attrNames[i] == attrName)
+                return true;
+        return false;
+    }
+
+    /**
+     * Get the value of an HTML attribute.  If the attribute
+     * is repeated, the last value wins (as it would for Tag labels).
+     * @param t token index of the tag
+     * @param attrName attribute name, lower-case and interned
+     * @return value, Region.TRUE if the attribute has no value, or
+     * null if the tag lacks the attribute
+     */
+    final String getAttribute (int t, String attrName) {
+        for (int i=attrStart[t]+attrCount[t]-1, s=attrStart[t]; i>=s; --i)
+            if (attrNames[i] == attrName)
+                return attrValues[i];
+        return null;
+    }
+
+    /**
+     * Find the first token that starts at or after a given position.
+     * Equivalent to Region.findStart() over the token array.
+     * @param p desired starting offset
+     * @return index k such that forall j&lt;k: start[j] &lt; p,
+     * and start[k] &gt;= p
+     */
+    final int findStart (int p) {
+        int lo = 0;
+        int hi = size;
+        while (lo != hi) {
+            int mid = (hi + lo) / 2;
+            if (start[mid] < p)
+                lo = mid+1;
+            else
+                hi = mid;
+        }
+        return hi;
+    }
+
+    /**
+     * Create the Region object for a token.
+     * @param page page the table belongs to
+     * @param t token index
+     * @return a Text or Tag for the token
+     */
+    Region makeToken (Page page, int t) {
+        if (kind[t] == TEXT)
+            return new Text (page, start[t], end[t], getText (page.content, t));
+
+        Tag tag = new Tag (page, start[t], end[t], getTagName (t), getTagId (t),
+                           kind[t] == START_TAG);
+        int n = attrCount[t];
+        if (n > 0) {
+            int first = attrStart[t];
+            tag.htmlAttributes = new String[n];
+            System.arraycopy (attrNames, first, tag.htmlAttributes, 0, n);
+            for (int i=first; i<first+n; ++i)
+                tag.setLabel (attrNames[i], attrValues[i]);
+        }
+        return tag;
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.net.URL;
+import java.util.Vector;
+import java.io.IOException;
+//#ifdef JDK1.1
+import java.io.ObjectInputStream;
+//#endif JDK1.1
+
+/**
+ * Link predicate built from lists of allow and deny rules, for crawls
+ * that are restricted by thousands of sites or URL patterns.  A link
+ * is visited if it matches some allow rule (or there are no allow
+ * rules) and matches no deny rule.  Rules come in three kinds:
+ * <PRE>
+ *    cmu.edu                      host suffix: cmu.edu or any host in it
+ *    http://www.cmu.edu/~rcm/     URL prefix
+ *    http://*.cmu.edu/*.ps        URL wildcard (see Wildcard)
+ * </PRE>
+ * A rule containing "://" is a URL rule, and a URL rule containing any of
+ * <CODE>* ? [ {</CODE> or <CODE>\</CODE> is a wildcard.  A host suffix
+ * may be written with a leading "." or "*."; it matches only whole
+ * labels of the host, ignoring case.  URL rules are matched against
+ * the link's URL as written, like URLPredicate.
+ * <P>
+ * The rules are compiled once, when the set is made: host suffixes into
+ * a trie over reversed host names, URL prefixes into a trie over URLs,
+ * and wildcards are indexed in a trie by the literal text they start
+ * with.  Testing a link walks each trie once, so the cost depends on the
+ * length of the URL rather than the number of rules; only the wildcards
+ * whose leading text the URL starts with are run.  A UrlFilterSet is
+ * immutable (like String), so one set may be shared by any number of
+ * crawlers and threads.
+ */
+public class UrlFilterSet implements LinkPredicate {
+
+    String[] allow;
+    String[] deny;
+    transient UrlRules allowRules;
+    transient UrlRules denyRules;
+
+    /**
+     * Make a UrlFilterSet.
+     * @param allow Rules a link must match to be visited; if empty,
+     * every link not denied is visited
+     * @param deny Rules a link must not match to be visited
+     * @exception RuntimeException if a wildcard rule has a syntax error
+     */
+    public UrlFilterSet (String[] allow, String[] deny) {
+        this.allow = copy (allow);
+        this.deny = copy (deny);
+        init ();
+    }
+
+    //#ifdef JDK1.1
+    private void readObject (ObjectInputStream in) 
+           throws IOException, ClassNotFoundException {
+        in.defaultReadObject ();
+        init ();
+    }
+    //#endif JDK1.1
+
+    private void init () {
+        allowRules = new UrlRules (allow);
+        denyRules = new UrlRules (deny);
+    }
+
+    private static String[] copy (String[] rules) {
+        if (rules == null)
+            return new String[0];
+        String[] result = new String[rules.length];
+        System.arraycopy (rules, 0, result, 0, rules.length);
+        return result;
+    }
+
+    /**
+     * Get the allow rules.
+     * @return copy of the allow rules
+     */
+    public String[] getAllowRules () {
+        return copy (allow);
+    }
+
+    /**
+     * Get the deny rules.
+     * @return copy of the deny rules
+     */
+    public String[] getDenyRules () {
+        return copy (deny);
+    }
+
+    /**
+     * Test a URL against the rules.
+     * @param url URL to test
+     * @return true if the URL is allowed and not denied
+     */
+    public boolean allows (URL url) {
+        String s = url.toString ();
+        String host = url.getHost ();
+        return (allow.length == 0 || allowRules.matches (s, host))
+            && !denyRules.matches (s, host);
+    }
+
+    public boolean equals (Object object) {
+        if (! (object instanceof UrlFilterSet))
+            return false;
+        UrlFilterSet f = (UrlFilterSet)object;
+        return same (f.allow, allow) && same (f.deny, deny);
+    }
+
+    public int hashCode () {
+        int h = 0;
+        for (int i=0; i<allow.length; ++i)
+            h = 31*h + allow[i].hashCode ();
+        for (int i=0; i<deny.length; ++i)
+            h = 31*h + deny[i].hashCode ();
+        return h;
+    }
+
+    private static boolean same (String[] a, String[] b) {
+        if (a.length != b.length)
+            return false;
+        for (int i=0; i<a.length; ++i)
+            if (!a[i].equals (b[i]))
+                return false;
+        return true;
+    }
+
+    public void connected (Crawler crawler) {}
+    public void disconnected (Crawler crawler) {}
+
+    public boolean shouldVisit (Link link) {
+        return allows (link.getURL ());
+    }
+}
+
+/**
+ * One list of rules of a UrlFilterSet, compiled.
+ */
+final class UrlRules {
+
+    StringTrie hosts;     // host suffixes, reversed and lower-cased
+    StringTrie prefixes;  // URL prefixes
+    StringTrie leads;     // literal text at the start of each wildcard
+    Wildcard[] wildcards;
+
+    UrlRules (String[] rules) {
+        Vector vhosts = new Vector ();
+        Vector vprefixes = new Vector ();
+        Vector vleads = new Vector ();
+        Vector vwildcards = new Vector ();
+
+        for (int i=0; i<rules.length; ++i) {
+            String rule = rules[i].trim ();
+            if (rule.length () == 0)
+                continue;
+            if (rule.indexOf ("://") == -1) {
+                if (rule.startsWith ("*."))
+                    rule = rule.substring (2);
+                else if (rule.startsWith ("."))
+                    rule = rule.substring (1);
+                vhosts.addElement (
+                    new StringBuffer (rule.toLowerCase ()).reverse ().toString ());
+            }
+            else {
+                int lead = leadLength (rule);
+                if (lead == rule.length ())
+                    vprefixes.addElement (rule);
+                else {
+                    vleads.addElement (rule.substring (0, lead));
+                    vwildcards.addElement (new Wildcard (rule));
+                }
+            }
+        }
+
+        hosts = new StringTrie (vhosts);
+        prefixes = new StringTrie (vprefixes);
+        leads = new StringTrie (vleads);
+        wildcards = new Wildcard[vwildcards.size ()];
+        vwildcards.copyInto (wildcards);
+    }
+
+    // Length of the literal text at the start of a wildcard rule.
+    private static int leadLength (String rule) {
+        for (int i=0; i<rule.length (); ++i)
+            switch (rule.charAt (i)) {
+              case '*': case '?': case '[': case '{': case '\\':
+                return i;
+            }
+        return rule.length ();
+    }
+
+    boolean matches (String url, String host) {
+        return matchesHost (host) || matchesPrefix (url) || matchesWildcard (url);
+    }
+
+    // A host suffix matches if it ends at the start of the host
+    // or just after a dot.
+    private boolean matchesHost (String host) {
+        int node = 0;
+        for (int i=host.length ()-1; i >= 0 && node != -1; --i) {
+            node = hosts.next (node, Character.toLowerCase (host.charAt (i)));
+            if (node != -1 && hosts.keys[node] != null
+                && (i == 0 || host.charAt (i-1) == '.'))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean matchesPrefix (String url) {
+        int node = 0;
+        for (int i=0; i<url.length () && node != -1; ++i) {
+            node = prefixes.next (node, url.charAt (i));
+            if (node != -1 && prefixes.keys[node] != null)
+                return true;
+        }
+        return false;
+    }
+
+    private boolean matchesWildcard (String url) {
+        if (wildcards.length == 0)
+            return false;
+        int node = 0;
+        for (int i=0; ; ++i) {
+            int[] keys = leads.keys[node];
+            if (keys != null)
+                for (int j=0; j<keys.length; ++j)
+                    if (wildcards[keys[j]].matches (url))
+                        return true;
+            if (i == url.length ())
+                return false;
+            node = leads.next (node, url.charAt (i));
+            if (node == -1)
+                return false;
+        }
+    }
+}
+
+/**
+ * Immutable character trie.  Node 0 is the root; each node's edges are
+ * kept sorted by character and found by binary search.
+ */
+final class StringTrie {
+
+    char[][] edgeChars;   // sorted edge characters of each node
+    int[][] edgeTargets;  // node reached by each edge
+    int[][] keys;         // indexes of the keys ending at each node, or null
+
+    StringTrie (Vector strings) {
+        int capacity = 1;
+        for (int i=0; i<strings.size (); ++i)
+            capacity += ((String)strings.elementAt (i)).length ();
+        char[][] chars = new char[capacity][];
+        int[][] targets = new int[capacity][];
+        int[][] ends = new int[capacity][];
+        int nNodes = 1;
+
+        for (int i=0; i<strings.size (); ++i) {
+            String s = (String)strings.elementAt (i);
+            int node = 0;
+            for (int j=0; j<s.length (); ++j) {
+                char c = s.charAt (j);
+                int next = find (chars[node], c);
+                if (next >= 0)
+                    node = targets[node][next];
+                else {
+                    // insert an edge at -next-1, keeping the chars sorted
+                    int at = -next-1;
+                    int n = chars[node] == null ? 0 : chars[node].length;
+                    char[] nc = new char[n+1];
+                    int[] nt = new int[n+1];
+                    if (n > 0) {
+                        System.arraycopy (chars[node], 0, nc, 0, at);
+                        System.arraycopy (targets[node], 0, nt, 0, at);
+                        System.arraycopy (chars[node], at, nc, at+1, n-at);
+                        System.arraycopy (targets[node], at, nt, at+1, n-at);
+                    }
+                    nc[at] = c;
+                    nt[at] = nNodes;
+                    chars[node] = nc;
+                    targets[node] = nt;
+                    node = nNodes++;
+                }
+            }
+            int[] e = ends[node];
+            int n = e == null ? 0 : e.length;
+            int[] ne = new int[n+1];
+            if (n > 0)
+                System.arraycopy (e, 0, ne, 0, n);
+            ne[n] = i;
+            ends[node] = ne;
+        }
+
+        edgeChars = new char[nNodes][];
+        edgeTargets = new int[nNodes][];
+        keys = new int[nNodes][];
+        System.arraycopy (chars, 0, edgeChars, 0, nNodes);
+        System.arraycopy (targets, 0, edgeTargets, 0, nNodes);
+        System.arraycopy (ends, 0, keys, 0, nNodes);
+    }
+
+    // Binary search for c in a sorted edge list.  Returns its index,
+    // or -(insertion point)-1 if absent.
+    private static int find (char[] chars, char c) {
+        if (chars == null)
+            return -1;
+        int lo = 0, hi = chars.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = chars[mid];
+            if (m < c)
+                lo = mid + 1;
+            else if (m > c)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return -lo-1;
+    }
+
+    /**
+     * Follow the edge labelled c from a node.
+     * @return node reached, or -1 if there is no such edge
+     */
+    int next (int node, char c) {
+        int i = find (edgeChars[node], c);
+        return i >= 0 ? edgeTargets[node][i] : -1;
+    }
+}
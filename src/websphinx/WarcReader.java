@@ -0,0 +1,165 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.util.Vector;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reader for WARC files, such as those made by WarcWriter.  Both
+ * compressed (.warc.gz) and uncompressed files can be read.  The reader
+ * can return each record in turn, or just the archived pages, rebuilt
+ * as Page objects without using the network.
+ */
+public class WarcReader {
+
+    InputStream in;
+
+    /**
+     * Make a WarcReader for a file.
+     * @param file WARC file
+     */
+    public WarcReader (File file) throws IOException {
+        this (Access.getAccess ().readFile (file));
+    }
+
+    /**
+     * Make a WarcReader for a stream.  The stream may be compressed
+     * with gzip.
+     * @param in stream to read
+     */
+    public WarcReader (InputStream in) throws IOException {
+        in = new BufferedInputStream (in, 64*1024);
+        in.mark (2);
+        int b1 = in.read ();
+        int b2 = in.read ();
+        in.reset ();
+        if (b1 == 0x1f && b2 == 0x8b)
+            in = new BufferedInputStream (new GZIPInputStream (in, 64*1024), 64*1024);
+        this.in = in;
+    }
+
+    /**
+     * Read the next page: the next response or resource record, made
+     * into a Page.  The page is parsed if it is HTML.
+     * @return next page, or null at the end of the file
+     */
+    public Page readPage () throws IOException {
+        return readPage (new HTMLParser ());
+    }
+
+    /**
+     * Read the next page, parsing it with a given parser.
+     * @param parser HTML parser to use
+     * @return next page, or null at the end of the file
+     */
+    public Page readPage (HTMLParser parser) throws IOException {
+        WarcRecord record;
+        while ((record = readRecord ()) != null) {
+            String type = record.getType ();
+            String uri = record.getHeader ("WARC-Target-URI");
+            if (uri == null 
+                || !(type.equals ("response") || type.equals ("resource")))
+                continue;
+            Link link = new Link (uri);
+            return new Page (link, record.toConnection (link.getURL ()), parser);
+        }
+        return null;
+    }
+
+    /**
+     * Read the next record.
+     * @return next record, or null at the end of the file
+     * @exception IOException if the file can't be read or isn't a WARC file
+     */
+    WarcRecord readRecord () throws IOException {
+        String version;
+        do {
+            version = readLine ();
+            if (version == null)
+                return null;
+        } while (version.length () == 0);
+        if (!version.startsWith ("WARC/"))
+            throw new IOException ("not a WARC record: " + version);
+
+        Vector names = new Vector ();
+        Vector values = new Vector ();
+        String line;
+        while ((line = readLine ()) != null && line.length () > 0) {
+            int colon = line.indexOf (':');
+            if (colon > 0) {
+                names.addElement (line.substring (0, colon).trim ());
+                values.addElement (line.substring (colon+1).trim ());
+            }
+        }
+
+        WarcRecord record = new WarcRecord ();
+        record.names = new String[names.size ()];
+        names.copyInto (record.names);
+        record.values = new String[values.size ()];
+        values.copyInto (record.values);
+
+        String length = record.getHeader ("Content-Length");
+        if (length == null)
+            throw new IOException ("WARC record has no Content-Length");
+        record.block = new byte[Integer.parseInt (length)];
+        int total = 0, n;
+        while (total < record.block.length 
+               && (n = in.read (record.block, total, record.block.length - total)) != -1)
+            total += n;
+        if (total < record.block.length)
+            throw new EOFException ("WARC record is truncated");
+        return record;
+    }
+
+    // Read a line of ISO 8859-1 text, without its line terminator.
+    private String readLine () throws IOException {
+        StringBuffer buf = new StringBuffer ();
+        int c;
+        while ((c = in.read ()) != -1 && c != '\n')
+            if (c != '\r')
+                buf.append ((char)c);
+        if (c == -1 && buf.length () == 0)
+            return null;
+        return buf.toString ();
+    }
+
+    /**
+     * Close the reader.
+     */
+    public void close () throws IOException {
+        in.close ();
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx;
+
+import java.io.*;
+import java.net.URL;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.Vector;
+import java.text.SimpleDateFormat;
+import java.security.MessageDigest;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writer that archives downloaded pages in WARC files (ISO 28500,
+ * WARC 1.1).  Each HTTP page is saved as a request record and a
+ * response record holding the server's status line, headers, and the
+ * page's bytes as they were received; pages from other protocols are
+ * saved as resource records.  A page that was reached by a redirect is
+ * archived under its final URL, and a metadata record for the URL
+ * originally requested refers to its response record, so that
+ * ReplayAccess can replay the redirect.  Every record is compressed as a separate
+ * gzip member, so a record can be read starting from its offset in the
+ * file.  When a file grows past the maximum size, a new one is started.
+ * <P>
+ * Records are built and compressed by the thread that calls
+ * writePage(), and written to disk by a background thread.  At most
+ * a bounded number of bytes wait to be written; beyond that,
+ * writePage() blocks.  WarcReader reads the files back.
+ */
+public class WarcWriter {
+
+    File directory;
+    String prefix;
+    long maxFileSize;
+    int maxBuffered;
+
+    Vector queue = new Vector ();
+        // byte[] records waiting to be written
+    int buffered = 0;
+        // total size of the records in queue
+    boolean closing = false;
+    IOException exception;
+        // first error from the writer thread, reported to the next caller
+    Thread writer;
+
+    // current output file
+    OutputStream out;
+    long fileSize;
+    int serial = 0;
+    Vector files = new Vector ();
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 1000L * 1000 * 1000;
+    public static final int DEFAULT_MAX_BUFFERED = 4 * 1024 * 1024;
+
+    /**
+     * Make a WarcWriter with the default limits: files of 1GB and 4MB
+     * of buffered records.
+     * @param directory Directory in which to create WARC files
+     * @param prefix Prefix of the WARC file names
+     */
+    public WarcWriter (String directory, String prefix) {
+        this (directory, prefix, DEFAULT_MAX_FILE_SIZE, DEFAULT_MAX_BUFFERED);
+    }
+
+    /**
+     * Make a WarcWriter.  Files are named
+     * <CODE><I>prefix</I>-<I>yyyyMMddHHmmss</I>-<I>nnnnn</I>.warc.gz</CODE>.
+     * @param directory Directory in which to create WARC files
+     * @param prefix Prefix of the WARC file names
+     * @param maxFileSize Size in bytes after which a new file is started
+     * @param maxBuffered Maximum number of bytes of records waiting to
+     * be written
+     */
+    public WarcWriter (String directory, String prefix, 
+                       long maxFileSize, int maxBuffered) {
+        this.directory = new File (directory);
+        this.prefix = prefix;
+        this.maxFileSize = maxFileSize;
+        this.maxBuffered = maxBuffered;
+        writer = new WarcWriterThread (this);
+        writer.start ();
+    }
+
+    /**
+     * Get the WARC files written so far.
+     * @return files, in the order they were started
+     */
+    public synchronized File[] getFiles () {
+        File[] result = new File[files.size ()];
+        files.copyInto (result);
+        return result;
+    }
+
+    /**
+     * Archive a page.  Blocks if too many records are waiting to be
+     * written.
+     * @param page Page to archive
+     * @exception IOException if writing an earlier record failed
+     */
+    public void writePage (Page page) throws IOException {
+        // the headers and content belong to the final URL, after redirects
+        String origin = Link.getPageURL (page.getURL ()).toExternalForm ();
+        URL url = page.getBase ();
+        if (url == null)
+            url = page.getURL ();
+        url = Link.getPageURL (url);
+        String uri = url.toExternalForm ();
+        boolean redirected = !uri.equals (origin);
+        String date = formatDate (new Date ());
+        byte[] content = page.getContentBytes ();
+        if (content == null)
+            content = new byte[0];
+
+        String protocol = url.getProtocol ();
+        if (!protocol.equals ("http") && !protocol.equals ("https")) {
+            String type = page.getContentType ();
+            enqueue (record ("resource", uri, date, null, null, null,
+                             type != null ? type : "application/octet-stream",
+                             content));
+            return;
+        }
+
+        String responseId = newRecordId ();
+        byte[] response = record ("response", uri, date, responseId, null, null,
+                                  "application/http;msgtype=response",
+                                  concat (responseHeaders (page), content));
+        byte[] request = record ("request", uri, date, null,
+                                 "WARC-Concurrent-To", responseId,
+                                 "application/http;msgtype=request",
+                                 redirected
+                                 ? requestBlock (Link.GET, url, "", page.getOrigin ())
+                                 : requestBlock (page.getOrigin ()));
+        byte[] records = concat (request, response);
+        if (redirected)
+            records = concat (records, 
+                              record ("metadata", origin, date, null,
+                                      "WARC-Refers-To", responseId,
+                                      "application/warc-fields",
+                                      bytes ("location: " + uri + "\r\n")));
+        enqueue (records);
+    }
+
+    /**
+     * Write all waiting records and close the current file.
+     * @exception IOException if writing a record failed
+     */
+    public void close () throws IOException {
+        synchronized (this) {
+            closing = true;
+            notifyAll ();
+        }
+        try {
+            writer.join ();
+        } catch (InterruptedException e) {}
+        synchronized (this) {
+            if (exception != null)
+                throw exception;
+        }
+    }
+
+    synchronized void enqueue (byte[] record) throws IOException {
+        while (buffered > 0 && buffered + record.length > maxBuffered
+               && exception == null && !closing)
+            try {
+                wait ();
+            } catch (InterruptedException e) {}
+        if (exception != null)
+            throw exception;
+        if (closing)
+            throw new IOException ("WarcWriter is closed");
+        queue.addElement (record);
+        buffered += record.length;
+        notifyAll ();
+    }
+
+    // Called by the writer thread.  Returns the next record, or null
+    // when closed and there are no more.
+    synchronized byte[] nextRecord () {
+        while (queue.isEmpty () && !closing)
+            try {
+                wait ();
+            } catch (InterruptedException e) {}
+        if (queue.isEmpty ())
+            return null;
+        byte[] record = (byte[])queue.elementAt (0);
+        queue.removeElementAt (0);
+        return record;
+    }
+
+    synchronized void written (byte[] record) {
+        buffered -= record.length;
+        notifyAll ();
+    }
+
+    synchronized void failed (IOException e) {
+        if (exception == null)
+            exception = e;
+        queue.removeAllElements ();
+        buffered = 0;
+        notifyAll ();
+    }
+
+    // Called by the writer thread.
+    void write (byte[] record) throws IOException {
+        if (out != null && fileSize > 0 && fileSize + record.length > maxFileSize) {
+            out.close ();
+            out = null;
+        }
+        if (out == null)
+            startFile ();
+        out.write (record);
+        fileSize += record.length;
+    }
+
+    void finish () throws IOException {
+        if (out != null) {
+            out.close ();
+            out = null;
+        }
+    }
+
+    private void startFile () throws IOException {
+        Access.getAccess ().makeDir (directory);
+        String stamp = formatDate (new Date ());
+        stamp = stamp.substring (0, 4) + stamp.substring (5, 7) 
+              + stamp.substring (8, 10) + stamp.substring (11, 13)
+              + stamp.substring (14, 16) + stamp.substring (17, 19);
+        String n = String.valueOf (100000 + serial++).substring (1);
+        File file = new File (directory, prefix + "-" + stamp + "-" + n + ".warc.gz");
+        synchronized (this) {
+            files.addElement (file);
+        }
+
+        out = new BufferedOutputStream (
+                  Access.getAccess ().writeFile (file, false), 64*1024);
+        fileSize = 0;
+
+        String fields = 
+            "software: WebSPHINX\r\n"
+            + "format: WARC File Format 1.1\r\n"
+            + "conformsTo: http://iipc.github.io/warc-specifications/specifications/warc-format/warc-1.1/\r\n";
+        byte[] info = record ("warcinfo", null, formatDate (new Date ()), 
+                              null, null, null,
+                              "application/warc-fields", bytes (fields));
+        out.write (info);
+        fileSize += info.length;
+    }
+
+    //
+    // Record formatting
+    //
+
+    // field and value name an optional extra header, such as
+    // WARC-Concurrent-To; field is null if there is none.
+    private static byte[] record (String type, String uri, String date, 
+                                  String id, String field, String value,
+                                  String contentType, byte[] block) 
+            throws IOException {
+        StringBuffer head = new StringBuffer ();
+        head.append ("WARC/1.1\r\n");
+        head.append ("WARC-Type: ").append (type).append ("\r\n");
+        head.append ("WARC-Record-ID: ")
+            .append (id != null ? id : newRecordId ()).append ("\r\n");
+        head.append ("WARC-Date: ").append (date).append ("\r\n");
+        if (uri != null)
+            head.append ("WARC-Target-URI: ").append (uri).append ("\r\n");
+        if (field != null)
+            head.append (field).append (": ").append (value).append ("\r\n");
+        head.append ("WARC-Block-Digest: sha1:").append (sha1 (block)).append ("\r\n");
+        head.append ("Content-Type: ").append (contentType).append ("\r\n");
+        head.append ("Content-Length: ").append (block.length).append ("\r\n");
+        head.append ("\r\n");
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream (block.length / 2 + 512);
+        GZIPOutputStream gz = new GZIPOutputStream (buf);
+        gz.write (bytes (head.toString ()));
+        gz.write (block);
+        gz.write (CRLFCRLF);
+        gz.close ();
+        return buf.toByteArray ();
+    }
+
+    static final byte[] CRLFCRLF = { '\r', '\n', '\r', '\n' };
+
+    // The status line and headers of a page's HTTP response.
+    private static byte[] responseHeaders (Page page) {
+        StringBuffer buf = new StringBuffer ();
+        String status = page.getHeaderField (0);
+        if (page.getHeaderFieldKey (0) == null 
+            && status != null && status.startsWith ("HTTP/"))
+            buf.append (status);
+        else
+            buf.append ("HTTP/1.0 ").append (page.getResponseCode ())
+               .append (' ').append (page.getResponseMessage ());
+        buf.append ("\r\n");
+
+        String key;
+        for (int i=1; (key = page.getHeaderFieldKey (i)) != null; ++i)
+            // the content has already been de-chunked
+            if (!key.equalsIgnoreCase ("Transfer-Encoding"))
+                buf.append (key).append (": ")
+                   .append (page.getHeaderField (i)).append ("\r\n");
+        buf.append ("\r\n");
+        return bytes (buf.toString ());
+    }
+
+    // An HTTP request for a link, with the headers Access sends.
+    private static byte[] requestBlock (Link link) {
+        if (link.getMethod () == Link.POST)
+            return requestBlock (Link.POST, link.getServiceURL (), 
+                                 link.getQuery (), link);
+        else
+            return requestBlock (Link.GET, link.getPageURL (), "", link);
+    }
+
+    // An HTTP request for a URL, with the headers Access sends for link.
+    // (A redirect is always followed with a GET.)
+    private static byte[] requestBlock (int method, URL url, String query, 
+                                        Link link) {
+        String file = url.getFile ();
+        if (file.length () == 0)
+            file = "/";
+        if (query.startsWith ("?"))
+            query = query.substring (1);
+
+        StringBuffer buf = new StringBuffer ();
+        buf.append (method == Link.POST ? "POST " : "GET ")
+           .append (file).append (" HTTP/1.1\r\n");
+        buf.append ("Host: ").append (url.getHost ());
+        if (url.getPort () != -1)
+            buf.append (':').append (url.getPort ());
+        buf.append ("\r\n");
+        DownloadParameters dp = link.getDownloadParameters ();
+        if (dp != null) {
+            if (dp.getUserAgent () != null)
+                buf.append ("User-Agent: ").append (dp.getUserAgent ()).append ("\r\n");
+            if (dp.getAcceptedMIMETypes () != null)
+                buf.append ("Accept: ").append (dp.getAcceptedMIMETypes ()).append ("\r\n");
+        }
+        if (method == Link.POST) {
+            buf.append ("Content-Type: application/x-www-form-urlencoded\r\n");
+            buf.append ("Content-Length: ").append (query.length ()).append ("\r\n");
+        }
+        buf.append ("\r\n");
+        buf.append (query);
+        return bytes (buf.toString ());
+    }
+
+    private static byte[] concat (byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy (a, 0, result, 0, a.length);
+        System.arraycopy (b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    // Headers are written as ISO 8859-1.
+    static byte[] bytes (String s) {
+        byte[] b = new byte[s.length ()];
+        for (int i=0; i<b.length; ++i)
+            b[i] = (byte)s.charAt (i);
+        return b;
+    }
+
+    private static SimpleDateFormat dateFormat;
+    static {
+        dateFormat = new SimpleDateFormat ("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        dateFormat.setTimeZone (TimeZone.getTimeZone ("GMT"));
+    }
+
+    static String formatDate (Date date) {
+        synchronized (dateFormat) {
+            return dateFormat.format (date);
+        }
+    }
+
+    private static Random random = new Random ();
+
+    // A random (version 4) UUID, as a URN.
+    static String newRecordId () {
+        long hi, lo;
+        synchronized (random) {
+            hi = random.nextLong ();
+            lo = random.nextLong ();
+        }
+        hi = (hi & ~0xF000L) | 0x4000L;
+        lo = (lo & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        String h = hex (hi, 16) + hex (lo, 16);
+        return "<urn:uuid:" + h.substring (0, 8) + "-" + h.substring (8, 12) 
+            + "-" + h.substring (12, 16) + "-" + h.substring (16, 20) 
+            + "-" + h.substring (20) + ">";
+    }
+
+    private static String hex (long x, int digits) {
+        char[] c = new char[digits];
+        for (int i=digits-1; i >= 0; --i, x >>>= 4)
+            c[i] = "0123456789abcdef".charAt ((int)(x & 0xF));
+        return new String (c);
+    }
+
+    private static String sha1 (byte[] block) {
+        try {
+            return base32 (MessageDigest.getInstance ("SHA-1").digest (block));
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new RuntimeException (e.toString ());
+        }
+    }
+
+    private static String base32 (byte[] b) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+        StringBuffer buf = new StringBuffer ();
+        int bits = 0, n = 0;
+        for (int i=0; i<b.length; ++i) {
+            bits = (bits << 8) | (b[i] & 0xFF);
+            n += 8;
+            while (n >= 5) {
+                buf.append (alphabet.charAt ((bits >> (n-5)) & 31));
+                n -= 5;
+            }
+        }
+        if (n > 0)
+            buf.append (alphabet.charAt ((bits << (5-n)) & 31));
+        return buf.toString ();
+    }
+}
+
+/**
+ * Background thread that writes a WarcWriter's records to disk.
+ */
+class WarcWriterThread extends Thread {
+    WarcWriter warc;
+
+    WarcWriterThread (WarcWriter warc) {
+        super ("WARC writer");
+        this.warc = warc;
+        setDaemon (true);
+    }
+
+    public void run () {
+        byte[] record;
+        while ((record = warc.nextRecord ()) != null) {
+            try {
+                warc.write (record);
+                warc.written (record);
+            } catch (IOException e) {
+                warc.failed (e);
+            }
+        }
+        try {
+            warc.finish ();
+        } catch (IOException e) {
+            warc.failed (e);
+        }
+    }
+}
@@ -32,6 +32,11 @@
 
 package websphinx;
 
+import java.io.IOException;
+//#ifdef JDK1.1
+import java.io.ObjectInputStream;
+//#endif JDK1.1
+
 /**
  * Wildcard pattern.  Wildcards are similar to sh-style file globbing.
  * A wildcard pattern is implicitly anchored, meaning that it must match the entire string.
@@ -45,13 +50,70 @@ package websphinx;
  *    \ escape one of these special characters
  * </PRE>
  * Escape codes (like \n and \t) and Perl5 character classes (like \w and \s) may also be used.
+ * Wildcards that use neither these nor () are matched by a Glob rather
+ * than by the regular expression engine.
  */
 public class Wildcard extends Regexp {
     String stringRep;
+    transient Glob glob;
+        // compiled form, or null if the regular expression is needed
     
     public Wildcard (String pattern) {
         super ("^" + toRegexp (pattern) + "$");
         stringRep = pattern;
+        prepare ();
+    }
+
+    //#ifdef JDK1.1
+    private void readObject (ObjectInputStream in) 
+           throws IOException, ClassNotFoundException {
+        in.defaultReadObject ();
+        prepare ();
+    }
+    //#endif JDK1.1
+
+    // Regexp's constructor and readObject() call init() before
+    // stringRep is set, so the work is done by prepare() instead.
+    void init () {
+    }
+
+    private void prepare () {
+        glob = Glob.compile (stringRep);
+        if (glob != null)
+            fields = new String[0];
+        else
+            super.init ();
+    }
+
+    public PatternMatcher match (Region region) {
+        if (glob == null)
+            return super.match (region);
+        return new GlobMatcher (this, region, false);
+    }
+
+    public PatternMatcher matchText (Region region) {
+        if (glob == null)
+            return super.matchText (region);
+        return new GlobMatcher (this, region, true);
+    }
+
+    public boolean found (String string) {
+        if (glob == null)
+            return super.found (string);
+        // (an empty string never matches, as with any Regexp)
+        return string.length () > 0 && glob.matches (string, 0, string.length ());
+    }
+
+    // Test whether the wildcard matches a whole string.  Unlike
+    // found(), this can match an empty string.
+    boolean matches (String string) {
+        if (glob != null)
+            return glob.matches (string, 0, string.length ());
+        return new org.apache.regexp.RE (pattern, 0).match (string);
+    }
+
+    String getRequiredLiteral () {
+        return glob != null ? glob.getRequiredLiteral () : super.getRequiredLiteral ();
     }
 
     public boolean equals (Object object) {
@@ -170,3 +232,84 @@ public class Wildcard extends Regexp {
         }
     }
 }
+
+class GlobMatcher extends PatternMatcher {
+    Wildcard wildcard;
+    Region source;
+    boolean overText;
+    int start;
+    int end;
+    boolean done;
+    boolean matched;
+
+    public GlobMatcher (Wildcard wildcard, Region source, boolean overText) {
+        this.wildcard = wildcard;
+        this.source = source;
+        this.overText = overText;
+    }
+
+    protected Region findNext () {
+        if (!advance ())
+            return null;
+        Region match = new Region (source.getSource (), start, end);
+        match.setFields (Pattern.groups, new Region[0]);
+        return match;
+    }
+
+    public boolean find () {
+        if (!yielded) {
+            // hasMoreElements() already found this one
+            yielded = true;
+            return match != null;
+        }
+        match = null;
+        return advance ();
+    }
+
+    // A wildcard matches the whole region or nothing, so there is at
+    // most one match.
+    boolean advance () {
+        if (done)
+            return matched = false;
+        done = true;
+        Page page = source.getSource ();
+        String content = page.getContent ();
+            // (may download the page, which sets the region's extent)
+        start = source.getStart ();
+        end = source.getEnd ();
+        if (!overText)
+            return matched = end > start && wildcard.glob.matches (content, start, end);
+
+        PageText text = page.getPageText ();
+        if (text == null)
+            return matched = false;
+        int s = text.getStart (start, end);
+        int e = text.getEnd (start, end);
+        matched = e > s && wildcard.glob.matches (text.text, s, e);
+        if (matched) {
+            start = text.toHTMLStart (s);
+            end = text.toHTMLEnd (e);
+        }
+        return matched;
+    }
+
+    public Region getMatch () {
+        if (match == null && matched) {
+            match = new Region (source.getSource (), start, end);
+            match.setFields (Pattern.groups, new Region[0]);
+        }
+        return match;
+    }
+
+    public int getStart () {
+        return start;
+    }
+
+    public int getEnd () {
+        return end;
+    }
+
+    public int getGroupCount () {
+        return 0;
+    }
+}
@@ -72,6 +72,7 @@ class ActionFeatureChoice extends FeatureChoice {
     final static String MIRROR_ACTION = "save";
     final static String CONCAT_ACTION = "concatenate";
     final static String EXTRACT_ACTION = "extract";
+    final static String WARC_ACTION = "archive";
     final static String SCRIPT_ACTION = "script";
 
     public ActionFeatureChoice () {
@@ -79,6 +80,7 @@ class ActionFeatureChoice extends FeatureChoice {
         addItem (MIRROR_ACTION);
         addItem (CONCAT_ACTION);
         addItem (EXTRACT_ACTION);
+        addItem (WARC_ACTION);
         addItem (HIGHLIGHT_ACTION);
         addItem (SCRIPT_ACTION);
     }
@@ -118,6 +120,13 @@ class ActionFeatureChoice extends FeatureChoice {
             args.setExtractUseBrowser (extract.getUseBrowser ());
             args.setExtractPattern (extract.getPattern ().toString ());
             args.setTextOnly (extract.getTextOnly ());
+            args.setExtractFormat (extract.getFormat ());
+        }
+        else if (act instanceof WarcAction) {
+            WarcAction warc = (WarcAction)act;
+            select (WARC_ACTION);
+            args.setWarcDirectory (warc.getDirectory ());
+            args.setWarcPrefix (warc.getPrefix ());
         }
         else if (act instanceof Script) {
             Script script = (Script)act;
@@ -151,7 +160,11 @@ class ActionFeatureChoice extends FeatureChoice {
             return new ExtractAction (new Tagexp (args.getExtractPattern()),
                                       args.getExtractUseBrowser (),
                                       args.getExtractFilename (),
-                                      args.getTextOnly ());
+                                      args.getTextOnly (),
+                                      args.getExtractFormat ());
+        else if (actn.equals (WARC_ACTION))
+            return new WarcAction (args.getWarcDirectory (),
+                                   args.getWarcPrefix ());
         else if (actn.equals (SCRIPT_ACTION))
             return new Script (args.getScript (), false);
         else
@@ -182,13 +195,18 @@ class ActionFeatureArgs extends Panel {
     TextField extractFilename;
     TextArea extractPattern;
     Choice extractMedium;
+    Choice extractFormat;
     Checkbox extractUseBrowser;
 
+    TextField warcDirectory;
+    TextField warcPrefix;
+
     TextArea script;
 
     Button browseMirrorDirectory;
     Button browseConcatFilename;
     Button browseExtractFilename;
+    Button browseWarcDirectory;
 
     public ActionFeatureArgs () {
         Panel panel;
@@ -256,12 +274,24 @@ class ActionFeatureArgs extends Panel {
         Constrain.add (panel, new Label ("to file: "), Constrain.labelLike (2, 2));
         Constrain.add (panel, extractFilename = new TextField(), Constrain.fieldLike (3, 2));
         Constrain.add (panel, browseExtractFilename = new Button ("..."), Constrain.labelLike (4, 2));
+        Constrain.add (panel, new Label ("format"), Constrain.labelLike (0, 3));
+        Constrain.add (panel, extractFormat = new Choice (), Constrain.labelLike (1, 3));
+        for (int i=0; i<RecordSink.formatName.length; ++i)
+            extractFormat.addItem (RecordSink.formatName[i]);
         extractUseBrowser = new Checkbox ("Display in browser");
         extractUseBrowser.setState (true);
         if (Context.getBrowser() != null) {
             extractFilename.setText (TEMPORARY_FILE);
             Constrain.add (panel, extractUseBrowser, Constrain.labelLike (3, 3));
         }
+
+        add (ActionFeatureChoice.WARC_ACTION, panel = Constrain.makeConstrainedPanel (3, 2));
+        Constrain.add (panel, new Label ("to directory: "), Constrain.labelLike (0, 0));
+        Constrain.add (panel, warcDirectory = new TextField(), Constrain.fieldLike (1, 0));
+        Constrain.add (panel, browseWarcDirectory = new Button ("..."), Constrain.labelLike (2, 0));
+        warcDirectory.setText (TEMPORARY_DIR);
+        Constrain.add (panel, new Label ("file prefix: "), Constrain.labelLike (0, 1));
+        Constrain.add (panel, warcPrefix = new TextField("crawl"), Constrain.fieldLike (1, 1));
             
         ScriptInterpreter interp = Context.getScriptInterpreter ();
 
@@ -289,6 +319,8 @@ class ActionFeatureArgs extends Panel {
                 browse ("Save Concatenation As", concatFilename);
             else if (event.target == browseExtractFilename)
                 browse ("Save Extracts As", extractFilename);
+            else if (event.target == browseWarcDirectory)
+                browse ("Save Archives in Directory", warcDirectory);
             else if (event.target == optionsButton)
                 new ConcatOptions(this).show ();
             else
@@ -415,6 +447,32 @@ class ActionFeatureArgs extends Panel {
         return extractMedium.getSelectedItem().equals ("text");
     }
 
+    public void setExtractFormat (int format) {
+        extractFormat.select (format);
+    }
+    
+    public int getExtractFormat () {
+        return extractFormat.getSelectedIndex ();
+    }
+
+    public void setWarcDirectory (String directory) {
+        warcDirectory.setText (directory != null ? directory : TEMPORARY_DIR);
+    }
+
+    public String getWarcDirectory () {
+        String f = warcDirectory.getText ();
+        return f.equals (TEMPORARY_DIR) ? null : f;
+    }
+
+    public void setWarcPrefix (String prefix) {
+        warcPrefix.setText (prefix != null ? prefix : "crawl");
+    }
+
+    public String getWarcPrefix () {
+        String p = warcPrefix.getText ().trim ();
+        return p.length () > 0 ? p : null;
+    }
+
     public void setScript (String script) {
         this.script.setText (script);
     }
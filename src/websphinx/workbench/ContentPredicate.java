@@ -64,7 +64,7 @@ public class ContentPredicate implements LinkPredicate, PagePredicate {
         return overHTML ? pattern.found (link) : pattern.found (link.toText());
     }
     public boolean shouldActOn (Page page) {
-        return overHTML ? pattern.found (page) : pattern.found (page.toText());
+        return overHTML ? pattern.found (page) : pattern.foundText (page);
     }
 }
 
@@ -50,6 +50,7 @@ public class DownloadParametersEditor extends Panel {
     TextField delay;
     Checkbox interactive;
     Checkbox useCaches;
+    Checkbox parseLinksOnly;
 
     public DownloadParametersEditor () {
         setLayout (new GridBagLayout ());
@@ -83,6 +84,8 @@ public class DownloadParametersEditor extends Panel {
 
         Constrain.add (this, obeyRobotExclusion = new Checkbox ("Obey robot exclusion"),
                        Constrain.labelLike (3,0));
+        Constrain.add (this, parseLinksOnly = new Checkbox ("Parse only links and title"),
+                       Constrain.labelLike (3,1));
 
         Constrain.add (this, interactive = new Checkbox ("Ask user for passwords"),
                        Constrain.labelLike (3,2));
@@ -105,6 +108,7 @@ public class DownloadParametersEditor extends Panel {
         //delay.setText (String.valueOf (dp.getDelay ()));
         interactive.setState (dp.getInteractive ());
         useCaches.setState (dp.getUseCaches ());
+        parseLinksOnly.setState (dp.getParseLinksOnly ());
     }
 
     public DownloadParameters getDownloadParameters () {
@@ -117,7 +121,8 @@ public class DownloadParametersEditor extends Panel {
             //.changeMaxRequestsPerServer (Integer.parseInt (maxRequestsPerServer.getText()))
             //.changeDelay (Integer.parseInt (delay.getText()))
             .changeInteractive (interactive.getState ())
-            .changeUseCaches (useCaches.getState ());
+            .changeUseCaches (useCaches.getState ())
+            .changeParseLinksOnly (parseLinksOnly.getState ());
         return dp;
     }
 }
@@ -41,16 +41,33 @@ public class ExtractAction implements Action, CrawlListener {
     String filename;
     boolean useBrowser;
     boolean textOnly;
+    int format;
     
     transient File file;
-    transient RecordTransformer records;
+    transient volatile RecordSink records;
     transient boolean noFields;
     
     public ExtractAction (Pattern pattern, boolean useBrowser, String filename, boolean textOnly) {
+        this (pattern, useBrowser, filename, textOnly, RecordSink.HTML);
+    }
+
+    /**
+     * Make an ExtractAction.
+     * @param pattern Pattern to match against each page
+     * @param useBrowser true if the records should be shown in a browser
+     * when the crawl stops
+     * @param filename File to write records to, or null for a temporary file
+     * @param textOnly true if matches should be written as text, false
+     * for HTML
+     * @param format Output format: RecordSink.HTML, RecordSink.CSV, or
+     * RecordSink.JSON_LINES
+     */
+    public ExtractAction (Pattern pattern, boolean useBrowser, String filename, boolean textOnly, int format) {
         this.pattern = pattern;
         this.filename = filename;
         this.useBrowser = useBrowser;
         this.textOnly = textOnly;
+        this.format = format;
     }
     
     public boolean equals (Object object) {
@@ -60,7 +77,8 @@ public class ExtractAction implements Action, CrawlListener {
         return same (a.filename, filename)
             && a.useBrowser == useBrowser
             && a.pattern.equals (pattern)
-            && a.textOnly == textOnly;
+            && a.textOnly == textOnly
+            && a.format == format;
     }
 
     private boolean same (String s1, String s2) {
@@ -82,6 +100,9 @@ public class ExtractAction implements Action, CrawlListener {
     public boolean getTextOnly () {
         return textOnly;
     }
+    public int getFormat () {
+        return format;
+    }
     
     public void connected (Crawler crawler) {
         crawler.addCrawlListener (this);
@@ -97,10 +118,14 @@ public class ExtractAction implements Action, CrawlListener {
         browser.show (file);
     }
 
-    public synchronized void visit (Page page) {
+    // Not synchronized: worms match pages in parallel, and the
+    // RecordSink buffers each worm's records separately.
+    public void visit (Page page) {
+        RecordSink sink = records;
+        if (sink == null)
+            // not started, or already stopped
+            return;
         try {
-            int n = 0;
-
             PatternMatcher m = pattern.match (page);
             for (Region r = m.nextMatch(); r != null; r = m.nextMatch()) {
                 Object[] fields;
@@ -111,12 +136,8 @@ public class ExtractAction implements Action, CrawlListener {
                 else
                     fields = (Object[])r.getFields (Pattern.groups);
                     
-                records.writeRecord (fields, textOnly);
-                ++n;
+                sink.writeRecord (fields);
             }
-            
-            if (n > 0)
-              records.flush ();
         } catch (IOException e) {
             throw new RuntimeException (e.toString());
         }
@@ -130,30 +151,19 @@ public class ExtractAction implements Action, CrawlListener {
             try {
                 file = (filename != null)
                   ? new File (filename)
-                  : Access.getAccess ().makeTemporaryFile ("extract", ".html");
-                
-                records = new RecordTransformer (file.toString());
+                  : Access.getAccess ().makeTemporaryFile ("extract", 
+                        RecordSink.formatExtension[format]);
                 
                 String[] fieldNames = pattern.getFieldNames ();
                 noFields = (fieldNames.length == 0);
-                records.setProlog (records.getProlog ()
-                                   + makeTableHeader (fieldNames));
+                records = new RecordSink (file.toString(), format, 
+                                          fieldNames, textOnly);
             } catch (IOException e) {
                 System.err.println (e); // FIX: use GUI when available
             }        
         }
     }
 
-    private String makeTableHeader (String[] fieldNames) {
-        String result = "<TR>\n<TH>\n";
-        if (fieldNames.length == 0)
-            result += "<TH>\n";
-        else
-            for (int i=0; i<fieldNames.length; ++i)
-                result += "<TH>" + fieldNames[i] + "\n";
-        return result;
-    }
-    
     /**
      * Notify that the crawler ran out of links to crawl
      */
@@ -191,10 +201,12 @@ public class ExtractAction implements Action, CrawlListener {
      */
     public synchronized void timedOut (CrawlEvent event){
         try {
-            records.close ();
-            records = null;
-            if (useBrowser)
-              showit ();
+            if (records != null) {
+                records.close ();
+                records = null;
+                if (useBrowser)
+                  showit ();
+            }
         } catch (IOException e) {
             System.err.println (e); // FIX: use GUI when available
         }
@@ -205,9 +217,11 @@ public class ExtractAction implements Action, CrawlListener {
      */
     public synchronized void paused (CrawlEvent event){
         try {
-            records.flush ();
-            if (useBrowser)
-              showit ();
+            if (records != null) {
+                records.flush ();
+                if (useBrowser)
+                  showit ();
+            }
         } catch (IOException e) {
             System.err.println (e); // FIX: use GUI when available
         }
@@ -65,6 +65,8 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
     String pagesLeft;
     String memoryUsed;
     String memoryMaxUsed;
+    String slowestCallback;
+    String callbackTime;
 
     Button refreshButton;
 
@@ -150,6 +152,9 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
         y += gutter*2;
         y += drawField (offg, y, "Memory in use:", memoryUsed);
         y += drawField (offg, y, "Max memory used:", memoryMaxUsed);
+        y += gutter*2;
+        y += drawField (offg, y, "Slowest callback:", slowestCallback);
+        y += drawField (offg, y, "Callback time:", callbackTime);
         y += gutter;
 
         minSize.height = y;
@@ -183,6 +188,9 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
         y += GUTTER*2;
         y += measureField (fm, "Memory in use:", memoryUsed);
         y += measureField (fm, "Max memory used:", memoryMaxUsed);
+        y += GUTTER*2;
+        y += measureField (fm, "Slowest callback:", slowestCallback);
+        y += measureField (fm, "Callback time:", callbackTime);
         y += GUTTER;
 
         minSize.height = y;
@@ -251,12 +259,16 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
         }
 
         int pV, lT, pL, nThreads;
+        CallbackProfile slowest = null;
 
         if (crawler != null) {
             lT = crawler.getLinksTested ();
             pV = crawler.getPagesVisited ();
             pL = crawler.getPagesLeft ();
             nThreads = crawler.getActiveThreads ();
+            CallbackProfile[] profiles = crawler.getCallbackProfiles ();
+            if (profiles.length > 0 && profiles[0].getCalls () > 0)
+                slowest = profiles[0];
         }
         else {
             lT = 0;
@@ -281,6 +293,17 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
         pagesPerSec = formatPagesPerSec (pps);
         memoryUsed = kbUsed + " KB";
         memoryMaxUsed = kbMaxUsed + " KB";
+        if (slowest != null) {
+            slowestCallback = slowest.getName ()
+                + (slowest.isDisabled () ? " (disabled)" 
+                   : slowest.isOverBudget () ? " (over budget)" : "");
+            callbackTime = formatTime (slowest.getTotalTime () / 1000000)
+                + ", " + formatMillis (slowest.getMeanTime ()) + " ms/call";
+        }
+        else {
+            slowestCallback = "none";
+            callbackTime = formatTime (0);
+        }
 
         // paint the window NOW
         Graphics g = getGraphics ();
@@ -305,6 +328,10 @@ public class Statistics extends Panel implements CrawlListener, Runnable {
             + ":" + (s < 10 ? "0" : "") + s;
     }
     
+    static String formatMillis (long nanos) {
+        return String.valueOf (Math.round (nanos / 1000.0) / 1000.0);
+    }
+
     static String formatPagesPerSec (double x) {
         String result;
 
@@ -0,0 +1,140 @@
+/*
+ * WebSphinx web-crawling toolkit
+ *
+ * Copyright (c) 1998-2002 Carnegie Mellon University.  All rights
+ * reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the
+ *    distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY CARNEGIE MELLON UNIVERSITY ``AS IS'' AND
+ * ANY EXPRESSED OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED.  IN NO EVENT SHALL CARNEGIE MELLON UNIVERSITY
+ * NOR ITS EMPLOYEES BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package websphinx.workbench;
+
+import websphinx.*;
+import java.io.IOException;
+
+public class WarcAction implements Action, CrawlListener {
+    String directory;
+    String prefix;
+
+    transient WarcWriter writer;
+
+    public WarcAction (String directory, String prefix) {
+        this.directory = directory;
+        this.prefix = prefix;
+    }
+
+    public boolean equals (Object object) {
+        if (! (object instanceof WarcAction))
+            return false;
+        WarcAction a = (WarcAction)object;
+        return same (a.directory, directory)
+            && same (a.prefix, prefix);
+    }    
+
+    private boolean same (String s1, String s2) {
+        if (s1 == null || s2 == null)
+            return s1 == s2;
+        else
+            return s1.equals (s2);
+    }
+
+    public String getDirectory () {
+        return directory;
+    }
+
+    public String getPrefix () {
+        return prefix;
+    }
+
+    public void visit (Page page) {
+        try {
+            WarcWriter w = writer;
+            if (w != null)
+                w.writePage (page);
+        } catch (IOException e) {
+            throw new RuntimeException (e.toString());
+        }
+    }
+
+    public void connected (Crawler crawler) {
+        crawler.addCrawlListener (this);
+    }
+
+    public void disconnected (Crawler crawler) {
+        crawler.removeCrawlListener (this);
+    }
+
+    /**
+     * Notify that the crawler started.
+     */
+    public synchronized void started (CrawlEvent event){
+        if (writer == null) {
+            String dir = (directory != null)
+              ? directory
+              : Access.getAccess ().makeTemporaryFile ("warc", "").toString ();
+            writer = new WarcWriter (dir, prefix != null ? prefix : "crawl");
+        }
+    }
+
+    private synchronized void close () {
+        try {
+            if (writer != null) {
+                writer.close ();
+                writer = null;
+            }
+        } catch (IOException e) {
+            System.err.println (e); // FIX: use GUI when available
+        }
+    }
+
+    /**
+     * Notify that the crawler ran out of links to crawl
+     */
+    public void stopped (CrawlEvent event){
+        close ();
+    }
+
+    /**
+     * Notify that the crawler's state was cleared.
+     */
+    public void cleared (CrawlEvent event){
+        close ();
+    }
+
+    /**
+     * Notify that the crawler timed out.
+     */
+    public void timedOut (CrawlEvent event){
+        close ();
+    }
+
+    /**
+     * Notify that the crawler is paused.
+     */
+    public void paused (CrawlEvent event){
+    }
+
+}